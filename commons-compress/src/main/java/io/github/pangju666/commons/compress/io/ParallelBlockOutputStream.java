@@ -0,0 +1,276 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.pangju666.commons.compress.io;
+
+import org.apache.commons.lang3.Validate;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 分块并行压缩输出流的抽象基类。
+ * <p>
+ * 写入的数据按固定大小切分为数据块，由子类创建压缩任务提交到线程池并行执行，压缩结果按提交顺序写出到目标输出流。
+ * 同时处于压缩中或等待写出的数据块数量不超过 {@link #maxPendingBlocks}，内存占用约为 {@code 2 * blockSize * maxPendingBlocks}。
+ * </p>
+ * <p>
+ * {@link #flush()} 只写出已完成压缩的数据块，不会强制结束当前数据块；{@link #finish()} 之后只刷新目标输出流。本类不是线程安全的。
+ * </p>
+ *
+ * @author pangju666
+ * @see ParallelGzipOutputStream
+ * @see ParallelXZOutputStream
+ * @since 2.2.0
+ */
+public abstract class ParallelBlockOutputStream extends OutputStream {
+	/**
+	 * 目标输出流
+	 *
+	 * @since 2.2.0
+	 */
+	protected final OutputStream outputStream;
+	/**
+	 * 数据块大小
+	 *
+	 * @since 2.2.0
+	 */
+	protected final int blockSize;
+	/**
+	 * 执行压缩任务的线程池
+	 *
+	 * @since 2.2.0
+	 */
+	protected final ExecutorService executorService;
+	/**
+	 * 同时处于压缩中或等待写出的数据块数量上限
+	 *
+	 * @since 2.2.0
+	 */
+	protected final int maxPendingBlocks;
+	/**
+	 * 关闭时是否同时关闭线程池
+	 *
+	 * @since 2.2.0
+	 */
+	protected final boolean shutdownExecutor;
+
+	private final Deque<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+	private byte[] block;
+	private int blockLength = 0;
+	private byte[] previousBlock;
+	private boolean finished = false;
+	private boolean closed = false;
+
+	/**
+	 * 创建分块并行压缩输出流
+	 *
+	 * @param outputStream     目标输出流，必须非 null，关闭本流时会同时关闭
+	 * @param blockSize        数据块大小，必须大于 0
+	 * @param executorService  执行压缩任务的线程池，必须非 null
+	 * @param maxPendingBlocks 同时处于压缩中或等待写出的数据块数量上限，必须大于 0
+	 * @param shutdownExecutor 关闭流时是否同时关闭线程池
+	 * @throws IllegalArgumentException 当 {@code blockSize} 或 {@code maxPendingBlocks} 不合法时抛出
+	 * @since 2.2.0
+	 */
+	protected ParallelBlockOutputStream(final OutputStream outputStream, final int blockSize,
+	                                    final ExecutorService executorService, final int maxPendingBlocks,
+	                                    final boolean shutdownExecutor) {
+		Validate.notNull(outputStream, "outputStream 不可为 null");
+		Validate.isTrue(blockSize > 0, "blockSize 必须大于0");
+		Validate.notNull(executorService, "executorService 不可为 null");
+		Validate.isTrue(maxPendingBlocks > 0, "maxPendingBlocks 必须大于0");
+
+		this.outputStream = outputStream;
+		this.blockSize = blockSize;
+		this.executorService = executorService;
+		this.maxPendingBlocks = maxPendingBlocks;
+		this.shutdownExecutor = shutdownExecutor;
+		this.block = new byte[blockSize];
+	}
+
+	@Override
+	public void write(final int b) throws IOException {
+		checkOpen();
+
+		block[blockLength++] = (byte) b;
+		if (blockLength == blockSize) {
+			submitBlock(false);
+		}
+	}
+
+	@Override
+	public void write(final byte[] b, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, b.length);
+		checkOpen();
+
+		while (len > 0) {
+			int count = Math.min(len, blockSize - blockLength);
+			System.arraycopy(b, off, block, blockLength, count);
+			blockLength += count;
+			off += count;
+			len -= count;
+			if (blockLength == blockSize) {
+				submitBlock(false);
+			}
+		}
+	}
+
+	/**
+	 * 写出已完成压缩的数据块并刷新目标输出流，不会强制结束当前数据块；已调用 {@link #finish()} 时只刷新目标输出流。
+	 *
+	 * @throws IOException 当流已关闭或写出失败时抛出
+	 * @since 2.2.0
+	 */
+	@Override
+	public void flush() throws IOException {
+		if (closed) {
+			throw new IOException("流已关闭");
+		}
+		if (finished) {
+			outputStream.flush();
+			return;
+		}
+
+		while (!pendingBlocks.isEmpty() && pendingBlocks.peekFirst().isDone()) {
+			writePendingBlock();
+		}
+		outputStream.flush();
+	}
+
+	/**
+	 * 压缩剩余数据并写出尾部，不关闭目标输出流。
+	 * <p>开始结束压缩时即标记为已完成，失败后再次调用（包括 {@link #close()}）不会重复提交最后一个数据块。</p>
+	 *
+	 * @throws IOException 当压缩或写出失败时抛出
+	 * @since 2.2.0
+	 */
+	public void finish() throws IOException {
+		if (finished) {
+			return;
+		}
+		checkOpen();
+
+		finished = true;
+		submitBlock(true);
+		while (!pendingBlocks.isEmpty()) {
+			writePendingBlock();
+		}
+		writeTrailer();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		try {
+			finish();
+		} finally {
+			closed = true;
+			pendingBlocks.forEach(future -> future.cancel(true));
+			pendingBlocks.clear();
+			try {
+				outputStream.close();
+			} finally {
+				if (shutdownExecutor) {
+					executorService.shutdownNow();
+				}
+			}
+		}
+	}
+
+	/**
+	 * 创建数据块的压缩任务。
+	 * <p>在写入线程中按数据块顺序调用，子类可在此更新需要按顺序计算的状态（如校验和）；返回的任务在线程池中执行。</p>
+	 *
+	 * @param data          数据块，提交后不会再被修改
+	 * @param length        数据块有效长度，最后一个数据块可能为 0
+	 * @param previousBlock 前一个数据块（长度为 {@link #blockSize}），第一个数据块为 null
+	 * @param last          是否为最后一个数据块
+	 * @return 返回压缩后数据的任务
+	 * @since 2.2.0
+	 */
+	protected abstract Callable<byte[]> createBlockTask(byte[] data, int length, byte[] previousBlock, boolean last);
+
+	/**
+	 * 在所有数据块写出后写入尾部，默认不写入任何内容。
+	 *
+	 * @throws IOException 当写出失败时抛出
+	 * @since 2.2.0
+	 */
+	protected void writeTrailer() throws IOException {
+	}
+
+	/**
+	 * 创建固定大小的线程池
+	 *
+	 * @param threads 线程数，必须大于 0
+	 * @return 线程池
+	 * @throws IllegalArgumentException 当 {@code threads} 不合法时抛出
+	 * @since 2.2.0
+	 */
+	protected static ExecutorService newExecutorService(final int threads) {
+		Validate.isTrue(threads > 0, "threads 必须大于0");
+		return Executors.newFixedThreadPool(threads);
+	}
+
+	private void submitBlock(final boolean last) throws IOException {
+		pendingBlocks.addLast(executorService.submit(createBlockTask(block, blockLength, previousBlock, last)));
+
+		previousBlock = block;
+		block = last ? null : new byte[blockSize];
+		blockLength = 0;
+
+		while (!pendingBlocks.isEmpty() && (pendingBlocks.size() >= maxPendingBlocks || pendingBlocks.peekFirst().isDone())) {
+			writePendingBlock();
+		}
+	}
+
+	private void writePendingBlock() throws IOException {
+		Future<byte[]> future = pendingBlocks.pollFirst();
+		try {
+			outputStream.write(future.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("并行压缩被中断");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			throw new IOException(e.getCause());
+		}
+	}
+
+	private void checkOpen() throws IOException {
+		if (closed) {
+			throw new IOException("流已关闭");
+		}
+		if (finished) {
+			throw new IOException("流已完成压缩，不可继续写入");
+		}
+	}
+}
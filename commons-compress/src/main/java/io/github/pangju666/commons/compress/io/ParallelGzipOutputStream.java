@@ -0,0 +1,253 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.pangju666.commons.compress.io;
+
+import org.apache.commons.compress.compressors.gzip.GzipParameters;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 多线程并行压缩的 GZIP 输出流（pigz 风格）。
+ * <p>
+ * 写入的数据按固定大小切分为数据块，各数据块提交到线程池并行执行 Deflate 压缩。除第一个数据块外，
+ * 每个数据块都以前一个数据块的最后 32KB 作为预设字典，因此压缩率与单线程压缩接近。非最后的数据块以
+ * {@link Deflater#SYNC_FLUSH} 结束并按字节对齐，最后一个数据块以 {@link Deflater#FINISH} 结束，
+ * 按提交顺序拼接后即为一个完整的 Deflate 流，输出为可被任意 gunzip 读取的标准单成员 GZIP 流。
+ * </p>
+ * <p>
+ * 写入线程负责计算 CRC32 并写出 GZIP 头、尾，数据块的调度与写出参见 {@link ParallelBlockOutputStream}。
+ * </p>
+ *
+ * <h3>使用示例</h3>
+ * <pre>{@code
+ * try (InputStream in = new FileInputStream("export.log");
+ *      OutputStream out = new ParallelGzipOutputStream(new FileOutputStream("export.log.gz"),
+ *          new GzipParameters(), ParallelGzipOutputStream.DEFAULT_BLOCK_SIZE, 4)) {
+ *     in.transferTo(out);
+ * }
+ * }</pre>
+ *
+ * @author pangju666
+ * @see ParallelBlockOutputStream
+ * @see io.github.pangju666.commons.compress.utils.GzipUtils
+ * @since 2.2.0
+ */
+public class ParallelGzipOutputStream extends ParallelBlockOutputStream {
+	/**
+	 * 默认数据块大小（128KB）
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+	/**
+	 * Deflate 预设字典大小（32KB），也是数据块大小的下限
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int DICTIONARY_SIZE = 32 * 1024;
+
+	private static final int GZIP_MAGIC = 0x8b1f;
+	private static final int FNAME = 1 << 3;
+	private static final int FCOMMENT = 1 << 4;
+
+	/**
+	 * GZIP 压缩参数
+	 *
+	 * @since 2.2.0
+	 */
+	protected final GzipParameters parameters;
+
+	private final CRC32 crc = new CRC32();
+	private long totalLength = 0;
+
+	/**
+	 * 创建并行 GZIP 输出流，内部创建固定大小的线程池，关闭流时自动关闭该线程池
+	 *
+	 * @param outputStream 目标输出流，必须非 null，关闭本流时会同时关闭
+	 * @param parameters   GZIP 压缩参数，必须非 null
+	 * @param blockSize    数据块大小，不可小于 {@value #DICTIONARY_SIZE}
+	 * @param threads      压缩线程数，必须大于 0
+	 * @throws NullPointerException     当 {@code outputStream} 或 {@code parameters} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code blockSize} 或 {@code threads} 不合法时抛出
+	 * @throws IOException              当写入 GZIP 头失败时抛出
+	 * @since 2.2.0
+	 */
+	public ParallelGzipOutputStream(final OutputStream outputStream, final GzipParameters parameters, final int blockSize,
+	                                final int threads) throws IOException {
+		this(outputStream, parameters, blockSize, newExecutorService(threads), threads * 2, true);
+	}
+
+	/**
+	 * 创建使用调用方线程池的并行 GZIP 输出流，关闭流时不会关闭该线程池
+	 *
+	 * @param outputStream     目标输出流，必须非 null，关闭本流时会同时关闭
+	 * @param parameters       GZIP 压缩参数，必须非 null
+	 * @param blockSize        数据块大小，不可小于 {@value #DICTIONARY_SIZE}
+	 * @param executorService  执行压缩任务的线程池，必须非 null
+	 * @param maxPendingBlocks 同时处于压缩中或等待写出的数据块数量上限，必须大于 0，通常为线程数的 2 倍
+	 * @throws NullPointerException     当 {@code outputStream}、{@code parameters} 或 {@code executorService} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code blockSize} 或 {@code maxPendingBlocks} 不合法时抛出
+	 * @throws IOException              当写入 GZIP 头失败时抛出
+	 * @since 2.2.0
+	 */
+	public ParallelGzipOutputStream(final OutputStream outputStream, final GzipParameters parameters, final int blockSize,
+	                                final ExecutorService executorService, final int maxPendingBlocks) throws IOException {
+		this(outputStream, parameters, blockSize, executorService, maxPendingBlocks, false);
+	}
+
+	/**
+	 * 创建并行 GZIP 输出流
+	 *
+	 * @param outputStream     目标输出流，必须非 null
+	 * @param parameters       GZIP 压缩参数，必须非 null
+	 * @param blockSize        数据块大小，不可小于 {@value #DICTIONARY_SIZE}
+	 * @param executorService  执行压缩任务的线程池，必须非 null
+	 * @param maxPendingBlocks 同时处于压缩中或等待写出的数据块数量上限，必须大于 0
+	 * @param shutdownExecutor 关闭流时是否同时关闭线程池
+	 * @throws IOException 当写入 GZIP 头失败时抛出
+	 * @since 2.2.0
+	 */
+	protected ParallelGzipOutputStream(final OutputStream outputStream, final GzipParameters parameters, final int blockSize,
+	                                   final ExecutorService executorService, final int maxPendingBlocks,
+	                                   final boolean shutdownExecutor) throws IOException {
+		super(outputStream, checkBlockSize(blockSize), executorService, maxPendingBlocks, shutdownExecutor);
+		Validate.notNull(parameters, "parameters 不可为 null");
+
+		this.parameters = parameters;
+		writeHeader();
+	}
+
+	@Override
+	protected Callable<byte[]> createBlockTask(final byte[] data, final int length, final byte[] previousBlock,
+	                                           final boolean last) {
+		crc.update(data, 0, length);
+		totalLength += length;
+
+		int level = parameters.getCompressionLevel();
+		int strategy = parameters.getDeflateStrategy();
+		return () -> deflateBlock(data, length, previousBlock, level, strategy, last);
+	}
+
+	@Override
+	protected void writeTrailer() throws IOException {
+		writeInt((int) crc.getValue());
+		writeInt((int) totalLength);
+	}
+
+	/**
+	 * 压缩单个数据块为原始 Deflate 数据。
+	 *
+	 * @param data       数据块
+	 * @param length     数据块有效长度
+	 * @param dictionary 前一个数据块，第一个数据块为 null
+	 * @param level      压缩级别
+	 * @param strategy   压缩策略
+	 * @param last       是否为最后一个数据块
+	 * @return 压缩后的数据
+	 * @since 2.2.0
+	 */
+	protected static byte[] deflateBlock(final byte[] data, final int length, final byte[] dictionary, final int level,
+	                                     final int strategy, final boolean last) {
+		Deflater deflater = new Deflater(level, true);
+		try {
+			deflater.setStrategy(strategy);
+			if (Objects.nonNull(dictionary)) {
+				deflater.setDictionary(dictionary, dictionary.length - DICTIONARY_SIZE, DICTIONARY_SIZE);
+			}
+			deflater.setInput(data, 0, length);
+			if (last) {
+				deflater.finish();
+			}
+
+			byte[] buffer = new byte[Math.max(length + (length >> 10) + 64, 64)];
+			int size = 0;
+			while (true) {
+				if (size == buffer.length) {
+					buffer = Arrays.copyOf(buffer, buffer.length * 2);
+				}
+				int count = deflater.deflate(buffer, size, buffer.length - size,
+					last ? Deflater.NO_FLUSH : Deflater.SYNC_FLUSH);
+				size += count;
+				if (last ? deflater.finished() : size < buffer.length && deflater.needsInput()) {
+					break;
+				}
+			}
+			return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private void writeHeader() throws IOException {
+		String fileName = parameters.getFileName();
+		String comment = parameters.getComment();
+		int flags = 0;
+		if (StringUtils.isNotEmpty(fileName)) {
+			flags |= FNAME;
+		}
+		if (StringUtils.isNotEmpty(comment)) {
+			flags |= FCOMMENT;
+		}
+		int extraFlags = 0;
+		if (parameters.getCompressionLevel() == Deflater.BEST_COMPRESSION) {
+			extraFlags = 2;
+		} else if (parameters.getCompressionLevel() == Deflater.BEST_SPEED) {
+			extraFlags = 4;
+		}
+
+		writeShort(GZIP_MAGIC);
+		outputStream.write(Deflater.DEFLATED);
+		outputStream.write(flags);
+		writeInt((int) (parameters.getModificationTime() / 1000));
+		outputStream.write(extraFlags);
+		outputStream.write(parameters.getOperatingSystem());
+		if (StringUtils.isNotEmpty(fileName)) {
+			outputStream.write(fileName.getBytes(StandardCharsets.ISO_8859_1));
+			outputStream.write(0);
+		}
+		if (StringUtils.isNotEmpty(comment)) {
+			outputStream.write(comment.getBytes(StandardCharsets.ISO_8859_1));
+			outputStream.write(0);
+		}
+	}
+
+	private void writeShort(final int value) throws IOException {
+		outputStream.write(value & 0xff);
+		outputStream.write((value >>> 8) & 0xff);
+	}
+
+	private void writeInt(final int value) throws IOException {
+		writeShort(value & 0xffff);
+		writeShort((value >>> 16) & 0xffff);
+	}
+
+	private static int checkBlockSize(final int blockSize) {
+		Validate.isTrue(blockSize >= DICTIONARY_SIZE, "blockSize 不可小于" + DICTIONARY_SIZE);
+		return blockSize;
+	}
+}
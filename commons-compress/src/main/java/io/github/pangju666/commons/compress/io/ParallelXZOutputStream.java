@@ -0,0 +1,186 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.pangju666.commons.compress.io;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.Validate;
+import org.tukaani.xz.LZMA2Options;
+import org.tukaani.xz.XZ;
+import org.tukaani.xz.XZOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 多线程并行压缩的 XZ 输出流。
+ * <p>
+ * 写入的数据按固定大小切分为数据块，每个数据块在线程池中独立压缩为一个完整的 XZ 流（单个 LZMA2 块，CRC64 校验），
+ * 按提交顺序拼接输出。XZ 格式允许多个流直接拼接，输出可被 xz 命令行工具、{@link org.tukaani.xz.XZInputStream}
+ * 等标准实现解压；由于每个数据块都有独立的索引，{@link org.tukaani.xz.SeekableXZInputStream} 可以定位到任意数据块，
+ * 参见 {@link io.github.pangju666.commons.compress.utils.XZUtils#uncompressParallel(io.github.pangju666.commons.compress.io.resource.XZResource, OutputStream, int, io.github.pangju666.commons.io.model.DataSize)}。
+ * </p>
+ * <p>
+ * 数据块之间不共享字典，压缩率略低于单线程压缩；数据块越大越接近单线程压缩率。字典大于数据块时会缩小到数据块大小，
+ * 每个压缩线程约占用 {@link LZMA2Options#getEncoderMemoryUsage()} 的内存。数据块的调度与写出参见 {@link ParallelBlockOutputStream}。
+ * </p>
+ *
+ * <h3>使用示例</h3>
+ * <pre>{@code
+ * try (InputStream in = new FileInputStream("archive.tar");
+ *      OutputStream out = new ParallelXZOutputStream(new FileOutputStream("archive.tar.xz"),
+ *          new LZMA2Options(), ParallelXZOutputStream.getDefaultBlockSize(new LZMA2Options()), 4)) {
+ *     in.transferTo(out);
+ * }
+ * }</pre>
+ *
+ * @author pangju666
+ * @see ParallelBlockOutputStream
+ * @see io.github.pangju666.commons.compress.utils.XZUtils
+ * @since 2.2.0
+ */
+public class ParallelXZOutputStream extends ParallelBlockOutputStream {
+	/**
+	 * 最小数据块大小（1MB）
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int MIN_BLOCK_SIZE = 1024 * 1024;
+	/**
+	 * 最大数据块大小（1GB）
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int MAX_BLOCK_SIZE = 1024 * 1024 * 1024;
+
+	/**
+	 * LZMA2 压缩选项，已按数据块大小调整字典大小
+	 *
+	 * @since 2.2.0
+	 */
+	protected final LZMA2Options options;
+
+	/**
+	 * 创建并行 XZ 输出流，内部创建固定大小的线程池，关闭流时自动关闭该线程池
+	 *
+	 * @param outputStream 目标输出流，必须非 null，关闭本流时会同时关闭
+	 * @param options      LZMA2 压缩选项，必须非 null，方法会复制该对象
+	 * @param blockSize    数据块大小，范围为 {@value #MIN_BLOCK_SIZE} 到 {@value #MAX_BLOCK_SIZE}
+	 * @param threads      压缩线程数，必须大于 0
+	 * @throws NullPointerException     当 {@code outputStream} 或 {@code options} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code blockSize} 或 {@code threads} 不合法时抛出
+	 * @throws IOException              当压缩选项不受支持时抛出
+	 * @since 2.2.0
+	 */
+	public ParallelXZOutputStream(final OutputStream outputStream, final LZMA2Options options, final int blockSize,
+	                              final int threads) throws IOException {
+		this(outputStream, options, blockSize, newExecutorService(threads), threads * 2, true);
+	}
+
+	/**
+	 * 创建使用调用方线程池的并行 XZ 输出流，关闭流时不会关闭该线程池
+	 *
+	 * @param outputStream     目标输出流，必须非 null，关闭本流时会同时关闭
+	 * @param options          LZMA2 压缩选项，必须非 null，方法会复制该对象
+	 * @param blockSize        数据块大小，范围为 {@value #MIN_BLOCK_SIZE} 到 {@value #MAX_BLOCK_SIZE}
+	 * @param executorService  执行压缩任务的线程池，必须非 null
+	 * @param maxPendingBlocks 同时处于压缩中或等待写出的数据块数量上限，必须大于 0，通常为线程数的 2 倍
+	 * @throws NullPointerException     当 {@code outputStream}、{@code options} 或 {@code executorService} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code blockSize} 或 {@code maxPendingBlocks} 不合法时抛出
+	 * @throws IOException              当压缩选项不受支持时抛出
+	 * @since 2.2.0
+	 */
+	public ParallelXZOutputStream(final OutputStream outputStream, final LZMA2Options options, final int blockSize,
+	                              final ExecutorService executorService, final int maxPendingBlocks) throws IOException {
+		this(outputStream, options, blockSize, executorService, maxPendingBlocks, false);
+	}
+
+	/**
+	 * 创建并行 XZ 输出流
+	 *
+	 * @param outputStream     目标输出流，必须非 null
+	 * @param options          LZMA2 压缩选项，必须非 null，方法会复制该对象
+	 * @param blockSize        数据块大小，范围为 {@value #MIN_BLOCK_SIZE} 到 {@value #MAX_BLOCK_SIZE}
+	 * @param executorService  执行压缩任务的线程池，必须非 null
+	 * @param maxPendingBlocks 同时处于压缩中或等待写出的数据块数量上限，必须大于 0
+	 * @param shutdownExecutor 关闭流时是否同时关闭线程池
+	 * @throws IOException 当压缩选项不受支持时抛出
+	 * @since 2.2.0
+	 */
+	protected ParallelXZOutputStream(final OutputStream outputStream, final LZMA2Options options, final int blockSize,
+	                                 final ExecutorService executorService, final int maxPendingBlocks,
+	                                 final boolean shutdownExecutor) throws IOException {
+		super(outputStream, checkBlockSize(blockSize), executorService, maxPendingBlocks, shutdownExecutor);
+		Validate.notNull(options, "options 不可为 null");
+
+		this.options = (LZMA2Options) options.clone();
+		if (this.options.getDictSize() > blockSize) {
+			this.options.setDictSize(Math.max(blockSize, LZMA2Options.DICT_SIZE_MIN));
+		}
+	}
+
+	/**
+	 * 获取指定压缩选项的默认数据块大小
+	 * <p>与 xz 命令行工具的多线程模式一致，为字典大小的 3 倍，且不小于 {@value #MIN_BLOCK_SIZE}。</p>
+	 *
+	 * @param options LZMA2 压缩选项，必须非 null
+	 * @return 默认数据块大小
+	 * @since 2.2.0
+	 */
+	public static int getDefaultBlockSize(final LZMA2Options options) {
+		Validate.notNull(options, "options 不可为 null");
+		return (int) Math.min(Math.max(3L * options.getDictSize(), MIN_BLOCK_SIZE), MAX_BLOCK_SIZE);
+	}
+
+	@Override
+	protected Callable<byte[]> createBlockTask(final byte[] data, final int length, final byte[] previousBlock,
+	                                           final boolean last) {
+		// 输入恰好为数据块的整数倍时最后一个数据块为空，不需要再输出一个空流
+		if (length == 0 && Objects.nonNull(previousBlock)) {
+			return () -> ArrayUtils.EMPTY_BYTE_ARRAY;
+		}
+		return () -> compressBlock(data, length, options);
+	}
+
+	/**
+	 * 将单个数据块压缩为完整的 XZ 流。
+	 *
+	 * @param data    数据块
+	 * @param length  数据块有效长度
+	 * @param options LZMA2 压缩选项，只读使用
+	 * @return 压缩后的 XZ 流
+	 * @throws IOException 当压缩失败时抛出
+	 * @since 2.2.0
+	 */
+	protected static byte[] compressBlock(final byte[] data, final int length, final LZMA2Options options) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream(Math.max(length / 4, 64));
+		try (XZOutputStream xzOutputStream = new XZOutputStream(outputStream, options, XZ.CHECK_CRC64)) {
+			xzOutputStream.write(data, 0, length);
+		}
+		return outputStream.toByteArray();
+	}
+
+	private static int checkBlockSize(final int blockSize) {
+		Validate.inclusiveBetween(MIN_BLOCK_SIZE, MAX_BLOCK_SIZE, blockSize,
+			"blockSize 必须在 " + MIN_BLOCK_SIZE + " 到 " + MAX_BLOCK_SIZE + " 之间");
+		return blockSize;
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.compress.io.resource;
+
+import io.github.pangju666.commons.compress.model.ArchiveEntryInfo;
+import org.apache.commons.compress.archivers.ArchiveEntry;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 归档条目索引，保存条目索引信息与按名称查找的原始条目。
+ *
+ * @param <T> 归档条目类型
+ * @author pangju666
+ * @since 2.2.0
+ */
+final class ArchiveEntryIndex<T extends ArchiveEntry> {
+	/**
+	 * 按归档顺序排列的条目索引信息
+	 *
+	 * @since 2.2.0
+	 */
+	private final List<ArchiveEntryInfo> entryInfos;
+	/**
+	 * 条目名称到条目索引信息的映射
+	 *
+	 * @since 2.2.0
+	 */
+	private final Map<String, ArchiveEntryInfo> entryInfoMap;
+	/**
+	 * 条目名称到原始条目的映射
+	 *
+	 * @since 2.2.0
+	 */
+	private final Map<String, T> entryMap;
+
+	/**
+	 * 构建条目索引，存在同名条目时按名称查找返回第一个
+	 *
+	 * @param entries 归档条目
+	 * @param mapper  原始条目到条目索引信息的转换函数
+	 * @since 2.2.0
+	 */
+	ArchiveEntryIndex(final Iterable<T> entries, final Function<? super T, ArchiveEntryInfo> mapper) {
+		List<ArchiveEntryInfo> infos = new ArrayList<>();
+		Map<String, ArchiveEntryInfo> infoMap = new HashMap<>();
+		Map<String, T> map = new HashMap<>();
+		for (T entry : entries) {
+			ArchiveEntryInfo info = mapper.apply(entry);
+			infos.add(info);
+			infoMap.putIfAbsent(entry.getName(), info);
+			map.putIfAbsent(entry.getName(), entry);
+		}
+		this.entryInfos = Collections.unmodifiableList(infos);
+		this.entryInfoMap = infoMap;
+		this.entryMap = map;
+	}
+
+	List<ArchiveEntryInfo> getEntryInfos() {
+		return entryInfos;
+	}
+
+	ArchiveEntryInfo getEntryInfo(final String name) {
+		return entryInfoMap.get(name);
+	}
+
+	T getEntry(final String name) {
+		return entryMap.get(name);
+	}
+}
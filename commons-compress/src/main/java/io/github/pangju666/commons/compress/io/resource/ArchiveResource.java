@@ -0,0 +1,74 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.compress.io.resource;
+
+import io.github.pangju666.commons.compress.model.ArchiveEntryInfo;
+
+import java.io.Closeable;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 支持条目索引与单条目读取的归档资源。
+ * <p>
+ * 首次访问条目时构建条目索引并缓存到资源关闭为止，后续列出或查找条目不再读取归档。
+ * 只需读取归档中的部分条目时，应使用 {@link #openEntryInputStream(String)} 代替完整解压。
+ * </p>
+ *
+ * @author pangju666
+ * @see ZipResource
+ * @see TarResource
+ * @see SevenZResource
+ * @see CompressResource
+ * @since 2.2.0
+ */
+public interface ArchiveResource extends Closeable {
+	/**
+	 * 获取归档中的全部条目（按归档中的顺序）
+	 *
+	 * @return 不可修改的条目索引列表
+	 * @throws IOException 当资源已关闭或读取归档失败时抛出
+	 * @since 2.2.0
+	 */
+	List<ArchiveEntryInfo> getEntries() throws IOException;
+
+	/**
+	 * 根据名称查找条目，存在同名条目时返回第一个
+	 *
+	 * @param name 条目名称，不可为 null
+	 * @return 条目索引信息，不存在时返回 null
+	 * @throws NullPointerException 当 {@code name} 为 null 时抛出
+	 * @throws IOException          当资源已关闭或读取归档失败时抛出
+	 * @since 2.2.0
+	 */
+	ArchiveEntryInfo getEntry(String name) throws IOException;
+
+	/**
+	 * 打开单个条目的输入流，只读取该条目的数据
+	 * <p>调用者负责关闭返回的输入流。</p>
+	 *
+	 * @param name 条目名称，不可为 null
+	 * @return 条目内容的输入流
+	 * @throws NullPointerException  当 {@code name} 为 null 时抛出
+	 * @throws FileNotFoundException 当条目不存在或为目录时抛出
+	 * @throws IOException           当资源已关闭或读取归档失败时抛出
+	 * @since 2.2.0
+	 */
+	InputStream openEntryInputStream(String name) throws IOException;
+}
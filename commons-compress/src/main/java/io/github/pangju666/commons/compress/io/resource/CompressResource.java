@@ -17,6 +17,7 @@
 package io.github.pangju666.commons.compress.io.resource;
 
 import io.github.pangju666.commons.compress.lang.CompressConstants;
+import io.github.pangju666.commons.compress.model.ArchiveEntryInfo;
 import io.github.pangju666.commons.io.exception.UnsupportedResourceException;
 import io.github.pangju666.commons.io.resource.IOResource;
 import org.apache.commons.compress.archivers.ArchiveInputStream;
@@ -29,8 +30,11 @@ import org.apache.commons.compress.compressors.zstandard.ZstdCompressorInputStre
 import org.apache.commons.lang3.Strings;
 
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * 压缩文件资源类
@@ -38,6 +42,7 @@ import java.io.InputStream;
  * 该类继承自 {@link IOResource}，专门用于处理各种格式的压缩文件资源。
  * 支持 GZIP、XZ、Zstandard、TAR、ZIP、7Z 等常见压缩格式。
  * 通过 MIME 类型自动识别压缩格式，并提供相应的压缩流和归档流打开方法。
+ * 对于 ZIP、TAR、7Z 格式，还可以列出条目和读取单个条目（自 2.2.0 起），而无需打开完整的归档流。
  * </p>
  * <p>
  * 使用示例：
@@ -57,7 +62,14 @@ import java.io.InputStream;
  * @author pangju666
  * @since 2.1.0
  */
-public class CompressResource extends IOResource {
+public class CompressResource extends IOResource implements ArchiveResource {
+	/**
+	 * 条目索引使用的归档资源，首次访问条目时创建，资源关闭时关闭
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile ArchiveResource archiveResource;
+
 	/**
 	 * 从 IOResource 创建压缩资源
 	 * <p>
@@ -208,6 +220,81 @@ public class CompressResource extends IOResource {
 		}
 	}
 
+	/**
+	 * 获取归档中的全部条目
+	 * <p>
+	 * 委托给按格式创建的 {@link ZipResource}、{@link TarResource} 或 {@link SevenZResource}（使用默认编码，7Z 不支持密码），
+	 * 索引在首次调用时构建并缓存到资源关闭为止。需要自定义编码或密码时请直接使用对应的资源类。
+	 * </p>
+	 *
+	 * @return 不可修改的条目索引列表
+	 * @throws IOException                  当资源已关闭或读取归档失败时抛出
+	 * @throws UnsupportedResourceException 当资源不是 ZIP、TAR 或 7Z 格式时抛出
+	 * @since 2.2.0
+	 */
+	@Override
+	public List<ArchiveEntryInfo> getEntries() throws IOException {
+		return getArchiveResource().getEntries();
+	}
+
+	/**
+	 * 根据名称查找条目，存在同名条目时返回第一个
+	 *
+	 * @param name 条目名称，不可为 null
+	 * @return 条目索引信息，不存在时返回 null
+	 * @throws NullPointerException         当 {@code name} 为 null 时抛出
+	 * @throws IOException                  当资源已关闭或读取归档失败时抛出
+	 * @throws UnsupportedResourceException 当资源不是 ZIP、TAR 或 7Z 格式时抛出
+	 * @since 2.2.0
+	 */
+	@Override
+	public ArchiveEntryInfo getEntry(String name) throws IOException {
+		return getArchiveResource().getEntry(name);
+	}
+
+	/**
+	 * 打开单个条目的输入流
+	 * <p>
+	 * ZIP、TAR 通过索引直接定位条目数据，参见 {@link ZipResource#openEntryInputStream(String)}、
+	 * {@link TarResource#openEntryInputStream(String)}、{@link SevenZResource#openEntryInputStream(String)}。
+	 * 调用者负责关闭返回的输入流。
+	 * </p>
+	 *
+	 * @param name 条目名称，不可为 null
+	 * @return 条目内容的输入流
+	 * @throws NullPointerException         当 {@code name} 为 null 时抛出
+	 * @throws FileNotFoundException        当条目不存在或为目录时抛出
+	 * @throws IOException                  当资源已关闭或读取条目失败时抛出
+	 * @throws UnsupportedResourceException 当资源不是 ZIP、TAR 或 7Z 格式时抛出
+	 * @since 2.2.0
+	 */
+	@Override
+	public InputStream openEntryInputStream(String name) throws IOException {
+		return getArchiveResource().openEntryInputStream(name);
+	}
+
+	/**
+	 * 关闭资源，同时关闭条目索引使用的归档资源
+	 *
+	 * @throws IOException 当关闭归档资源或删除临时文件失败时抛出
+	 * @since 2.2.0
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (isClosed()) {
+			return;
+		}
+
+		try {
+			if (Objects.nonNull(archiveResource)) {
+				archiveResource.close();
+			}
+		} finally {
+			archiveResource = null;
+			super.close();
+		}
+	}
+
 	/**
 	 * 判断是否为 GZIP 格式
 	 *
@@ -286,4 +373,37 @@ public class CompressResource extends IOResource {
 			throw new UnsupportedResourceException(message);
 		}
 	}
+
+	/**
+	 * 获取条目索引使用的归档资源，不存在时按格式创建
+	 *
+	 * @return 归档资源
+	 * @throws IOException                  当资源已关闭或创建归档资源失败时抛出
+	 * @throws UnsupportedResourceException 当资源不是 ZIP、TAR 或 7Z 格式时抛出
+	 * @since 2.2.0
+	 */
+	protected ArchiveResource getArchiveResource() throws IOException {
+		checkClosed();
+
+		ArchiveResource resource = archiveResource;
+		if (Objects.nonNull(resource)) {
+			return resource;
+		}
+		synchronized (this) {
+			checkClosed();
+
+			if (Objects.isNull(archiveResource)) {
+				if (isZip()) {
+					archiveResource = new ZipResource(this);
+				} else if (isTar()) {
+					archiveResource = new TarResource(this);
+				} else if (is7z()) {
+					archiveResource = new SevenZResource(this);
+				} else {
+					throw new UnsupportedResourceException("不支持读取归档条目");
+				}
+			}
+			return archiveResource;
+		}
+	}
 }
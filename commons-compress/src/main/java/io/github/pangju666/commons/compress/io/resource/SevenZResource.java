@@ -17,15 +17,16 @@
 package io.github.pangju666.commons.compress.io.resource;
 
 import io.github.pangju666.commons.compress.lang.CompressConstants;
+import io.github.pangju666.commons.compress.model.ArchiveEntryInfo;
 import io.github.pangju666.commons.io.exception.UnsupportedResourceException;
 import io.github.pangju666.commons.io.model.DataSize;
 import io.github.pangju666.commons.io.resource.IOResource;
+import org.apache.commons.compress.archivers.sevenz.SevenZArchiveEntry;
 import org.apache.commons.compress.archivers.sevenz.SevenZFile;
 import org.apache.commons.lang3.Validate;
 
-import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
+import java.io.*;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -41,6 +42,7 @@ import java.util.Objects;
  * <ul>
  *   <li>从文件、字节数组、输入流加载 7Z 资源</li>
  *   <li>自动验证资源类型</li>
+ *   <li>条目索引与单条目读取（自 2.2.0 起，参见 {@link #openEntryInputStream(String)}）</li>
  * </ul>
  * <p>
  * <b>使用示例：</b>
@@ -66,7 +68,7 @@ import java.util.Objects;
  * @author pangju666
  * @since 2.1.0
  */
-public class SevenZResource extends IOResource {
+public class SevenZResource extends IOResource implements ArchiveResource {
 	/**
 	 * 7Z 文件密码
 	 * <p>用于打开加密的 7Z 文件，如果为 null 表示文件未加密</p>
@@ -75,6 +77,13 @@ public class SevenZResource extends IOResource {
 	 */
 	protected final String password;
 
+	/**
+	 * 条目索引，首次访问条目时构建
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile ArchiveEntryIndex<SevenZArchiveEntry> entryIndex;
+
 	/**
 	 * 从 IOResource 构造 7Z 资源
 	 * <p>
@@ -290,7 +299,7 @@ public class SevenZResource extends IOResource {
 	/**
 	 * 打开 7Z 文件。
 	 * <p>根据资源类型创建相应的 SevenZFile 实例。</p>
-	 * <p>如果资源来自文件，使用文件路径创建；否则使用字节数组创建。</p>
+	 * <p>如果资源来自文件，使用文件路径创建；否则基于资源内容存储的只读通道创建，不复制数据。</p>
 	 * <p>如果设置了密码，会自动应用到 SevenZFile。</p>
 	 * <p>并非所有编解码器都支持此设置。目前仅支持 LZMA 和 LZMA2。</p>
 	 *
@@ -305,7 +314,7 @@ public class SevenZResource extends IOResource {
 		if (Objects.nonNull(file)) {
 			builder.setFile(file);
 		} else {
-			builder.setByteArray(byteArrayOutputStream.toByteArray());
+			builder.setSeekableByteChannel(openChannel());
 		}
 		if (Objects.nonNull(password)) {
 			builder.setPassword(password);
@@ -316,7 +325,7 @@ public class SevenZResource extends IOResource {
 	/**
 	 * 打开 7Z 文件并设置内存限制。
 	 * <p>根据资源类型创建相应的 SevenZFile 实例。</p>
-	 * <p>如果资源来自文件，使用文件路径创建；否则使用字节数组创建。</p>
+	 * <p>如果资源来自文件，使用文件路径创建；否则基于资源内容存储的只读通道创建，不复制数据。</p>
 	 * <p>如果设置了密码，会自动应用到 SevenZFile。</p>
 	 * <p>设置内存限制可以防止解压过程中消耗过多内存。
 	 * 仅当内存限制大于等于 1 KB 时才设置限制。</p>
@@ -341,7 +350,7 @@ public class SevenZResource extends IOResource {
 		if (Objects.nonNull(file)) {
 			builder.setFile(file);
 		} else {
-			builder.setByteArray(byteArrayOutputStream.toByteArray());
+			builder.setSeekableByteChannel(openChannel());
 		}
 		if (Objects.nonNull(password)) {
 			builder.setPassword(password);
@@ -349,6 +358,124 @@ public class SevenZResource extends IOResource {
 		return builder.get();
 	}
 
+	/**
+	 * 获取 7Z 中的全部条目。
+	 * <p>首次调用时读取归档头构建索引（不解压任何条目），结果缓存到资源关闭为止。</p>
+	 *
+	 * @return 不可修改的条目索引列表，压缩后大小与偏移未知
+	 * @throws IOException 当资源已关闭、密码错误或读取归档头失败时抛出
+	 * @since 2.2.0
+	 */
+	@Override
+	public List<ArchiveEntryInfo> getEntries() throws IOException {
+		return getEntryIndex().getEntryInfos();
+	}
+
+	/**
+	 * 根据名称查找条目，存在同名条目时返回第一个。
+	 *
+	 * @param name 条目名称，不可为 null
+	 * @return 条目索引信息，不存在时返回 null
+	 * @throws NullPointerException 当 {@code name} 为 null 时抛出
+	 * @throws IOException          当资源已关闭、密码错误或读取归档头失败时抛出
+	 * @since 2.2.0
+	 */
+	@Override
+	public ArchiveEntryInfo getEntry(String name) throws IOException {
+		Validate.notNull(name, "name 不可为 null");
+
+		return getEntryIndex().getEntryInfo(name);
+	}
+
+	/**
+	 * 打开单个条目的输入流。
+	 * <p>
+	 * 打开新的 {@link SevenZFile} 并直接定位到条目所在的数据块，不解压其他数据块；
+	 * 固实压缩（solid）的数据块中，位于该条目之前的条目仍需解码后跳过。
+	 * 关闭返回的输入流时同时关闭该 SevenZFile，每次调用相互独立，可在多个线程中同时使用。
+	 * </p>
+	 *
+	 * @param name 条目名称，不可为 null
+	 * @return 条目内容的输入流
+	 * @throws NullPointerException  当 {@code name} 为 null 时抛出
+	 * @throws FileNotFoundException 当条目不存在或为目录时抛出
+	 * @throws IOException           当资源已关闭、密码错误或读取条目失败时抛出
+	 * @since 2.2.0
+	 */
+	@Override
+	public InputStream openEntryInputStream(String name) throws IOException {
+		Validate.notNull(name, "name 不可为 null");
+
+		SevenZArchiveEntry indexEntry = getEntryIndex().getEntry(name);
+		if (Objects.isNull(indexEntry) || indexEntry.isDirectory()) {
+			throw new FileNotFoundException("条目 " + name + " 不存在");
+		}
+
+		SevenZFile sevenZFile = openSevenZFile();
+		try {
+			for (SevenZArchiveEntry entry : sevenZFile.getEntries()) {
+				if (name.equals(entry.getName())) {
+					return new FilterInputStream(sevenZFile.getInputStream(entry)) {
+						@Override
+						public void close() throws IOException {
+							try {
+								super.close();
+							} finally {
+								sevenZFile.close();
+							}
+						}
+					};
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			sevenZFile.close();
+			throw e;
+		}
+		sevenZFile.close();
+		throw new FileNotFoundException("条目 " + name + " 不存在");
+	}
+
+	/**
+	 * 关闭资源，同时释放条目索引。
+	 *
+	 * @throws IOException 当删除临时文件失败时抛出
+	 * @since 2.2.0
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		entryIndex = null;
+		super.close();
+	}
+
+	/**
+	 * 获取条目索引，不存在时读取归档头构建。
+	 *
+	 * @return 条目索引
+	 * @throws IOException 当资源已关闭、密码错误或读取归档头失败时抛出
+	 * @since 2.2.0
+	 */
+	private ArchiveEntryIndex<SevenZArchiveEntry> getEntryIndex() throws IOException {
+		checkClosed();
+
+		ArchiveEntryIndex<SevenZArchiveEntry> index = entryIndex;
+		if (Objects.nonNull(index)) {
+			return index;
+		}
+		synchronized (this) {
+			checkClosed();
+
+			if (Objects.isNull(entryIndex)) {
+				try (SevenZFile sevenZFile = openSevenZFile()) {
+					entryIndex = new ArchiveEntryIndex<>(sevenZFile.getEntries(), entry -> new ArchiveEntryInfo(
+						entry.getName(), entry.isDirectory(), entry.getSize(), ArchiveEntryInfo.UNKNOWN,
+						entry.getHasCrc() ? entry.getCrcValue() : ArchiveEntryInfo.UNKNOWN, ArchiveEntryInfo.UNKNOWN,
+						entry.getHasLastModifiedDate() ? entry.getLastModifiedDate() : null));
+				}
+			}
+			return entryIndex;
+		}
+	}
+
 	/**
 	 * 验证资源类型
 	 * <p>
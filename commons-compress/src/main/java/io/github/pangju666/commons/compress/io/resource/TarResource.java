@@ -17,15 +17,24 @@
 package io.github.pangju666.commons.compress.io.resource;
 
 import io.github.pangju666.commons.compress.lang.CompressConstants;
+import io.github.pangju666.commons.compress.model.ArchiveEntryInfo;
 import io.github.pangju666.commons.io.exception.UnsupportedResourceException;
 import io.github.pangju666.commons.io.resource.IOResource;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarConstants;
 import org.apache.commons.compress.archivers.tar.TarFile;
+import org.apache.commons.io.input.BoundedInputStream;
+import org.apache.commons.lang3.Validate;
 
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.Charset;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -43,6 +52,7 @@ import java.util.Objects;
  *   <li>支持自定义字符编码</li>
  *   <li>自动验证资源类型</li>
  *   <li>提供 TarArchiveInputStream 和 TarFile 访问接口</li>
+ *   <li>条目索引与按偏移直接读取单个条目（自 2.2.0 起，参见 {@link #openEntryInputStream(String)}）</li>
  * </ul>
  * <p>
  * <b>使用示例：</b>
@@ -76,7 +86,7 @@ import java.util.Objects;
  * @author pangju666
  * @since 2.1.0
  */
-public class TarResource extends IOResource {
+public class TarResource extends IOResource implements ArchiveResource {
 	/**
 	 * TAR 文件编码
 	 * <p>用于读取 TAR 文件中的文件名，默认为 null（使用系统默认编码）</p>
@@ -85,6 +95,13 @@ public class TarResource extends IOResource {
 	 */
 	protected final Charset encoding;
 
+	/**
+	 * 条目索引，首次访问条目时构建
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile ArchiveEntryIndex<TarArchiveEntry> entryIndex;
+
 	/**
 	 * 从 IOResource 构造 TAR 资源
 	 * <p>
@@ -272,7 +289,7 @@ public class TarResource extends IOResource {
 	 * 打开 TAR 文件对象
 	 * <p>
 	 * 如果资源来源于文件，则基于文件创建 TarFile；
-	 * 如果资源来源于字节数组或输入流，则基于字节数组创建 TarFile。
+	 * 如果资源来源于字节数组或输入流，则基于资源内容存储的只读通道创建 TarFile，不复制数据。
 	 * 如果设置了编码，则使用指定编码；否则使用默认编码。
 	 * 调用此方法前需要确保资源未被关闭。
 	 * </p>
@@ -293,11 +310,148 @@ public class TarResource extends IOResource {
 			}
 		} else {
 			if (Objects.nonNull(encoding)) {
-				return new TarFile(file, encoding.name());
+				return new TarFile(openChannel(), TarConstants.DEFAULT_BLKSIZE, TarConstants.DEFAULT_RCDSIZE,
+					encoding.name(), false);
 			} else {
-				return new TarFile(byteArrayOutputStream.toByteArray());
+				return new TarFile(openChannel());
+			}
+		}
+	}
+
+	/**
+	 * 获取 TAR 中的全部条目。
+	 * <p>首次调用时通过 {@link TarFile} 读取全部条目头（跳过条目数据）构建索引，结果缓存到资源关闭为止。</p>
+	 *
+	 * @return 不可修改的条目索引列表，偏移为条目数据偏移
+	 * @throws IOException 当资源已关闭或读取条目头失败时抛出
+	 * @since 2.2.0
+	 */
+	@Override
+	public List<ArchiveEntryInfo> getEntries() throws IOException {
+		return getEntryIndex().getEntryInfos();
+	}
+
+	/**
+	 * 根据名称查找条目，存在同名条目时返回第一个。
+	 *
+	 * @param name 条目名称，不可为 null
+	 * @return 条目索引信息，不存在时返回 null
+	 * @throws NullPointerException 当 {@code name} 为 null 时抛出
+	 * @throws IOException          当资源已关闭或读取条目头失败时抛出
+	 * @since 2.2.0
+	 */
+	@Override
+	public ArchiveEntryInfo getEntry(String name) throws IOException {
+		Validate.notNull(name, "name 不可为 null");
+
+		return getEntryIndex().getEntryInfo(name);
+	}
+
+	/**
+	 * 打开单个条目的输入流。
+	 * <p>
+	 * TAR 不压缩条目数据，通过缓存的数据偏移直接定位并读取条目，与归档大小和条目数量无关。
+	 * 稀疏条目需要按稀疏头重组数据，回退为使用 {@link TarArchiveInputStream} 顺序扫描到该条目。
+	 * 每次调用打开独立的输入流，可在多个线程中同时使用。
+	 * </p>
+	 *
+	 * @param name 条目名称，不可为 null
+	 * @return 条目内容的输入流
+	 * @throws NullPointerException  当 {@code name} 为 null 时抛出
+	 * @throws FileNotFoundException 当条目不存在或为目录时抛出
+	 * @throws IOException           当资源已关闭或读取条目失败时抛出
+	 * @since 2.2.0
+	 */
+	@Override
+	public InputStream openEntryInputStream(String name) throws IOException {
+		Validate.notNull(name, "name 不可为 null");
+
+		TarArchiveEntry entry = getEntryIndex().getEntry(name);
+		if (Objects.isNull(entry) || entry.isDirectory()) {
+			throw new FileNotFoundException("条目 " + name + " 不存在");
+		}
+		if (entry.isSparse() || entry.getDataOffset() < 0) {
+			return openSequentialEntryInputStream(name);
+		}
+
+		SeekableByteChannel channel = openChannel();
+		try {
+			channel.position(entry.getDataOffset());
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+		return BoundedInputStream.builder()
+			.setInputStream(Channels.newInputStream(channel))
+			.setMaxCount(entry.getSize())
+			.get();
+	}
+
+	/**
+	 * 关闭资源，同时释放条目索引。
+	 *
+	 * @throws IOException 当删除临时文件失败时抛出
+	 * @since 2.2.0
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		entryIndex = null;
+		super.close();
+	}
+
+	/**
+	 * 获取条目索引，不存在时读取全部条目头构建。
+	 *
+	 * @return 条目索引
+	 * @throws IOException 当资源已关闭或读取条目头失败时抛出
+	 * @since 2.2.0
+	 */
+	private ArchiveEntryIndex<TarArchiveEntry> getEntryIndex() throws IOException {
+		checkClosed();
+
+		ArchiveEntryIndex<TarArchiveEntry> index = entryIndex;
+		if (Objects.nonNull(index)) {
+			return index;
+		}
+		synchronized (this) {
+			checkClosed();
+
+			if (Objects.isNull(entryIndex)) {
+				try (TarFile tarFile = openTarFile()) {
+					entryIndex = new ArchiveEntryIndex<>(tarFile.getEntries(), entry -> new ArchiveEntryInfo(
+						entry.getName(), entry.isDirectory(), entry.isSparse() ? entry.getRealSize() : entry.getSize(),
+						entry.getSize(), ArchiveEntryInfo.UNKNOWN, entry.getDataOffset(), entry.getLastModifiedDate()));
+				}
+			}
+			return entryIndex;
+		}
+	}
+
+	/**
+	 * 顺序扫描到指定条目并返回定位到该条目的归档输入流。
+	 *
+	 * @param name 条目名称
+	 * @return 定位到该条目的归档输入流，读取到条目末尾时结束
+	 * @throws FileNotFoundException 当条目不存在时抛出
+	 * @throws IOException           当读取归档失败时抛出
+	 * @since 2.2.0
+	 */
+	private InputStream openSequentialEntryInputStream(final String name) throws IOException {
+		TarArchiveInputStream tarArchiveInputStream = openTarArchiveInputStream();
+		try {
+			TarArchiveEntry entry = tarArchiveInputStream.getNextEntry();
+			while (Objects.nonNull(entry)) {
+				if (name.equals(entry.getName())) {
+					return tarArchiveInputStream;
+				}
+				entry = tarArchiveInputStream.getNextEntry();
 			}
+		} catch (IOException | RuntimeException e) {
+			tarArchiveInputStream.close();
+			throw e;
 		}
+		tarArchiveInputStream.close();
+		throw new FileNotFoundException("条目 " + name + " 不存在");
 	}
 
 	/**
@@ -23,6 +23,8 @@ import io.github.pangju666.commons.io.model.DataSize;
 import io.github.pangju666.commons.io.resource.IOResource;
 import org.apache.commons.compress.compressors.xz.XZCompressorInputStream;
 import org.apache.commons.lang3.Validate;
+import org.tukaani.xz.SeekableFileInputStream;
+import org.tukaani.xz.SeekableXZInputStream;
 
 import java.io.File;
 import java.io.IOException;
@@ -185,6 +187,56 @@ public class XZResource extends IOResource {
 			.get();
 	}
 
+	/**
+	 * 打开可随机定位的 XZ 解压输入流。
+	 * <p>不限制内存，参见 {@link #openSeekableXZInputStream(DataSize)}。</p>
+	 *
+	 * @return 可随机定位的 XZ 解压输入流
+	 * @throws IOException 当资源已关闭、打开文件失败或 XZ 索引损坏时抛出
+	 * @since 2.2.0
+	 */
+	public SeekableXZInputStream openSeekableXZInputStream() throws IOException {
+		checkClosed();
+
+		SeekableFileInputStream seekableFileInputStream = new SeekableFileInputStream(getFile());
+		try {
+			return new SeekableXZInputStream(seekableFileInputStream);
+		} catch (IOException e) {
+			seekableFileInputStream.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * 打开可随机定位的 XZ 解压输入流并设置内存限制。
+	 * <p>
+	 * 基于 XZ 流尾部的索引定位，支持 {@link SeekableXZInputStream#seek(long)} 按解压后偏移跳转和
+	 * {@link SeekableXZInputStream#seekToBlock(int)} 按数据块跳转，只需解码目标数据块。
+	 * 字节数组模式的资源会先写入临时文件（参见 {@link #getFile()}）。
+	 * 内存限制同时作用于索引与数据块解码，如果内存限制小于等于 0 KB，则设置为 -1（表示无限制）。
+	 * </p>
+	 *
+	 * @param maxMemoryLimit 最大内存限制，必须非 null
+	 * @return 可随机定位的 XZ 解压输入流
+	 * @throws IOException          当资源已关闭、打开文件失败、XZ 索引损坏或超出内存限制时抛出
+	 * @throws NullPointerException 当 maxMemoryLimit 为 null 时抛出
+	 * @since 2.2.0
+	 */
+	public SeekableXZInputStream openSeekableXZInputStream(DataSize maxMemoryLimit) throws IOException {
+		checkClosed();
+
+		Validate.notNull(maxMemoryLimit, "maxMemoryLimit 不可为 null");
+
+		int maxMemoryLimitKb = (int) maxMemoryLimit.toKilobytes();
+		SeekableFileInputStream seekableFileInputStream = new SeekableFileInputStream(getFile());
+		try {
+			return new SeekableXZInputStream(seekableFileInputStream, maxMemoryLimitKb > 0 ? maxMemoryLimitKb : -1);
+		} catch (IOException e) {
+			seekableFileInputStream.close();
+			throw e;
+		}
+	}
+
 	/**
 	 * 验证资源类型是否为 XZ 格式。
 	 * <p>通过检查 MIME 类型是否为 {@link CompressConstants#XZ_MIME_TYPE} 来验证。</p>
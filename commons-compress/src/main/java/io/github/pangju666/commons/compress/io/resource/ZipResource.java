@@ -17,20 +17,25 @@
 package io.github.pangju666.commons.compress.io.resource;
 
 import io.github.pangju666.commons.compress.lang.CompressConstants;
+import io.github.pangju666.commons.compress.model.ArchiveEntryInfo;
 import io.github.pangju666.commons.io.exception.UnsupportedResourceException;
 import io.github.pangju666.commons.io.resource.IOResource;
 import io.github.pangju666.commons.io.utils.FilenameUtils;
 import io.github.pangju666.commons.io.utils.IOUtils;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
 import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.Validate;
 
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -50,6 +55,7 @@ import java.util.regex.Pattern;
  *   <li>支持自定义字符编码</li>
  *   <li>支持 Unicode 扩展字段</li>
  *   <li>自动验证资源类型</li>
+ *   <li>基于中央目录的条目索引与单条目读取（自 2.2.0 起，参见 {@link #openEntryInputStream(String)}）</li>
  * </ul>
  * <p>
  * <b>使用示例：</b>
@@ -75,7 +81,7 @@ import java.util.regex.Pattern;
  * @author pangju666
  * @since 2.1.0
  */
-public class ZipResource extends IOResource {
+public class ZipResource extends IOResource implements ArchiveResource {
 	/**
 	 * ZIP 文件编码。
 	 * <p>用于读取 ZIP 文件中的文件名和注释，默认为 UTF-8。</p>
@@ -100,6 +106,14 @@ public class ZipResource extends IOResource {
 	 */
 	protected final int maxNumberOfDisks;
 
+	/**
+	 * 条目索引及其使用的 ZipFile，首次访问条目时打开并构建，资源关闭时关闭
+	 * <p>两者放在同一个对象中发布，读取到索引时一定也能读取到对应的 ZipFile。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile ZipFileIndex zipFileIndex;
+
 	/**
 	 * 从 IOResource 构造 ZIP 资源。
 	 * <p>如果传入的资源已经是 ZipResource，则直接复用其编码和 Unicode 扩展字段设置。
@@ -538,7 +552,7 @@ public class ZipResource extends IOResource {
 	/**
 	 * 打开 ZIP 文件。
 	 * <p>根据资源类型创建相应的 ZipFile 实例。
-	 * 如果资源来自文件，使用文件路径创建并设置分片文件数量；否则使用字节数组创建。
+	 * 如果资源来自文件，使用文件路径创建并设置分片文件数量；否则基于资源内容存储的只读通道创建，不复制数据。
 	 * 使用配置的编码和 Unicode 扩展字段设置。</p>
 	 *
 	 * @return ZipFile 实例
@@ -559,7 +573,7 @@ public class ZipResource extends IOResource {
 			return ZipFile.builder()
 				.setCharset(encoding)
 				.setUseUnicodeExtraFields(useUnicodeExtraFields)
-				.setByteArray(byteArrayOutputStream.toByteArray())
+				.setSeekableByteChannel(openChannel())
 				.get();
 		}
 	}
@@ -567,7 +581,7 @@ public class ZipResource extends IOResource {
 	/**
 	 * 打开 ZIP 文件并设置是否忽略本地文件头。
 	 * <p>根据资源类型创建相应的 ZipFile 实例。
-	 * 如果资源来自文件，使用文件路径创建并设置分片文件数量；否则使用字节数组创建。
+	 * 如果资源来自文件，使用文件路径创建并设置分片文件数量；否则基于资源内容存储的只读通道创建，不复制数据。
 	 * 使用配置的编码和 Unicode 扩展字段设置。</p>
 	 *
 	 * @param ignoreLocalFileHeader 是否忽略本地文件头
@@ -591,7 +605,7 @@ public class ZipResource extends IOResource {
 				.setCharset(encoding)
 				.setUseUnicodeExtraFields(useUnicodeExtraFields)
 				.setIgnoreLocalFileHeader(ignoreLocalFileHeader)
-				.setByteArray(byteArrayOutputStream.toByteArray())
+				.setSeekableByteChannel(openChannel())
 				.get();
 		}
 	}
@@ -630,6 +644,118 @@ public class ZipResource extends IOResource {
 		return maxNumberOfDisks;
 	}
 
+	/**
+	 * 获取 ZIP 中的全部条目。
+	 * <p>首次调用时读取中央目录构建索引（不读取本地文件头，不解压任何条目），结果缓存到资源关闭为止。</p>
+	 *
+	 * @return 不可修改的条目索引列表，偏移为本地文件头偏移
+	 * @throws IOException 当资源已关闭或读取中央目录失败时抛出
+	 * @since 2.2.0
+	 */
+	@Override
+	public List<ArchiveEntryInfo> getEntries() throws IOException {
+		return getZipFileIndex().entryIndex().getEntryInfos();
+	}
+
+	/**
+	 * 根据名称查找条目，存在同名条目时返回第一个。
+	 *
+	 * @param name 条目名称，不可为 null
+	 * @return 条目索引信息，不存在时返回 null
+	 * @throws NullPointerException 当 {@code name} 为 null 时抛出
+	 * @throws IOException          当资源已关闭或读取中央目录失败时抛出
+	 * @since 2.2.0
+	 */
+	@Override
+	public ArchiveEntryInfo getEntry(String name) throws IOException {
+		Validate.notNull(name, "name 不可为 null");
+
+		return getZipFileIndex().entryIndex().getEntryInfo(name);
+	}
+
+	/**
+	 * 打开单个条目的输入流。
+	 * <p>
+	 * 通过缓存的索引直接定位条目数据，只解压该条目，与归档大小和条目数量无关。
+	 * 返回的输入流共享资源内部的 ZipFile，可在多个线程中同时打开与读取，资源关闭后不可再读取。
+	 * </p>
+	 *
+	 * @param name 条目名称，不可为 null
+	 * @return 条目内容的输入流
+	 * @throws NullPointerException  当 {@code name} 为 null 时抛出
+	 * @throws FileNotFoundException 当条目不存在或为目录时抛出
+	 * @throws IOException           当资源已关闭或读取条目失败时抛出
+	 * @since 2.2.0
+	 */
+	@Override
+	public InputStream openEntryInputStream(String name) throws IOException {
+		Validate.notNull(name, "name 不可为 null");
+
+		ZipFileIndex index = getZipFileIndex();
+		ZipArchiveEntry entry = index.entryIndex().getEntry(name);
+		if (Objects.isNull(entry) || entry.isDirectory()) {
+			throw new FileNotFoundException("条目 " + name + " 不存在");
+		}
+		return index.zipFile().getInputStream(entry);
+	}
+
+	/**
+	 * 关闭资源，同时关闭条目索引使用的 ZipFile。
+	 *
+	 * @throws IOException 当关闭 ZipFile 或删除临时文件失败时抛出
+	 * @since 2.2.0
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (isClosed()) {
+			return;
+		}
+
+		try {
+			if (Objects.nonNull(zipFileIndex)) {
+				zipFileIndex.zipFile().close();
+			}
+		} finally {
+			zipFileIndex = null;
+			super.close();
+		}
+	}
+
+	/**
+	 * 获取条目索引及其使用的 ZipFile，不存在时打开 ZipFile 并构建索引。
+	 *
+	 * @return 条目索引及其使用的 ZipFile
+	 * @throws IOException 当资源已关闭或读取中央目录失败时抛出
+	 * @since 2.2.0
+	 */
+	private ZipFileIndex getZipFileIndex() throws IOException {
+		checkClosed();
+
+		ZipFileIndex index = zipFileIndex;
+		if (Objects.nonNull(index)) {
+			return index;
+		}
+		synchronized (this) {
+			checkClosed();
+
+			if (Objects.isNull(zipFileIndex)) {
+				ZipFile zipFile = openZipFile(true);
+				ArchiveEntryIndex<ZipArchiveEntry> entryIndex;
+				try {
+					entryIndex = new ArchiveEntryIndex<>(Collections.list(zipFile.getEntries()),
+						entry -> new ArchiveEntryInfo(entry.getName(), entry.isDirectory(), entry.getSize(),
+							entry.getCompressedSize(), entry.getCrc(), entry.getLocalHeaderOffset(),
+							entry.getLastModifiedDate()));
+				} catch (RuntimeException e) {
+					zipFile.close();
+					throw e;
+				}
+				zipFileIndex = new ZipFileIndex(zipFile, entryIndex);
+			}
+			return zipFileIndex;
+		}
+	}
+
 	/**
 	 * 验证资源类型。
 	 * <p>检查资源是否为 ZIP 格式，如果不是则抛出异常。</p>
@@ -643,4 +769,14 @@ public class ZipResource extends IOResource {
 			throw new UnsupportedResourceException(message);
 		}
 	}
+
+	/**
+	 * 条目索引及其使用的 ZipFile
+	 *
+	 * @param zipFile    打开的 ZipFile
+	 * @param entryIndex 条目索引
+	 * @since 2.2.0
+	 */
+	private record ZipFileIndex(ZipFile zipFile, ArchiveEntryIndex<ZipArchiveEntry> entryIndex) {
+	}
 }
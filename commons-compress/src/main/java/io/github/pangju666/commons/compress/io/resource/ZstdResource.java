@@ -16,14 +16,18 @@
 
 package io.github.pangju666.commons.compress.io.resource;
 
+import com.github.luben.zstd.ZstdInputStreamNoFinalizer;
 import io.github.pangju666.commons.compress.lang.CompressConstants;
+import io.github.pangju666.commons.compress.model.ZstdOptions;
 import io.github.pangju666.commons.io.exception.UnsupportedResourceException;
 import io.github.pangju666.commons.io.resource.IOResource;
 import org.apache.commons.compress.compressors.zstandard.ZstdCompressorInputStream;
+import org.apache.commons.lang3.Validate;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Objects;
 
 /**
  * Zstandard (Zstd) 格式资源类。
@@ -157,6 +161,31 @@ public class ZstdResource extends IOResource {
 		return new ZstdCompressorInputStream(newBufferedInputStream());
 	}
 
+	/**
+	 * 使用指定选项打开 zstd 原生解压输入流。
+	 * <p>用于解压使用字典或大窗口（大于 2<sup>27</sup>）压缩的数据，{@link #openZstdCompressorInputStream()} 无法处理这两种情况。</p>
+	 *
+	 * @param options 解压选项，必须非 null，只使用其中的窗口对数与字典
+	 * @return zstd 解压输入流
+	 * @throws IOException          当资源已关闭或打开输入流失败时抛出
+	 * @throws NullPointerException 当 options 为 null 时抛出
+	 * @since 2.2.0
+	 */
+	public ZstdInputStreamNoFinalizer openZstdInputStream(ZstdOptions options) throws IOException {
+		checkClosed();
+
+		Validate.notNull(options, "options 不可为 null");
+
+		ZstdInputStreamNoFinalizer zstdInputStream = new ZstdInputStreamNoFinalizer(newBufferedInputStream());
+		if (options.getWindowLog() > 0) {
+			zstdInputStream.setLongMax(options.getWindowLog());
+		}
+		if (Objects.nonNull(options.getDictionary())) {
+			zstdInputStream.setDict(options.getDictionary().getDecompressDict());
+		}
+		return zstdInputStream;
+	}
+
 	/**
 	 * 验证资源类型是否为 Zstd 格式。
 	 * <p>通过检查 MIME 类型是否为 {@link CompressConstants#ZSTD_MIME_TYPE} 来验证。</p>
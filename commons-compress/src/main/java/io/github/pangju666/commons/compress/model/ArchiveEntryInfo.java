@@ -0,0 +1,213 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.compress.model;
+
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * 归档条目索引信息（不可变）。
+ * <p>
+ * 仅包含条目的元数据，不持有归档文件或输入流，可在归档资源关闭后继续使用。
+ * 由 {@link io.github.pangju666.commons.compress.io.resource.ZipResource#getEntries()}、
+ * {@link io.github.pangju666.commons.compress.io.resource.TarResource#getEntries()}、
+ * {@link io.github.pangju666.commons.compress.io.resource.SevenZResource#getEntries()} 等方法构建并缓存。
+ * </p>
+ * <p>归档格式未记录的数值字段为 {@value #UNKNOWN}。</p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+public final class ArchiveEntryInfo {
+	/**
+	 * 未知数值
+	 *
+	 * @since 2.2.0
+	 */
+	public static final long UNKNOWN = -1;
+
+	/**
+	 * 条目名称
+	 *
+	 * @since 2.2.0
+	 */
+	private final String name;
+	/**
+	 * 是否为目录
+	 *
+	 * @since 2.2.0
+	 */
+	private final boolean directory;
+	/**
+	 * 未压缩大小（字节）
+	 *
+	 * @since 2.2.0
+	 */
+	private final long size;
+	/**
+	 * 压缩后大小（字节）
+	 *
+	 * @since 2.2.0
+	 */
+	private final long compressedSize;
+	/**
+	 * CRC32 校验值
+	 *
+	 * @since 2.2.0
+	 */
+	private final long crc;
+	/**
+	 * 条目在归档中的偏移（字节）
+	 *
+	 * @since 2.2.0
+	 */
+	private final long offset;
+	/**
+	 * 最后修改时间
+	 *
+	 * @since 2.2.0
+	 */
+	private final Date lastModifiedDate;
+
+	/**
+	 * 创建归档条目索引信息
+	 *
+	 * @param name             条目名称，不可为 null
+	 * @param directory        是否为目录
+	 * @param size             未压缩大小，未知时为 {@value #UNKNOWN}
+	 * @param compressedSize   压缩后大小，未知时为 {@value #UNKNOWN}
+	 * @param crc              CRC32 校验值，未知时为 {@value #UNKNOWN}
+	 * @param offset           条目在归档中的偏移，未知时为 {@value #UNKNOWN}
+	 * @param lastModifiedDate 最后修改时间，可为 null
+	 * @throws NullPointerException 当 {@code name} 为 null 时抛出
+	 * @since 2.2.0
+	 */
+	public ArchiveEntryInfo(final String name, final boolean directory, final long size, final long compressedSize,
+	                        final long crc, final long offset, final Date lastModifiedDate) {
+		Validate.notNull(name, "name 不可为 null");
+
+		this.name = name;
+		this.directory = directory;
+		this.size = size < 0 ? UNKNOWN : size;
+		this.compressedSize = compressedSize < 0 ? UNKNOWN : compressedSize;
+		this.crc = crc < 0 ? UNKNOWN : crc;
+		this.offset = offset < 0 ? UNKNOWN : offset;
+		this.lastModifiedDate = Objects.nonNull(lastModifiedDate) ? new Date(lastModifiedDate.getTime()) : null;
+	}
+
+	/**
+	 * 根据归档条目创建索引信息，压缩后大小、CRC 与偏移未知
+	 *
+	 * @param entry 归档条目，不可为 null
+	 * @return 归档条目索引信息
+	 * @throws NullPointerException 当 {@code entry} 为 null 时抛出
+	 * @since 2.2.0
+	 */
+	public static ArchiveEntryInfo of(final ArchiveEntry entry) {
+		Validate.notNull(entry, "entry 不可为 null");
+
+		return new ArchiveEntryInfo(entry.getName(), entry.isDirectory(), entry.getSize(), UNKNOWN, UNKNOWN, UNKNOWN,
+			entry.getLastModifiedDate());
+	}
+
+	/**
+	 * 获取条目名称
+	 *
+	 * @return 条目名称（归档内的相对路径）
+	 * @since 2.2.0
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * 是否为目录
+	 *
+	 * @return 目录条目返回 true
+	 * @since 2.2.0
+	 */
+	public boolean isDirectory() {
+		return directory;
+	}
+
+	/**
+	 * 获取未压缩大小
+	 *
+	 * @return 未压缩大小（字节），未知时为 {@value #UNKNOWN}
+	 * @since 2.2.0
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * 获取压缩后大小
+	 * <p>TAR 不压缩，等于未压缩大小；7Z 以数据块为单位压缩，单个条目的压缩后大小未知。</p>
+	 *
+	 * @return 压缩后大小（字节），未知时为 {@value #UNKNOWN}
+	 * @since 2.2.0
+	 */
+	public long getCompressedSize() {
+		return compressedSize;
+	}
+
+	/**
+	 * 获取 CRC32 校验值
+	 *
+	 * @return CRC32 校验值，未知时为 {@value #UNKNOWN}
+	 * @since 2.2.0
+	 */
+	public long getCrc() {
+		return crc;
+	}
+
+	/**
+	 * 获取条目在归档中的偏移
+	 * <p>ZIP 为本地文件头的偏移，TAR 为条目数据的偏移，7Z 未知。</p>
+	 *
+	 * @return 偏移（字节），未知时为 {@value #UNKNOWN}
+	 * @since 2.2.0
+	 */
+	public long getOffset() {
+		return offset;
+	}
+
+	/**
+	 * 获取最后修改时间
+	 *
+	 * @return 最后修改时间，未记录时为 null
+	 * @since 2.2.0
+	 */
+	public Date getLastModifiedDate() {
+		return Objects.nonNull(lastModifiedDate) ? new Date(lastModifiedDate.getTime()) : null;
+	}
+
+	@Override
+	public String toString() {
+		return "ArchiveEntryInfo{" +
+			"name='" + name + '\'' +
+			", directory=" + directory +
+			", size=" + size +
+			", compressedSize=" + compressedSize +
+			", crc=" + crc +
+			", offset=" + offset +
+			'}';
+	}
+}
@@ -0,0 +1,251 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.pangju666.commons.compress.model;
+
+import io.github.pangju666.commons.io.utils.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 增量归档清单（不可变）。
+ * <p>
+ * 记录上一次归档时每个文件条目的大小、最后修改时间与内容 CRC32，用于增量归档时判断文件是否变化：
+ * 大小与修改时间均未变化的文件直接从上一次的归档中原样复制压缩数据，无需重新读取与压缩。
+ * </p>
+ * <p>
+ * 清单以 UTF-8 文本保存，首行为格式标识，其余每行依次为 CRC32（十六进制）、大小、修改时间（毫秒）与条目名称，
+ * 以制表符分隔。条目名称中的反斜杠、换行符与回车符分别转义为 <code>\\</code>、<code>\n</code>、<code>\r</code>。
+ * </p>
+ *
+ * <h3>使用示例</h3>
+ * <pre>{@code
+ * ArchiveManifest previousManifest = ArchiveManifest.load(new File("backup.zip.manifest"));
+ * ArchiveManifest manifest = ZipUtils.archiveIncremental(List.of(new File("data")), new File("backup.zip"),
+ *     previousManifest, new File("backup-new.zip"), Deflater.DEFAULT_COMPRESSION);
+ * manifest.save(new File("backup-new.zip.manifest"));
+ * }</pre>
+ *
+ * @author pangju666
+ * @see io.github.pangju666.commons.compress.utils.ZipUtils#archiveIncremental(java.util.Collection, File, ArchiveManifest, File, int)
+ * @since 2.2.0
+ */
+public final class ArchiveManifest {
+	/**
+	 * 清单文件格式标识
+	 *
+	 * @since 2.2.0
+	 */
+	private static final String HEADER = "#pangju-archive-manifest v1";
+	/**
+	 * 字段分隔符
+	 *
+	 * @since 2.2.0
+	 */
+	private static final String SEPARATOR = "\t";
+	/**
+	 * 条目名称转义字符
+	 *
+	 * @since 2.2.0
+	 */
+	private static final char ESCAPE = '\\';
+
+	/**
+	 * 条目名称到清单条目的映射（按归档顺序）
+	 *
+	 * @since 2.2.0
+	 */
+	private final Map<String, Entry> entries;
+
+	/**
+	 * 创建增量归档清单
+	 *
+	 * @param entries 条目名称到清单条目的映射，不可为 null，方法会复制该映射
+	 * @throws NullPointerException 当 {@code entries} 为 null 时抛出
+	 * @since 2.2.0
+	 */
+	public ArchiveManifest(final Map<String, Entry> entries) {
+		Validate.notNull(entries, "entries 不可为 null");
+
+		this.entries = Collections.unmodifiableMap(new LinkedHashMap<>(entries));
+	}
+
+	/**
+	 * 从文件加载清单
+	 *
+	 * @param file 清单文件，必须存在
+	 * @return 清单实例
+	 * @throws NullPointerException     当 file 为 null 时抛出
+	 * @throws IllegalArgumentException 当 file 不是文件或不是有效的清单文件时抛出
+	 * @throws IOException              当 file 不存在或读取文件失败时抛出
+	 * @since 2.2.0
+	 */
+	public static ArchiveManifest load(final File file) throws IOException {
+		FileUtils.checkFile(file, "file 不可为 null");
+
+		Map<String, Entry> entries = new LinkedHashMap<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+			FileUtils.newUnsynchronizedBufferedInputStream(file), StandardCharsets.UTF_8))) {
+			Validate.isTrue(HEADER.equals(reader.readLine()), "file 不是有效的归档清单文件");
+
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (StringUtils.isEmpty(line)) {
+					continue;
+				}
+				String[] fields = line.split(SEPARATOR, 4);
+				Validate.isTrue(fields.length == 4, "file 不是有效的归档清单文件");
+				try {
+					entries.put(unescapeName(fields[3]), new Entry(Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+						Long.parseLong(fields[0], 16)));
+				} catch (NumberFormatException e) {
+					throw new IllegalArgumentException("file 不是有效的归档清单文件", e);
+				}
+			}
+		}
+		return new ArchiveManifest(entries);
+	}
+
+	/**
+	 * 将清单保存到文件，会自动创建父目录并覆盖已存在文件
+	 *
+	 * @param file 输出文件，不可为 null
+	 * @throws NullPointerException     当 file 为 null 时抛出
+	 * @throws IllegalArgumentException 当 file 已存在且不是文件时抛出
+	 * @throws IOException              当写入文件失败时抛出
+	 * @since 2.2.0
+	 */
+	public void save(final File file) throws IOException {
+		FileUtils.checkFileIfExist(file, "file 不可为 null");
+
+		FileUtils.forceMkdirParent(file);
+		try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+			FileUtils.newBufferedOutputStream(file), StandardCharsets.UTF_8))) {
+			writer.write(HEADER);
+			writer.newLine();
+			for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+				writer.write(Long.toHexString(entry.getValue().crc()));
+				writer.write(SEPARATOR);
+				writer.write(Long.toString(entry.getValue().size()));
+				writer.write(SEPARATOR);
+				writer.write(Long.toString(entry.getValue().lastModified()));
+				writer.write(SEPARATOR);
+				writer.write(escapeName(entry.getKey()));
+				writer.newLine();
+			}
+		}
+	}
+
+	/**
+	 * 获取指定名称的清单条目
+	 *
+	 * @param name 条目名称
+	 * @return 清单条目，不存在时返回 null
+	 * @since 2.2.0
+	 */
+	public Entry getEntry(final String name) {
+		return entries.get(name);
+	}
+
+	/**
+	 * 获取全部清单条目
+	 *
+	 * @return 不可修改的条目名称到清单条目的映射（按归档顺序）
+	 * @since 2.2.0
+	 */
+	public Map<String, Entry> getEntries() {
+		return entries;
+	}
+
+	/**
+	 * 获取清单条目数量
+	 *
+	 * @return 条目数量
+	 * @since 2.2.0
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * 转义条目名称，使其可以保存在一行中
+	 *
+	 * @param name 条目名称
+	 * @return 转义后的条目名称
+	 * @since 2.2.0
+	 */
+	private static String escapeName(final String name) {
+		StringBuilder builder = new StringBuilder(name.length());
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			switch (c) {
+				case ESCAPE -> builder.append(ESCAPE).append(ESCAPE);
+				case '\n' -> builder.append(ESCAPE).append('n');
+				case '\r' -> builder.append(ESCAPE).append('r');
+				default -> builder.append(c);
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * 还原 {@link #escapeName(String)} 转义的条目名称
+	 *
+	 * @param name 转义后的条目名称
+	 * @return 条目名称
+	 * @throws IllegalArgumentException 当包含无效的转义序列时抛出
+	 * @since 2.2.0
+	 */
+	private static String unescapeName(final String name) {
+		if (name.indexOf(ESCAPE) < 0) {
+			return name;
+		}
+		StringBuilder builder = new StringBuilder(name.length());
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (c != ESCAPE) {
+				builder.append(c);
+				continue;
+			}
+			Validate.isTrue(++i < name.length(), "file 不是有效的归档清单文件");
+			switch (name.charAt(i)) {
+				case ESCAPE -> builder.append(ESCAPE);
+				case 'n' -> builder.append('\n');
+				case 'r' -> builder.append('\r');
+				default -> throw new IllegalArgumentException("file 不是有效的归档清单文件");
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * 清单条目
+	 *
+	 * @param size         文件大小（字节）
+	 * @param lastModified 文件最后修改时间（毫秒）
+	 * @param crc          文件内容 CRC32 校验值
+	 * @since 2.2.0
+	 */
+	public record Entry(long size, long lastModified, long crc) {
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.pangju666.commons.compress.model;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import io.github.pangju666.commons.io.utils.FileUtils;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.Validate;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Zstd 字典（不可变）。
+ * <p>
+ * 封装训练得到的 Zstd 字典数据，可持久化到文件后在压缩端与解压端复用。对大量相似的小数据（如 JSON 报文）
+ * 使用字典压缩可以显著提高压缩率与压缩速度。
+ * </p>
+ * <p>
+ * 字典在首次使用时预处理为 {@link ZstdDictCompress}（按压缩级别缓存）和 {@link ZstdDictDecompress}，
+ * 同一实例在后续压缩/解压中复用预处理结果，避免每次重新解析字典。实例是线程安全的，应尽量全局复用。
+ * </p>
+ *
+ * <h3>使用示例</h3>
+ * <pre>{@code
+ * // 训练并保存字典
+ * ZstdDictionary dictionary = ZstdUtils.trainDictionary(samples, 16 * 1024);
+ * dictionary.save(new File("payload.dict"));
+ *
+ * // 加载字典并压缩
+ * ZstdOptions options = new ZstdOptions();
+ * options.setDictionary(ZstdDictionary.load(new File("payload.dict")));
+ * byte[] compressed = ZstdUtils.compress(payload, options);
+ * byte[] uncompressed = ZstdUtils.uncompress(compressed, options);
+ * }</pre>
+ *
+ * @author pangju666
+ * @see ZstdOptions
+ * @since 2.2.0
+ */
+public final class ZstdDictionary {
+	/**
+	 * 字典数据
+	 *
+	 * @since 2.2.0
+	 */
+	private final byte[] bytes;
+	/**
+	 * 字典 ID，原始内容字典为 0
+	 *
+	 * @since 2.2.0
+	 */
+	private final long id;
+	/**
+	 * 按压缩级别缓存的压缩字典
+	 *
+	 * @since 2.2.0
+	 */
+	private final Map<Integer, ZstdDictCompress> compressDicts = new ConcurrentHashMap<>();
+	/**
+	 * 解压字典
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile ZstdDictDecompress decompressDict;
+
+	private ZstdDictionary(final byte[] bytes) {
+		this.bytes = bytes;
+		this.id = Zstd.getDictIdFromDict(bytes);
+	}
+
+	/**
+	 * 从字节数组创建字典
+	 *
+	 * @param bytes 字典数据，不可为空，方法会复制该数组
+	 * @return 字典实例
+	 * @throws IllegalArgumentException 当 bytes 为空时抛出
+	 * @since 2.2.0
+	 */
+	public static ZstdDictionary of(final byte[] bytes) {
+		Validate.isTrue(ArrayUtils.isNotEmpty(bytes), "bytes 不可为空");
+		return new ZstdDictionary(bytes.clone());
+	}
+
+	/**
+	 * 从文件加载字典
+	 *
+	 * @param file 字典文件，必须存在
+	 * @return 字典实例
+	 * @throws NullPointerException     当 file 为 null 时抛出
+	 * @throws IllegalArgumentException 当 file 不是文件或内容为空时抛出
+	 * @throws IOException              当文件不存在或读取文件失败时抛出
+	 * @since 2.2.0
+	 */
+	public static ZstdDictionary load(final File file) throws IOException {
+		FileUtils.checkFile(file, "file 不可为 null");
+
+		byte[] bytes = FileUtils.readFileToByteArray(file);
+		Validate.isTrue(ArrayUtils.isNotEmpty(bytes), "file 内容不可为空");
+		return new ZstdDictionary(bytes);
+	}
+
+	/**
+	 * 将字典保存到文件，会自动创建父目录并覆盖已存在文件
+	 *
+	 * @param file 输出文件，不可为 null
+	 * @throws NullPointerException     当 file 为 null 时抛出
+	 * @throws IllegalArgumentException 当 file 已存在且不是文件时抛出
+	 * @throws IOException              当写入文件失败时抛出
+	 * @since 2.2.0
+	 */
+	public void save(final File file) throws IOException {
+		FileUtils.checkFileIfExist(file, "file 不可为 null");
+
+		FileUtils.forceMkdirParent(file);
+		FileUtils.writeByteArrayToFile(file, bytes);
+	}
+
+	/**
+	 * 获取字典数据的副本
+	 *
+	 * @return 字典数据
+	 * @since 2.2.0
+	 */
+	public byte[] toByteArray() {
+		return bytes.clone();
+	}
+
+	/**
+	 * 获取字典 ID
+	 * <p>训练得到的字典 ID 会写入压缩帧头，解压时用于校验字典是否匹配；原始内容字典返回 0。</p>
+	 *
+	 * @return 字典 ID
+	 * @since 2.2.0
+	 */
+	public long getId() {
+		return id;
+	}
+
+	/**
+	 * 获取指定压缩级别的预处理压缩字典
+	 *
+	 * @param level 压缩级别
+	 * @return 压缩字典
+	 * @since 2.2.0
+	 */
+	public ZstdDictCompress getCompressDict(final int level) {
+		return compressDicts.computeIfAbsent(level, key -> new ZstdDictCompress(bytes, key));
+	}
+
+	/**
+	 * 获取预处理的解压字典
+	 *
+	 * @return 解压字典
+	 * @since 2.2.0
+	 */
+	public ZstdDictDecompress getDecompressDict() {
+		ZstdDictDecompress dict = decompressDict;
+		if (Objects.isNull(dict)) {
+			synchronized (this) {
+				dict = decompressDict;
+				if (Objects.isNull(dict)) {
+					dict = new ZstdDictDecompress(bytes);
+					decompressDict = dict;
+				}
+			}
+		}
+		return dict;
+	}
+}
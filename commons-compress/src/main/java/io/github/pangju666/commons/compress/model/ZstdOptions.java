@@ -0,0 +1,261 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.pangju666.commons.compress.model;
+
+import org.apache.commons.compress.compressors.zstandard.ZstdConstants;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Zstd 压缩选项。
+ * <p>封装 zstd 原生压缩参数，用于 {@link io.github.pangju666.commons.compress.utils.ZstdUtils} 的压缩与解压方法。</p>
+ *
+ * <h3>可配置项</h3>
+ * <ul>
+ *     <li>{@link #level} - 压缩级别，默认为 {@link ZstdConstants#ZSTD_CLEVEL_DEFAULT}</li>
+ *     <li>{@link #workers} - zstd 原生压缩线程数，0 表示在调用线程中单线程压缩</li>
+ *     <li>{@link #windowLog} - 窗口大小的以 2 为底的对数，0 表示由压缩级别决定</li>
+ *     <li>{@link #longDistanceMatching} - 是否启用长距离匹配（long mode），适合包含远距离重复内容的大数据</li>
+ *     <li>{@link #checksum} - 是否在帧尾写入内容校验和</li>
+ *     <li>{@link #dictionary} - 压缩/解压使用的字典，压缩端与解压端必须使用同一字典</li>
+ * </ul>
+ * <p>解压时只使用 {@link #windowLog}（作为允许的最大窗口）与 {@link #dictionary}，其余选项被忽略。</p>
+ *
+ * @author pangju666
+ * @see ZstdDictionary
+ * @since 2.2.0
+ */
+public class ZstdOptions {
+	/**
+	 * 最小窗口对数
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int MIN_WINDOW_LOG = 10;
+	/**
+	 * 最大窗口对数（64 位平台）
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int MAX_WINDOW_LOG = 31;
+	/**
+	 * 启用长距离匹配且未指定窗口时使用的窗口对数（128MB）
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int DEFAULT_LONG_WINDOW_LOG = 27;
+
+	/**
+	 * 压缩级别
+	 *
+	 * @since 2.2.0
+	 */
+	protected int level = ZstdConstants.ZSTD_CLEVEL_DEFAULT;
+	/**
+	 * zstd 原生压缩线程数
+	 *
+	 * @since 2.2.0
+	 */
+	protected int workers = 0;
+	/**
+	 * 窗口对数，0 表示使用默认值
+	 *
+	 * @since 2.2.0
+	 */
+	protected int windowLog = 0;
+	/**
+	 * 是否启用长距离匹配
+	 *
+	 * @since 2.2.0
+	 */
+	protected boolean longDistanceMatching = false;
+	/**
+	 * 是否写入内容校验和
+	 *
+	 * @since 2.2.0
+	 */
+	protected boolean checksum = false;
+	/**
+	 * 字典
+	 *
+	 * @since 2.2.0
+	 */
+	protected ZstdDictionary dictionary;
+
+	/**
+	 * 使用默认选项构造
+	 *
+	 * @since 2.2.0
+	 */
+	public ZstdOptions() {
+	}
+
+	/**
+	 * 使用指定压缩级别构造
+	 *
+	 * @param level 压缩级别，范围为 {@link ZstdConstants#ZSTD_CLEVEL_MIN} 到 {@link ZstdConstants#ZSTD_CLEVEL_MAX}
+	 * @throws IllegalArgumentException 当 level 超出范围时抛出
+	 * @since 2.2.0
+	 */
+	public ZstdOptions(final int level) {
+		setLevel(level);
+	}
+
+	/**
+	 * 获取压缩级别
+	 *
+	 * @return 压缩级别
+	 * @since 2.2.0
+	 */
+	public int getLevel() {
+		return level;
+	}
+
+	/**
+	 * 设置压缩级别
+	 *
+	 * @param level 压缩级别，范围为 {@link ZstdConstants#ZSTD_CLEVEL_MIN} 到 {@link ZstdConstants#ZSTD_CLEVEL_MAX}
+	 * @throws IllegalArgumentException 当 level 超出范围时抛出
+	 * @since 2.2.0
+	 */
+	public void setLevel(final int level) {
+		Validate.inclusiveBetween(ZstdConstants.ZSTD_CLEVEL_MIN, ZstdConstants.ZSTD_CLEVEL_MAX, level,
+			"level 必须在 " + ZstdConstants.ZSTD_CLEVEL_MIN + " 到 " + ZstdConstants.ZSTD_CLEVEL_MAX + " 之间");
+		this.level = level;
+	}
+
+	/**
+	 * 获取 zstd 原生压缩线程数
+	 *
+	 * @return 压缩线程数
+	 * @since 2.2.0
+	 */
+	public int getWorkers() {
+		return workers;
+	}
+
+	/**
+	 * 设置 zstd 原生压缩线程数
+	 * <p>大于 0 时由 zstd 将输入切分为多个作业并行压缩，输出仍为单个标准帧。</p>
+	 *
+	 * @param workers 压缩线程数，0 表示单线程
+	 * @throws IllegalArgumentException 当 workers 小于 0 时抛出
+	 * @since 2.2.0
+	 */
+	public void setWorkers(final int workers) {
+		Validate.isTrue(workers >= 0, "workers 不可小于0");
+		this.workers = workers;
+	}
+
+	/**
+	 * 获取窗口对数
+	 *
+	 * @return 窗口对数，0 表示使用默认值
+	 * @since 2.2.0
+	 */
+	public int getWindowLog() {
+		return windowLog;
+	}
+
+	/**
+	 * 设置窗口对数
+	 * <p>解压时作为允许的最大窗口对数，解压窗口大于 2<sup>27</sup> 的数据时必须设置。</p>
+	 *
+	 * @param windowLog 窗口对数，0 表示使用默认值，否则范围为 {@value #MIN_WINDOW_LOG} 到 {@value #MAX_WINDOW_LOG}
+	 * @throws IllegalArgumentException 当 windowLog 超出范围时抛出
+	 * @since 2.2.0
+	 */
+	public void setWindowLog(final int windowLog) {
+		Validate.isTrue(windowLog == 0 || (windowLog >= MIN_WINDOW_LOG && windowLog <= MAX_WINDOW_LOG),
+			"windowLog 必须为0或在 " + MIN_WINDOW_LOG + " 到 " + MAX_WINDOW_LOG + " 之间");
+		this.windowLog = windowLog;
+	}
+
+	/**
+	 * 是否启用长距离匹配
+	 *
+	 * @return 启用时返回 true
+	 * @since 2.2.0
+	 */
+	public boolean isLongDistanceMatching() {
+		return longDistanceMatching;
+	}
+
+	/**
+	 * 设置是否启用长距离匹配
+	 * <p>启用且未设置窗口对数时使用 {@value #DEFAULT_LONG_WINDOW_LOG}。</p>
+	 *
+	 * @param longDistanceMatching 是否启用
+	 * @since 2.2.0
+	 */
+	public void setLongDistanceMatching(final boolean longDistanceMatching) {
+		this.longDistanceMatching = longDistanceMatching;
+	}
+
+	/**
+	 * 是否写入内容校验和
+	 *
+	 * @return 写入时返回 true
+	 * @since 2.2.0
+	 */
+	public boolean isChecksum() {
+		return checksum;
+	}
+
+	/**
+	 * 设置是否写入内容校验和
+	 *
+	 * @param checksum 是否写入
+	 * @since 2.2.0
+	 */
+	public void setChecksum(final boolean checksum) {
+		this.checksum = checksum;
+	}
+
+	/**
+	 * 获取字典
+	 *
+	 * @return 字典，未设置时返回 null
+	 * @since 2.2.0
+	 */
+	public ZstdDictionary getDictionary() {
+		return dictionary;
+	}
+
+	/**
+	 * 设置字典
+	 *
+	 * @param dictionary 字典，可为 null
+	 * @since 2.2.0
+	 */
+	public void setDictionary(final ZstdDictionary dictionary) {
+		this.dictionary = dictionary;
+	}
+
+	/**
+	 * 获取实际生效的窗口对数
+	 *
+	 * @return 已设置窗口对数时返回该值；启用长距离匹配时返回 {@value #DEFAULT_LONG_WINDOW_LOG}；否则返回 0
+	 * @since 2.2.0
+	 */
+	public int getEffectiveWindowLog() {
+		if (windowLog > 0) {
+			return windowLog;
+		}
+		return longDistanceMatching ? DEFAULT_LONG_WINDOW_LOG : 0;
+	}
+}
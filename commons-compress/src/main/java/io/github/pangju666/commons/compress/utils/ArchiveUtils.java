@@ -17,19 +17,25 @@
 package io.github.pangju666.commons.compress.utils;
 
 import io.github.pangju666.commons.compress.lang.CompressConstants;
+import io.github.pangju666.commons.io.model.DataSize;
 import io.github.pangju666.commons.io.utils.FileUtils;
 import org.apache.commons.compress.archivers.ArchiveEntry;
 import org.apache.commons.compress.archivers.ArchiveInputStream;
 import org.apache.commons.compress.archivers.ArchiveOutputStream;
+import org.apache.commons.io.function.IOSupplier;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
 import java.io.*;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 /**
  * 通用压缩文件工具类。
@@ -43,6 +49,7 @@ import java.util.function.Consumer;
  *   <li><strong>流式处理</strong>：支持基于流和迭代器的解压操作，适合大文件处理。</li>
  *   <li><strong>资源管理</strong>：使用 try-with-resources 自动释放资源。</li>
  *   <li><strong>条目处理</strong>：支持通过 Consumer 对每个归档条目进行自定义处理。</li>
+ *   <li><strong>条目过滤</strong>：解压时支持按条件或 glob 模式（{@link #globFilter(String...)}）只解压部分条目（自 2.2.0 起）。</li>
  * </ul>
  *
  * <h3>线程安全</h3>
@@ -88,6 +95,14 @@ import java.util.function.Consumer;
  * @since 2.1.0
  */
 public class ArchiveUtils {
+	/**
+	 * 并行解压时默认的在途字节上限（256MB）。
+	 * <p>限制同时处于解压中的条目未压缩大小之和。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	public static final long DEFAULT_MAX_IN_FLIGHT_BYTES = DataSize.ofMegabytes(256).toBytes();
+
 	/**
 	 * 受保护的构造函数，防止实例化。
 	 */
@@ -108,14 +123,37 @@ public class ArchiveUtils {
 	 */
 	static <T extends ArchiveEntry> void extract(final Iterator<T> archiveEntries, final File outputDir,
 	                                                final ArchiveEntryExtractor<T> extractor) throws IOException {
+		extract(archiveEntries, outputDir, extractor, entry -> true);
+	}
+
+	/**
+	 * 使用迭代器和提取器解压缩压缩文件中满足条件的条目到指定目录。
+	 * <p>不满足条件的条目不会调用提取器，对于可随机访问的归档不会读取其数据；满足条件的文件条目会自动创建父目录。</p>
+	 *
+	 * @param <T>            压缩条目类型，必须继承自 {@link ArchiveEntry}
+	 * @param archiveEntries 压缩条目迭代器，必须非 null
+	 * @param outputDir      解压目标目录，会自动创建不存在的目录结构
+	 * @param extractor      压缩条目提取器，用于从条目获取输入流，必须非 null
+	 * @param filter         条目过滤条件，必须非 null
+	 * @throws NullPointerException 当 {@code archiveEntries}、{@code outputDir}、{@code extractor} 或 {@code filter} 为 null 时抛出
+	 * @throws IOException          当输出目录不可写、解压过程中发生 I/O 错误或磁盘空间不足时抛出
+	 * @since 2.2.0
+	 */
+	static <T extends ArchiveEntry> void extract(final Iterator<T> archiveEntries, final File outputDir,
+	                                                final ArchiveEntryExtractor<T> extractor,
+	                                                final Predicate<? super T> filter) throws IOException {
 		Validate.notNull(archiveEntries, "archiveEntries 不可为 null");
 		FileUtils.checkDirIfExist(outputDir, "outputDir 不可为 null");
 		Validate.notNull(extractor, "extractor 不可为 null");
+		Validate.notNull(filter, "filter 不可为 null");
 
 		FileUtils.forceMkdir(outputDir);
 
 		while (archiveEntries.hasNext()) {
 			T archiveEntry = archiveEntries.next();
+			if (!filter.test(archiveEntry)) {
+				continue;
+			}
 			File archiveEntryFile = new File(outputDir, archiveEntry.getName());
 
 			if (archiveEntry.isDirectory()) {
@@ -133,6 +171,140 @@ public class ArchiveUtils {
 		}
 	}
 
+	/**
+	 * 使用线程池并行解压可随机访问的归档到指定目录，每个文件条目都可以单独分批。
+	 * <p>参见 {@link #extractParallel(List, File, int, Function, IOSupplier, ExecutorService, long, ExtractProgressListener)}。</p>
+	 *
+	 * @param <T>               压缩条目类型，必须继承自 {@link ArchiveEntry}
+	 * @param archiveEntries    压缩条目列表，必须非 null
+	 * @param outputDir         解压目标目录，会自动创建不存在的目录结构
+	 * @param batchCount        批次数量，小于等于0表示每个条目单独成批
+	 * @param extractorSupplier 提取器提供者，每个批次调用一次，必须非 null
+	 * @param executorService   执行解压任务的线程池，必须非 null，方法不会关闭该线程池
+	 * @param maxInFlightBytes  在途字节上限，必须大于0
+	 * @param progressListener  进度监听器，可为 null
+	 * @throws IOException 当输出目录不可写、解压过程中发生 I/O 错误或线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	static <T extends ArchiveEntry> void extractParallel(final List<T> archiveEntries, final File outputDir, final int batchCount,
+	                                                    final IOSupplier<? extends ArchiveEntryExtractor<T>> extractorSupplier,
+	                                                    final ExecutorService executorService, final long maxInFlightBytes,
+	                                                    final ExtractProgressListener progressListener) throws IOException {
+		extractParallel(archiveEntries, outputDir, batchCount, fileEntries -> fileEntries.stream().map(List::of).toList(),
+			extractorSupplier, executorService, maxInFlightBytes, progressListener);
+	}
+
+	/**
+	 * 使用线程池并行解压可随机访问的归档到指定目录。
+	 * <p>
+	 * 目录条目由调用线程预先创建；其余条目先通过 {@code unitFunction} 划分为不可拆分的单元（如固实压缩的同一数据块），
+	 * 再按顺序将单元合并为 {@code batchCount} 个未压缩大小相近的连续批次（{@code batchCount <= 0} 表示每个单元单独成批），
+	 * 每个批次在工作线程中通过 {@code extractorSupplier} 获取提取器并顺序写出，提取器实现 {@link Closeable} 时在批次结束后关闭。
+	 * </p>
+	 * <p>
+	 * 调用线程提交每个批次前需从在途字节预算中申请该批次中最大条目的未压缩大小（最多申请全部预算，未知大小按 0 计），
+	 * 预算不足时暂停提交，直到已提交批次结束并释放预算，从而限制同时解压的数据量且工作线程不会因等待预算而阻塞。
+	 * 任一批次失败后不再提交新批次，其余批次在当前条目结束后停止，等待已提交批次结束后抛出首个异常。
+	 * </p>
+	 *
+	 * @param <T>               压缩条目类型，必须继承自 {@link ArchiveEntry}
+	 * @param archiveEntries    压缩条目列表，必须非 null
+	 * @param outputDir         解压目标目录，会自动创建不存在的目录结构
+	 * @param batchCount        批次数量，小于等于0表示每个单元单独成批
+	 * @param unitFunction      将文件条目按归档顺序划分为不可拆分单元的函数，必须非 null
+	 * @param extractorSupplier 提取器提供者，每个批次调用一次，必须非 null
+	 * @param executorService   执行解压任务的线程池，必须非 null，方法不会关闭该线程池
+	 * @param maxInFlightBytes  在途字节上限，必须大于0
+	 * @param progressListener  进度监听器，可为 null
+	 * @throws IOException 当输出目录不可写、解压过程中发生 I/O 错误或线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	static <T extends ArchiveEntry> void extractParallel(final List<T> archiveEntries, final File outputDir, final int batchCount,
+	                                                    final Function<List<T>, List<List<T>>> unitFunction,
+	                                                    final IOSupplier<? extends ArchiveEntryExtractor<T>> extractorSupplier,
+	                                                    final ExecutorService executorService, final long maxInFlightBytes,
+	                                                    final ExtractProgressListener progressListener) throws IOException {
+		Validate.notNull(archiveEntries, "archiveEntries 不可为 null");
+		Validate.notNull(unitFunction, "unitFunction 不可为 null");
+		FileUtils.checkDirIfExist(outputDir, "outputDir 不可为 null");
+		Validate.notNull(extractorSupplier, "extractorSupplier 不可为 null");
+		Validate.notNull(executorService, "executorService 不可为 null");
+		Validate.isTrue(maxInFlightBytes > 0, "maxInFlightBytes 必须大于0");
+
+		FileUtils.forceMkdir(outputDir);
+
+		List<T> fileEntries = new ArrayList<>(archiveEntries.size());
+		long totalBytes = 0;
+		for (T archiveEntry : archiveEntries) {
+			if (archiveEntry.isDirectory()) {
+				File archiveEntryFile = new File(outputDir, archiveEntry.getName());
+				if (!archiveEntryFile.exists()) {
+					FileUtils.forceMkdir(archiveEntryFile);
+				}
+			} else {
+				fileEntries.add(archiveEntry);
+				totalBytes += Math.max(archiveEntry.getSize(), 0);
+			}
+		}
+
+		ExtractProgress progress = new ExtractProgress(progressListener, archiveEntries.size() - fileEntries.size(),
+			archiveEntries.size(), totalBytes);
+		InFlightBytesLimiter limiter = new InFlightBytesLimiter(maxInFlightBytes);
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (List<T> batch : splitBatches(unitFunction.apply(fileEntries), batchCount)) {
+				if (progress.isFailed()) {
+					break;
+				}
+				long acquiredBytes = limiter.acquire(batch.stream()
+					.mapToLong(archiveEntry -> Math.max(archiveEntry.getSize(), 0))
+					.max()
+					.orElse(0));
+				try {
+					futures.add(executorService.submit(() -> {
+						try {
+							extractBatch(batch, outputDir, extractorSupplier, progress);
+						} catch (Exception e) {
+							progress.fail();
+							throw e;
+						} finally {
+							limiter.release(acquiredBytes);
+						}
+						return null;
+					}));
+				} catch (RuntimeException e) {
+					limiter.release(acquiredBytes);
+					throw e;
+				}
+			}
+
+			IOException exception = null;
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					if (Objects.isNull(exception)) {
+						Throwable cause = e.getCause();
+						if (cause instanceof IOException ioException) {
+							exception = ioException;
+						} else if (cause instanceof InterruptedException) {
+							exception = new InterruptedIOException("并行解压被中断");
+						} else {
+							exception = new IOException(cause);
+						}
+					}
+				}
+			}
+			if (Objects.nonNull(exception)) {
+				throw exception;
+			}
+		} catch (InterruptedException e) {
+			futures.forEach(future -> future.cancel(true));
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("并行解压被中断");
+		}
+	}
+
 	/**
 	 * 使用压缩输入流解压缩到指定目录。
 	 * <p>通过压缩输入流读取压缩条目，将内容解压到指定目录，自动创建不存在的目录结构并保持原始文件层级关系。</p>
@@ -146,13 +318,38 @@ public class ArchiveUtils {
 	 */
 	public static <T extends ArchiveEntry> void extract(final ArchiveInputStream<T> archiveInputStream,
 	                                                       final File outputDir) throws IOException {
+		extract(archiveInputStream, outputDir, entry -> true);
+	}
+
+	/**
+	 * 使用压缩输入流解压缩满足条件的条目到指定目录。
+	 * <p>
+	 * 流式归档只能顺序读取，不满足条件的条目会被跳过但仍需读过其数据（ZIP 流中存储的条目、TAR 条目可直接跳过）；
+	 * 只需少量条目时建议使用基于 {@code ZipFile}、{@code TarFile} 的重载方法。
+	 * </p>
+	 *
+	 * @param <T>                压缩条目类型，必须继承自 {@link ArchiveEntry}
+	 * @param archiveInputStream 压缩输入流，必须非 null
+	 * @param outputDir          解压目标目录，会自动创建不存在的目录结构
+	 * @param filter             条目过滤条件，必须非 null，可使用 {@link #globFilter(String...)} 创建
+	 * @throws NullPointerException 当 {@code archiveInputStream}、{@code outputDir} 或 {@code filter} 为 null 时抛出
+	 * @throws IOException          当输出目录不可写、解压过程中发生 I/O 错误或磁盘空间不足时抛出
+	 * @since 2.2.0
+	 */
+	public static <T extends ArchiveEntry> void extract(final ArchiveInputStream<T> archiveInputStream,
+	                                                       final File outputDir, final Predicate<? super T> filter) throws IOException {
 		Validate.notNull(archiveInputStream, "archiveInputStream 不可为 null");
 		FileUtils.checkDirIfExist(outputDir, "outputDir 不可为 null");
+		Validate.notNull(filter, "filter 不可为 null");
 
 		FileUtils.forceMkdir(outputDir);
 
 		T archiveEntry = archiveInputStream.getNextEntry();
 		while (Objects.nonNull(archiveEntry)) {
+			if (!filter.test(archiveEntry)) {
+				archiveEntry = archiveInputStream.getNextEntry();
+				continue;
+			}
 			File file = new File(outputDir, archiveEntry.getName());
 
 			if (archiveEntry.isDirectory()) {
@@ -171,6 +368,43 @@ public class ArchiveUtils {
 		}
 	}
 
+	/**
+	 * 创建按 glob 模式匹配条目名称的过滤条件。
+	 * <p>
+	 * 条目名称使用 {@code /} 分隔，目录条目匹配时忽略末尾的 {@code /}，满足任一模式即通过：
+	 * </p>
+	 * <ul>
+	 *     <li>{@code *}：匹配单级路径内的任意字符（不含 {@code /}）</li>
+	 *     <li>{@code **}：匹配任意字符（含 {@code /}），{@code **}{@code /} 可匹配零级或多级目录</li>
+	 *     <li>{@code ?}：匹配单个字符（不含 {@code /}）</li>
+	 * </ul>
+	 * <p>例如 {@code docs/**}{@code /*.md} 匹配 {@code docs/a.md} 与 {@code docs/x/y/b.md}。</p>
+	 *
+	 * @param patterns glob 模式，不可为空且不可包含空白模式
+	 * @return 条目过滤条件
+	 * @throws IllegalArgumentException 当 {@code patterns} 为空或包含空白模式时抛出
+	 * @since 2.2.0
+	 */
+	public static Predicate<ArchiveEntry> globFilter(final String... patterns) {
+		Validate.notEmpty(patterns, "patterns 不可为空");
+		Validate.noNullElements(patterns, "patterns 不可包含 null");
+
+		Pattern[] regexPatterns = new Pattern[patterns.length];
+		for (int i = 0; i < patterns.length; i++) {
+			Validate.notBlank(patterns[i], "patterns 不可包含空白模式");
+			regexPatterns[i] = compileGlob(patterns[i]);
+		}
+		return entry -> {
+			String name = StringUtils.removeEnd(entry.getName(), "/");
+			for (Pattern pattern : regexPatterns) {
+				if (pattern.matcher(name).matches()) {
+					return true;
+				}
+			}
+			return false;
+		};
+	}
+
 	/**
 	 * 压缩单个文件或目录到归档输出流。
 	 * <p>将文件或目录（递归包含子目录）压缩到指定的归档输出流中，通过 Consumer 对每个归档条目进行自定义处理。</p>
@@ -305,6 +539,121 @@ public class ArchiveUtils {
 		}
 	}
 
+	/**
+	 * 在工作线程中顺序解压一个批次的条目。
+	 *
+	 * @param <T>               压缩条目类型
+	 * @param batch             批次条目
+	 * @param outputDir         解压目标目录
+	 * @param extractorSupplier 提取器提供者
+	 * @param progress          进度统计
+	 * @throws IOException 当解压过程中发生 I/O 错误时抛出
+	 * @since 2.2.0
+	 */
+	private static <T extends ArchiveEntry> void extractBatch(final List<T> batch, final File outputDir,
+	                                                         final IOSupplier<? extends ArchiveEntryExtractor<T>> extractorSupplier,
+	                                                         final ExtractProgress progress) throws IOException {
+		ArchiveEntryExtractor<T> extractor = extractorSupplier.get();
+		try {
+			for (T archiveEntry : batch) {
+				if (progress.isFailed()) {
+					return;
+				}
+				File archiveEntryFile = new File(outputDir, archiveEntry.getName());
+				FileUtils.forceMkdir(archiveEntryFile.getParentFile());
+
+				try (BufferedOutputStream bufferedOutputStream = FileUtils.newBufferedOutputStream(archiveEntryFile);
+				     InputStream inputStream = extractor.extractor(archiveEntry)) {
+					inputStream.transferTo(bufferedOutputStream);
+				}
+				progress.complete(archiveEntry);
+			}
+		} finally {
+			if (extractor instanceof Closeable closeable) {
+				closeable.close();
+			}
+		}
+	}
+
+	/**
+	 * 将 glob 模式转换为正则表达式。
+	 *
+	 * @param glob glob 模式
+	 * @return 正则表达式
+	 * @since 2.2.0
+	 */
+	private static Pattern compileGlob(final String glob) {
+		StringBuilder regex = new StringBuilder(glob.length() + 16);
+		int i = 0;
+		while (i < glob.length()) {
+			char ch = glob.charAt(i);
+			if (ch == '*') {
+				if (i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+					if (i + 2 < glob.length() && glob.charAt(i + 2) == '/') {
+						regex.append("(?:.*/)?");
+						i += 3;
+					} else {
+						regex.append(".*");
+						i += 2;
+					}
+				} else {
+					regex.append("[^/]*");
+					i++;
+				}
+			} else if (ch == '?') {
+				regex.append("[^/]");
+				i++;
+			} else {
+				int start = i;
+				while (i < glob.length() && glob.charAt(i) != '*' && glob.charAt(i) != '?') {
+					i++;
+				}
+				regex.append(Pattern.quote(glob.substring(start, i)));
+			}
+		}
+		return Pattern.compile(regex.toString());
+	}
+
+	/**
+	 * 将不可拆分的单元按顺序合并为连续批次，批次之间尽量按未压缩大小均衡。
+	 *
+	 * @param <T>        压缩条目类型
+	 * @param units      按归档顺序排列的单元，同一单元的条目总是位于同一批次
+	 * @param batchCount 批次数量，小于等于0表示每个单元单独成批
+	 * @return 批次列表
+	 * @since 2.2.0
+	 */
+	private static <T extends ArchiveEntry> List<List<T>> splitBatches(final List<List<T>> units, final int batchCount) {
+		if (batchCount <= 0 || batchCount >= units.size()) {
+			return units;
+		}
+		long[] unitBytes = new long[units.size()];
+		long totalBytes = 0;
+		for (int i = 0; i < units.size(); i++) {
+			for (T entry : units.get(i)) {
+				unitBytes[i] += Math.max(entry.getSize(), 0) + 1;
+			}
+			totalBytes += unitBytes[i];
+		}
+		List<List<T>> batches = new ArrayList<>(batchCount);
+		long targetBytes = Math.max(totalBytes / batchCount, 1);
+		List<T> batch = new ArrayList<>();
+		long batchBytes = 0;
+		for (int i = 0; i < units.size(); i++) {
+			batch.addAll(units.get(i));
+			batchBytes += unitBytes[i];
+			if (batchBytes >= targetBytes && batches.size() < batchCount - 1) {
+				batches.add(batch);
+				batch = new ArrayList<>();
+				batchBytes = 0;
+			}
+		}
+		if (!batch.isEmpty()) {
+			batches.add(batch);
+		}
+		return batches;
+	}
+
 	/**
 	 * 压缩条目提取器函数式接口。
 	 * <p>用于从压缩条目中提取输入流，以便进行解压操作。</p>
@@ -332,4 +681,93 @@ public class ArchiveUtils {
 		 */
 		InputStream extractor(T entry) throws IOException;
 	}
+
+	/**
+	 * 解压进度监听器。
+	 * <p>每个条目写出完成后回调一次；回调在工作线程中执行，但不同回调之间不会并发执行。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	@FunctionalInterface
+	public interface ExtractProgressListener {
+		/**
+		 * 条目写出完成时回调。
+		 *
+		 * @param entry            刚完成的压缩条目
+		 * @param completedEntries 已完成的条目数（包含目录条目）
+		 * @param totalEntries     条目总数（包含目录条目）
+		 * @param completedBytes   已写出的未压缩字节数
+		 * @param totalBytes       条目声明的未压缩字节总数，未知大小的条目不计入
+		 * @since 2.2.0
+		 */
+		void onProgress(ArchiveEntry entry, int completedEntries, int totalEntries, long completedBytes, long totalBytes);
+	}
+
+	/**
+	 * 并行解压的进度统计与失败标记。
+	 *
+	 * @since 2.2.0
+	 */
+	private static final class ExtractProgress {
+		private final ExtractProgressListener listener;
+		private final int totalEntries;
+		private final long totalBytes;
+		private int completedEntries;
+		private long completedBytes;
+		private volatile boolean failed = false;
+
+		ExtractProgress(final ExtractProgressListener listener, final int completedEntries, final int totalEntries,
+		                final long totalBytes) {
+			this.listener = listener;
+			this.completedEntries = completedEntries;
+			this.totalEntries = totalEntries;
+			this.totalBytes = totalBytes;
+		}
+
+		synchronized void complete(final ArchiveEntry entry) {
+			completedEntries++;
+			completedBytes += Math.max(entry.getSize(), 0);
+			if (Objects.nonNull(listener)) {
+				listener.onProgress(entry, completedEntries, totalEntries, completedBytes, totalBytes);
+			}
+		}
+
+		void fail() {
+			failed = true;
+		}
+
+		boolean isFailed() {
+			return failed;
+		}
+	}
+
+	/**
+	 * 在途字节预算。
+	 * <p>由提交批次的调用线程申请、批次结束后由工作线程释放；单次申请超过上限时按上限申请，保证超大条目也能独占预算执行。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	private static final class InFlightBytesLimiter {
+		private final long maxBytes;
+		private long availableBytes;
+
+		InFlightBytesLimiter(final long maxBytes) {
+			this.maxBytes = maxBytes;
+			this.availableBytes = maxBytes;
+		}
+
+		synchronized long acquire(final long bytes) throws InterruptedException {
+			long required = Math.min(bytes, maxBytes);
+			while (availableBytes < required) {
+				wait();
+			}
+			availableBytes -= required;
+			return required;
+		}
+
+		synchronized void release(final long bytes) {
+			availableBytes += bytes;
+			notifyAll();
+		}
+	}
 }
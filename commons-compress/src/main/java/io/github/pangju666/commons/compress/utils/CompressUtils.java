@@ -19,15 +19,33 @@ package io.github.pangju666.commons.compress.utils;
 import io.github.pangju666.commons.compress.io.resource.*;
 import io.github.pangju666.commons.compress.lang.CompressConstants;
 import io.github.pangju666.commons.io.resource.IOResource;
+import io.github.pangju666.commons.io.resource.ResourceStorage;
+import io.github.pangju666.commons.io.resource.ResourceStorageOutputStream;
 import io.github.pangju666.commons.io.utils.FileUtils;
 import io.github.pangju666.commons.io.utils.FilenameUtils;
-import org.apache.commons.compress.archivers.tar.TarFile;
+import io.github.pangju666.commons.io.utils.IOUtils;
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.sevenz.SevenZArchiveEntry;
+import org.apache.commons.compress.archivers.sevenz.SevenZFile;
+import org.apache.commons.compress.archivers.sevenz.SevenZOutputFile;
+import org.apache.commons.compress.archivers.tar.*;
+import org.apache.commons.compress.archivers.zip.UnixStat;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.apache.commons.compress.compressors.CompressorInputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.apache.commons.compress.compressors.xz.XZCompressorOutputStream;
+import org.apache.commons.compress.compressors.zstandard.ZstdCompressorOutputStream;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
 import java.io.*;
-import java.util.Collection;
-import java.util.List;
-import java.util.UUID;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
 
 /**
  * 综合压缩/解压分发工具。
@@ -43,6 +61,7 @@ import java.util.UUID;
  *   <li>格式分发：基于文件扩展名进行分发，不进行内容嗅探；如需严格的格式校验请使用各具体工具的 <code>is*</code> 方法。</li>
  *   <li>组合格式支持：<code>tgz</code>/<code>tar.gz</code>、<code>txz</code>/<code>tar.xz</code>、<code>tzst</code>/<code>tar.zst</code> 通过中间 TAR 文件再压缩实现，临时 TAR 文件会在完成后删除。</li>
  *   <li>多输入源：支持单文件、目录（递归）、以及文件集合（集合仅支持归档格式）。</li>
+ *   <li>归档转换：{@code transcode} 方法逐条目在归档格式之间直接转换，可选按条目过滤/重命名与读写线程流水线。</li>
  *   <li>资源管理：方法内部创建的流会在方法内正确关闭；调用方传入的 <code>OutputStream</code> 不会被自动关闭。</li>
  *   <li>异常一致性：不支持的格式抛出 {@link UnsupportedOperationException}；底层 IO 失败抛出 {@link IOException}。</li>
  *   <li>线程安全：类本身无共享状态；并发写入同一路径可能产生冲突。</li>
@@ -87,6 +106,10 @@ import java.util.UUID;
  * try (OutputStream out = new FileOutputStream("out.bin")) {
  *     CompressUtils.uncompress(new XZResource(new File("data.xz")), out);
  * }
+ *
+ * // 10) 将 TAR.XZ 直接转换为 ZIP（不解压到临时目录），并跳过 .log 文件
+ * CompressUtils.transcode(new CompressResource(new File("archive.tar.xz")), new File("archive.zip"),
+ *     entry -> entry.getName().endsWith(".log") ? null : entry.getName());
  * }</pre>
  *
  * @author pangju666
@@ -99,6 +122,26 @@ import java.util.UUID;
  * @since 1.0.0
  */
 public class CompressUtils {
+	/**
+	 * 归档转换流水线中单个数据块的大小（64KB）
+	 *
+	 * @since 2.2.0
+	 */
+	private static final int TRANSCODE_CHUNK_SIZE = 64 * 1024;
+	/**
+	 * 归档转换流水线队列容量（在途数据块数量上限）
+	 *
+	 * @since 2.2.0
+	 */
+	private static final int TRANSCODE_QUEUE_CAPACITY = 32;
+	/**
+	 * 支持转换的输出格式
+	 *
+	 * @since 2.2.0
+	 */
+	private static final Set<String> TRANSCODE_OUTPUT_FORMATS = Set.of("zip", "tar", "7z", "tgz", "tar.gz", "txz",
+		"tar.xz", "tzst", "tar.zst");
+
 	/**
 	 * 受保护的构造函数，防止实例化。
 	 */
@@ -481,6 +524,147 @@ public class CompressUtils {
 		}
 	}
 
+	/**
+	 * 将压缩资源直接转换为输出文件扩展名对应的归档格式（单线程）。
+	 *
+	 * @param resource   源压缩资源，必须非 null
+	 * @param outputFile 输出目标文件，扩展名决定归档格式
+	 * @throws NullPointerException          当 {@code resource} 或 {@code outputFile} 为 {@code null} 时
+	 * @throws IllegalArgumentException      当 {@code outputFile} 已存在且不是文件时
+	 * @throws UnsupportedOperationException 当源格式或输出格式不支持转换时
+	 * @throws IOException                   底层读写失败时
+	 * @see #transcode(CompressResource, File, Function, ExecutorService)
+	 * @since 2.2.0
+	 */
+	public static void transcode(final CompressResource resource, final File outputFile) throws IOException {
+		transcode(resource, outputFile, null, null);
+	}
+
+	/**
+	 * 将压缩资源直接转换为输出文件扩展名对应的归档格式（单线程），支持按条目过滤与重命名。
+	 *
+	 * @param resource    源压缩资源，必须非 null
+	 * @param outputFile  输出目标文件，扩展名决定归档格式
+	 * @param entryMapper 条目映射函数，返回写入目标归档的条目名称，返回 {@code null} 或空字符串时跳过该条目；为 null 时保留全部条目及原名称
+	 * @throws NullPointerException          当 {@code resource} 或 {@code outputFile} 为 {@code null} 时
+	 * @throws IllegalArgumentException      当 {@code outputFile} 已存在且不是文件时
+	 * @throws UnsupportedOperationException 当源格式或输出格式不支持转换时
+	 * @throws IOException                   底层读写失败时
+	 * @see #transcode(CompressResource, File, Function, ExecutorService)
+	 * @since 2.2.0
+	 */
+	public static void transcode(final CompressResource resource, final File outputFile,
+	                             final Function<? super ArchiveEntry, String> entryMapper) throws IOException {
+		transcode(resource, outputFile, entryMapper, null);
+	}
+
+	/**
+	 * 将压缩资源直接转换为输出文件扩展名对应的归档格式。
+	 * <p>
+	 * 逐条目读取源归档并直接写入目标归档，不会将条目解压到磁盘临时目录（例如 <code>tar.xz</code> 转 <code>zip</code>、
+	 * <code>zip</code> 转 <code>tar.zst</code>）。条目的名称、大小、修改时间与权限位会被保留，
+	 * 符号链接等非普通文件、非目录条目会被跳过。
+	 * </p>
+	 * <p>
+	 * 支持的源格式：<code>zip</code>、<code>tar</code>、<code>7z</code>，以及内容为 TAR 归档的
+	 * <code>gz</code>/<code>xz</code>/<code>zst</code>（即 <code>tar.gz</code>、<code>tar.xz</code>、<code>tar.zst</code>）。
+	 * 支持的输出格式：<code>zip</code>、<code>tar</code>、<code>7z</code>、<code>tgz</code>/<code>tar.gz</code>、
+	 * <code>txz</code>/<code>tar.xz</code>、<code>tzst</code>/<code>tar.zst</code>。
+	 * </p>
+	 * <p>
+	 * 当 {@code executorService} 非 null 时使用读写流水线：源归档的读取与解压在线程池中执行，
+	 * 目标归档的压缩与写入在调用线程中执行，两者通过有界队列（最多 32 个 64KB 的数据块）交换数据，使解压与压缩可以同时进行。
+	 * 线程池由调用方管理，方法不会关闭该线程池。
+	 * </p>
+	 *
+	 * @param resource        源压缩资源，必须非 null
+	 * @param outputFile      输出目标文件，扩展名决定归档格式，若父目录不存在会尝试创建
+	 * @param entryMapper     条目映射函数，返回写入目标归档的条目名称，返回 {@code null} 或空字符串时跳过该条目；为 null 时保留全部条目及原名称
+	 * @param executorService 执行源归档读取的线程池，为 null 时在调用线程中顺序读写
+	 * @throws NullPointerException          当 {@code resource} 或 {@code outputFile} 为 {@code null} 时
+	 * @throws IllegalArgumentException      当 {@code outputFile} 已存在且不是文件时
+	 * @throws UnsupportedOperationException 当源格式或输出格式不支持转换时
+	 * @throws IOException                   底层读写失败或等待读取线程被中断时
+	 * @since 2.2.0
+	 */
+	public static void transcode(final CompressResource resource, final File outputFile,
+	                             final Function<? super ArchiveEntry, String> entryMapper,
+	                             final ExecutorService executorService) throws IOException {
+		Validate.notNull(resource, "resource 不可为 null");
+		FileUtils.checkFileIfExist(outputFile, "outputFile 不可为 null");
+
+		checkTranscodeSource(resource);
+		String outputFormat = getOutputFormat(outputFile.getName());
+		if (!TRANSCODE_OUTPUT_FORMATS.contains(outputFormat)) {
+			throw new UnsupportedOperationException("不支持转换为 " + outputFormat + " 格式");
+		}
+
+		FileUtils.forceMkdirParent(outputFile);
+		if ("7z".equals(outputFormat)) {
+			try (SevenZOutputFile sevenZOutputFile = new SevenZOutputFile(outputFile)) {
+				transcode(resource, new SevenZTranscodeTarget(sevenZOutputFile), entryMapper, executorService);
+			}
+		} else {
+			try (OutputStream outputStream = FileUtils.newBufferedOutputStream(outputFile)) {
+				transcode(resource, outputStream, outputFormat, entryMapper, executorService);
+			}
+		}
+	}
+
+	/**
+	 * 将压缩资源直接转换为指定归档格式并写入输出流。
+	 * <p>
+	 * 行为与 {@link #transcode(CompressResource, File, Function, ExecutorService)} 一致。
+	 * 由于 7Z 格式需要随机写入，不支持输出到流。方法会结束归档写入，但不会关闭 {@code outputStream}。
+	 * </p>
+	 *
+	 * @param resource        源压缩资源，必须非 null
+	 * @param outputStream    输出流（方法不会自动关闭该流）
+	 * @param outputFormat    输出格式：<code>zip</code>、<code>tar</code>、<code>tgz</code>/<code>tar.gz</code>、
+	 *                        <code>txz</code>/<code>tar.xz</code>、<code>tzst</code>/<code>tar.zst</code>
+	 * @param entryMapper     条目映射函数，返回写入目标归档的条目名称，返回 {@code null} 或空字符串时跳过该条目；为 null 时保留全部条目及原名称
+	 * @param executorService 执行源归档读取的线程池，为 null 时在调用线程中顺序读写
+	 * @throws NullPointerException          当 {@code resource}、{@code outputStream} 或 {@code outputFormat} 为 {@code null} 时
+	 * @throws IllegalArgumentException      当 {@code outputFormat} 为空白字符串时
+	 * @throws UnsupportedOperationException 当源格式或输出格式不支持转换时
+	 * @throws IOException                   底层读写失败或等待读取线程被中断时
+	 * @since 2.2.0
+	 */
+	public static void transcode(final CompressResource resource, final OutputStream outputStream,
+	                             final String outputFormat, final Function<? super ArchiveEntry, String> entryMapper,
+	                             final ExecutorService executorService) throws IOException {
+		Validate.notNull(resource, "resource 不可为 null");
+		Validate.notNull(outputStream, "outputStream 不可为 null");
+		Validate.notBlank(outputFormat, "outputFormat 不可为空");
+
+		checkTranscodeSource(resource);
+		String format = outputFormat.toLowerCase();
+		switch (format) {
+			case "zip" -> {
+				try (BufferedOutputStream bufferedOutputStream = IOUtils.buffer(CloseShieldOutputStream.wrap(outputStream));
+				     ZipArchiveOutputStream zipArchiveOutputStream = new ZipArchiveOutputStream(bufferedOutputStream)) {
+					transcode(resource, new ZipTranscodeTarget(zipArchiveOutputStream), entryMapper, executorService);
+				}
+			}
+			case "tar", "tgz", "tar.gz", "txz", "tar.xz", "tzst", "tar.zst" -> {
+				try (BufferedOutputStream bufferedOutputStream = IOUtils.buffer(CloseShieldOutputStream.wrap(outputStream));
+				     OutputStream compressorOutputStream = switch (format) {
+					     case "tgz", "tar.gz" -> new GzipCompressorOutputStream(bufferedOutputStream);
+					     case "txz", "tar.xz" -> new XZCompressorOutputStream(bufferedOutputStream);
+					     case "tzst", "tar.zst" -> new ZstdCompressorOutputStream(bufferedOutputStream);
+					     default -> bufferedOutputStream;
+				     };
+				     TarArchiveOutputStream tarArchiveOutputStream = new TarArchiveOutputStream(compressorOutputStream)) {
+					tarArchiveOutputStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+					tarArchiveOutputStream.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+					transcode(resource, new TarTranscodeTarget(tarArchiveOutputStream), entryMapper, executorService);
+				}
+			}
+			case "7z" -> throw new UnsupportedOperationException("7z 格式不支持转换到输出流");
+			default -> throw new UnsupportedOperationException("不支持转换为 " + format + " 格式");
+		}
+	}
+
 	/**
 	 * 将单文件格式压缩文件解压到输出流。
 	 * <p>
@@ -676,4 +860,462 @@ public class CompressUtils {
 
 		return tmpTarFile;
 	}
+
+	/**
+	 * 检查压缩资源是否支持作为归档转换的源。
+	 *
+	 * @param resource 压缩资源
+	 * @throws UnsupportedOperationException 当资源格式不支持转换时
+	 * @since 2.2.0
+	 */
+	private static void checkTranscodeSource(final CompressResource resource) {
+		if (!resource.isZip() && !resource.isTar() && !resource.is7z() && !resource.isGzip() &&
+			!resource.isXz() && !resource.isZstd()) {
+			throw new UnsupportedOperationException("不支持转换 " + resource.getFormat() + " 格式");
+		}
+	}
+
+	/**
+	 * 将压缩资源的条目逐个写入转换目标。
+	 * <p>{@code executorService} 为 null 时在调用线程中边读边写；否则在线程池中读取源归档，在调用线程中写入目标归档。</p>
+	 *
+	 * @param resource        源压缩资源
+	 * @param target          转换目标
+	 * @param entryMapper     条目映射函数，可为 null
+	 * @param executorService 执行源归档读取的线程池，可为 null
+	 * @throws IOException 当读写失败或等待读取线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	private static void transcode(final CompressResource resource, final TranscodeTarget target,
+	                              final Function<? super ArchiveEntry, String> entryMapper,
+	                              final ExecutorService executorService) throws IOException {
+		if (Objects.isNull(executorService)) {
+			byte[] buffer = new byte[TRANSCODE_CHUNK_SIZE];
+			readTranscodeEntries(resource, entryMapper, target.requiresSize(), (entry, inputStream) -> {
+				target.putEntry(entry);
+				int length;
+				while ((length = inputStream.read(buffer)) != IOUtils.EOF) {
+					target.write(buffer, 0, length);
+				}
+				target.closeEntry();
+			});
+		} else {
+			BlockingQueue<TranscodeChunk> queue = new ArrayBlockingQueue<>(TRANSCODE_QUEUE_CAPACITY);
+			Future<?> readFuture = executorService.submit(() -> {
+				try {
+					readTranscodeEntries(resource, entryMapper, target.requiresSize(), (entry, inputStream) -> {
+						putTranscodeChunk(queue, new TranscodeChunk(entry, null, 0));
+						byte[] buffer = new byte[TRANSCODE_CHUNK_SIZE];
+						int length;
+						while ((length = IOUtils.read(inputStream, buffer)) > 0) {
+							putTranscodeChunk(queue, new TranscodeChunk(null, buffer, length));
+							buffer = new byte[TRANSCODE_CHUNK_SIZE];
+						}
+						putTranscodeChunk(queue, TranscodeChunk.END_OF_ENTRY);
+					});
+				} finally {
+					putTranscodeChunk(queue, TranscodeChunk.END_OF_ARCHIVE);
+				}
+				return null;
+			});
+
+			try {
+				TranscodeChunk chunk;
+				while ((chunk = queue.take()) != TranscodeChunk.END_OF_ARCHIVE) {
+					if (chunk == TranscodeChunk.END_OF_ENTRY) {
+						target.closeEntry();
+					} else if (Objects.nonNull(chunk.entry())) {
+						target.putEntry(chunk.entry());
+					} else {
+						target.write(chunk.data(), 0, chunk.length());
+					}
+				}
+				readFuture.get();
+			} catch (InterruptedException e) {
+				readFuture.cancel(true);
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("归档转换被中断");
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof IOException ioException) {
+					throw ioException;
+				}
+				if (e.getCause() instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				throw new IOException(e.getCause());
+			} catch (IOException | RuntimeException e) {
+				readFuture.cancel(true);
+				throw e;
+			}
+		}
+		target.finish();
+	}
+
+	/**
+	 * 将数据块放入转换队列，队列已满时阻塞等待。
+	 *
+	 * @param queue 转换队列
+	 * @param chunk 数据块
+	 * @throws InterruptedIOException 当等待被中断时抛出
+	 * @since 2.2.0
+	 */
+	private static void putTranscodeChunk(final BlockingQueue<TranscodeChunk> queue, final TranscodeChunk chunk)
+		throws InterruptedIOException {
+		try {
+			queue.put(chunk);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("归档转换被中断");
+		}
+	}
+
+	/**
+	 * 按源格式顺序读取压缩资源的条目。
+	 * <p>
+	 * ZIP 按物理顺序读取以保持顺序 IO；<code>gz</code>/<code>xz</code>/<code>zst</code> 通过解压流直接读取其中的 TAR 归档，
+	 * 不会写入临时文件。ZIP、TAR、7Z 直接基于资源的通道或输入流读取，不会复制资源内容。
+	 * </p>
+	 *
+	 * @param resource     源压缩资源
+	 * @param entryMapper  条目映射函数，可为 null
+	 * @param requiresSize 转换目标是否要求写入前已知条目大小
+	 * @param consumer     条目消费者
+	 * @throws UnsupportedOperationException 当 <code>gz</code>/<code>xz</code>/<code>zst</code> 解压后的内容不是 TAR 归档时抛出
+	 * @throws IOException                   当读取失败时抛出
+	 * @since 2.2.0
+	 */
+	private static void readTranscodeEntries(final CompressResource resource,
+	                                         final Function<? super ArchiveEntry, String> entryMapper,
+	                                         final boolean requiresSize,
+	                                         final TranscodeEntryConsumer consumer) throws IOException {
+		if (resource.isZip()) {
+			try (ZipFile zipFile = ZipFile.builder()
+				.setCharset(StandardCharsets.UTF_8)
+				.setUseUnicodeExtraFields(true)
+				.setSeekableByteChannel(resource.openChannel())
+				.get()) {
+				Enumeration<ZipArchiveEntry> entries = zipFile.getEntriesInPhysicalOrder();
+				while (entries.hasMoreElements()) {
+					ZipArchiveEntry entry = entries.nextElement();
+					if (entry.isUnixSymlink()) {
+						continue;
+					}
+					TranscodeEntry transcodeEntry = TranscodeEntry.of(entry, entry.getLastModifiedDate(),
+						entry.getUnixMode(), entryMapper);
+					if (Objects.nonNull(transcodeEntry)) {
+						try (InputStream inputStream = entry.isDirectory() ? InputStream.nullInputStream() :
+							zipFile.getInputStream(entry)) {
+							acceptTranscodeEntry(consumer, transcodeEntry, inputStream, requiresSize);
+						}
+					}
+				}
+			}
+		} else if (resource.isTar()) {
+			try (TarArchiveInputStream tarArchiveInputStream = new TarArchiveInputStream(resource.newBufferedInputStream())) {
+				readTarTranscodeEntries(tarArchiveInputStream, entryMapper, requiresSize, consumer);
+			}
+		} else if (resource.is7z()) {
+			try (SevenZFile sevenZFile = SevenZFile.builder().setSeekableByteChannel(resource.openChannel()).get()) {
+				SevenZArchiveEntry entry;
+				while (Objects.nonNull(entry = sevenZFile.getNextEntry())) {
+					if (entry.isAntiItem()) {
+						continue;
+					}
+					TranscodeEntry transcodeEntry = TranscodeEntry.of(entry, entry.getHasLastModifiedDate() ?
+						entry.getLastModifiedDate() : null, 0, entryMapper);
+					if (Objects.nonNull(transcodeEntry)) {
+						try (InputStream inputStream = entry.isDirectory() || !entry.hasStream() ?
+							InputStream.nullInputStream() : sevenZFile.getInputStream(entry)) {
+							acceptTranscodeEntry(consumer, transcodeEntry, inputStream, requiresSize);
+						}
+					}
+				}
+			}
+		} else {
+			try (CompressorInputStream compressorInputStream = resource.openCompressorInputStream();
+			     BufferedInputStream bufferedInputStream = IOUtils.buffer(compressorInputStream)) {
+				byte[] signature = new byte[TarConstants.DEFAULT_RCDSIZE];
+				bufferedInputStream.mark(signature.length);
+				int length = IOUtils.read(bufferedInputStream, signature);
+				bufferedInputStream.reset();
+				if (!TarArchiveInputStream.matches(signature, length)) {
+					throw new UnsupportedOperationException("解压后的内容不是 TAR 归档，不支持转换");
+				}
+
+				try (TarArchiveInputStream tarArchiveInputStream = new TarArchiveInputStream(bufferedInputStream)) {
+					readTarTranscodeEntries(tarArchiveInputStream, entryMapper, requiresSize, consumer);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 顺序读取 TAR 输入流中的普通文件与目录条目。
+	 *
+	 * @param tarArchiveInputStream TAR 输入流
+	 * @param entryMapper           条目映射函数，可为 null
+	 * @param requiresSize          转换目标是否要求写入前已知条目大小
+	 * @param consumer              条目消费者
+	 * @throws IOException 当读取失败时抛出
+	 * @since 2.2.0
+	 */
+	private static void readTarTranscodeEntries(final TarArchiveInputStream tarArchiveInputStream,
+	                                            final Function<? super ArchiveEntry, String> entryMapper,
+	                                            final boolean requiresSize,
+	                                            final TranscodeEntryConsumer consumer) throws IOException {
+		TarArchiveEntry entry;
+		while (Objects.nonNull(entry = tarArchiveInputStream.getNextEntry())) {
+			if (!entry.isFile() && !entry.isDirectory()) {
+				continue;
+			}
+			TranscodeEntry transcodeEntry = TranscodeEntry.of(entry, entry.getLastModifiedDate(), entry.getMode(),
+				entryMapper);
+			if (Objects.nonNull(transcodeEntry)) {
+				acceptTranscodeEntry(consumer, transcodeEntry, entry.isDirectory() ? InputStream.nullInputStream() :
+					tarArchiveInputStream, requiresSize);
+			}
+		}
+	}
+
+	/**
+	 * 将条目交给消费者。
+	 * <p>
+	 * 条目大小未知且转换目标要求写入前已知条目大小（TAR）时，先将条目数据写入
+	 * {@link ResourceStorageOutputStream} 以确定大小：数据量不超过 {@link IOResource#getDefaultStoragePolicy() 默认存储策略}
+	 * 的溢出阈值时缓冲在堆内，否则溢出到临时文件，条目写入完成后释放。ZIP、7Z 不需要预先知道大小，直接流式写入。
+	 * </p>
+	 *
+	 * @param consumer     条目消费者
+	 * @param entry        转换条目
+	 * @param inputStream  条目数据输入流
+	 * @param requiresSize 转换目标是否要求写入前已知条目大小
+	 * @throws IOException 当读取失败或写入临时文件失败时抛出
+	 * @since 2.2.0
+	 */
+	private static void acceptTranscodeEntry(final TranscodeEntryConsumer consumer, final TranscodeEntry entry,
+	                                         final InputStream inputStream, final boolean requiresSize) throws IOException {
+		if (!entry.directory() && entry.size() < 0 && requiresSize) {
+			try (ResourceStorageOutputStream outputStream = new ResourceStorageOutputStream(
+				IOResource.getDefaultStoragePolicy())) {
+				inputStream.transferTo(outputStream);
+				try (ResourceStorage storage = outputStream.toStorage();
+				     InputStream storageInputStream = storage.openInputStream()) {
+					consumer.accept(new TranscodeEntry(entry.name(), false, storage.size(), entry.lastModifiedDate(),
+						entry.mode()), storageInputStream);
+				}
+			}
+		} else {
+			consumer.accept(entry, inputStream);
+		}
+	}
+
+	/**
+	 * 归档转换条目
+	 *
+	 * @param name             写入目标归档的条目名称，目录以 <code>/</code> 结尾
+	 * @param directory        是否为目录
+	 * @param size             条目大小，未知时为 -1
+	 * @param lastModifiedDate 最后修改时间，可为 null
+	 * @param mode             UNIX 权限位，未知时为 0
+	 * @since 2.2.0
+	 */
+	private record TranscodeEntry(String name, boolean directory, long size, Date lastModifiedDate, int mode) {
+		/**
+		 * 从源归档条目创建转换条目
+		 *
+		 * @param entry            源归档条目
+		 * @param lastModifiedDate 最后修改时间，可为 null
+		 * @param mode             UNIX 模式，可包含文件类型位
+		 * @param entryMapper      条目映射函数，可为 null
+		 * @return 转换条目，映射函数返回 null 或空字符串时返回 null
+		 * @since 2.2.0
+		 */
+		static TranscodeEntry of(final ArchiveEntry entry, final Date lastModifiedDate, final int mode,
+		                         final Function<? super ArchiveEntry, String> entryMapper) {
+			String name = Objects.isNull(entryMapper) ? entry.getName() : entryMapper.apply(entry);
+			if (StringUtils.isEmpty(name)) {
+				return null;
+			}
+			if (entry.isDirectory()) {
+				return new TranscodeEntry(StringUtils.appendIfMissing(name, "/"), true, 0, lastModifiedDate,
+					mode & 07777);
+			}
+			return new TranscodeEntry(name, false, entry.getSize(), lastModifiedDate, mode & 07777);
+		}
+	}
+
+	/**
+	 * 归档转换流水线中的数据块
+	 * <p>{@code entry} 非 null 表示条目开始，否则为条目数据；{@link #END_OF_ENTRY}、{@link #END_OF_ARCHIVE} 为结束标记。</p>
+	 *
+	 * @param entry  条目开始时的转换条目
+	 * @param data   条目数据
+	 * @param length 条目数据长度
+	 * @since 2.2.0
+	 */
+	private record TranscodeChunk(TranscodeEntry entry, byte[] data, int length) {
+		/**
+		 * 条目结束标记
+		 *
+		 * @since 2.2.0
+		 */
+		static final TranscodeChunk END_OF_ENTRY = new TranscodeChunk(null, null, 0);
+		/**
+		 * 归档结束标记
+		 *
+		 * @since 2.2.0
+		 */
+		static final TranscodeChunk END_OF_ARCHIVE = new TranscodeChunk(null, null, 0);
+	}
+
+	/**
+	 * 转换条目消费者
+	 *
+	 * @since 2.2.0
+	 */
+	@FunctionalInterface
+	private interface TranscodeEntryConsumer {
+		/**
+		 * 处理条目
+		 *
+		 * @param entry       转换条目
+		 * @param inputStream 条目数据输入流（不可关闭）
+		 * @throws IOException 当处理失败时抛出
+		 */
+		void accept(TranscodeEntry entry, InputStream inputStream) throws IOException;
+	}
+
+	/**
+	 * 归档转换目标
+	 *
+	 * @since 2.2.0
+	 */
+	private interface TranscodeTarget {
+		default boolean requiresSize() {
+			return false;
+		}
+
+		void putEntry(TranscodeEntry entry) throws IOException;
+
+		void write(byte[] buffer, int offset, int length) throws IOException;
+
+		void closeEntry() throws IOException;
+
+		void finish() throws IOException;
+	}
+
+	/**
+	 * 写入 ZIP 归档的转换目标
+	 *
+	 * @param outputStream ZIP 归档输出流
+	 * @since 2.2.0
+	 */
+	private record ZipTranscodeTarget(ZipArchiveOutputStream outputStream) implements TranscodeTarget {
+		@Override
+		public void putEntry(final TranscodeEntry entry) throws IOException {
+			ZipArchiveEntry zipArchiveEntry = new ZipArchiveEntry(entry.name());
+			if (!entry.directory() && entry.size() >= 0) {
+				zipArchiveEntry.setSize(entry.size());
+			}
+			if (Objects.nonNull(entry.lastModifiedDate())) {
+				zipArchiveEntry.setTime(entry.lastModifiedDate().getTime());
+			}
+			if (entry.mode() > 0) {
+				zipArchiveEntry.setUnixMode((entry.directory() ? UnixStat.DIR_FLAG : UnixStat.FILE_FLAG) | entry.mode());
+			}
+			outputStream.putArchiveEntry(zipArchiveEntry);
+		}
+
+		@Override
+		public void write(final byte[] buffer, final int offset, final int length) throws IOException {
+			outputStream.write(buffer, offset, length);
+		}
+
+		@Override
+		public void closeEntry() throws IOException {
+			outputStream.closeArchiveEntry();
+		}
+
+		@Override
+		public void finish() throws IOException {
+			outputStream.finish();
+		}
+	}
+
+	/**
+	 * 写入 TAR 归档的转换目标
+	 *
+	 * @param outputStream TAR 归档输出流
+	 * @since 2.2.0
+	 */
+	private record TarTranscodeTarget(TarArchiveOutputStream outputStream) implements TranscodeTarget {
+		@Override
+		public boolean requiresSize() {
+			return true;
+		}
+
+		@Override
+		public void putEntry(final TranscodeEntry entry) throws IOException {
+			TarArchiveEntry tarArchiveEntry = new TarArchiveEntry(entry.name());
+			if (!entry.directory()) {
+				tarArchiveEntry.setSize(entry.size());
+			}
+			if (Objects.nonNull(entry.lastModifiedDate())) {
+				tarArchiveEntry.setModTime(entry.lastModifiedDate());
+			}
+			if (entry.mode() > 0) {
+				tarArchiveEntry.setMode((entry.directory() ? UnixStat.DIR_FLAG : UnixStat.FILE_FLAG) | entry.mode());
+			}
+			outputStream.putArchiveEntry(tarArchiveEntry);
+		}
+
+		@Override
+		public void write(final byte[] buffer, final int offset, final int length) throws IOException {
+			outputStream.write(buffer, offset, length);
+		}
+
+		@Override
+		public void closeEntry() throws IOException {
+			outputStream.closeArchiveEntry();
+		}
+
+		@Override
+		public void finish() throws IOException {
+			outputStream.finish();
+		}
+	}
+
+	/**
+	 * 写入 7Z 归档的转换目标
+	 *
+	 * @param outputFile 7Z 归档输出文件
+	 * @since 2.2.0
+	 */
+	private record SevenZTranscodeTarget(SevenZOutputFile outputFile) implements TranscodeTarget {
+		@Override
+		public void putEntry(final TranscodeEntry entry) throws IOException {
+			SevenZArchiveEntry sevenZArchiveEntry = new SevenZArchiveEntry();
+			sevenZArchiveEntry.setName(entry.directory() ? StringUtils.removeEnd(entry.name(), "/") : entry.name());
+			sevenZArchiveEntry.setDirectory(entry.directory());
+			if (Objects.nonNull(entry.lastModifiedDate())) {
+				sevenZArchiveEntry.setLastModifiedDate(entry.lastModifiedDate());
+			}
+			outputFile.putArchiveEntry(sevenZArchiveEntry);
+		}
+
+		@Override
+		public void write(final byte[] buffer, final int offset, final int length) throws IOException {
+			outputFile.write(buffer, offset, length);
+		}
+
+		@Override
+		public void closeEntry() throws IOException {
+			outputFile.closeArchiveEntry();
+		}
+
+		@Override
+		public void finish() throws IOException {
+			outputFile.finish();
+		}
+	}
 }
@@ -16,6 +16,7 @@
 
 package io.github.pangju666.commons.compress.utils;
 
+import io.github.pangju666.commons.compress.io.ParallelGzipOutputStream;
 import io.github.pangju666.commons.compress.io.resource.GzipResource;
 import io.github.pangju666.commons.compress.lang.CompressConstants;
 import io.github.pangju666.commons.io.lang.IOConstants;
@@ -31,6 +32,7 @@ import org.apache.commons.lang3.Validate;
 
 import java.io.*;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 /**
  * GZIP 压缩/解压工具类。
@@ -43,6 +45,7 @@ import java.util.Objects;
  *   <li>格式校验：通过 Tika 进行 MIME 类型检测；文件/字节数组版本在调用前校验，输入流版本不预校验。</li>
  *   <li>性能优化：广泛使用缓冲与 {@link java.io.InputStream#transferTo(java.io.OutputStream)}。</li>
  *   <li>资源管理：采用 try-with-resources 自动释放内部创建的包装流。</li>
+ *   <li>并行压缩：{@code compressParallel} 系列方法基于 {@link ParallelGzipOutputStream} 多线程分块压缩，输出仍为标准 GZIP 流（自 2.2.0 起）。</li>
  * </ul>
  *
  * <h3>线程安全</h3>
@@ -153,6 +156,7 @@ public class GzipUtils {
 	 * 将输入流压缩为 GZIP 并写入到输出流（指定压缩参数）。
 	 * <p>
 	 * - 当 {@code outputStream} 已是 {@link GzipCompressorOutputStream} 时，方法不会关闭该对象，仅调用 {@link GzipCompressorOutputStream#finish()}。<br>
+	 * - 当 {@code outputStream} 已是 {@link ParallelGzipOutputStream} 时，直接写入并由调用方负责结束与关闭，此时忽略 {@code parameters}。<br>
 	 * - 当方法内部创建包装流（如 {@link BufferedOutputStream}、{@link GzipCompressorOutputStream}）时，这些包装流会在方法结束时关闭，可能导致底层输出流被关闭。
 	 * </p>
 	 *
@@ -169,12 +173,12 @@ public class GzipUtils {
 		Validate.notNull(outputStream, "outputStream 不可为 null");
 		Validate.notNull(parameters, "parameters 不可为 null");
 
-		if (outputStream instanceof GzipCompressorOutputStream compressorOutputStream) {
+		if (outputStream instanceof GzipCompressorOutputStream || outputStream instanceof ParallelGzipOutputStream) {
 			if (inputStream instanceof BufferedInputStream || inputStream instanceof UnsynchronizedBufferedInputStream) {
-				inputStream.transferTo(compressorOutputStream);
+				inputStream.transferTo(outputStream);
 			} else {
 				try (InputStream bufferedInputStream = IOUtils.unsynchronizedBuffer(inputStream)) {
-					bufferedInputStream.transferTo(compressorOutputStream);
+					bufferedInputStream.transferTo(outputStream);
 				}
 			}
 		} else {
@@ -191,6 +195,140 @@ public class GzipUtils {
 		}
 	}
 
+	/**
+	 * 使用多线程并行将输入流压缩为 GZIP 并写入到输出流。
+	 * <p>使用默认数据块大小 {@link ParallelGzipOutputStream#DEFAULT_BLOCK_SIZE}，方法内部创建固定大小的线程池，压缩完成后自动关闭。
+	 * 参见 {@link #compressParallel(InputStream, OutputStream, GzipParameters, int, ExecutorService)}。</p>
+	 *
+	 * @param inputStream  待压缩的输入流，非空
+	 * @param outputStream 目标输出流，非空，方法结束时会被关闭
+	 * @param parameters   GZIP 压缩参数，非空
+	 * @param threads      压缩线程数，必须大于 0
+	 * @throws NullPointerException     当 {@code inputStream}、{@code outputStream} 或 {@code parameters} 为 {@code null} 时抛出
+	 * @throws IllegalArgumentException 当 {@code threads} 不合法时抛出
+	 * @throws IOException              当读取/写入发生 I/O 错误或压缩线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	public static void compressParallel(final InputStream inputStream, final OutputStream outputStream,
+	                                    final GzipParameters parameters, final int threads) throws IOException {
+		Validate.notNull(inputStream, "inputStream 不可为 null");
+		Validate.notNull(outputStream, "outputStream 不可为 null");
+
+		try (BufferedOutputStream bufferedOutputStream = IOUtils.buffer(outputStream);
+		     ParallelGzipOutputStream compressorOutputStream = new ParallelGzipOutputStream(bufferedOutputStream,
+			     parameters, ParallelGzipOutputStream.DEFAULT_BLOCK_SIZE, threads)) {
+			inputStream.transferTo(compressorOutputStream);
+		}
+	}
+
+	/**
+	 * 使用调用方提供的线程池并行将输入流压缩为 GZIP 并写入到输出流。
+	 * <p>同时处于压缩中或等待写出的数据块不超过 {@code 2 * 可用处理器数} 个，
+	 * 参见 {@link #compressParallel(InputStream, OutputStream, GzipParameters, int, ExecutorService, int)}。</p>
+	 *
+	 * @param inputStream     待压缩的输入流，非空
+	 * @param outputStream    目标输出流，非空，方法结束时会被关闭
+	 * @param parameters      GZIP 压缩参数，非空
+	 * @param blockSize       数据块大小，不可小于 {@link ParallelGzipOutputStream#DICTIONARY_SIZE}
+	 * @param executorService 执行压缩任务的线程池，非空
+	 * @throws NullPointerException     当 {@code inputStream}、{@code outputStream}、{@code parameters} 或 {@code executorService} 为 {@code null} 时抛出
+	 * @throws IllegalArgumentException 当 {@code blockSize} 不合法时抛出
+	 * @throws IOException              当读取/写入发生 I/O 错误或压缩线程被中断时抛出
+	 * @see ParallelGzipOutputStream
+	 * @since 2.2.0
+	 */
+	public static void compressParallel(final InputStream inputStream, final OutputStream outputStream,
+	                                    final GzipParameters parameters, final int blockSize,
+	                                    final ExecutorService executorService) throws IOException {
+		compressParallel(inputStream, outputStream, parameters, blockSize, executorService,
+			Runtime.getRuntime().availableProcessors() * 2);
+	}
+
+	/**
+	 * 使用调用方提供的线程池并行将输入流压缩为 GZIP 并写入到输出流。
+	 * <p>
+	 * 输入按 {@code blockSize} 切分为数据块并行压缩，每个数据块以前一个数据块的最后 32KB 作为字典，
+	 * 输出为标准的单成员 GZIP 流，可被任意 gunzip 解压，压缩率与单线程压缩接近。
+	 * 同时处于压缩中或等待写出的数据块不超过 {@code maxPendingBlocks} 个，内存占用约为 {@code 2 * blockSize * maxPendingBlocks}；
+	 * 线程池由多个调用共享时可按各自的份额设置。线程池不会被关闭，可在多次调用间复用。
+	 * </p>
+	 *
+	 * @param inputStream      待压缩的输入流，非空
+	 * @param outputStream     目标输出流，非空，方法结束时会被关闭
+	 * @param parameters       GZIP 压缩参数，非空
+	 * @param blockSize        数据块大小，不可小于 {@link ParallelGzipOutputStream#DICTIONARY_SIZE}
+	 * @param executorService  执行压缩任务的线程池，非空
+	 * @param maxPendingBlocks 同时处于压缩中或等待写出的数据块数量上限，必须大于 0
+	 * @throws NullPointerException     当 {@code inputStream}、{@code outputStream}、{@code parameters} 或 {@code executorService} 为 {@code null} 时抛出
+	 * @throws IllegalArgumentException 当 {@code blockSize} 或 {@code maxPendingBlocks} 不合法时抛出
+	 * @throws IOException              当读取/写入发生 I/O 错误或压缩线程被中断时抛出
+	 * @see ParallelGzipOutputStream
+	 * @since 2.2.0
+	 */
+	public static void compressParallel(final InputStream inputStream, final OutputStream outputStream,
+	                                    final GzipParameters parameters, final int blockSize,
+	                                    final ExecutorService executorService, final int maxPendingBlocks) throws IOException {
+		Validate.notNull(inputStream, "inputStream 不可为 null");
+		Validate.notNull(outputStream, "outputStream 不可为 null");
+
+		try (BufferedOutputStream bufferedOutputStream = IOUtils.buffer(outputStream);
+		     ParallelGzipOutputStream compressorOutputStream = new ParallelGzipOutputStream(bufferedOutputStream,
+			     parameters, blockSize, executorService, maxPendingBlocks)) {
+			inputStream.transferTo(compressorOutputStream);
+		}
+	}
+
+	/**
+	 * 使用多线程并行压缩 IOResource 到文件。
+	 * <p>会自动创建父目录并覆盖已存在文件。参见 {@link #compressParallel(InputStream, OutputStream, GzipParameters, int)}。</p>
+	 *
+	 * @param resource   IOResource 对象，必须非 null
+	 * @param outputFile 输出文件，必须非 null
+	 * @param parameters GZIP 压缩参数，非空
+	 * @param threads    压缩线程数，必须大于 0
+	 * @throws NullPointerException     当 {@code resource}、{@code outputFile} 或 {@code parameters} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code threads} 不合法时抛出
+	 * @throws IOException              当读取资源、文件写入过程中发生 I/O 错误或压缩线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	public static void compressParallel(final IOResource resource, final File outputFile, final GzipParameters parameters,
+	                                    final int threads) throws IOException {
+		Validate.notNull(resource, "resource 不可为 null");
+		FileUtils.checkFileIfExist(outputFile, "outputFile 不可为 null");
+
+		FileUtils.forceMkdirParent(outputFile);
+
+		try (InputStream inputStream = resource.newBufferedInputStream();
+		     OutputStream outputStream = FileUtils.openOutputStream(outputFile)) {
+			compressParallel(inputStream, outputStream, parameters, threads);
+		}
+	}
+
+	/**
+	 * 使用多线程并行将输入流压缩到文件。
+	 * <p>会自动创建父目录并覆盖已存在文件。参见 {@link #compressParallel(InputStream, OutputStream, GzipParameters, int)}。</p>
+	 *
+	 * @param inputStream 待压缩的输入流，非空
+	 * @param outputFile  输出文件，必须非 null
+	 * @param parameters  GZIP 压缩参数，非空
+	 * @param threads     压缩线程数，必须大于 0
+	 * @throws NullPointerException     当 {@code inputStream}、{@code outputFile} 或 {@code parameters} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code threads} 不合法时抛出
+	 * @throws IOException              当读取、文件写入过程中发生 I/O 错误或压缩线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	public static void compressParallel(final InputStream inputStream, final File outputFile, final GzipParameters parameters,
+	                                    final int threads) throws IOException {
+		Validate.notNull(inputStream, "inputStream 不可为 null");
+		FileUtils.checkFileIfExist(outputFile, "outputFile 不可为 null");
+
+		FileUtils.forceMkdirParent(outputFile);
+
+		try (OutputStream outputStream = FileUtils.openOutputStream(outputFile)) {
+			compressParallel(inputStream, outputStream, parameters, threads);
+		}
+	}
+
 	/**
 	 * 压缩 IOResource 到输出流。
 	 * <p>从 IOResource 读取数据并压缩为 GZIP 格式写入输出流。方法会自动关闭资源打开的输入流和创建的输出流。</p>
@@ -25,13 +25,17 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Field;
 import java.nio.channels.SeekableByteChannel;
-import java.util.Collection;
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * 7z 压缩/解压工具类。
@@ -98,6 +102,13 @@ import java.util.function.Consumer;
  * @since 1.0.0
  */
 public class SevenZUtils {
+	/**
+	 * {@link SevenZMethod#COPY} 的方法标识
+	 *
+	 * @since 2.2.0
+	 */
+	private static final byte[] COPY_METHOD_ID = {0x00};
+
 	/**
 	 * 受保护的构造函数，防止实例化。
 	 */
@@ -303,6 +314,173 @@ public class SevenZUtils {
 		}
 	}
 
+	/**
+	 * 使用多线程并行从 {@code SevenZResource} 对象解压缩到指定目录。
+	 * <p>方法内部创建固定大小的线程池，解压完成后自动关闭，在途字节上限为 {@link ArchiveUtils#DEFAULT_MAX_IN_FLIGHT_BYTES}。
+	 * 参见 {@link #extractParallel(SevenZResource, File, ExecutorService, int, long, ArchiveUtils.ExtractProgressListener)}。</p>
+	 *
+	 * @param resource  7z 资源对象，必须非 null
+	 * @param outputDir 解压目标目录，会自动创建不存在的目录结构
+	 * @param threads   解压线程数，必须大于 0
+	 * @throws NullPointerException     当 {@code resource} 或 {@code outputDir} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code outputDir} 存在但不是目录或 {@code threads} 不合法时抛出
+	 * @throws IOException              当资源已关闭、输出目录不可写、解压过程中发生 I/O 错误或解压线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	public static void extractParallel(final SevenZResource resource, final File outputDir, final int threads) throws IOException {
+		Validate.isTrue(threads > 0, "threads 必须大于0");
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threads);
+		try {
+			extractParallel(resource, outputDir, executorService, threads, ArchiveUtils.DEFAULT_MAX_IN_FLIGHT_BYTES, null);
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	/**
+	 * 使用调用方提供的线程池并行从 {@code SevenZResource} 对象解压缩到指定目录。
+	 * <p>
+	 * {@code SevenZFile} 不是线程安全的，且固实压缩时同一数据块（folder）中的条目只能从块首开始顺序解码，
+	 * 因此使用了压缩方法的固实数据块总是整体分配给同一个工作线程，每个数据块只被解码一次；
+	 * 非固实数据块和仅存储（COPY）的数据块中的条目可以单独分配。之后按归档顺序将这些单元合并为 {@code parallelism}
+	 * 个未压缩大小相近的连续区段，每个工作线程通过 {@link SevenZResource#openSevenZFile()} 打开独立的 {@code SevenZFile}
+	 * 顺序解压自己的区段。单个固实数据块无法再拆分，只包含一个固实数据块的归档只能由一个线程解压。
+	 * </p>
+	 * <p>
+	 * 每个工作线程持有独立的解码器，内存占用约为单线程解压的 {@code parallelism} 倍。
+	 * 目录条目由调用线程预先创建，调用线程提交每个区段前申请区段中最大条目的未压缩大小，
+	 * 已提交但未完成的区段申请量之和将超过 {@code maxInFlightBytes} 时暂停提交。
+	 * 线程池不会被关闭，可在多次调用间复用。
+	 * </p>
+	 *
+	 * @param resource         7z 资源对象，必须非 null
+	 * @param outputDir        解压目标目录，会自动创建不存在的目录结构
+	 * @param executorService  执行解压任务的线程池，必须非 null
+	 * @param parallelism      并行区段数量，必须大于 0，通常与线程池大小相同
+	 * @param maxInFlightBytes 在途字节上限，必须大于 0
+	 * @param progressListener 进度监听器，可为 null
+	 * @throws NullPointerException     当 {@code resource}、{@code outputDir} 或 {@code executorService} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code outputDir} 存在但不是目录、{@code parallelism} 或 {@code maxInFlightBytes} 不合法时抛出
+	 * @throws IOException              当资源已关闭、输出目录不可写、解压过程中发生 I/O 错误或解压线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	public static void extractParallel(final SevenZResource resource, final File outputDir, final ExecutorService executorService,
+	                                   final int parallelism, final long maxInFlightBytes,
+	                                   final ArchiveUtils.ExtractProgressListener progressListener) throws IOException {
+		Validate.notNull(resource, "resource 不可为 null");
+		Validate.isTrue(parallelism > 0, "parallelism 必须大于0");
+
+		List<SevenZArchiveEntry> archiveEntries = new ArrayList<>();
+		int[] solidFolderIndexes;
+		try (SevenZFile sevenZFile = resource.openSevenZFile()) {
+			sevenZFile.getEntries().forEach(archiveEntries::add);
+			solidFolderIndexes = getSolidFolderIndexes(sevenZFile);
+		}
+		Map<SevenZArchiveEntry, Integer> entryIndexes = new IdentityHashMap<>(archiveEntries.size());
+		for (int i = 0; i < archiveEntries.size(); i++) {
+			entryIndexes.put(archiveEntries.get(i), i);
+		}
+		ArchiveUtils.extractParallel(archiveEntries, outputDir, parallelism,
+			fileEntries -> splitFolderUnits(fileEntries, entryIndexes, solidFolderIndexes),
+			() -> new SevenZEntryExtractor(resource.openSevenZFile(), entryIndexes), executorService,
+			maxInFlightBytes, progressListener);
+	}
+
+	/**
+	 * 将文件条目划分为并行解压时不可拆分的单元。
+	 * <p>同一固实数据块中的条目组成一个单元，其余条目各自成为一个单元，单元按条目在归档中首次出现的顺序排列。</p>
+	 *
+	 * @param fileEntries        按归档顺序排列的文件条目
+	 * @param entryIndexes       条目在归档中的序号
+	 * @param solidFolderIndexes 每个条目所在的固实数据块序号，参见 {@link #getSolidFolderIndexes(SevenZFile)}，
+	 *                           为 null 时所有条目作为一个单元
+	 * @return 单元列表
+	 * @since 2.2.0
+	 */
+	static List<List<SevenZArchiveEntry>> splitFolderUnits(final List<SevenZArchiveEntry> fileEntries,
+	                                                       final Map<SevenZArchiveEntry, Integer> entryIndexes,
+	                                                       final int[] solidFolderIndexes) {
+		if (Objects.isNull(solidFolderIndexes)) {
+			return fileEntries.isEmpty() ? Collections.emptyList() : List.of(fileEntries);
+		}
+		List<List<SevenZArchiveEntry>> units = new ArrayList<>();
+		Map<Integer, List<SevenZArchiveEntry>> folderUnits = new HashMap<>();
+		for (SevenZArchiveEntry entry : fileEntries) {
+			int folderIndex = solidFolderIndexes[entryIndexes.get(entry)];
+			if (folderIndex < 0) {
+				units.add(List.of(entry));
+			} else {
+				List<SevenZArchiveEntry> unit = folderUnits.get(folderIndex);
+				if (Objects.isNull(unit)) {
+					unit = new ArrayList<>();
+					folderUnits.put(folderIndex, unit);
+					units.add(unit);
+				}
+				unit.add(entry);
+			}
+		}
+		return units;
+	}
+
+	/**
+	 * 获取每个条目所在的固实数据块序号。
+	 * <p>
+	 * 固实数据块指包含多个条目且使用了 {@link SevenZMethod#COPY} 以外压缩方法的数据块，这类数据块只能从块首开始顺序解码。
+	 * commons-compress 未公开数据块信息，因此通过反射读取 {@code SevenZFile} 内部的数据块映射。
+	 * </p>
+	 *
+	 * @param sevenZFile 已打开的 SevenZFile 对象
+	 * @return 与 {@link SevenZFile#getEntries()} 顺序一致的数组，条目位于固实数据块中时为数据块序号，否则为 -1；
+	 * 无法读取数据块信息时返回 null
+	 * @since 2.2.0
+	 */
+	static int[] getSolidFolderIndexes(final SevenZFile sevenZFile) {
+		try {
+			Object archive = readField(sevenZFile, "archive");
+			Object[] folders = (Object[]) readField(archive, "folders");
+			int[] fileFolderIndexes = (int[]) readField(readField(archive, "streamMap"), "fileFolderIndex");
+
+			boolean[] solidFolders = new boolean[folders.length];
+			for (int i = 0; i < folders.length; i++) {
+				if ((int) readField(folders[i], "numUnpackSubStreams") > 1) {
+					for (Object coder : (Object[]) readField(folders[i], "coders")) {
+						if (!Arrays.equals((byte[]) readField(coder, "decompressionMethodId"), COPY_METHOD_ID)) {
+							solidFolders[i] = true;
+							break;
+						}
+					}
+				}
+			}
+
+			int[] solidFolderIndexes = new int[fileFolderIndexes.length];
+			for (int i = 0; i < fileFolderIndexes.length; i++) {
+				int folderIndex = fileFolderIndexes[i];
+				solidFolderIndexes[i] = folderIndex >= 0 && solidFolders[folderIndex] ? folderIndex : -1;
+			}
+			return solidFolderIndexes;
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * 读取对象的私有字段。
+	 *
+	 * @param target 对象
+	 * @param name   字段名称
+	 * @return 字段值
+	 * @throws ReflectiveOperationException 当字段不存在或无法访问时抛出
+	 * @since 2.2.0
+	 */
+	private static Object readField(final Object target, final String name) throws ReflectiveOperationException {
+		Field field = target.getClass().getDeclaredField(name);
+		if (!field.trySetAccessible()) {
+			throw new IllegalAccessException("无法访问字段: " + name);
+		}
+		return field.get(target);
+	}
+
 	/**
 	 * 从 {@code SevenZFile} 对象解压缩到指定目录。
 	 * <p>使用已初始化的 SevenZFile 对象将内容解压到指定目录，自动创建不存在的目录结构并保持原始文件层级关系。</p>
@@ -326,6 +504,48 @@ public class SevenZUtils {
 		ArchiveUtils.extract(sevenZFile.getEntries().iterator(), outputDir, sevenZFile::getInputStream);
 	}
 
+	/**
+	 * 从 {@code SevenZResource} 对象解压满足条件的条目到指定目录。
+	 * <p>通过 SevenZResource 打开 SevenZFile，参见 {@link #extract(SevenZFile, File, Predicate)}。</p>
+	 *
+	 * @param resource  7z 资源对象，必须非 null
+	 * @param outputDir 解压目标目录，会自动创建不存在的目录结构
+	 * @param filter    条目过滤条件，必须非 null，可使用 {@link ArchiveUtils#globFilter(String...)} 创建
+	 * @throws NullPointerException 当 {@code resource}、{@code outputDir} 或 {@code filter} 为 null 时抛出
+	 * @throws IOException          当资源已关闭、输出目录不可写、解压过程中发生 I/O 错误或磁盘空间不足时抛出
+	 * @since 2.2.0
+	 */
+	public static void extract(final SevenZResource resource, final File outputDir,
+	                           final Predicate<? super SevenZArchiveEntry> filter) throws IOException {
+		Validate.notNull(resource, "resource 不可为 null");
+
+		try (SevenZFile sevenZFile = resource.openSevenZFile()) {
+			extract(sevenZFile, outputDir, filter);
+		}
+	}
+
+	/**
+	 * 从 {@code SevenZFile} 对象解压满足条件的条目到指定目录。
+	 * <p>
+	 * 不包含满足条件条目的数据块不会被解压；固实压缩（solid）的数据块中，位于满足条件条目之前的条目仍需解码后跳过。
+	 * 满足条件的文件条目会自动创建父目录并保持原始文件层级关系。
+	 * </p>
+	 *
+	 * @param sevenZFile 已初始化的 SevenZFile 对象，必须处于可读取状态且不为 null
+	 * @param outputDir  解压目标目录，会自动创建不存在的目录结构
+	 * @param filter     条目过滤条件，必须非 null，可使用 {@link ArchiveUtils#globFilter(String...)} 创建
+	 * @throws NullPointerException     当 {@code sevenZFile}、{@code outputDir} 或 {@code filter} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code outputDir} 存在但不是目录时抛出
+	 * @throws IOException              当 sevenZFile 已关闭或不可读、输出目录不可写、解压过程中发生 I/O 错误或磁盘空间不足时抛出
+	 * @since 2.2.0
+	 */
+	public static void extract(final SevenZFile sevenZFile, final File outputDir,
+	                           final Predicate<? super SevenZArchiveEntry> filter) throws IOException {
+		Validate.notNull(sevenZFile, "sevenZFile 不可为 null");
+
+		ArchiveUtils.extract(sevenZFile.getEntries().iterator(), outputDir, sevenZFile::getInputStream, filter);
+	}
+
 	/**
 	 * 压缩文件/目录到 7z 文件。
 	 * <p>将单个文件或目录（递归包含子目录）压缩为 7z 格式文件。</p>
@@ -1289,4 +1509,35 @@ public class SevenZUtils {
 			outputFile.closeArchiveEntry();
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 基于独立 {@code SevenZFile} 的条目提取器。
+	 * <p>通过条目在归档中的序号，将调用线程读取的条目映射为当前 {@code SevenZFile} 中的对应条目。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	private static final class SevenZEntryExtractor implements ArchiveUtils.ArchiveEntryExtractor<SevenZArchiveEntry>, Closeable {
+		private final SevenZFile sevenZFile;
+		private final List<SevenZArchiveEntry> archiveEntries = new ArrayList<>();
+		private final Map<SevenZArchiveEntry, Integer> entryIndexes;
+
+		SevenZEntryExtractor(final SevenZFile sevenZFile, final Map<SevenZArchiveEntry, Integer> entryIndexes) {
+			this.sevenZFile = sevenZFile;
+			this.entryIndexes = entryIndexes;
+			sevenZFile.getEntries().forEach(archiveEntries::add);
+		}
+
+		@Override
+		public InputStream extractor(final SevenZArchiveEntry entry) throws IOException {
+			if (!entry.hasStream()) {
+				return InputStream.nullInputStream();
+			}
+			return sevenZFile.getInputStream(archiveEntries.get(entryIndexes.get(entry)));
+		}
+
+		@Override
+		public void close() throws IOException {
+			sevenZFile.close();
+		}
+	}
+}
@@ -34,7 +34,10 @@ import org.apache.commons.lang3.Validate;
 import java.io.*;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * TAR 压缩/解压工具类。
@@ -385,6 +388,139 @@ public class TarUtils {
 		}
 	}
 
+	/**
+	 * 从 {@code TarArchiveInputStream} 解压满足条件的条目到指定目录。
+	 * <p>不满足条件的条目会被跳过，参见 {@link ArchiveUtils#extract(org.apache.commons.compress.archivers.ArchiveInputStream, File, Predicate)}。</p>
+	 *
+	 * @param tarArchiveInputStream TAR 归档输入流，必须非 null
+	 * @param outputDir             解压目标目录，会自动创建不存在的目录结构
+	 * @param filter                条目过滤条件，必须非 null，可使用 {@link ArchiveUtils#globFilter(String...)} 创建
+	 * @throws NullPointerException     当 {@code tarArchiveInputStream}、{@code outputDir} 或 {@code filter} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code outputDir} 存在但不是目录时抛出
+	 * @throws IOException              当输入流不可读、输出目录不可写、解压过程中发生 I/O 错误或磁盘空间不足时抛出
+	 * @since 2.2.0
+	 */
+	public static void extract(final TarArchiveInputStream tarArchiveInputStream, final File outputDir,
+	                           final Predicate<? super TarArchiveEntry> filter) throws IOException {
+		ArchiveUtils.extract(tarArchiveInputStream, outputDir, filter);
+	}
+
+	/**
+	 * 从 {@code TarFile} 解压满足条件的条目到指定目录。
+	 * <p>不满足条件的条目不会被读取；满足条件的文件条目会自动创建父目录并保持原始文件层级关系。</p>
+	 *
+	 * @param tarFile   已初始化的 {@code TarFile}，必须可读且非空
+	 * @param outputDir 解压目标目录，会自动创建不存在的目录结构
+	 * @param filter    条目过滤条件，必须非 null，可使用 {@link ArchiveUtils#globFilter(String...)} 创建
+	 * @throws NullPointerException 当 {@code tarFile}、{@code outputDir} 或 {@code filter} 为 {@code null} 时抛出
+	 * @throws IOException          当 {@code tarFile} 已关闭或不可读、输出目录不可写、解压过程中发生 I/O 错误或磁盘空间不足时抛出
+	 * @since 2.2.0
+	 */
+	public static void extract(final TarFile tarFile, final File outputDir,
+	                           final Predicate<? super TarArchiveEntry> filter) throws IOException {
+		Validate.notNull(tarFile, "tarFile 不可为 null");
+
+		ArchiveUtils.extract(tarFile.getEntries().iterator(), outputDir, tarFile::getInputStream, filter);
+	}
+
+	/**
+	 * 从 {@code TarResource} 对象解压满足条件的条目到指定目录。
+	 * <p>通过 TarResource 打开 TarFile，参见 {@link #extract(TarFile, File, Predicate)}。</p>
+	 *
+	 * @param resource  TAR 资源对象，必须非 null
+	 * @param outputDir 解压目标目录，会自动创建不存在的目录结构
+	 * @param filter    条目过滤条件，必须非 null，可使用 {@link ArchiveUtils#globFilter(String...)} 创建
+	 * @throws NullPointerException 当 {@code resource}、{@code outputDir} 或 {@code filter} 为 null 时抛出
+	 * @throws IOException          当资源已关闭、输出目录不可写、解压过程中发生 I/O 错误或磁盘空间不足时抛出
+	 * @since 2.2.0
+	 */
+	public static void extract(final TarResource resource, final File outputDir,
+	                           final Predicate<? super TarArchiveEntry> filter) throws IOException {
+		Validate.notNull(resource, "resource 不可为 null");
+
+		try (TarFile tarFile = resource.openTarFile()) {
+			extract(tarFile, outputDir, filter);
+		}
+	}
+
+	/**
+	 * 使用多线程并行从 {@code TarResource} 对象解压缩到指定目录。
+	 * <p>方法内部创建固定大小的线程池，解压完成后自动关闭。参见 {@link #extractParallel(TarFile, File, ExecutorService, long, ArchiveUtils.ExtractProgressListener)}。</p>
+	 *
+	 * @param resource  TAR 资源对象，必须非 null
+	 * @param outputDir 解压目标目录，会自动创建不存在的目录结构
+	 * @param threads   解压线程数，必须大于 0
+	 * @throws NullPointerException     当 {@code resource} 或 {@code outputDir} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code outputDir} 存在但不是目录或 {@code threads} 不合法时抛出
+	 * @throws IOException              当资源已关闭、输出目录不可写、解压过程中发生 I/O 错误或解压线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	public static void extractParallel(final TarResource resource, final File outputDir, final int threads) throws IOException {
+		Validate.notNull(resource, "resource 不可为 null");
+
+		try (TarFile tarFile = resource.openTarFile()) {
+			extractParallel(tarFile, outputDir, threads);
+		}
+	}
+
+	/**
+	 * 使用多线程并行从 {@code TarFile} 解压到指定目录。
+	 * <p>方法内部创建固定大小的线程池，解压完成后自动关闭，在途字节上限为 {@link ArchiveUtils#DEFAULT_MAX_IN_FLIGHT_BYTES}。
+	 * 参见 {@link #extractParallel(TarFile, File, ExecutorService, long, ArchiveUtils.ExtractProgressListener)}。</p>
+	 *
+	 * @param tarFile   已初始化的 {@code TarFile}，必须可读且非空
+	 * @param outputDir 解压目标目录，会自动创建不存在的目录结构
+	 * @param threads   解压线程数，必须大于 0
+	 * @throws NullPointerException     当 {@code tarFile} 或 {@code outputDir} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code outputDir} 存在但不是目录或 {@code threads} 不合法时抛出
+	 * @throws IOException              当 {@code tarFile} 已关闭或不可读、输出目录不可写、解压过程中发生 I/O 错误或解压线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	public static void extractParallel(final TarFile tarFile, final File outputDir, final int threads) throws IOException {
+		Validate.isTrue(threads > 0, "threads 必须大于0");
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threads);
+		try {
+			extractParallel(tarFile, outputDir, executorService, ArchiveUtils.DEFAULT_MAX_IN_FLIGHT_BYTES, null);
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	/**
+	 * 使用调用方提供的线程池并行从 {@code TarFile} 解压到指定目录。
+	 * <p>
+	 * {@code TarFile} 的条目流通过“定位 + 读取”两步访问共享通道，不能被多个线程同时读取，
+	 * 因此各线程对归档的读取以 {@code tarFile} 为锁串行执行，而创建文件与写出数据并行执行。
+	 * TAR 条目本身不压缩，适用于输出端（磁盘写入、文件创建）为瓶颈的场景。
+	 * 目录条目由调用线程预先创建，已提交但未完成的条目未压缩大小之和将超过 {@code maxInFlightBytes} 时，调用线程暂停提交新任务。
+	 * </p>
+	 * <p>线程池不会被关闭，可在多次调用间复用；解压期间其他线程不应在未同步 {@code tarFile} 的情况下读取该归档。</p>
+	 *
+	 * @param tarFile          已初始化的 {@code TarFile}，必须可读且非空
+	 * @param outputDir        解压目标目录，会自动创建不存在的目录结构
+	 * @param executorService  执行解压任务的线程池，必须非 null
+	 * @param maxInFlightBytes 在途字节上限，必须大于 0
+	 * @param progressListener 进度监听器，可为 null
+	 * @throws NullPointerException     当 {@code tarFile}、{@code outputDir} 或 {@code executorService} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code outputDir} 存在但不是目录或 {@code maxInFlightBytes} 不合法时抛出
+	 * @throws IOException              当 {@code tarFile} 已关闭或不可读、输出目录不可写、解压过程中发生 I/O 错误或解压线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	public static void extractParallel(final TarFile tarFile, final File outputDir, final ExecutorService executorService,
+	                                   final long maxInFlightBytes,
+	                                   final ArchiveUtils.ExtractProgressListener progressListener) throws IOException {
+		Validate.notNull(tarFile, "tarFile 不可为 null");
+
+		ArchiveUtils.ArchiveEntryExtractor<TarArchiveEntry> extractor = entry -> {
+			synchronized (tarFile) {
+				return new LockedInputStream(tarFile.getInputStream(entry), tarFile);
+			}
+		};
+		ArchiveUtils.extractParallel(tarFile.getEntries(), outputDir, 0, () -> extractor, executorService,
+			maxInFlightBytes, progressListener);
+	}
+
 	/**
 	 * 压缩文件/目录到 TAR 文件。
 	 * <p>将单个文件或目录（递归包含子目录）压缩为 TAR 格式文件。</p>
@@ -658,4 +794,53 @@ public class TarUtils {
 			tarArchiveOutputStream.closeArchiveEntry();
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 读取时持有指定锁的输入流。
+	 *
+	 * @since 2.2.0
+	 */
+	private static final class LockedInputStream extends FilterInputStream {
+		private final Object lock;
+
+		LockedInputStream(final InputStream inputStream, final Object lock) {
+			super(inputStream);
+			this.lock = lock;
+		}
+
+		@Override
+		public int read() throws IOException {
+			synchronized (lock) {
+				return super.read();
+			}
+		}
+
+		@Override
+		public int read(final byte[] b, final int off, final int len) throws IOException {
+			synchronized (lock) {
+				return super.read(b, off, len);
+			}
+		}
+
+		@Override
+		public long skip(final long n) throws IOException {
+			synchronized (lock) {
+				return super.skip(n);
+			}
+		}
+
+		@Override
+		public int available() throws IOException {
+			synchronized (lock) {
+				return super.available();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			synchronized (lock) {
+				super.close();
+			}
+		}
+	}
+}
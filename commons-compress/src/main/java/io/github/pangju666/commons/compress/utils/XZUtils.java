@@ -16,9 +16,11 @@
 
 package io.github.pangju666.commons.compress.utils;
 
+import io.github.pangju666.commons.compress.io.ParallelXZOutputStream;
 import io.github.pangju666.commons.compress.io.resource.XZResource;
 import io.github.pangju666.commons.compress.lang.CompressConstants;
 import io.github.pangju666.commons.io.lang.IOConstants;
+import io.github.pangju666.commons.io.model.DataSize;
 import io.github.pangju666.commons.io.resource.IOResource;
 import io.github.pangju666.commons.io.utils.FileUtils;
 import io.github.pangju666.commons.io.utils.IOUtils;
@@ -28,9 +30,12 @@ import org.apache.commons.io.input.UnsynchronizedBufferedInputStream;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.Validate;
 import org.tukaani.xz.LZMA2Options;
+import org.tukaani.xz.SeekableXZInputStream;
 
 import java.io.*;
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * XZ 压缩/解压工具类。
@@ -43,6 +48,8 @@ import java.util.Objects;
  *   <li>格式校验：通过 Tika 进行 MIME 类型检测；文件/字节数组版本在调用前校验，输入流版本不预校验。</li>
  *   <li>性能优化：广泛使用缓冲与 {@link java.io.InputStream#transferTo(java.io.OutputStream)}。</li>
  *   <li>资源管理：采用 try-with-resources 自动释放内部创建的包装流。</li>
+ *   <li>并行压缩/解压：{@code compressParallel} 系列方法基于 {@link ParallelXZOutputStream} 多线程分块压缩，
+ *   {@code uncompressParallel} 系列方法基于 XZ 索引按数据块并行解压（自 2.2.0 起）。</li>
  * </ul>
  *
  * <h3>线程安全</h3>
@@ -80,6 +87,13 @@ import java.util.Objects;
  * @since 1.0.0
  */
 public class XZUtils {
+	/**
+	 * 并行解压支持的最大数据块大小（64MB），存在更大的数据块时回退为顺序解压
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int MAX_PARALLEL_BLOCK_SIZE = 64 * 1024 * 1024;
+
 	/**
 	 * 受保护的构造函数，防止实例化。
 	 */
@@ -154,6 +168,7 @@ public class XZUtils {
 	 * 将输入流压缩为 XZ 并写入到输出流（指定压缩选项）。
 	 * <p>
 	 * - 当 {@code outputStream} 已是 {@link XZCompressorOutputStream} 时，方法不会关闭该对象，仅调用 {@link XZCompressorOutputStream#finish()}。<br>
+	 * - 当 {@code outputStream} 已是 {@link ParallelXZOutputStream} 时，直接写入并由调用方负责结束与关闭，此时忽略 {@code options}。<br>
 	 * - 当方法内部创建包装流（如 {@link BufferedOutputStream}、{@link XZCompressorOutputStream}）时，这些包装流会在方法结束时关闭，可能导致底层输出流被关闭。
 	 * </p>
 	 *
@@ -169,12 +184,12 @@ public class XZUtils {
 		Validate.notNull(options, "options 不可为 null");
 		Validate.notNull(outputStream, "outputStream 不可为 null");
 
-		if (outputStream instanceof XZCompressorOutputStream compressorOutputStream) {
+		if (outputStream instanceof XZCompressorOutputStream || outputStream instanceof ParallelXZOutputStream) {
 			if (inputStream instanceof BufferedInputStream || inputStream instanceof UnsynchronizedBufferedInputStream) {
-				inputStream.transferTo(compressorOutputStream);
+				inputStream.transferTo(outputStream);
 			} else {
 				try (InputStream bufferedInputStream = IOUtils.unsynchronizedBuffer(inputStream)) {
-					bufferedInputStream.transferTo(compressorOutputStream);
+					bufferedInputStream.transferTo(outputStream);
 				}
 			}
 		} else {
@@ -194,6 +209,142 @@ public class XZUtils {
 		}
 	}
 
+	/**
+	 * 使用多线程并行将输入流压缩为 XZ 并写入到输出流。
+	 * <p>数据块大小为 {@link ParallelXZOutputStream#getDefaultBlockSize(LZMA2Options)}，方法内部创建固定大小的线程池，压缩完成后自动关闭。
+	 * 参见 {@link #compressParallel(InputStream, OutputStream, LZMA2Options, int, ExecutorService)}。</p>
+	 *
+	 * @param inputStream  待压缩的输入流，非空
+	 * @param outputStream 目标输出流，非空，方法结束时会被关闭
+	 * @param options      LZMA2 压缩选项，非空
+	 * @param threads      压缩线程数，必须大于 0
+	 * @throws NullPointerException     当 {@code inputStream}、{@code outputStream} 或 {@code options} 为 {@code null} 时抛出
+	 * @throws IllegalArgumentException 当 {@code threads} 不合法时抛出
+	 * @throws IOException              当读取/写入发生 I/O 错误、压缩选项不受支持或压缩线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	public static void compressParallel(final InputStream inputStream, final OutputStream outputStream,
+	                                    final LZMA2Options options, final int threads) throws IOException {
+		Validate.notNull(inputStream, "inputStream 不可为 null");
+		Validate.notNull(outputStream, "outputStream 不可为 null");
+		Validate.notNull(options, "options 不可为 null");
+
+		try (BufferedOutputStream bufferedOutputStream = IOUtils.buffer(outputStream);
+		     ParallelXZOutputStream compressorOutputStream = new ParallelXZOutputStream(bufferedOutputStream,
+			     options, ParallelXZOutputStream.getDefaultBlockSize(options), threads)) {
+			inputStream.transferTo(compressorOutputStream);
+		}
+	}
+
+	/**
+	 * 使用调用方提供的线程池并行将输入流压缩为 XZ 并写入到输出流。
+	 * <p>同时处于压缩中或等待写出的数据块不超过 {@code 2 * 可用处理器数} 个，
+	 * 参见 {@link #compressParallel(InputStream, OutputStream, LZMA2Options, int, ExecutorService, int)}。</p>
+	 *
+	 * @param inputStream     待压缩的输入流，非空
+	 * @param outputStream    目标输出流，非空，方法结束时会被关闭
+	 * @param options         LZMA2 压缩选项，非空
+	 * @param blockSize       数据块大小，范围为 {@link ParallelXZOutputStream#MIN_BLOCK_SIZE} 到 {@link ParallelXZOutputStream#MAX_BLOCK_SIZE}
+	 * @param executorService 执行压缩任务的线程池，非空
+	 * @throws NullPointerException     当 {@code inputStream}、{@code outputStream}、{@code options} 或 {@code executorService} 为 {@code null} 时抛出
+	 * @throws IllegalArgumentException 当 {@code blockSize} 不合法时抛出
+	 * @throws IOException              当读取/写入发生 I/O 错误、压缩选项不受支持或压缩线程被中断时抛出
+	 * @see ParallelXZOutputStream
+	 * @since 2.2.0
+	 */
+	public static void compressParallel(final InputStream inputStream, final OutputStream outputStream,
+	                                    final LZMA2Options options, final int blockSize,
+	                                    final ExecutorService executorService) throws IOException {
+		compressParallel(inputStream, outputStream, options, blockSize, executorService,
+			Runtime.getRuntime().availableProcessors() * 2);
+	}
+
+	/**
+	 * 使用调用方提供的线程池并行将输入流压缩为 XZ 并写入到输出流。
+	 * <p>
+	 * 输入按 {@code blockSize} 切分为数据块，每个数据块并行压缩为独立的 XZ 流后按顺序拼接，
+	 * 输出可被任意 xz 实现解压，并可通过 {@link #uncompressParallel(XZResource, OutputStream, int, DataSize)} 并行解压。
+	 * 同时处于压缩中或等待写出的数据块不超过 {@code maxPendingBlocks} 个，内存占用约为 {@code 2 * blockSize * maxPendingBlocks}
+	 * 加上各压缩线程的编码器内存；线程池由多个调用共享时可按各自的份额设置。线程池不会被关闭，可在多次调用间复用。
+	 * </p>
+	 *
+	 * @param inputStream      待压缩的输入流，非空
+	 * @param outputStream     目标输出流，非空，方法结束时会被关闭
+	 * @param options          LZMA2 压缩选项，非空
+	 * @param blockSize        数据块大小，范围为 {@link ParallelXZOutputStream#MIN_BLOCK_SIZE} 到 {@link ParallelXZOutputStream#MAX_BLOCK_SIZE}
+	 * @param executorService  执行压缩任务的线程池，非空
+	 * @param maxPendingBlocks 同时处于压缩中或等待写出的数据块数量上限，必须大于 0
+	 * @throws NullPointerException     当 {@code inputStream}、{@code outputStream}、{@code options} 或 {@code executorService} 为 {@code null} 时抛出
+	 * @throws IllegalArgumentException 当 {@code blockSize} 或 {@code maxPendingBlocks} 不合法时抛出
+	 * @throws IOException              当读取/写入发生 I/O 错误、压缩选项不受支持或压缩线程被中断时抛出
+	 * @see ParallelXZOutputStream
+	 * @since 2.2.0
+	 */
+	public static void compressParallel(final InputStream inputStream, final OutputStream outputStream,
+	                                    final LZMA2Options options, final int blockSize,
+	                                    final ExecutorService executorService, final int maxPendingBlocks) throws IOException {
+		Validate.notNull(inputStream, "inputStream 不可为 null");
+		Validate.notNull(outputStream, "outputStream 不可为 null");
+
+		try (BufferedOutputStream bufferedOutputStream = IOUtils.buffer(outputStream);
+		     ParallelXZOutputStream compressorOutputStream = new ParallelXZOutputStream(bufferedOutputStream,
+			     options, blockSize, executorService, maxPendingBlocks)) {
+			inputStream.transferTo(compressorOutputStream);
+		}
+	}
+
+	/**
+	 * 使用多线程并行压缩 IOResource 到文件。
+	 * <p>会自动创建父目录并覆盖已存在文件。参见 {@link #compressParallel(InputStream, OutputStream, LZMA2Options, int)}。</p>
+	 *
+	 * @param resource   IOResource 对象，必须非 null
+	 * @param outputFile 输出文件，必须非 null
+	 * @param options    LZMA2 压缩选项，非空
+	 * @param threads    压缩线程数，必须大于 0
+	 * @throws NullPointerException     当 {@code resource}、{@code outputFile} 或 {@code options} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code threads} 不合法时抛出
+	 * @throws IOException              当读取资源、文件写入过程中发生 I/O 错误或压缩线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	public static void compressParallel(final IOResource resource, final File outputFile, final LZMA2Options options,
+	                                    final int threads) throws IOException {
+		Validate.notNull(resource, "resource 不可为 null");
+		FileUtils.checkFileIfExist(outputFile, "outputFile 不可为 null");
+
+		FileUtils.forceMkdirParent(outputFile);
+
+		try (InputStream inputStream = resource.newBufferedInputStream();
+		     OutputStream outputStream = FileUtils.openOutputStream(outputFile)) {
+			compressParallel(inputStream, outputStream, options, threads);
+		}
+	}
+
+	/**
+	 * 使用多线程并行将输入流压缩到文件。
+	 * <p>会自动创建父目录并覆盖已存在文件。参见 {@link #compressParallel(InputStream, OutputStream, LZMA2Options, int)}。</p>
+	 *
+	 * @param inputStream 待压缩的输入流，非空
+	 * @param outputFile  输出文件，必须非 null
+	 * @param options     LZMA2 压缩选项，非空
+	 * @param threads     压缩线程数，必须大于 0
+	 * @throws NullPointerException     当 {@code inputStream}、{@code outputFile} 或 {@code options} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code threads} 不合法时抛出
+	 * @throws IOException              当读取、文件写入过程中发生 I/O 错误或压缩线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	public static void compressParallel(final InputStream inputStream, final File outputFile, final LZMA2Options options,
+	                                    final int threads) throws IOException {
+		Validate.notNull(inputStream, "inputStream 不可为 null");
+		FileUtils.checkFileIfExist(outputFile, "outputFile 不可为 null");
+
+		FileUtils.forceMkdirParent(outputFile);
+
+		try (OutputStream outputStream = FileUtils.openOutputStream(outputFile)) {
+			compressParallel(inputStream, outputStream, options, threads);
+		}
+	}
+
+
 	/**
 	 * 压缩 IOResource 到输出流。
 	 * <p>从 IOResource 读取数据并压缩为 XZ 格式写入输出流。方法会自动关闭资源打开的输入流和创建的输出流。</p>
@@ -415,6 +566,140 @@ public class XZUtils {
 		}
 	}
 
+	/**
+	 * 使用多线程并行从 {@code XZResource} 解压到输出流。
+	 * <p>方法内部创建固定大小的线程池，解压完成后自动关闭。
+	 * 参见 {@link #uncompressParallel(XZResource, OutputStream, ExecutorService, int, DataSize)}。</p>
+	 *
+	 * @param resource       XZResource 对象，必须非 null
+	 * @param outputStream   输出流，必须非 null
+	 * @param threads        解压线程数，必须大于 0
+	 * @param maxMemoryLimit 单个解码器的最大内存限制，必须非 null，小于等于 0 KB 时不限制；总内存占用约为 {@code threads} 倍
+	 * @throws NullPointerException     当 {@code resource}、{@code outputStream} 或 {@code maxMemoryLimit} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code threads} 不合法时抛出
+	 * @throws IOException              当资源已关闭、解压过程中发生 I/O 错误、超出内存限制或解压线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	public static void uncompressParallel(final XZResource resource, final OutputStream outputStream,
+	                                      final int threads, final DataSize maxMemoryLimit) throws IOException {
+		Validate.isTrue(threads > 0, "threads 必须大于0");
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threads);
+		try {
+			uncompressParallel(resource, outputStream, executorService, threads, maxMemoryLimit);
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	/**
+	 * 使用多线程并行从 {@code XZResource} 解压到文件。
+	 * <p>会自动创建父目录并覆盖已存在文件。参见 {@link #uncompressParallel(XZResource, OutputStream, int, DataSize)}。</p>
+	 *
+	 * @param resource       XZResource 对象，必须非 null
+	 * @param outputFile     输出文件，必须非 null
+	 * @param threads        解压线程数，必须大于 0
+	 * @param maxMemoryLimit 单个解码器的最大内存限制，必须非 null，小于等于 0 KB 时不限制；总内存占用约为 {@code threads} 倍
+	 * @throws NullPointerException     当 {@code resource}、{@code outputFile} 或 {@code maxMemoryLimit} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code threads} 不合法时抛出
+	 * @throws IOException              当资源已关闭、文件写入、解压过程中发生 I/O 错误、超出内存限制或解压线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	public static void uncompressParallel(final XZResource resource, final File outputFile,
+	                                      final int threads, final DataSize maxMemoryLimit) throws IOException {
+		Validate.notNull(resource, "resource 不可为 null");
+		FileUtils.checkFileIfExist(outputFile, "outputFile 不可为 null");
+
+		FileUtils.forceMkdirParent(outputFile);
+
+		try (OutputStream outputStream = FileUtils.openOutputStream(outputFile)) {
+			uncompressParallel(resource, outputStream, threads, maxMemoryLimit);
+		}
+	}
+
+	/**
+	 * 使用调用方提供的线程池并行从 {@code XZResource} 解压到输出流。
+	 * <p>
+	 * 通过 {@link XZResource#openSeekableXZInputStream(DataSize)} 读取 XZ 索引，将每个数据块作为一个解压任务，
+	 * 最多 {@code parallelism} 个任务同时使用各自的 {@link SeekableXZInputStream} 定位并解码数据块，结果按顺序写入输出流。
+	 * 每个解码器都受 {@code maxMemoryLimit} 限制，总内存占用约为 {@code parallelism} 倍。
+	 * 解压失败时未开始的任务会被取消，仍在执行的任务使用的解码器由该任务结束后自行关闭，不会在使用中被关闭。
+	 * </p>
+	 * <p>
+	 * 仅包含一个数据块（如单线程 xz 压缩的结果）或存在大于 {@value #MAX_PARALLEL_BLOCK_SIZE} 字节的数据块时，
+	 * 无法并行解压，回退为顺序解压。使用 {@link #compressParallel(InputStream, OutputStream, LZMA2Options, int)}
+	 * 或 {@code xz -T} 压缩的文件包含多个数据块。线程池不会被关闭，可在多次调用间复用。
+	 * </p>
+	 *
+	 * @param resource        XZResource 对象，必须非 null
+	 * @param outputStream    输出流，必须非 null，方法不会关闭该流
+	 * @param executorService 执行解压任务的线程池，必须非 null
+	 * @param parallelism     同时解压的数据块数量上限，必须大于 0
+	 * @param maxMemoryLimit  单个解码器的最大内存限制，必须非 null，小于等于 0 KB 时不限制
+	 * @throws NullPointerException     当 {@code resource}、{@code outputStream}、{@code executorService} 或 {@code maxMemoryLimit} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code parallelism} 不合法时抛出
+	 * @throws IOException              当资源已关闭、解压过程中发生 I/O 错误、超出内存限制或解压线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	public static void uncompressParallel(final XZResource resource, final OutputStream outputStream,
+	                                      final ExecutorService executorService, final int parallelism,
+	                                      final DataSize maxMemoryLimit) throws IOException {
+		Validate.notNull(resource, "resource 不可为 null");
+		Validate.notNull(outputStream, "outputStream 不可为 null");
+		Validate.notNull(executorService, "executorService 不可为 null");
+		Validate.notNull(maxMemoryLimit, "maxMemoryLimit 不可为 null");
+		Validate.isTrue(parallelism > 0, "parallelism 必须大于0");
+
+		// 空闲的解码器，正在使用的解码器由持有它的任务负责归还或关闭
+		BlockingQueue<SeekableXZInputStream> idleDecoders = new ArrayBlockingQueue<>(parallelism);
+		// 是否已结束解压（由 idleDecoders 的锁保护），结束后归还的解码器直接关闭
+		AtomicBoolean finished = new AtomicBoolean(false);
+		Deque<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+		try {
+			SeekableXZInputStream indexDecoder = resource.openSeekableXZInputStream(maxMemoryLimit);
+			idleDecoders.add(indexDecoder);
+
+			int blockCount = indexDecoder.getBlockCount();
+			if (blockCount <= 1 || parallelism == 1 || indexDecoder.getLargestBlockSize() > MAX_PARALLEL_BLOCK_SIZE) {
+				indexDecoder.transferTo(outputStream);
+				return;
+			}
+
+			for (int i = 0; i < blockCount; i++) {
+				final int blockNumber = i;
+				final int blockSize = (int) indexDecoder.getBlockSize(blockNumber);
+				pendingBlocks.addLast(executorService.submit(() -> {
+					SeekableXZInputStream decoder = idleDecoders.poll();
+					if (Objects.isNull(decoder)) {
+						decoder = resource.openSeekableXZInputStream(maxMemoryLimit);
+					}
+					try {
+						decoder.seekToBlock(blockNumber);
+						return decoder.readNBytes(blockSize);
+					} finally {
+						releaseDecoder(decoder, idleDecoders, finished);
+					}
+				}));
+				while (pendingBlocks.size() >= parallelism || (!pendingBlocks.isEmpty() && pendingBlocks.peekFirst().isDone())) {
+					writeUncompressedBlock(pendingBlocks.pollFirst(), outputStream);
+				}
+			}
+			while (!pendingBlocks.isEmpty()) {
+				writeUncompressedBlock(pendingBlocks.pollFirst(), outputStream);
+			}
+		} finally {
+			pendingBlocks.forEach(future -> future.cancel(true));
+			synchronized (idleDecoders) {
+				finished.set(true);
+				SeekableXZInputStream decoder;
+				while (Objects.nonNull(decoder = idleDecoders.poll())) {
+					IOUtils.closeQuietly(decoder);
+				}
+			}
+		}
+	}
+
+
 	/**
 	 * 从输入流解压 XZ 内容到输出流。
 	 * <p>
@@ -519,4 +804,35 @@ public class XZUtils {
 			compressorInputStream.transferTo(bufferedOutputStream);
 		}
 	}
+
+	/**
+	 * 归还解码器，解压已结束或空闲解码器已满时直接关闭
+	 *
+	 * @param decoder      解码器
+	 * @param idleDecoders 空闲的解码器
+	 * @param finished     是否已结束解压
+	 */
+	private static void releaseDecoder(final SeekableXZInputStream decoder,
+	                                   final BlockingQueue<SeekableXZInputStream> idleDecoders,
+	                                   final AtomicBoolean finished) {
+		synchronized (idleDecoders) {
+			if (finished.get() || !idleDecoders.offer(decoder)) {
+				IOUtils.closeQuietly(decoder);
+			}
+		}
+	}
+
+	private static void writeUncompressedBlock(final Future<byte[]> future, final OutputStream outputStream) throws IOException {
+		try {
+			outputStream.write(future.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("并行解压被中断");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			throw new IOException(e.getCause());
+		}
+	}
 }
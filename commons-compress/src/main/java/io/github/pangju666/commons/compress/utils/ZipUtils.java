@@ -18,6 +18,7 @@ package io.github.pangju666.commons.compress.utils;
 
 import io.github.pangju666.commons.compress.io.resource.ZipResource;
 import io.github.pangju666.commons.compress.lang.CompressConstants;
+import io.github.pangju666.commons.compress.model.ArchiveManifest;
 import io.github.pangju666.commons.io.lang.IOConstants;
 import io.github.pangju666.commons.io.model.DataSize;
 import io.github.pangju666.commons.io.utils.FileUtils;
@@ -25,6 +26,8 @@ import io.github.pangju666.commons.io.utils.IOUtils;
 import net.lingala.zip4j.model.ZipParameters;
 import net.lingala.zip4j.model.enums.EncryptionMethod;
 import org.apache.commons.compress.archivers.ArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.DefaultBackingStoreSupplier;
+import org.apache.commons.compress.archivers.zip.ParallelScatterZipCreator;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
@@ -36,10 +39,12 @@ import org.apache.commons.lang3.Validate;
 
 import java.io.*;
 import java.nio.channels.SeekableByteChannel;
-import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.zip.Deflater;
 
 /**
@@ -54,6 +59,7 @@ import java.util.zip.Deflater;
  *   <li><strong>性能优化</strong>：广泛使用缓冲流与流式传输，适合大文件。</li>
  *   <li><strong>资源管理</strong>：使用 try-with-resources 自动释放资源。</li>
  *   <li><strong>分片压缩</strong>：支持将大文件压缩为分片 ZIP 文件，便于传输和存储。</li>
+ *   <li><strong>增量压缩</strong>：基于清单与上一次的归档，未变化的文件原样复制已压缩数据，仅重新压缩变化的文件。</li>
  * </ul>
  *
  * <h3>线程安全</h3>
@@ -103,6 +109,9 @@ import java.util.zip.Deflater;
  *
  * // 11) 分片压缩加密 ZIP 文件
  * ZipUtils.archiveSplit(new File("largefile.txt"), new File("encrypted-split.zip"), "password");
+ *
+ * // 12) 增量压缩目录（未变化的文件直接复制上一次归档中的压缩数据，清单保存在 backup.zip.manifest）
+ * ZipUtils.archiveIncremental(new File("inputDir"), new File("backup.zip"));
  * }</pre>
  *
  * @author pangju666
@@ -136,6 +145,13 @@ public class ZipUtils {
 	 * @since 2.1.0
 	 */
 	protected static final long MAX_SPLIT_SIZE = DataSize.ofGigabytes(4).toBytes();
+	/**
+	 * 增量压缩清单文件后缀。
+	 * <p>原地增量压缩时，清单保存在归档文件路径加该后缀的文件中。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	protected static final String MANIFEST_FILE_SUFFIX = ".manifest";
 
 	/**
 	 * 受保护的构造函数，防止实例化。
@@ -487,6 +503,99 @@ public class ZipUtils {
 		ArchiveUtils.extract(zipFile.getEntries().asIterator(), outputDir, zipFile::getInputStream);
 	}
 
+	/**
+	 * 从 {@code ZipResource} 对象解压缩满足条件的条目到指定目录。
+	 * <p>通过 ZipResource 打开 ZipFile，只读取中央目录并解压满足条件的条目，其余条目的数据不会被读取。
+	 * 参见 {@link #extract(ZipFile, File, Predicate)}。</p>
+	 *
+	 * @param resource  ZIP 资源对象，必须非 null
+	 * @param outputDir 解压目标目录，会自动创建不存在的目录结构
+	 * @param filter    条目过滤条件，必须非 null，可使用 {@link ArchiveUtils#globFilter(String...)} 创建
+	 * @throws NullPointerException 当 {@code resource}、{@code outputDir} 或 {@code filter} 为 null 时抛出
+	 * @throws IOException          当资源已关闭、输出目录不可写、解压过程中发生 I/O 错误或磁盘空间不足时抛出
+	 * @since 2.2.0
+	 */
+	public static void extract(final ZipResource resource, final File outputDir,
+	                           final Predicate<? super ZipArchiveEntry> filter) throws IOException {
+		Validate.notNull(resource, "resource 不可为 null");
+
+		try (ZipFile zipFile = resource.openZipFile()) {
+			extract(zipFile, outputDir, filter);
+		}
+	}
+
+	/**
+	 * 从 {@code ZipFile} 对象解压缩满足条件的条目到指定目录。
+	 * <p>不满足条件的条目不会被解压；满足条件的文件条目会自动创建父目录并保持原始文件层级关系。</p>
+	 *
+	 * @param zipFile   已初始化的 ZipFile 对象，必须处于可读取状态且不为 null
+	 * @param outputDir 解压目标目录，会自动创建不存在的目录结构
+	 * @param filter    条目过滤条件，必须非 null，可使用 {@link ArchiveUtils#globFilter(String...)} 创建
+	 * @throws NullPointerException     当 {@code zipFile}、{@code outputDir} 或 {@code filter} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code outputDir} 存在但不是目录时抛出
+	 * @throws IOException              当 zipFile 已关闭或不可读、输出目录不可写、解压过程中发生 I/O 错误或磁盘空间不足时抛出
+	 * @since 2.2.0
+	 */
+	public static void extract(final ZipFile zipFile, final File outputDir,
+	                           final Predicate<? super ZipArchiveEntry> filter) throws IOException {
+		Validate.notNull(zipFile, "zipFile 不可为 null");
+
+		ArchiveUtils.extract(zipFile.getEntries().asIterator(), outputDir, zipFile::getInputStream, filter);
+	}
+
+	/**
+	 * 使用多线程并行从 {@code ZipFile} 对象解压缩到指定目录。
+	 * <p>方法内部创建固定大小的线程池，解压完成后自动关闭，在途字节上限为 {@link ArchiveUtils#DEFAULT_MAX_IN_FLIGHT_BYTES}。
+	 * 参见 {@link #extractParallel(ZipFile, File, ExecutorService, long, ArchiveUtils.ExtractProgressListener)}。</p>
+	 *
+	 * @param zipFile   已初始化的 ZipFile 对象，必须处于可读取状态且不为 null
+	 * @param outputDir 解压目标目录，会自动创建不存在的目录结构
+	 * @param threads   解压线程数，必须大于 0
+	 * @throws NullPointerException     当 {@code zipFile} 或 {@code outputDir} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code outputDir} 存在但不是目录或 {@code threads} 不合法时抛出
+	 * @throws IOException              当输出目录不可写、解压过程中发生 I/O 错误或解压线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	public static void extractParallel(final ZipFile zipFile, final File outputDir, final int threads) throws IOException {
+		Validate.isTrue(threads > 0, "threads 必须大于0");
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threads);
+		try {
+			extractParallel(zipFile, outputDir, executorService, ArchiveUtils.DEFAULT_MAX_IN_FLIGHT_BYTES, null);
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	/**
+	 * 使用调用方提供的线程池并行从 {@code ZipFile} 对象解压缩到指定目录。
+	 * <p>
+	 * {@link ZipFile#getInputStream(ZipArchiveEntry)} 基于通道的定位读取，可被多个线程同时调用，
+	 * 因此每个文件条目作为独立任务提交到线程池，由各线程直接从中央目录记录的偏移处解压并写出。
+	 * 目录条目由调用线程预先创建，已提交但未完成的条目未压缩大小之和将超过 {@code maxInFlightBytes} 时，调用线程暂停提交新任务。
+	 * </p>
+	 * <p>线程池不会被关闭，可在多次调用间复用。</p>
+	 *
+	 * @param zipFile          已初始化的 ZipFile 对象，必须处于可读取状态且不为 null
+	 * @param outputDir        解压目标目录，会自动创建不存在的目录结构
+	 * @param executorService  执行解压任务的线程池，必须非 null
+	 * @param maxInFlightBytes 在途字节上限，必须大于 0
+	 * @param progressListener 进度监听器，可为 null
+	 * @throws NullPointerException     当 {@code zipFile}、{@code outputDir} 或 {@code executorService} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code outputDir} 存在但不是目录或 {@code maxInFlightBytes} 不合法时抛出
+	 * @throws IOException              当输出目录不可写、解压过程中发生 I/O 错误或解压线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	public static void extractParallel(final ZipFile zipFile, final File outputDir, final ExecutorService executorService,
+	                                   final long maxInFlightBytes,
+	                                   final ArchiveUtils.ExtractProgressListener progressListener) throws IOException {
+		Validate.notNull(zipFile, "zipFile 不可为 null");
+
+		ArchiveUtils.ArchiveEntryExtractor<ZipArchiveEntry> extractor = zipFile::getInputStream;
+		ArchiveUtils.extractParallel(Collections.list(zipFile.getEntries()), outputDir, 0, () -> extractor,
+			executorService, maxInFlightBytes, progressListener);
+	}
+
 	/**
 	 * 从 {@code ZipResource} 对象解压缩加密的 ZIP 文件到指定目录。
 	 * <p>通过 ZipResource 打开加密的 ZIP 文件并将内容解压到指定目录，自动创建不存在的目录结构并保持原始文件层级关系。</p>
@@ -1146,6 +1255,222 @@ public class ZipUtils {
 		}
 	}
 
+	/**
+	 * 使用多线程并行压缩文件/目录到 ZIP 文件。
+	 * <p>使用默认压缩级别和 {@link Runtime#availableProcessors()} 个压缩线程，参见 {@link #archiveParallel(Collection, OutputStream, int, Consumer, ExecutorService)}。</p>
+	 *
+	 * @param inputFile  要压缩的文件或目录，必须存在且可读
+	 * @param outputFile 输出 ZIP 文件路径，会自动创建父目录并覆盖已存在文件
+	 * @throws NullPointerException     当 {@code outputFile} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code inputFile} 为 null 或不存在时抛出
+	 * @throws IOException              当文件读取失败、写入失败或压缩线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	public static void archiveParallel(final File inputFile, final File outputFile) throws IOException {
+		archiveParallel(inputFile, outputFile, Deflater.DEFAULT_COMPRESSION, null, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * 使用多线程并行压缩文件/目录到 ZIP 文件，指定压缩级别、自定义 ZIP 条目处理器和压缩线程数。
+	 * <p>参见 {@link #archiveParallel(Collection, OutputStream, int, Consumer, ExecutorService)}。</p>
+	 *
+	 * @param inputFile     要压缩的文件或目录，必须存在且可读
+	 * @param outputFile    输出 ZIP 文件路径，会自动创建父目录并覆盖已存在文件
+	 * @param level         压缩级别（-1-9），0 表示无压缩，9 表示最高压缩
+	 * @param entryConsumer ZIP 条目处理器，可为 null
+	 * @param threads       压缩线程数，必须大于 0
+	 * @throws NullPointerException     当 {@code outputFile} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code inputFile} 为 null 或不存在、{@code level} 或 {@code threads} 不合法时抛出
+	 * @throws IOException              当文件读取失败、写入失败或压缩线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	public static void archiveParallel(final File inputFile, final File outputFile, final int level,
+	                                   final Consumer<ZipArchiveEntry> entryConsumer, final int threads) throws IOException {
+		FileUtils.check(inputFile, "inputFile 不可为 null");
+		archiveParallel(List.of(inputFile), outputFile, level, entryConsumer, threads);
+	}
+
+	/**
+	 * 使用多线程并行批量压缩文件/目录到 ZIP 文件，指定压缩级别、自定义 ZIP 条目处理器和压缩线程数。
+	 * <p>方法内部创建固定大小的线程池，压缩完成后自动关闭。参见 {@link #archiveParallel(Collection, OutputStream, int, Consumer, ExecutorService)}。</p>
+	 *
+	 * @param inputFiles    要压缩的文件集合，必须非空且所有文件必须存在
+	 * @param outputFile    输出 ZIP 文件路径，会自动创建父目录并覆盖已存在文件
+	 * @param level         压缩级别（-1-9），0 表示无压缩，9 表示最高压缩
+	 * @param entryConsumer ZIP 条目处理器，可为 null
+	 * @param threads       压缩线程数，必须大于 0
+	 * @throws NullPointerException     当 {@code outputFile} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code inputFiles} 为空或包含 null 或不存在的文件、{@code level} 或 {@code threads} 不合法时抛出
+	 * @throws IOException              当文件读取失败、写入失败或压缩线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	public static void archiveParallel(final Collection<File> inputFiles, final File outputFile, final int level,
+	                                   final Consumer<ZipArchiveEntry> entryConsumer, final int threads) throws IOException {
+		FileUtils.checkFileIfExist(outputFile, "outputFile 不可为 null");
+		Validate.isTrue(threads > 0, "threads 必须大于0");
+
+		FileUtils.forceMkdirParent(outputFile);
+
+		try (BufferedOutputStream bufferedOutputStream = FileUtils.newBufferedOutputStream(outputFile);
+		     ZipArchiveOutputStream zipArchiveOutputStream = new ZipArchiveOutputStream(bufferedOutputStream)) {
+			archiveParallel(inputFiles, zipArchiveOutputStream, level, entryConsumer,
+				Executors.newFixedThreadPool(threads), true);
+		}
+	}
+
+	/**
+	 * 使用多线程并行批量压缩文件/目录到输出流，使用调用方提供的线程池。
+	 * <p>
+	 * 基于 {@link ParallelScatterZipCreator} 实现：调用线程按与 {@link #archive(Collection, OutputStream, int, Consumer)}
+	 * 相同的顺序遍历目录、创建条目并调用 {@code entryConsumer}，各条目的 Deflate 压缩提交到线程池并行执行，
+	 * 压缩结果先暂存到临时文件，最后按提交顺序以原始数据方式合并到输出流中。
+	 * </p>
+	 * <p>
+	 * 条目顺序、条目名称和内容与单线程压缩一致；由于合并时已知每个条目的大小和 CRC，输出不再包含数据描述符，
+	 * 因此字节内容与单线程模式并不完全相同。条目顺序依赖线程池按提交顺序（FIFO）取出任务，推荐使用
+	 * {@link java.util.concurrent.ThreadPoolExecutor}；线程池不会被关闭，可在多次调用间复用。
+	 * </p>
+	 *
+	 * @param inputFiles      要压缩的文件集合，必须非空且所有文件必须存在
+	 * @param outputStream    输出流对象，必须可写且不为 null（方法不会自动关闭此流）
+	 * @param level           压缩级别（-1-9），0 表示无压缩，9 表示最高压缩
+	 * @param entryConsumer   ZIP 条目处理器，可为 null；若处理器未设置压缩方法，则默认使用 {@link ZipArchiveEntry#DEFLATED}
+	 * @param executorService 执行压缩任务的线程池，必须非 null
+	 * @throws NullPointerException     当 {@code outputStream} 或 {@code executorService} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code inputFiles} 为空或包含 null 或不存在的文件、{@code level} 不合法时抛出
+	 * @throws IOException              当文件读取失败、写入失败或压缩线程被中断时抛出
+	 * @see ParallelScatterZipCreator
+	 * @since 2.2.0
+	 */
+	public static void archiveParallel(final Collection<File> inputFiles, final OutputStream outputStream, final int level,
+	                                   final Consumer<ZipArchiveEntry> entryConsumer,
+	                                   final ExecutorService executorService) throws IOException {
+		Validate.notNull(outputStream, "outputStream 不可为 null");
+		Validate.notNull(executorService, "executorService 不可为 null");
+
+		if (outputStream instanceof ZipArchiveOutputStream zipArchiveOutputStream) {
+			archiveParallel(inputFiles, zipArchiveOutputStream, level, entryConsumer, executorService, false);
+		} else {
+			try (BufferedOutputStream bufferedOutputStream = IOUtils.buffer(outputStream);
+			     ZipArchiveOutputStream zipArchiveOutputStream = new ZipArchiveOutputStream(bufferedOutputStream)) {
+				archiveParallel(inputFiles, zipArchiveOutputStream, level, entryConsumer, executorService, false);
+			}
+		}
+	}
+
+	/**
+	 * 增量压缩文件/目录到 ZIP 文件，原地更新归档。
+	 * <p>参见 {@link #archiveIncremental(Collection, File, int)}。</p>
+	 *
+	 * @param inputFile   要压缩的文件或目录，必须存在且可读
+	 * @param archiveFile ZIP 归档文件，不存在时执行完整压缩
+	 * @throws NullPointerException     当 {@code inputFile} 或 {@code archiveFile} 为 null 时抛出
+	 * @throws IllegalArgumentException 当清单文件无效时抛出
+	 * @throws IOException              当 {@code inputFile} 不存在、文件读取失败或写入失败时抛出
+	 * @since 2.2.0
+	 */
+	public static void archiveIncremental(final File inputFile, final File archiveFile) throws IOException {
+		FileUtils.check(inputFile, "inputFile 不可为 null");
+		archiveIncremental(List.of(inputFile), archiveFile, Deflater.DEFAULT_COMPRESSION);
+	}
+
+	/**
+	 * 增量批量压缩文件/目录到 ZIP 文件，原地更新归档。
+	 * <p>
+	 * 清单保存在归档文件旁的 {@code <归档文件名>.manifest} 文件中。归档文件存在时以其作为上一次的归档（清单文件存在时一并使用）
+	 * 执行增量压缩，否则执行完整压缩。新归档与清单先写入同目录下的临时文件，全部写入完成后依次替换原归档与原清单；
+	 * 压缩或写入清单失败时原归档与清单保持不变。参见 {@link #archiveIncremental(Collection, File, ArchiveManifest, File, int)}。
+	 * </p>
+	 *
+	 * @param inputFiles  要压缩的文件集合，必须非空且所有文件必须存在
+	 * @param archiveFile ZIP 归档文件，不存在时执行完整压缩
+	 * @param level       压缩级别（-1-9），仅作用于重新压缩的条目
+	 * @throws NullPointerException     当 {@code archiveFile} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code inputFiles} 为空或包含 null 或不存在的文件、清单文件无效时抛出
+	 * @throws IOException              当文件读取失败或写入失败时抛出
+	 * @since 2.2.0
+	 */
+	public static void archiveIncremental(final Collection<File> inputFiles, final File archiveFile,
+	                                      final int level) throws IOException {
+		FileUtils.checkFileIfExist(archiveFile, "archiveFile 不可为 null");
+
+		File manifestFile = new File(archiveFile.getPath() + MANIFEST_FILE_SUFFIX);
+		File previousArchive = archiveFile.exists() ? archiveFile : null;
+		ArchiveManifest previousManifest = Objects.nonNull(previousArchive) && manifestFile.exists() ?
+			ArchiveManifest.load(manifestFile) : null;
+
+		File tmpFile = new File(archiveFile.getAbsoluteFile().getParentFile(),
+			archiveFile.getName() + "-" + UUID.randomUUID() + ".tmp");
+		File tmpManifestFile = new File(archiveFile.getAbsoluteFile().getParentFile(),
+			manifestFile.getName() + "-" + UUID.randomUUID() + ".tmp");
+		try {
+			ArchiveManifest manifest = archiveIncremental(inputFiles, previousArchive, previousManifest, tmpFile, level);
+			manifest.save(tmpManifestFile);
+			Files.move(tmpFile.toPath(), archiveFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			Files.move(tmpManifestFile.toPath(), manifestFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			FileUtils.deleteQuietly(tmpFile);
+			FileUtils.deleteQuietly(tmpManifestFile);
+		}
+	}
+
+	/**
+	 * 基于上一次的归档与清单，增量批量压缩文件/目录到 ZIP 文件。
+	 * <p>
+	 * 按与 {@link #archive(Collection, File, int)} 相同的顺序与命名规则遍历输入文件，对每个文件：
+	 * <ul>
+	 *   <li>上一次的归档中存在大小相同的同名条目，且清单记录的大小、最后修改时间与 CRC32 均一致时，视为未变化：
+	 *   不读取文件，通过 {@link ZipArchiveOutputStream#addRawArchiveEntry(ZipArchiveEntry, InputStream)} 原样复制已压缩的数据。</li>
+	 *   <li>上一次的归档中存在大小相同的同名条目，但清单缺失或修改时间不一致时，计算文件的 CRC32，与条目一致时同样原样复制
+	 *   （仅更新条目的修改时间），否则重新压缩。</li>
+	 *   <li>其余文件按 {@code level} 重新压缩。</li>
+	 * </ul>
+	 * 目录条目总是重新写入。原样复制的条目保留上一次的压缩方式与压缩级别。
+	 * 与 rsync 类似，大小与修改时间都未变化的文件被视为未变化，不会校验其内容。
+	 * </p>
+	 *
+	 * @param inputFiles       要压缩的文件集合，必须非空且所有文件必须存在
+	 * @param previousArchive  上一次的 ZIP 归档，为 null 时执行完整压缩
+	 * @param previousManifest 上一次归档的清单，可为 null（此时所有大小相同的文件都需要计算 CRC32）
+	 * @param outputFile       输出 ZIP 文件路径，会自动创建父目录并覆盖已存在文件，不可与 {@code previousArchive} 相同
+	 * @param level            压缩级别（-1-9），仅作用于重新压缩的条目
+	 * @return 新归档的清单，可保存后用于下一次增量压缩
+	 * @throws NullPointerException     当 {@code outputFile} 为 null 时抛出
+	 * @throws IllegalArgumentException 当 {@code inputFiles} 为空或包含 null 或不存在的文件、{@code previousArchive} 不是文件或与
+	 *                                  {@code outputFile} 相同时抛出
+	 * @throws IOException              当文件读取失败或写入失败时抛出
+	 * @see ArchiveManifest
+	 * @since 2.2.0
+	 */
+	public static ArchiveManifest archiveIncremental(final Collection<File> inputFiles, final File previousArchive,
+	                                                 final ArchiveManifest previousManifest, final File outputFile,
+	                                                 final int level) throws IOException {
+		Validate.notEmpty(inputFiles, "inputFiles 不可为空");
+		Validate.isTrue(inputFiles.stream().allMatch(FileUtils::exist),
+			"inputFiles 中存在为 null 或不存在的文件/目录");
+		FileUtils.checkFileIfExist(outputFile, "outputFile 不可为 null");
+		if (Objects.nonNull(previousArchive)) {
+			FileUtils.checkFile(previousArchive, "previousArchive 不可为 null");
+			Validate.isTrue(!previousArchive.getCanonicalFile().equals(outputFile.getCanonicalFile()),
+				"outputFile 不可与 previousArchive 相同");
+		}
+
+		FileUtils.forceMkdirParent(outputFile);
+
+		Map<String, ArchiveManifest.Entry> manifestEntries = new LinkedHashMap<>();
+		try (ZipFile previousZipFile = Objects.nonNull(previousArchive) ?
+			ZipFile.builder().setFile(previousArchive).get() : null;
+		     BufferedOutputStream bufferedOutputStream = FileUtils.newBufferedOutputStream(outputFile);
+		     ZipArchiveOutputStream zipArchiveOutputStream = new ZipArchiveOutputStream(bufferedOutputStream)) {
+			zipArchiveOutputStream.setLevel(level);
+			for (File file : inputFiles) {
+				addIncrementalEntry(file, zipArchiveOutputStream, null, previousZipFile, previousManifest,
+					manifestEntries);
+			}
+		}
+		return new ArchiveManifest(manifestEntries);
+	}
+
 	/**
 	 * 压缩文件/目录到 ZIP 文件，使用自定义 ZIP 参数。
 	 * <p>将单个文件或目录（递归包含子目录）压缩为 ZIP 格式文件，使用指定的 ZipParameters 进行自定义配置。</p>
@@ -2073,6 +2398,240 @@ public class ZipUtils {
 		}
 	}
 
+	/**
+	 * 并行压缩的核心实现。
+	 *
+	 * @param inputFiles             要压缩的文件集合
+	 * @param zipArchiveOutputStream ZIP 输出流
+	 * @param level                  压缩级别
+	 * @param entryConsumer          ZIP 条目处理器，可为 null
+	 * @param executorService        执行压缩任务的线程池
+	 * @param shutdownExecutor       完成后是否关闭线程池
+	 * @throws IOException 当文件读取失败、写入失败或压缩线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	protected static void archiveParallel(final Collection<File> inputFiles, final ZipArchiveOutputStream zipArchiveOutputStream,
+	                                      final int level, final Consumer<ZipArchiveEntry> entryConsumer,
+	                                      final ExecutorService executorService, final boolean shutdownExecutor) throws IOException {
+		try {
+			Validate.notEmpty(inputFiles, "inputFiles 不可为空");
+			Validate.isTrue(inputFiles.stream().allMatch(FileUtils::exist),
+				"inputFiles 中存在为 null 或不存在的文件/目录");
+
+			// ParallelScatterZipCreator 会在 writeTo 时关闭线程池，调用方提供的线程池需要包装以避免被关闭
+			ExecutorService creatorExecutor = shutdownExecutor ? executorService : new SharedExecutorService(executorService);
+			ParallelScatterZipCreator creator = new ParallelScatterZipCreator(creatorExecutor,
+				new DefaultBackingStoreSupplier(null), level);
+			for (File file : inputFiles) {
+				addParallelEntry(file, creator, null, entryConsumer);
+			}
+			creator.writeTo(zipArchiveOutputStream);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("ZIP 并行压缩被中断");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof UncheckedIOException uncheckedIOException) {
+				throw uncheckedIOException.getCause();
+			}
+			if (cause instanceof IOException ioException) {
+				throw ioException;
+			}
+			throw new IOException(cause);
+		} finally {
+			if (shutdownExecutor) {
+				executorService.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * 递归添加文件或目录到并行压缩器，条目命名规则与 {@link ArchiveUtils#archive(Collection, ArchiveOutputStream, Consumer)} 一致。
+	 *
+	 * @param inputFile     要添加的文件或目录
+	 * @param creator       并行压缩器
+	 * @param parent        归档内的父路径前缀，空或空白表示顶层
+	 * @param entryConsumer ZIP 条目处理器，可为 null
+	 * @since 2.2.0
+	 */
+	private static void addParallelEntry(final File inputFile, final ParallelScatterZipCreator creator, final String parent,
+	                                     final Consumer<ZipArchiveEntry> entryConsumer) {
+		boolean directory = inputFile.isDirectory();
+		String entryName = inputFile.getName();
+		if (StringUtils.isNotBlank(parent)) {
+			entryName = parent.endsWith(CompressConstants.PATH_SEPARATOR) ? parent + inputFile.getName() :
+				parent + CompressConstants.PATH_SEPARATOR + inputFile.getName();
+			if (directory) {
+				entryName += CompressConstants.PATH_SEPARATOR;
+			}
+		}
+
+		ZipArchiveEntry archiveEntry = new ZipArchiveEntry(inputFile, entryName);
+		if (Objects.nonNull(entryConsumer)) {
+			entryConsumer.accept(archiveEntry);
+		}
+		if (archiveEntry.getMethod() == -1) {
+			archiveEntry.setMethod(ZipArchiveEntry.DEFLATED);
+		}
+
+		if (directory) {
+			creator.addArchiveEntry(archiveEntry, InputStream::nullInputStream);
+			File[] childFiles = ArrayUtils.nullToEmpty(inputFile.listFiles(), File[].class);
+			for (File childFile : childFiles) {
+				addParallelEntry(childFile, creator, entryName, entryConsumer);
+			}
+		} else {
+			creator.addArchiveEntry(archiveEntry, () -> {
+				try {
+					return FileUtils.openBufferedFileChannelInputStream(inputFile);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		}
+	}
+
+	/**
+	 * 递归增量添加文件或目录到 ZIP 输出流，条目命名规则与 {@link ArchiveUtils#archive(Collection, ArchiveOutputStream, Consumer)} 一致。
+	 *
+	 * @param inputFile              要添加的文件或目录
+	 * @param zipArchiveOutputStream ZIP 输出流
+	 * @param parent                 归档内的父路径前缀，空或空白表示顶层
+	 * @param previousZipFile        上一次的归档，可为 null
+	 * @param previousManifest       上一次归档的清单，可为 null
+	 * @param manifestEntries        新归档的清单条目
+	 * @throws IOException 当文件读取失败或写入失败时抛出
+	 * @since 2.2.0
+	 */
+	private static void addIncrementalEntry(final File inputFile, final ZipArchiveOutputStream zipArchiveOutputStream,
+	                                        final String parent, final ZipFile previousZipFile,
+	                                        final ArchiveManifest previousManifest,
+	                                        final Map<String, ArchiveManifest.Entry> manifestEntries) throws IOException {
+		boolean directory = inputFile.isDirectory();
+		String entryName = inputFile.getName();
+		if (StringUtils.isNotBlank(parent)) {
+			entryName = parent.endsWith(CompressConstants.PATH_SEPARATOR) ? parent + inputFile.getName() :
+				parent + CompressConstants.PATH_SEPARATOR + inputFile.getName();
+			if (directory) {
+				entryName += CompressConstants.PATH_SEPARATOR;
+			}
+		}
+
+		if (directory) {
+			zipArchiveOutputStream.putArchiveEntry(zipArchiveOutputStream.createArchiveEntry(inputFile, entryName));
+			zipArchiveOutputStream.closeArchiveEntry();
+
+			File[] childFiles = ArrayUtils.nullToEmpty(inputFile.listFiles(), File[].class);
+			for (File childFile : childFiles) {
+				addIncrementalEntry(childFile, zipArchiveOutputStream, entryName, previousZipFile, previousManifest,
+					manifestEntries);
+			}
+			return;
+		}
+
+		long size = inputFile.length();
+		long lastModified = inputFile.lastModified();
+		ZipArchiveEntry previousEntry = Objects.nonNull(previousZipFile) ? previousZipFile.getEntry(entryName) : null;
+		if (Objects.nonNull(previousEntry) && !previousEntry.isDirectory() && previousEntry.getSize() == size &&
+			previousEntry.getCrc() != -1) {
+			ArchiveManifest.Entry previous = Objects.nonNull(previousManifest) ? previousManifest.getEntry(entryName) : null;
+			boolean unchanged = Objects.nonNull(previous) && previous.size() == size &&
+				previous.lastModified() == lastModified && previous.crc() == previousEntry.getCrc();
+			if (unchanged || FileUtils.checksumCRC32(inputFile) == previousEntry.getCrc()) {
+				ZipArchiveEntry archiveEntry = new ZipArchiveEntry(previousEntry);
+				if (!unchanged) {
+					archiveEntry.setTime(lastModified);
+				}
+				try (InputStream rawInputStream = previousZipFile.getRawInputStream(previousEntry)) {
+					zipArchiveOutputStream.addRawArchiveEntry(archiveEntry, rawInputStream);
+				}
+				manifestEntries.put(entryName, new ArchiveManifest.Entry(size, lastModified, previousEntry.getCrc()));
+				return;
+			}
+		}
+
+		try (InputStream inputStream = FileUtils.openBufferedFileChannelInputStream(inputFile)) {
+			ZipArchiveEntry archiveEntry = zipArchiveOutputStream.createArchiveEntry(inputFile, entryName);
+			zipArchiveOutputStream.putArchiveEntry(archiveEntry);
+			inputStream.transferTo(zipArchiveOutputStream);
+			zipArchiveOutputStream.closeArchiveEntry();
+			manifestEntries.put(entryName, new ArchiveManifest.Entry(size, lastModified, archiveEntry.getCrc()));
+		}
+	}
+
+	/**
+	 * 调用方共享线程池的包装。
+	 * <p>任务委托给原线程池执行；{@link #shutdown()} 只拒绝后续任务并等待已提交任务完成，不会关闭原线程池。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	private static final class SharedExecutorService extends AbstractExecutorService {
+		private final ExecutorService delegate;
+		private final Phaser phaser = new Phaser(1);
+		private volatile boolean shutdown = false;
+
+		SharedExecutorService(final ExecutorService delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void execute(final Runnable command) {
+			if (shutdown) {
+				throw new RejectedExecutionException("执行器已关闭");
+			}
+			phaser.register();
+			try {
+				delegate.execute(() -> {
+					try {
+						command.run();
+					} finally {
+						phaser.arriveAndDeregister();
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				phaser.arriveAndDeregister();
+				throw e;
+			}
+		}
+
+		@Override
+		public void shutdown() {
+			if (!shutdown) {
+				shutdown = true;
+				phaser.arriveAndDeregister();
+			}
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			shutdown();
+			return List.of();
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return shutdown;
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return shutdown && phaser.isTerminated();
+		}
+
+		@Override
+		public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+			if (!shutdown) {
+				return false;
+			}
+			try {
+				phaser.awaitAdvanceInterruptibly(0, timeout, unit);
+				return true;
+			} catch (TimeoutException e) {
+				return false;
+			}
+		}
+	}
+
 	/**
 	 * 递归添加目录到 ZIP 流。
 	 * <p>将目录及其所有子目录和文件递归添加到 ZIP 输出流中，保持原始目录结构。</p>
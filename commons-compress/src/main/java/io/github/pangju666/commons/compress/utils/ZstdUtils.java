@@ -16,7 +16,14 @@
 
 package io.github.pangju666.commons.compress.utils;
 
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdException;
+import com.github.luben.zstd.ZstdInputStreamNoFinalizer;
+import com.github.luben.zstd.ZstdOutputStreamNoFinalizer;
 import io.github.pangju666.commons.compress.io.resource.ZstdResource;
+import io.github.pangju666.commons.compress.model.ZstdDictionary;
+import io.github.pangju666.commons.compress.model.ZstdOptions;
+import io.github.pangju666.commons.io.model.DataSize;
 import io.github.pangju666.commons.io.resource.IOResource;
 import io.github.pangju666.commons.io.utils.FileUtils;
 import io.github.pangju666.commons.io.utils.IOUtils;
@@ -24,9 +31,13 @@ import org.apache.commons.compress.compressors.zstandard.ZstdCompressorInputStre
 import org.apache.commons.compress.compressors.zstandard.ZstdCompressorOutputStream;
 import org.apache.commons.compress.compressors.zstandard.ZstdConstants;
 import org.apache.commons.io.input.UnsynchronizedBufferedInputStream;
+import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.apache.commons.lang3.Validate;
 
 import java.io.*;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
 
 /**
  * Zstandard (Zstd) 压缩/解压工具类。
@@ -39,6 +50,7 @@ import java.io.*;
  *   <li>格式校验：通过 Tika 进行 MIME 类型检测；文件/字节数组版本在调用前校验，输入流版本不预校验。</li>
  *   <li>性能优化：广泛使用缓冲与 {@link java.io.InputStream#transferTo(java.io.OutputStream)}。</li>
  *   <li>资源管理：采用 try-with-resources 自动释放内部创建的包装流。</li>
+ *   <li>原生参数与字典：通过 {@link ZstdOptions} 配置 zstd 原生压缩线程数、窗口、长距离匹配、校验和以及 {@link ZstdDictionary} 字典（自 2.2.0 起）。</li>
  * </ul>
  *
  * <h3>线程安全</h3>
@@ -76,6 +88,13 @@ import java.io.*;
  * @since 2.1.0
  */
 public class ZstdUtils {
+	/**
+	 * 单次解压允许的最大原始大小（64MB），超过时以流方式解压。
+	 *
+	 * @since 2.2.0
+	 */
+	protected static final long MAX_SINGLE_SHOT_SIZE = DataSize.ofMegabytes(64).toBytes();
+
 	/**
 	 * 受保护的构造函数，防止实例化。
 	 */
@@ -249,6 +268,128 @@ public class ZstdUtils {
 		}
 	}
 
+	/**
+	 * 使用指定选项压缩字节数组。
+	 * <p>
+	 * 适用于大量小数据（如 JSON 报文）的压缩。仅设置了压缩级别与字典时，直接使用预处理字典单次压缩，
+	 * 不创建流对象；否则通过 {@link #newZstdOutputStream(OutputStream, ZstdOptions)} 压缩。
+	 * </p>
+	 *
+	 * @param bytes   待压缩的数据，必须非 null
+	 * @param options 压缩选项，必须非 null
+	 * @return 压缩后的数据
+	 * @throws NullPointerException 当 {@code bytes} 或 {@code options} 为 null 时抛出
+	 * @throws IOException          当压缩过程中发生错误时抛出
+	 * @since 2.2.0
+	 */
+	public static byte[] compress(final byte[] bytes, final ZstdOptions options) throws IOException {
+		Validate.notNull(bytes, "bytes 不可为 null");
+		Validate.notNull(options, "options 不可为 null");
+
+		ZstdDictionary dictionary = options.getDictionary();
+		if (Objects.nonNull(dictionary) && options.getWorkers() == 0 && options.getEffectiveWindowLog() == 0 &&
+			!options.isChecksum()) {
+			try {
+				return Zstd.compress(bytes, dictionary.getCompressDict(options.getLevel()));
+			} catch (ZstdException e) {
+				throw new IOException(e);
+			}
+		}
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream(Math.max(bytes.length / 2, 64));
+		try (ZstdOutputStreamNoFinalizer zstdOutputStream = newZstdOutputStream(outputStream, options)) {
+			zstdOutputStream.write(bytes);
+		}
+		return outputStream.toByteArray();
+	}
+
+	/**
+	 * 使用指定选项压缩输入流到输出流。
+	 * <p>方法会关闭内部创建的压缩流，但不会关闭传入的输入流和输出流。</p>
+	 *
+	 * @param inputStream  输入流，必须非 null
+	 * @param outputStream 输出流，必须非 null
+	 * @param options      压缩选项，必须非 null
+	 * @throws NullPointerException 当 {@code inputStream}、{@code outputStream} 或 {@code options} 为 null 时抛出
+	 * @throws IOException          当压缩过程中发生 I/O 错误时抛出
+	 * @since 2.2.0
+	 */
+	public static void compress(final InputStream inputStream, final OutputStream outputStream,
+	                            final ZstdOptions options) throws IOException {
+		Validate.notNull(inputStream, "inputStream 不可为 null");
+		Validate.notNull(outputStream, "outputStream 不可为 null");
+		Validate.notNull(options, "options 不可为 null");
+
+		try (OutputStream closeShieldOutputStream = CloseShieldOutputStream.wrap(outputStream);
+		     ZstdOutputStreamNoFinalizer zstdOutputStream = newZstdOutputStream(IOUtils.buffer(closeShieldOutputStream), options)) {
+			inputStream.transferTo(zstdOutputStream);
+		}
+	}
+
+	/**
+	 * 使用指定选项压缩 IOResource 到输出流。
+	 * <p>从 IOResource 读取数据并压缩为 Zstd 格式写入输出流，方法不会关闭传入的输出流。</p>
+	 *
+	 * @param resource     IOResource 对象，必须非 null
+	 * @param outputStream 输出流，必须非 null
+	 * @param options      压缩选项，必须非 null
+	 * @throws NullPointerException 当 {@code resource}、{@code outputStream} 或 {@code options} 为 null 时抛出
+	 * @throws IOException          当读取资源或压缩过程中发生 I/O 错误时抛出
+	 * @since 2.2.0
+	 */
+	public static void compress(final IOResource resource, final OutputStream outputStream, final ZstdOptions options) throws IOException {
+		Validate.notNull(resource, "resource 不可为 null");
+
+		try (InputStream inputStream = resource.newBufferedInputStream()) {
+			compress(inputStream, outputStream, options);
+		}
+	}
+
+	/**
+	 * 使用指定选项压缩 IOResource 到文件。
+	 * <p>从 IOResource 读取数据并压缩为 Zstd 格式写入指定文件。会自动创建父目录并覆盖已存在文件。</p>
+	 *
+	 * @param resource   IOResource 对象，必须非 null
+	 * @param outputFile 输出文件，必须非 null
+	 * @param options    压缩选项，必须非 null
+	 * @throws NullPointerException 当 {@code resource}、{@code outputFile} 或 {@code options} 为 null 时抛出
+	 * @throws IOException          当读取资源或文件写入过程中发生 I/O 错误时抛出
+	 * @since 2.2.0
+	 */
+	public static void compress(final IOResource resource, final File outputFile, final ZstdOptions options) throws IOException {
+		Validate.notNull(resource, "resource 不可为 null");
+		FileUtils.checkFileIfExist(outputFile, "outputFile 不可为 null");
+
+		FileUtils.forceMkdirParent(outputFile);
+
+		try (InputStream inputStream = resource.newBufferedInputStream();
+		     BufferedOutputStream bufferedOutputStream = FileUtils.newBufferedOutputStream(outputFile)) {
+			compress(inputStream, bufferedOutputStream, options);
+		}
+	}
+
+	/**
+	 * 使用指定选项压缩输入流到文件。
+	 * <p>将输入流的数据压缩为 Zstd 格式并写入指定文件。会自动创建父目录并覆盖已存在文件。</p>
+	 *
+	 * @param inputStream 输入流，必须非 null
+	 * @param outputFile  输出文件，必须非 null
+	 * @param options     压缩选项，必须非 null
+	 * @throws NullPointerException 当 {@code inputStream}、{@code outputFile} 或 {@code options} 为 null 时抛出
+	 * @throws IOException          当文件写入或压缩过程中发生 I/O 错误时抛出
+	 * @since 2.2.0
+	 */
+	public static void compress(final InputStream inputStream, final File outputFile, final ZstdOptions options) throws IOException {
+		Validate.notNull(inputStream, "inputStream 不可为 null");
+		FileUtils.checkFileIfExist(outputFile, "outputFile 不可为 null");
+
+		FileUtils.forceMkdirParent(outputFile);
+
+		try (BufferedOutputStream bufferedOutputStream = FileUtils.newBufferedOutputStream(outputFile)) {
+			compress(inputStream, bufferedOutputStream, options);
+		}
+	}
+
 	/**
 	 * 从 {@code ZstdResource} 解压到输出流。
 	 * <p>通过 ZstdResource 打开 Zstd 压缩输入流，将解压后的数据写入输出流。</p>
@@ -290,5 +431,161 @@ public class ZstdUtils {
 			zstdCompressorInputStream.transferTo(bufferedOutputStream);
 		}
 	}
-}
 
+	/**
+	 * 使用指定选项解压字节数组。
+	 * <p>帧头记录了原始大小时直接使用预处理字典单次解压，否则以流方式解压。</p>
+	 *
+	 * @param bytes   Zstd 格式的数据，必须非 null
+	 * @param options 解压选项，必须非 null，只使用其中的窗口对数与字典
+	 * @return 解压后的数据
+	 * @throws NullPointerException 当 {@code bytes} 或 {@code options} 为 null 时抛出
+	 * @throws IOException          当数据损坏、字典不匹配或解压过程中发生错误时抛出
+	 * @since 2.2.0
+	 */
+	public static byte[] uncompress(final byte[] bytes, final ZstdOptions options) throws IOException {
+		Validate.notNull(bytes, "bytes 不可为 null");
+		Validate.notNull(options, "options 不可为 null");
+
+		ZstdDictionary dictionary = options.getDictionary();
+		if (Objects.nonNull(dictionary) && options.getWindowLog() == 0) {
+			long originalSize = Zstd.decompressedSize(bytes);
+			if (originalSize > 0 && originalSize <= MAX_SINGLE_SHOT_SIZE) {
+				try {
+					return Zstd.decompress(bytes, dictionary.getDecompressDict(), (int) originalSize);
+				} catch (ZstdException e) {
+					throw new IOException(e);
+				}
+			}
+		}
+
+		try (ZstdInputStreamNoFinalizer zstdInputStream = newZstdInputStream(new ByteArrayInputStream(bytes), options)) {
+			return zstdInputStream.readAllBytes();
+		}
+	}
+
+	/**
+	 * 使用指定选项从 {@code ZstdResource} 解压到输出流。
+	 * <p>方法不会关闭传入的输出流。</p>
+	 *
+	 * @param resource     ZstdResource 对象，必须非 null
+	 * @param outputStream 输出流，必须非 null
+	 * @param options      解压选项，必须非 null，只使用其中的窗口对数与字典
+	 * @throws NullPointerException 当 {@code resource}、{@code outputStream} 或 {@code options} 为 null 时抛出
+	 * @throws IOException          当资源已关闭、字典不匹配或解压过程中发生 I/O 错误时抛出
+	 * @since 2.2.0
+	 */
+	public static void uncompress(final ZstdResource resource, final OutputStream outputStream,
+	                              final ZstdOptions options) throws IOException {
+		Validate.notNull(resource, "resource 不可为 null");
+		Validate.notNull(outputStream, "outputStream 不可为 null");
+
+		try (InputStream zstdInputStream = resource.openZstdInputStream(options)) {
+			zstdInputStream.transferTo(outputStream);
+		}
+	}
+
+	/**
+	 * 使用指定选项从 {@code ZstdResource} 解压到文件。
+	 * <p>会自动创建父目录并覆盖已存在文件。</p>
+	 *
+	 * @param resource   ZstdResource 对象，必须非 null
+	 * @param outputFile 输出文件，必须非 null
+	 * @param options    解压选项，必须非 null，只使用其中的窗口对数与字典
+	 * @throws NullPointerException 当 {@code resource}、{@code outputFile} 或 {@code options} 为 null 时抛出
+	 * @throws IOException          当资源已关闭、字典不匹配、文件写入或解压过程中发生 I/O 错误时抛出
+	 * @since 2.2.0
+	 */
+	public static void uncompress(final ZstdResource resource, final File outputFile, final ZstdOptions options) throws IOException {
+		Validate.notNull(resource, "resource 不可为 null");
+		FileUtils.checkFileIfExist(outputFile, "outputFile 不可为 null");
+
+		FileUtils.forceMkdirParent(outputFile);
+
+		try (InputStream zstdInputStream = resource.openZstdInputStream(options);
+		     BufferedOutputStream bufferedOutputStream = FileUtils.newBufferedOutputStream(outputFile)) {
+			zstdInputStream.transferTo(bufferedOutputStream);
+		}
+	}
+
+	/**
+	 * 使用样本数据训练字典。
+	 * <p>样本应为与实际待压缩数据相似的独立小数据（如单条 JSON 报文），样本总大小建议为字典大小的 100 倍左右。</p>
+	 *
+	 * @param samples        样本数据集合，必须非空，且不可包含 null
+	 * @param dictionarySize 字典最大字节数，必须大于 0，常用值为 16KB 到 112KB
+	 * @return 训练得到的字典
+	 * @throws IllegalArgumentException 当 {@code samples} 为空或包含 null、{@code dictionarySize} 不合法时抛出
+	 * @throws IOException              当样本不足或训练失败时抛出
+	 * @since 2.2.0
+	 */
+	public static ZstdDictionary trainDictionary(final Collection<byte[]> samples, final int dictionarySize) throws IOException {
+		Validate.notEmpty(samples, "samples 不可为空");
+		Validate.noNullElements(samples, "samples 不可包含 null");
+		Validate.isTrue(dictionarySize > 0, "dictionarySize 必须大于0");
+
+		byte[] dictionaryBuffer = new byte[dictionarySize];
+		long size = Zstd.trainFromBuffer(samples.toArray(new byte[0][]), dictionaryBuffer);
+		if (Zstd.isError(size)) {
+			throw new IOException("zstd 字典训练失败：" + Zstd.getErrorName(size));
+		}
+		return ZstdDictionary.of(Arrays.copyOf(dictionaryBuffer, (int) size));
+	}
+
+	/**
+	 * 使用指定选项创建 zstd 原生压缩输出流。
+	 * <p>关闭返回的流时会同时关闭 {@code outputStream}。</p>
+	 *
+	 * @param outputStream 输出流，必须非 null
+	 * @param options      压缩选项，必须非 null
+	 * @return zstd 压缩输出流
+	 * @throws NullPointerException 当 {@code outputStream} 或 {@code options} 为 null 时抛出
+	 * @throws IOException          当 zstd 拒绝压缩参数时抛出
+	 * @since 2.2.0
+	 */
+	public static ZstdOutputStreamNoFinalizer newZstdOutputStream(final OutputStream outputStream,
+	                                                              final ZstdOptions options) throws IOException {
+		Validate.notNull(outputStream, "outputStream 不可为 null");
+		Validate.notNull(options, "options 不可为 null");
+
+		ZstdOutputStreamNoFinalizer zstdOutputStream = new ZstdOutputStreamNoFinalizer(outputStream, options.getLevel());
+		zstdOutputStream.setChecksum(options.isChecksum());
+		if (options.getWorkers() > 0) {
+			zstdOutputStream.setWorkers(options.getWorkers());
+		}
+		if (options.isLongDistanceMatching()) {
+			zstdOutputStream.setLong(options.getEffectiveWindowLog());
+		} else if (options.getWindowLog() > 0) {
+			zstdOutputStream.setWindowLog(options.getWindowLog());
+		}
+		if (Objects.nonNull(options.getDictionary())) {
+			zstdOutputStream.setDict(options.getDictionary().getCompressDict(options.getLevel()));
+		}
+		return zstdOutputStream;
+	}
+
+	/**
+	 * 使用指定选项创建 zstd 原生解压输入流。
+	 *
+	 * @param inputStream 输入流，必须非 null
+	 * @param options     解压选项，必须非 null，只使用其中的窗口对数与字典
+	 * @return zstd 解压输入流
+	 * @throws NullPointerException 当 {@code inputStream} 或 {@code options} 为 null 时抛出
+	 * @throws IOException          当创建解压流失败时抛出
+	 * @since 2.2.0
+	 */
+	public static ZstdInputStreamNoFinalizer newZstdInputStream(final InputStream inputStream,
+	                                                            final ZstdOptions options) throws IOException {
+		Validate.notNull(inputStream, "inputStream 不可为 null");
+		Validate.notNull(options, "options 不可为 null");
+
+		ZstdInputStreamNoFinalizer zstdInputStream = new ZstdInputStreamNoFinalizer(inputStream);
+		if (options.getWindowLog() > 0) {
+			zstdInputStream.setLongMax(options.getWindowLog());
+		}
+		if (Objects.nonNull(options.getDictionary())) {
+			zstdInputStream.setDict(options.getDictionary().getDecompressDict());
+		}
+		return zstdInputStream;
+	}
+}
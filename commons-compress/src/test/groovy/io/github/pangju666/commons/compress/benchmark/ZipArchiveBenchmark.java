@@ -0,0 +1,87 @@
+package io.github.pangju666.commons.compress.benchmark;
+
+import io.github.pangju666.commons.compress.utils.ZipUtils;
+import io.github.pangju666.commons.io.utils.FileUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+/**
+ * {@link ZipUtils#archive(File, File)}（单线程）与{@link ZipUtils#archiveParallel(File, File, int, java.util.function.Consumer, int)}
+ * （多线程）压缩目录的性能对比
+ * <p>
+ * 目录中一半为可压缩的文本文件，一半为随机数据文件，{@code fileCount}为文件数量，{@code fileSize}为单个文件大小（字节），
+ * {@code threads}为压缩线程数，为1时使用单线程压缩作为基准。
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ZipArchiveBenchmark {
+	@Param({"16", "128"})
+	private int fileCount;
+
+	@Param({"65536", "1048576"})
+	private int fileSize;
+
+	@Param({"1", "2", "4", "8"})
+	private int threads;
+
+	private File inputDir;
+	private File outputFile;
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+			.include(ZipArchiveBenchmark.class.getSimpleName())
+			.build())
+			.run();
+	}
+
+	@Setup
+	public void setup() throws IOException {
+		inputDir = Files.createTempDirectory("zip-benchmark").toFile();
+		outputFile = new File(inputDir.getParentFile(), inputDir.getName() + ".zip");
+
+		Random random = new Random(0);
+		byte[] text = "The quick brown fox jumps over the lazy dog. 0123456789\n".getBytes(StandardCharsets.UTF_8);
+		for (int i = 0; i < fileCount; i++) {
+			byte[] content = new byte[fileSize];
+			if (i % 2 == 0) {
+				for (int j = 0; j < fileSize; j++) {
+					content[j] = text[j % text.length];
+				}
+			} else {
+				random.nextBytes(content);
+			}
+			Files.write(new File(inputDir, "file-" + i + ".dat").toPath(), content);
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		FileUtils.deleteDirectory(inputDir);
+		FileUtils.deleteQuietly(outputFile);
+	}
+
+	@Benchmark
+	public long archive() throws IOException {
+		if (threads == 1) {
+			ZipUtils.archive(inputDir, outputFile);
+		} else {
+			ZipUtils.archiveParallel(inputDir, outputFile, Deflater.DEFAULT_COMPRESSION, null, threads);
+		}
+		return outputFile.length();
+	}
+}
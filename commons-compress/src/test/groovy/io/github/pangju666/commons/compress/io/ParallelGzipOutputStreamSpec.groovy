@@ -0,0 +1,198 @@
+package io.github.pangju666.commons.compress.io
+
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream
+import org.apache.commons.compress.compressors.gzip.GzipParameters
+import spock.lang.Specification
+
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.zip.Deflater
+import java.util.zip.GZIPInputStream
+import java.util.zip.GZIPOutputStream
+
+class ParallelGzipOutputStreamSpec extends Specification {
+
+	def "并行压缩结果可被标准GZIP解压"() {
+		setup:
+		byte[] bytes = newContent(length)
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream()
+
+		when:
+		try (ParallelGzipOutputStream gzipOutputStream = new ParallelGzipOutputStream(outputStream,
+			new GzipParameters(), blockSize, 4)) {
+			gzipOutputStream.write(bytes)
+		}
+		byte[] compressed = outputStream.toByteArray()
+
+		then:
+		new GZIPInputStream(new ByteArrayInputStream(compressed)).readAllBytes() == bytes
+		new GzipCompressorInputStream(new ByteArrayInputStream(compressed)).readAllBytes() == bytes
+
+		where:
+		length      | blockSize
+		0           | ParallelGzipOutputStream.DICTIONARY_SIZE
+		1           | ParallelGzipOutputStream.DICTIONARY_SIZE
+		32 * 1024   | ParallelGzipOutputStream.DICTIONARY_SIZE
+		100 * 1024  | ParallelGzipOutputStream.DICTIONARY_SIZE
+		1024 * 1024 | ParallelGzipOutputStream.DEFAULT_BLOCK_SIZE
+	}
+
+	def "并行压缩率与单线程压缩接近"() {
+		setup:
+		byte[] bytes = newContent(2 * 1024 * 1024)
+		ByteArrayOutputStream parallelOutputStream = new ByteArrayOutputStream()
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream()
+
+		when:
+		try (ParallelGzipOutputStream gzipOutputStream = new ParallelGzipOutputStream(parallelOutputStream,
+			new GzipParameters(), ParallelGzipOutputStream.DEFAULT_BLOCK_SIZE, 4)) {
+			gzipOutputStream.write(bytes)
+		}
+		try (OutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+			gzipOutputStream.write(bytes)
+		}
+
+		then:
+		parallelOutputStream.size() < outputStream.size() * 1.05
+	}
+
+	def "并行压缩写入GZIP头信息"() {
+		setup:
+		byte[] bytes = newContent(200 * 1024)
+		GzipParameters parameters = new GzipParameters()
+		parameters.setCompressionLevel(Deflater.BEST_COMPRESSION)
+		parameters.setFileName("test.txt")
+		parameters.setComment("test comment")
+		parameters.setModificationTime(1700000000000L)
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream()
+
+		when:
+		try (ParallelGzipOutputStream gzipOutputStream = new ParallelGzipOutputStream(outputStream, parameters,
+			ParallelGzipOutputStream.DICTIONARY_SIZE, 2)) {
+			bytes.each { gzipOutputStream.write(it) }
+		}
+		GzipCompressorInputStream inputStream = new GzipCompressorInputStream(new ByteArrayInputStream(outputStream.toByteArray()))
+		byte[] result = inputStream.readAllBytes()
+
+		then:
+		result == bytes
+		inputStream.getMetaData().getFileName() == "test.txt"
+		inputStream.getMetaData().getComment() == "test comment"
+		inputStream.getMetaData().getModificationTime() == 1700000000000L
+	}
+
+	def "使用调用方线程池时关闭流不关闭线程池"() {
+		setup:
+		byte[] bytes = newContent(300 * 1024)
+		def executorService = Executors.newFixedThreadPool(2)
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream()
+
+		when:
+		try (ParallelGzipOutputStream gzipOutputStream = new ParallelGzipOutputStream(outputStream,
+			new GzipParameters(), ParallelGzipOutputStream.DICTIONARY_SIZE, executorService, 2)) {
+			gzipOutputStream.write(bytes)
+		}
+
+		then:
+		new GZIPInputStream(new ByteArrayInputStream(outputStream.toByteArray())).readAllBytes() == bytes
+		!executorService.isShutdown()
+
+		cleanup:
+		executorService?.shutdown()
+	}
+
+	def "关闭后写入抛出异常"() {
+		setup:
+		ParallelGzipOutputStream gzipOutputStream = new ParallelGzipOutputStream(new ByteArrayOutputStream(),
+			new GzipParameters(), ParallelGzipOutputStream.DICTIONARY_SIZE, 1)
+		gzipOutputStream.close()
+
+		when:
+		gzipOutputStream.write(1)
+
+		then:
+		thrown(IOException)
+	}
+
+	def "完成压缩后刷新只刷新目标输出流"() {
+		setup:
+		byte[] bytes = newContent(100 * 1024)
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream()
+		ParallelGzipOutputStream gzipOutputStream = new ParallelGzipOutputStream(outputStream,
+			new GzipParameters(), ParallelGzipOutputStream.DICTIONARY_SIZE, 2)
+		gzipOutputStream.write(bytes)
+
+		when:
+		gzipOutputStream.finish()
+		gzipOutputStream.flush()
+		gzipOutputStream.close()
+
+		then:
+		new GZIPInputStream(new ByteArrayInputStream(outputStream.toByteArray())).readAllBytes() == bytes
+
+		when:
+		gzipOutputStream.flush()
+
+		then:
+		thrown(IOException)
+	}
+
+	def "完成压缩失败后关闭流不会重复结束压缩"() {
+		setup:
+		AtomicBoolean failing = new AtomicBoolean(false)
+		OutputStream failingOutputStream = new OutputStream() {
+			@Override
+			void write(int b) throws IOException {
+				if (failing.get()) {
+					throw new IOException("write failed")
+				}
+			}
+		}
+		ParallelGzipOutputStream gzipOutputStream = new ParallelGzipOutputStream(failingOutputStream,
+			new GzipParameters(), ParallelGzipOutputStream.DICTIONARY_SIZE, 2)
+		gzipOutputStream.write(newContent(1024))
+		failing.set(true)
+
+		when:
+		gzipOutputStream.finish()
+
+		then:
+		IOException e = thrown()
+		e.message == "write failed"
+
+		when:
+		gzipOutputStream.close()
+
+		then:
+		noExceptionThrown()
+	}
+
+	def "构造参数不合法抛出异常"() {
+		when: "数据块小于字典大小"
+		new ParallelGzipOutputStream(new ByteArrayOutputStream(), new GzipParameters(),
+			ParallelGzipOutputStream.DICTIONARY_SIZE - 1, 2)
+		then:
+		thrown(IllegalArgumentException)
+
+		when: "线程数不合法"
+		new ParallelGzipOutputStream(new ByteArrayOutputStream(), new GzipParameters(),
+			ParallelGzipOutputStream.DEFAULT_BLOCK_SIZE, 0)
+		then:
+		thrown(IllegalArgumentException)
+
+		when: "压缩参数为null"
+		new ParallelGzipOutputStream(new ByteArrayOutputStream(), null, ParallelGzipOutputStream.DEFAULT_BLOCK_SIZE, 2)
+		then:
+		thrown(NullPointerException)
+	}
+
+	private static byte[] newContent(int length) {
+		Random random = new Random(42)
+		String[] words = ["alpha", "beta", "gamma", "delta", "epsilon", "zeta", "eta", "theta"]
+		StringBuilder builder = new StringBuilder(length + 16)
+		while (builder.length() < length) {
+			builder.append(words[random.nextInt(words.length)]).append(random.nextInt(1000)).append(' ')
+		}
+		return builder.substring(0, length).getBytes("UTF-8")
+	}
+}
@@ -0,0 +1,103 @@
+package io.github.pangju666.commons.compress.io
+
+import org.tukaani.xz.LZMA2Options
+import org.tukaani.xz.SeekableFileInputStream
+import org.tukaani.xz.SeekableXZInputStream
+import org.tukaani.xz.XZInputStream
+import spock.lang.Specification
+
+import java.util.concurrent.Executors
+
+class ParallelXZOutputStreamSpec extends Specification {
+
+	def "并行压缩结果可被标准XZ解压"() {
+		setup:
+		File work = new File("target/test-work/xz-parallel")
+		work.mkdirs()
+		File outputFile = new File(work, "output.xz")
+		byte[] bytes = newContent(length)
+
+		when:
+		try (ParallelXZOutputStream xzOutputStream = new ParallelXZOutputStream(new FileOutputStream(outputFile),
+			new LZMA2Options(1), ParallelXZOutputStream.MIN_BLOCK_SIZE, 4)) {
+			xzOutputStream.write(bytes)
+		}
+
+		then:
+		new XZInputStream(new ByteArrayInputStream(outputFile.bytes)).readAllBytes() == bytes
+		readBlockCount(outputFile) == blockCount
+
+		where:
+		length                                        | blockCount
+		0                                             | 0
+		1                                             | 1
+		ParallelXZOutputStream.MIN_BLOCK_SIZE         | 1
+		3 * ParallelXZOutputStream.MIN_BLOCK_SIZE + 1 | 4
+	}
+
+	def "使用调用方线程池时关闭流不关闭线程池"() {
+		setup:
+		byte[] bytes = newContent(2 * ParallelXZOutputStream.MIN_BLOCK_SIZE)
+		def executorService = Executors.newFixedThreadPool(2)
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream()
+
+		when:
+		try (ParallelXZOutputStream xzOutputStream = new ParallelXZOutputStream(outputStream, new LZMA2Options(1),
+			ParallelXZOutputStream.MIN_BLOCK_SIZE, executorService, 2)) {
+			xzOutputStream.write(bytes)
+		}
+
+		then:
+		new XZInputStream(new ByteArrayInputStream(outputStream.toByteArray())).readAllBytes() == bytes
+		!executorService.isShutdown()
+
+		cleanup:
+		executorService?.shutdown()
+	}
+
+	def "默认数据块大小为字典大小的3倍"() {
+		expect:
+		ParallelXZOutputStream.getDefaultBlockSize(new LZMA2Options(preset)) == blockSize
+
+		where:
+		preset | blockSize
+		0      | ParallelXZOutputStream.MIN_BLOCK_SIZE
+		6      | 3 * 8 * 1024 * 1024
+		9      | 3 * 64 * 1024 * 1024
+	}
+
+	def "构造参数不合法抛出异常"() {
+		when: "数据块过小"
+		new ParallelXZOutputStream(new ByteArrayOutputStream(), new LZMA2Options(),
+			ParallelXZOutputStream.MIN_BLOCK_SIZE - 1, 2)
+		then:
+		thrown(IllegalArgumentException)
+
+		when: "线程数不合法"
+		new ParallelXZOutputStream(new ByteArrayOutputStream(), new LZMA2Options(),
+			ParallelXZOutputStream.MIN_BLOCK_SIZE, 0)
+		then:
+		thrown(IllegalArgumentException)
+
+		when: "压缩选项为null"
+		new ParallelXZOutputStream(new ByteArrayOutputStream(), null, ParallelXZOutputStream.MIN_BLOCK_SIZE, 2)
+		then:
+		thrown(NullPointerException)
+	}
+
+	private static byte[] newContent(int length) {
+		Random random = new Random(42)
+		String[] words = ["alpha", "beta", "gamma", "delta", "epsilon", "zeta", "eta", "theta"]
+		StringBuilder builder = new StringBuilder(length + 16)
+		while (builder.length() < length) {
+			builder.append(words[random.nextInt(words.length)]).append(random.nextInt(1000)).append(' ')
+		}
+		return builder.substring(0, length).getBytes("UTF-8")
+	}
+
+	private static int readBlockCount(File file) {
+		try (SeekableXZInputStream inputStream = new SeekableXZInputStream(new SeekableFileInputStream(file))) {
+			return inputStream.getBlockCount()
+		}
+	}
+}
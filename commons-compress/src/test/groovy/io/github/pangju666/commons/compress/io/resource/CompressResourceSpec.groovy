@@ -357,4 +357,42 @@ class CompressResourceSpec extends Specification {
 		then:
 		thrown(IllegalStateException)
 	}
+
+	def "CompressResource委托读取归档条目"() {
+		setup:
+		CompressResource compressResource = new CompressResource(new File("src/test/resources/" + fileName))
+
+		when:
+		byte[] result
+		try (InputStream inputStream = compressResource.openEntryInputStream(name)) {
+			result = inputStream.bytes
+		}
+
+		then:
+		compressResource.getEntries().size() == count
+		compressResource.getEntry(name).size == result.length
+		result.length == 5438
+
+		cleanup:
+		compressResource?.close()
+
+		where:
+		fileName   | name                      | count
+		"test.zip" | "sample-cat.svg"          | 4
+		"test.tar" | "sample-2/sample-cat.svg" | 5
+	}
+
+	def "非归档格式读取条目抛出异常"() {
+		setup:
+		CompressResource compressResource = new CompressResource(new File("src/test/resources/test.gz"))
+
+		when:
+		compressResource.getEntries()
+
+		then:
+		thrown(UnsupportedResourceException)
+
+		cleanup:
+		compressResource?.close()
+	}
 }
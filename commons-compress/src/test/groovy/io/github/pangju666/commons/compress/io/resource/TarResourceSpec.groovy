@@ -1,5 +1,6 @@
 package io.github.pangju666.commons.compress.io.resource
 
+import io.github.pangju666.commons.compress.model.ArchiveEntryInfo
 import io.github.pangju666.commons.io.exception.UnsupportedResourceException
 import io.github.pangju666.commons.io.resource.IOResource
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream
@@ -149,4 +150,80 @@ class TarResourceSpec extends Specification {
 		then:
 		thrown(IllegalStateException)
 	}
+
+	def "获取TAR条目索引"() {
+		setup:
+		TarResource tarResource = new TarResource(new File("src/test/resources/test.tar"))
+
+		when:
+		List<ArchiveEntryInfo> entries = tarResource.getEntries()
+
+		then:
+		entries*.name == ["sample-2/", "sample-2/1416529-sd_640_360_30fps.mp4", "sample-2/monalisa-100x100.jpg",
+			"sample-2/sample-1.gif", "sample-2/sample-cat.svg"]
+		entries[0].directory
+		entries.tail().every { !it.directory && it.offset > 0 }
+		tarResource.getEntry("sample-2/sample-cat.svg").size == 5438
+		tarResource.getEntry("not-exist.txt") == null
+
+		cleanup:
+		tarResource?.close()
+	}
+
+	def "打开单个TAR条目输入流"() {
+		setup:
+		TarFile tarFile = new TarFile(new File("src/test/resources/test.tar"))
+		byte[] expected = tarFile.getInputStream(tarFile.getEntries().find { it.name == name }).bytes
+
+		when:
+		byte[] result
+		try (InputStream inputStream = tarResource.openEntryInputStream(name)) {
+			result = inputStream.bytes
+		}
+
+		then:
+		result == expected
+
+		cleanup:
+		tarFile?.close()
+		tarResource?.close()
+
+		where:
+		tarResource                                                                            | name
+		new TarResource(new File("src/test/resources/test.tar"))                               | "sample-2/sample-cat.svg"
+		new TarResource(new File("src/test/resources/test.tar").bytes)                         | "sample-2/monalisa-100x100.jpg"
+		new TarResource(new File("src/test/resources/test.tar").bytes, StandardCharsets.UTF_8) | "sample-2/sample-1.gif"
+	}
+
+	def "从字节数组构造并指定编码时打开TAR文件成功"() {
+		setup:
+		TarResource tarResource = new TarResource(new File("src/test/resources/test.tar").bytes, StandardCharsets.UTF_8)
+
+		when:
+		TarFile tarFile = tarResource.openTarFile()
+
+		then:
+		tarFile.getEntries().size() == 5
+
+		cleanup:
+		tarFile?.close()
+		tarResource?.close()
+	}
+
+	def "打开不存在或目录TAR条目抛出异常"() {
+		setup:
+		TarResource tarResource = new TarResource(new File("src/test/resources/test.tar"))
+
+		when:
+		tarResource.openEntryInputStream(name)
+
+		then:
+		thrown(FileNotFoundException)
+
+		cleanup:
+		tarResource?.close()
+
+		where:
+		name << ["not-exist.txt", "sample-2/"]
+	}
 }
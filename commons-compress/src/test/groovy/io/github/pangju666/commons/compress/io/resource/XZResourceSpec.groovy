@@ -1,8 +1,10 @@
 package io.github.pangju666.commons.compress.io.resource
 
 import io.github.pangju666.commons.io.exception.UnsupportedResourceException
+import io.github.pangju666.commons.io.model.DataSize
 import io.github.pangju666.commons.io.resource.IOResource
 import org.apache.commons.compress.compressors.xz.XZCompressorInputStream
+import org.tukaani.xz.SeekableXZInputStream
 import spock.lang.Specification
 
 class XZResourceSpec extends Specification {
@@ -90,4 +92,25 @@ class XZResourceSpec extends Specification {
 		then:
 		thrown(IllegalStateException)
 	}
+
+	def "openSeekableXZInputStream成功打开可随机访问的XZ输入流"() {
+		setup:
+		XZResource xzResource = new XZResource(new File("src/test/resources/test.xz"))
+		byte[] bytes
+		try (InputStream inputStream = xzResource.openXZCompressorInputStream()) {
+			bytes = inputStream.readAllBytes()
+		}
+
+		when:
+		SeekableXZInputStream inputStream = xzResource.openSeekableXZInputStream(DataSize.ofMegabytes(64))
+		inputStream.seek(1)
+
+		then:
+		inputStream.length() == bytes.length
+		inputStream.getBlockCount() >= 1
+		inputStream.readAllBytes() == Arrays.copyOfRange(bytes, 1, bytes.length)
+
+		cleanup:
+		inputStream?.close()
+	}
 }
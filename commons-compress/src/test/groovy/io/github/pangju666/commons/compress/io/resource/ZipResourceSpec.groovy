@@ -1,12 +1,17 @@
 package io.github.pangju666.commons.compress.io.resource
 
+import io.github.pangju666.commons.compress.model.ArchiveEntryInfo
 import io.github.pangju666.commons.io.exception.UnsupportedResourceException
 import io.github.pangju666.commons.io.resource.IOResource
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry
 import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream
 import org.apache.commons.compress.archivers.zip.ZipFile
 import spock.lang.Specification
 
 import java.nio.charset.StandardCharsets
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
 
 class ZipResourceSpec extends Specification {
 
@@ -188,4 +193,116 @@ class ZipResourceSpec extends Specification {
 		then:
 		thrown(IllegalStateException)
 	}
+
+	def "获取ZIP条目索引"() {
+		setup:
+		ZipResource zipResource = new ZipResource(new File("src/test/resources/test.zip"))
+		ZipFile zipFile = ZipFile.builder().setFile(new File("src/test/resources/test.zip")).get()
+
+		when:
+		List<ArchiveEntryInfo> entries = zipResource.getEntries()
+
+		then:
+		entries*.name == zipFile.getEntries().toList()*.name
+		entries.every { info ->
+			ZipArchiveEntry entry = zipFile.getEntry(info.name)
+			!info.directory && info.size == entry.size && info.compressedSize == entry.compressedSize &&
+				info.crc == entry.crc && info.offset >= 0
+		}
+		zipResource.getEntry("sample-cat.svg").is(entries.find { it.name == "sample-cat.svg" })
+		zipResource.getEntry("not-exist.txt") == null
+
+		when:
+		entries.add(entries[0])
+
+		then:
+		thrown(UnsupportedOperationException)
+
+		cleanup:
+		zipFile?.close()
+		zipResource?.close()
+	}
+
+	def "打开单个ZIP条目输入流"() {
+		setup:
+		File file = new File("src/test/resources/test.zip")
+		ZipFile zipFile = ZipFile.builder().setFile(file).get()
+		byte[] expected = zipFile.getInputStream(zipFile.getEntry(name)).bytes
+
+		when:
+		byte[] result
+		try (InputStream inputStream = zipResource.openEntryInputStream(name)) {
+			result = inputStream.bytes
+		}
+
+		then:
+		result == expected
+
+		cleanup:
+		zipFile?.close()
+		zipResource?.close()
+
+		where:
+		zipResource                                                    | name
+		new ZipResource(new File("src/test/resources/test.zip"))       | "sample-cat.svg"
+		new ZipResource(new File("src/test/resources/test.zip"))       | "1416529-sd_640_360_30fps.mp4"
+		new ZipResource(new File("src/test/resources/test.zip").bytes) | "monalisa-100x100.jpg"
+	}
+
+	def "多线程首次打开ZIP条目输入流"() {
+		setup:
+		File file = new File("src/test/resources/test.zip")
+		ZipFile zipFile = ZipFile.builder().setFile(file).get()
+		byte[] expected = zipFile.getInputStream(zipFile.getEntry("sample-cat.svg")).bytes
+		def executorService = Executors.newFixedThreadPool(8)
+
+		when: "多个线程同时触发索引构建并读取条目"
+		List<byte[]> results = (1..20).collectMany {
+			ZipResource zipResource = new ZipResource(file)
+			def startLatch = new CountDownLatch(1)
+			def futures = (1..8).collect {
+				executorService.submit({
+					startLatch.await()
+					try (InputStream inputStream = zipResource.openEntryInputStream("sample-cat.svg")) {
+						return inputStream.bytes
+					}
+				} as Callable<byte[]>)
+			}
+			startLatch.countDown()
+			try {
+				return futures*.get()
+			} finally {
+				zipResource.close()
+			}
+		}
+
+		then:
+		results.size() == 160
+		results.every { it == expected }
+
+		cleanup:
+		executorService?.shutdown()
+		zipFile?.close()
+	}
+
+	def "打开不存在的ZIP条目抛出异常"() {
+		setup:
+		ZipResource zipResource = new ZipResource(new File("src/test/resources/test.zip"))
+
+		when:
+		zipResource.openEntryInputStream("not-exist.txt")
+		then:
+		thrown(FileNotFoundException)
+
+		when:
+		zipResource.openEntryInputStream(null)
+		then:
+		thrown(NullPointerException)
+
+		when:
+		zipResource.close()
+		zipResource.getEntries()
+		then:
+		thrown(IllegalStateException)
+	}
 }
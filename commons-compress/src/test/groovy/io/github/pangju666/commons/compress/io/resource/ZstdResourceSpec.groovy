@@ -1,5 +1,8 @@
 package io.github.pangju666.commons.compress.io.resource
 
+import io.github.pangju666.commons.compress.model.ZstdDictionary
+import io.github.pangju666.commons.compress.model.ZstdOptions
+import io.github.pangju666.commons.compress.utils.ZstdUtils
 import io.github.pangju666.commons.io.exception.UnsupportedResourceException
 import io.github.pangju666.commons.io.resource.IOResource
 import org.apache.commons.compress.compressors.zstandard.ZstdCompressorInputStream
@@ -90,4 +93,23 @@ class ZstdResourceSpec extends Specification {
 		then:
 		thrown(IllegalStateException)
 	}
+
+	def "openZstdInputStream使用ZstdOptions解压"() {
+		setup:
+		byte[] bytes = ("zstd resource content " * 1000).getBytes("UTF-8")
+		ZstdDictionary dictionary = ZstdDictionary.of("zstd resource content".getBytes("UTF-8"))
+		ZstdOptions options = new ZstdOptions()
+		options.setDictionary(dictionary)
+		options.setChecksum(true)
+		ZstdResource zstdResource = new ZstdResource(ZstdUtils.compress(bytes, options))
+
+		when:
+		byte[] result
+		try (InputStream inputStream = zstdResource.openZstdInputStream(options)) {
+			result = inputStream.readAllBytes()
+		}
+
+		then:
+		result == bytes
+	}
 }
@@ -0,0 +1,129 @@
+package io.github.pangju666.commons.compress.model
+
+import spock.lang.Specification
+
+class ArchiveManifestSpec extends Specification {
+	static final String HEADER = "#pangju-archive-manifest v1"
+
+	def "保存并加载清单成功"() {
+		setup:
+		File work = new File("target/test-work/archive-manifest")
+		work.deleteDir()
+		File manifestFile = new File(work, "nested/backup.zip.manifest")
+		Map<String, ArchiveManifest.Entry> entries = new LinkedHashMap<>()
+		entries.put("input/b.txt", new ArchiveManifest.Entry(12, 1700000000000L, 0xFFFFFFFFL))
+		entries.put("input/a b\tc.txt", new ArchiveManifest.Entry(0, 0, 0))
+		entries.put("input/目录/文件.txt", new ArchiveManifest.Entry(5438, 1737989940000L, 0x1234ABCDL))
+
+		when:
+		new ArchiveManifest(entries).save(manifestFile)
+		ArchiveManifest manifest = ArchiveManifest.load(manifestFile)
+
+		then:
+		manifestFile.readLines("UTF-8").first() == HEADER
+		manifest.size() == 3
+		manifest.entries == entries
+		manifest.entries.keySet() as List == ["input/b.txt", "input/a b\tc.txt", "input/目录/文件.txt"]
+		manifest.getEntry("input/b.txt") == new ArchiveManifest.Entry(12, 1700000000000L, 0xFFFFFFFFL)
+		manifest.getEntry("input/missing.txt") == null
+	}
+
+	def "保存并加载包含换行符与反斜杠的条目名称成功"() {
+		setup:
+		File work = new File("target/test-work/archive-manifest")
+		work.mkdirs()
+		File manifestFile = new File(work, "escaped.manifest")
+		Map<String, ArchiveManifest.Entry> entries = new LinkedHashMap<>()
+		entries.put("input/a\nb.txt", new ArchiveManifest.Entry(1, 2, 3))
+		entries.put("input/c\rd.txt", new ArchiveManifest.Entry(4, 5, 6))
+		entries.put("input\\e\\n.txt", new ArchiveManifest.Entry(7, 8, 9))
+
+		when:
+		new ArchiveManifest(entries).save(manifestFile)
+		ArchiveManifest manifest = ArchiveManifest.load(manifestFile)
+
+		then:
+		manifestFile.readLines("UTF-8").size() == 4
+		manifest.entries == entries
+	}
+
+	def "加载清单忽略空行"() {
+		setup:
+		File work = new File("target/test-work/archive-manifest")
+		work.mkdirs()
+		File manifestFile = new File(work, "blank-lines.manifest")
+		manifestFile.write(HEADER + "\n\nff\t1\t2\ta.txt\n\n", "UTF-8")
+
+		when:
+		ArchiveManifest manifest = ArchiveManifest.load(manifestFile)
+
+		then:
+		manifest.size() == 1
+		manifest.getEntry("a.txt") == new ArchiveManifest.Entry(1, 2, 0xFF)
+	}
+
+	def "清单条目不受原映射修改影响且不可修改"() {
+		setup:
+		Map<String, ArchiveManifest.Entry> entries = ["a.txt": new ArchiveManifest.Entry(1, 2, 3)]
+		ArchiveManifest manifest = new ArchiveManifest(entries)
+
+		when:
+		entries.put("b.txt", new ArchiveManifest.Entry(4, 5, 6))
+
+		then:
+		manifest.size() == 1
+		manifest.getEntry("b.txt") == null
+
+		when:
+		manifest.entries.put("c.txt", new ArchiveManifest.Entry(7, 8, 9))
+
+		then:
+		thrown(UnsupportedOperationException)
+	}
+
+	def "加载无效的清单文件抛出异常"() {
+		setup:
+		File work = new File("target/test-work/archive-manifest")
+		work.mkdirs()
+		File manifestFile = new File(work, "invalid.manifest")
+		manifestFile.write(content, "UTF-8")
+
+		when:
+		ArchiveManifest.load(manifestFile)
+
+		then:
+		thrown(IllegalArgumentException)
+
+		where:
+		content << [
+			"",
+			"#other-manifest v1\n",
+			HEADER + "\nff\t1\ta.txt\n",
+			HEADER + "\nzz\t1\t2\ta.txt\n",
+			HEADER + "\nff\tx\t2\ta.txt\n",
+			HEADER + "\nff\t1\t2\ta\\t.txt\n",
+			HEADER + "\nff\t1\t2\ta.txt\\\n"
+		]
+	}
+
+	def "清单参数校验"() {
+		setup:
+		File work = new File("target/test-work/archive-manifest")
+		work.mkdirs()
+
+		when:
+		action.call(work)
+
+		then:
+		thrown(exception)
+
+		where:
+		action                                                                           | exception
+		{ File dir -> new ArchiveManifest(null) }                                        | NullPointerException
+		{ File dir -> ArchiveManifest.load(null) }                                       | NullPointerException
+		{ File dir -> ArchiveManifest.load(new File(dir, "missing.manifest")) }          | IOException
+		{ File dir -> ArchiveManifest.load(dir) }                                        | IllegalArgumentException
+		{ File dir -> new ArchiveManifest([:]).save(null) }                              | NullPointerException
+		{ File dir -> new ArchiveManifest([:]).save(dir) }                               | IllegalArgumentException
+	}
+}
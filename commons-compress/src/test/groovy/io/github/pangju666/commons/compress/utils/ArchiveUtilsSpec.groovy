@@ -0,0 +1,50 @@
+package io.github.pangju666.commons.compress.utils
+
+import org.apache.commons.compress.archivers.ArchiveEntry
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry
+import spock.lang.Specification
+
+import java.util.function.Predicate
+
+class ArchiveUtilsSpec extends Specification {
+
+	def "globFilter按模式匹配条目名称"() {
+		setup:
+		Predicate<ArchiveEntry> filter = ArchiveUtils.globFilter(patterns as String[])
+
+		expect:
+		filter.test(new ZipArchiveEntry(name)) == result
+
+		where:
+		patterns                | name                    | result
+		["*.md"]                | "a.md"                  | true
+		["*.md"]                | "docs/a.md"             | false
+		["docs/*.md"]           | "docs/a.md"             | true
+		["docs/**/*.md"]        | "docs/a.md"             | true
+		["docs/**/*.md"]        | "docs/x/y/b.md"         | true
+		["docs/**/*.md"]        | "docs/x/y/b.txt"        | false
+		["docs/**"]             | "docs/x/y/b.txt"        | true
+		["file-?.txt"]          | "file-1.txt"            | true
+		["file-?.txt"]          | "file-10.txt"           | false
+		["file-?.txt"]          | "file-/.txt"            | false
+		["a+b(1).txt"]          | "a+b(1).txt"            | true
+		["a+b(1).txt"]          | "aab1.txt"              | false
+		["*.jpg", "*.svg"]      | "sample-cat.svg"        | true
+		["*.jpg", "*.svg"]      | "sample-1.gif"          | false
+	}
+
+	def "globFilter参数不合法抛出异常"() {
+		when:
+		ArchiveUtils.globFilter(patterns as String[])
+
+		then:
+		thrown(exception)
+
+		where:
+		patterns    | exception
+		[]          | IllegalArgumentException
+		[" "]       | IllegalArgumentException
+		["*", null] | IllegalArgumentException
+		null        | NullPointerException
+	}
+}
@@ -2,10 +2,20 @@ package io.github.pangju666.commons.compress.utils
 
 
 import io.github.pangju666.commons.compress.io.resource.CompressResource
+import io.github.pangju666.commons.io.model.DataSize
+import io.github.pangju666.commons.io.resource.IOResource
+import io.github.pangju666.commons.io.resource.ResourceStoragePolicy
+import org.apache.commons.compress.archivers.ArchiveEntry
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry
+import org.apache.commons.compress.archivers.tar.TarFile
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry
+import org.apache.commons.compress.archivers.zip.ZipFile
 import spock.lang.Specification
 import spock.lang.TempDir
 
 import java.nio.file.Path
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
 
 class CompressUtilsSpec extends Specification {
 	@TempDir
@@ -299,4 +309,206 @@ class CompressUtilsSpec extends Specification {
 		then:
 		thrown(UnsupportedOperationException)
 	}
+
+	def "转换压缩资源格式成功"() {
+		setup:
+		File inputFile = new File("src/test/resources/" + inputName)
+		File outputFile = tempDir.resolve(outputName).toFile()
+		File expectedDir = tempDir.resolve("expected").toFile()
+		File actualDir = tempDir.resolve("actual").toFile()
+		CompressUtils.uncompress(new CompressResource(inputFile), expectedDir)
+
+		when:
+		CompressUtils.transcode(new CompressResource(inputFile), outputFile)
+		CompressUtils.uncompress(new CompressResource(outputFile), actualDir)
+
+		then:
+		listFiles(actualDir) == listFiles(expectedDir)
+
+		where:
+		inputName   | outputName
+		"test.zip"  | "output.tar"
+		"test.zip"  | "output.tar.gz"
+		"test.zip"  | "output.txz"
+		"test.zip"  | "output.tar.zst"
+		"test.tar"  | "output.zip"
+		"test.tar"  | "output.tgz"
+		"test.tgz"  | "output.zip"
+		"test.txz"  | "output.tar"
+		"test.tzst" | "output.zip"
+	}
+
+	def "转换压缩资源格式保留修改时间与权限"() {
+		setup:
+		File tarFile = new File("src/test/resources/test.tar")
+		File outputFile = tempDir.resolve("output.zip").toFile()
+		TarArchiveEntry sourceEntry = new TarFile(tarFile).withCloseable { it.entries.find { it.name == "sample-2/sample-cat.svg" } }
+
+		when:
+		CompressUtils.transcode(new CompressResource(tarFile), outputFile)
+		ZipArchiveEntry entry = ZipFile.builder().setFile(outputFile).get().withCloseable {
+			it.getEntry("sample-2/sample-cat.svg")
+		}
+
+		then:
+		entry.size == sourceEntry.size
+		(entry.unixMode & 07777) == (sourceEntry.mode & 07777)
+		Math.abs(entry.lastModifiedDate.time - sourceEntry.lastModifiedDate.time) < 2000
+	}
+
+	def "转换内存映射存储的压缩资源不会复制资源内容"() {
+		setup:
+		File storageDir = tempDir.resolve("storage").toFile()
+		File outputFile = tempDir.resolve(outputName).toFile()
+		File expectedDir = tempDir.resolve("expected").toFile()
+		File actualDir = tempDir.resolve("actual").toFile()
+		File inputFile = new File("src/test/resources/" + inputName)
+		CompressUtils.uncompress(new CompressResource(inputFile), expectedDir)
+		IOResource.setDefaultStoragePolicy(ResourceStoragePolicy.of(null, DataSize.ofBytes(0), storageDir))
+		CompressResource resource = new CompressResource(inputFile.bytes)
+
+		when:
+		CompressUtils.transcode(resource, outputFile)
+
+		then: "存储目录中只有资源自身的内存映射文件"
+		storageDir.list().length == 1
+
+		when:
+		resource.close()
+		CompressUtils.uncompress(new CompressResource(outputFile), actualDir)
+
+		then:
+		storageDir.list().length == 0
+		listFiles(actualDir) == listFiles(expectedDir)
+
+		cleanup:
+		IOResource.setDefaultStoragePolicy(ResourceStoragePolicy.HEAP)
+
+		where:
+		inputName  | outputName
+		"test.zip" | "output.tar"
+		"test.tar" | "output.zip"
+	}
+
+	def "使用条目映射函数转换压缩资源格式成功"() {
+		setup:
+		File outputFile = tempDir.resolve("output.tar").toFile()
+		File outputDir = tempDir.resolve("output").toFile()
+		File zipFile = new File("src/test/resources/test.zip")
+
+		when:
+		CompressUtils.transcode(new CompressResource(zipFile), outputFile, { ArchiveEntry entry ->
+			entry.name.endsWith(".gif") ? null : "renamed/" + entry.name
+		})
+		CompressUtils.uncompress(new CompressResource(outputFile), outputDir)
+
+		then:
+		listFiles(outputDir).keySet() == ["renamed", "renamed/1416529-sd_640_360_30fps.mp4",
+										  "renamed/monalisa-100x100.jpg", "renamed/sample-cat.svg"] as Set
+		new File(outputDir, "renamed/sample-cat.svg").length() == 5438
+	}
+
+	def "使用线程池转换压缩资源格式成功"() {
+		setup:
+		File inputFile = new File("src/test/resources/test.tgz")
+		File outputFile = tempDir.resolve("output.zip").toFile()
+		File expectedDir = tempDir.resolve("expected").toFile()
+		File actualDir = tempDir.resolve("actual").toFile()
+		ExecutorService executorService = Executors.newFixedThreadPool(2)
+		CompressUtils.uncompress(new CompressResource(inputFile), expectedDir)
+
+		when:
+		CompressUtils.transcode(new CompressResource(inputFile), outputFile, null, executorService)
+		CompressUtils.uncompress(new CompressResource(outputFile), actualDir)
+
+		then:
+		listFiles(actualDir) == listFiles(expectedDir)
+		!executorService.isShutdown()
+
+		cleanup:
+		executorService.shutdownNow()
+	}
+
+	def "转换压缩资源格式到输出流成功"() {
+		setup:
+		File inputFile = new File("src/test/resources/test.zip")
+		File outputFile = tempDir.resolve("output." + outputFormat.toLowerCase()).toFile()
+		File expectedDir = tempDir.resolve("expected").toFile()
+		File actualDir = tempDir.resolve("actual").toFile()
+		ExecutorService executorService = Executors.newSingleThreadExecutor()
+		CompressUtils.uncompress(new CompressResource(inputFile), expectedDir)
+
+		when:
+		try (OutputStream out = new FileOutputStream(outputFile)) {
+			CompressUtils.transcode(new CompressResource(inputFile), out, outputFormat, null, executorService)
+		}
+		CompressUtils.uncompress(new CompressResource(outputFile), actualDir)
+
+		then:
+		listFiles(actualDir) == listFiles(expectedDir)
+
+		cleanup:
+		executorService.shutdownNow()
+
+		where:
+		outputFormat << ["ZIP", "tar", "tar.gz", "txz"]
+	}
+
+	def "转换内容不是TAR归档的压缩资源抛出异常"() {
+		when:
+		CompressUtils.transcode(new CompressResource(new File("src/test/resources/test.gz")),
+			tempDir.resolve("output.zip").toFile())
+
+		then:
+		thrown(UnsupportedOperationException)
+	}
+
+	def "转换压缩资源到不支持的格式抛出异常"() {
+		setup:
+		CompressResource resource = new CompressResource(new File("src/test/resources/test.zip"))
+
+		when:
+		CompressUtils.transcode(resource, tempDir.resolve("output.rar").toFile())
+
+		then:
+		thrown(UnsupportedOperationException)
+	}
+
+	def "转换压缩资源到7z格式输出流抛出异常"() {
+		setup:
+		CompressResource resource = new CompressResource(new File("src/test/resources/test.zip"))
+
+		when:
+		CompressUtils.transcode(resource, new ByteArrayOutputStream(), "7z", null, null)
+
+		then:
+		thrown(UnsupportedOperationException)
+	}
+
+	def "转换压缩资源参数校验"() {
+		setup:
+		CompressResource resource = new CompressResource(new File("src/test/resources/test.zip"))
+
+		when:
+		action.call(resource, tempDir.resolve("output.tar").toFile())
+
+		then:
+		thrown(exception)
+
+		where:
+		action                                                                                  | exception
+		{ CompressResource r, File f -> CompressUtils.transcode(null, f) }                      | NullPointerException
+		{ CompressResource r, File f -> CompressUtils.transcode(r, (File) null) }               | NullPointerException
+		{ CompressResource r, File f -> CompressUtils.transcode(r, (OutputStream) null, "tar", null, null) } | NullPointerException
+		{ CompressResource r, File f -> CompressUtils.transcode(r, new ByteArrayOutputStream(), " ", null, null) } | IllegalArgumentException
+	}
+
+	private static Map<String, String> listFiles(File dir) {
+		Map<String, String> files = [:]
+		dir.eachFileRecurse { File file ->
+			String path = dir.toPath().relativize(file.toPath()).toString().replace(File.separator, "/")
+			files[path] = file.directory ? null : file.bytes.md5()
+		}
+		return files
+	}
 }
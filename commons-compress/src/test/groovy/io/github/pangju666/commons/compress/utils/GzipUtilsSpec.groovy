@@ -1,11 +1,14 @@
 package io.github.pangju666.commons.compress.utils
 
+import io.github.pangju666.commons.compress.io.ParallelGzipOutputStream
 import io.github.pangju666.commons.compress.io.resource.GzipResource
 import io.github.pangju666.commons.io.resource.IOResource
 import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream
 import org.apache.commons.compress.compressors.gzip.GzipParameters
 import spock.lang.Specification
 
+import java.util.concurrent.Executors
+
 class GzipUtilsSpec extends Specification {
 
 	def "压缩输入流到输出流成功"() {
@@ -315,4 +318,79 @@ class GzipUtilsSpec extends Specification {
 		outputFile.exists()
 		outputFile.length() > 0
 	}
+
+	def "并行压缩输入流到文件并解压成功"() {
+		setup:
+		File work = new File("target/test-work/gzip-parallel")
+		work.mkdirs()
+		File inputFile = new File(work, "input.txt")
+		inputFile.text = (1..50000).collect { "line-${it}" }.join("\n")
+		File outputFile = new File(work, "output.gz")
+		File resourceOutputFile = new File(work, "resource-output.gz")
+		File uncompressedFile = new File(work, "uncompressed.txt")
+
+		when:
+		try (InputStream inputStream = new FileInputStream(inputFile)) {
+			GzipUtils.compressParallel(inputStream, outputFile, new GzipParameters(), 4)
+		}
+		GzipUtils.compressParallel(new IOResource(inputFile), resourceOutputFile, new GzipParameters(), 2)
+		GzipUtils.uncompress(outputFile, uncompressedFile)
+
+		then:
+		GzipUtils.isGZip(outputFile)
+		uncompressedFile.bytes == inputFile.bytes
+		resourceOutputFile.bytes == outputFile.bytes
+	}
+
+	def "使用调用方线程池并行压缩"() {
+		setup:
+		byte[] bytes = (1..50000).collect { "line-${it}" }.join("\n").getBytes("UTF-8")
+		def executorService = Executors.newFixedThreadPool(2)
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream()
+		ByteArrayOutputStream uncompressedOutputStream = new ByteArrayOutputStream()
+
+		when:
+		GzipUtils.compressParallel(new ByteArrayInputStream(bytes), outputStream, new GzipParameters(),
+			ParallelGzipOutputStream.DICTIONARY_SIZE, executorService)
+		GzipUtils.uncompress(new ByteArrayInputStream(outputStream.toByteArray()), uncompressedOutputStream)
+
+		then:
+		uncompressedOutputStream.toByteArray() == bytes
+		!executorService.isShutdown()
+
+		when: "限制同时等待写出的数据块数量"
+		ByteArrayOutputStream limitedOutputStream = new ByteArrayOutputStream()
+		GzipUtils.compressParallel(new ByteArrayInputStream(bytes), limitedOutputStream, new GzipParameters(),
+			ParallelGzipOutputStream.DICTIONARY_SIZE, executorService, 1)
+
+		then:
+		limitedOutputStream.toByteArray() == outputStream.toByteArray()
+
+		cleanup:
+		executorService?.shutdown()
+	}
+
+	def "并行压缩参数不合法抛出异常"() {
+		when: "线程数不合法"
+		GzipUtils.compressParallel(new ByteArrayInputStream(new byte[1]), new ByteArrayOutputStream(), new GzipParameters(), 0)
+		then:
+		thrown(IllegalArgumentException)
+
+		when: "输入流为null"
+		GzipUtils.compressParallel(null as InputStream, new ByteArrayOutputStream(), new GzipParameters(), 2)
+		then:
+		thrown(NullPointerException)
+
+		when: "线程池为null"
+		GzipUtils.compressParallel(new ByteArrayInputStream(new byte[1]), new ByteArrayOutputStream(), new GzipParameters(),
+			ParallelGzipOutputStream.DEFAULT_BLOCK_SIZE, null)
+		then:
+		thrown(NullPointerException)
+
+		when: "等待写出的数据块数量上限不合法"
+		GzipUtils.compressParallel(new ByteArrayInputStream(new byte[1]), new ByteArrayOutputStream(), new GzipParameters(),
+			ParallelGzipOutputStream.DEFAULT_BLOCK_SIZE, Executors.newSingleThreadExecutor(), 0)
+		then:
+		thrown(IllegalArgumentException)
+	}
 }
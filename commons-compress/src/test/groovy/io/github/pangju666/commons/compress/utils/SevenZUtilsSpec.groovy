@@ -1,6 +1,7 @@
 package io.github.pangju666.commons.compress.utils
 
 import io.github.pangju666.commons.compress.io.resource.SevenZResource
+import org.apache.commons.compress.archivers.sevenz.SevenZArchiveEntry
 import org.apache.commons.compress.archivers.sevenz.SevenZFile
 import org.apache.commons.compress.archivers.sevenz.SevenZMethod
 import org.apache.commons.compress.archivers.sevenz.SevenZOutputFile
@@ -8,6 +9,7 @@ import spock.lang.Specification
 
 import java.nio.channels.FileChannel
 import java.nio.file.StandardOpenOption
+import java.util.concurrent.Executors
 
 class SevenZUtilsSpec extends Specification {
 
@@ -832,4 +834,167 @@ class SevenZUtilsSpec extends Specification {
 		then:
 		thrown(NullPointerException)
 	}
+
+	def "并行解压SevenZResource与顺序解压结果一致"() {
+		setup:
+		File work = new File("target/test-work/7z-extract-parallel")
+		work.deleteDir()
+		File inputDir = new File(work, "input")
+		new File(inputDir, "sub").mkdirs()
+		(1..6).each { new File(inputDir, "file-${it}.txt").text = "content-${it}\n" * (it * 1000) }
+		new File(inputDir, "sub/nested.txt").text = "nested content"
+		File sevenZFile = new File(work, "input.7z")
+		SevenZUtils.archive(inputDir, sevenZFile, SevenZMethod.COPY)
+		File sequentialDir = new File(work, "sequential")
+		File parallelDir = new File(work, "parallel")
+
+		when:
+		SevenZUtils.extract(new SevenZResource(sevenZFile), sequentialDir)
+		SevenZUtils.extractParallel(new SevenZResource(sevenZFile), parallelDir, 4)
+
+		then:
+		!listFiles(parallelDir).isEmpty()
+		listFiles(parallelDir) == listFiles(sequentialDir)
+	}
+
+	def "并行解压固实LZMA2归档时每个数据块整体分配给一个线程"() {
+		setup:
+		// test-solid.7z 包含两个固实 LZMA2 数据块：[a.txt, b.txt, c.txt] 与 [d.txt, e.txt]
+		File solidFile = new File("src/test/resources/test-solid.7z")
+		File work = new File("target/test-work/7z-extract-parallel-solid")
+		work.deleteDir()
+		File sequentialDir = new File(work, "sequential")
+		File parallelDir = new File(work, "parallel")
+		List<SevenZArchiveEntry> entries = []
+		int[] solidFolderIndexes
+		try (SevenZFile sevenZFile = new SevenZResource(solidFile).openSevenZFile()) {
+			sevenZFile.getEntries().each { entries << it }
+			solidFolderIndexes = SevenZUtils.getSolidFolderIndexes(sevenZFile)
+		}
+		Map<SevenZArchiveEntry, Integer> entryIndexes = new IdentityHashMap<>()
+		entries.eachWithIndex { entry, i -> entryIndexes.put(entry, i) }
+
+		when:
+		def units = SevenZUtils.splitFolderUnits(entries, entryIndexes, solidFolderIndexes)
+		SevenZUtils.extract(new SevenZResource(solidFile), sequentialDir)
+		SevenZUtils.extractParallel(new SevenZResource(solidFile), parallelDir, 4)
+
+		then:
+		solidFolderIndexes == [0, 0, 0, 1, 1] as int[]
+		units.collect { unit -> unit*.name } == [["solid/a.txt", "solid/b.txt", "solid/c.txt"], ["solid/d.txt", "solid/e.txt"]]
+		listFiles(parallelDir).size() == 6
+		listFiles(parallelDir) == listFiles(sequentialDir)
+	}
+
+	def "非固实或仅存储的7z数据块中的条目可以单独分配"() {
+		setup:
+		File work = new File("target/test-work/7z-extract-parallel-units")
+		work.deleteDir()
+		File inputDir = new File(work, "input")
+		inputDir.mkdirs()
+		(1..3).each { new File(inputDir, "file-${it}.txt").text = "content-${it}\n" * 100 }
+		File sevenZFile = new File(work, "input.7z")
+		SevenZUtils.archive(inputDir, sevenZFile, SevenZMethod.COPY)
+
+		when:
+		int[] solidFolderIndexes
+		try (SevenZFile file = new SevenZResource(sevenZFile).openSevenZFile()) {
+			solidFolderIndexes = SevenZUtils.getSolidFolderIndexes(file)
+		}
+
+		then:
+		solidFolderIndexes.every { it == -1 }
+	}
+
+	def "并行解压加密SevenZResource回调进度"() {
+		setup:
+		File work = new File("target/test-work/7z-extract-parallel")
+		work.deleteDir()
+		File inputDir = new File(work, "input")
+		inputDir.mkdirs()
+		(1..4).each { new File(inputDir, "file-${it}.txt").text = "content-${it}\n" * (it * 1000) }
+		File sevenZFile = new File(work, "input.7z")
+		SevenZUtils.archive(inputDir, sevenZFile, "password", SevenZMethod.COPY)
+		File sequentialDir = new File(work, "sequential")
+		File parallelDir = new File(work, "parallel")
+		def executorService = Executors.newFixedThreadPool(2)
+		List<Integer> completedEntries = []
+		List<Long> completedBytes = []
+		int total = 0
+		long totalSize = 0
+
+		when:
+		SevenZUtils.extract(new SevenZResource(sevenZFile, "password"), sequentialDir)
+		SevenZUtils.extractParallel(new SevenZResource(sevenZFile, "password"), parallelDir, executorService, 2, 1024,
+			{ entry, completed, totalEntries, bytes, totalBytes ->
+				completedEntries << completed
+				completedBytes << bytes
+				total = totalEntries
+				totalSize = totalBytes
+			} as ArchiveUtils.ExtractProgressListener)
+
+		then:
+		completedEntries == ((total - completedEntries.size() + 1)..total).toList()
+		completedBytes.last() == totalSize
+		listFiles(parallelDir) == listFiles(sequentialDir)
+		!executorService.isShutdown()
+
+		cleanup:
+		executorService?.shutdown()
+	}
+
+	def "并行解压SevenZResource非法参数抛出异常"() {
+		setup:
+		File work = new File("target/test-work/7z")
+		work.mkdirs()
+		File inputFile = new File(work, "input.txt")
+		inputFile.text = "test content"
+		File sevenZFile = new File(work, "output.7z")
+		SevenZUtils.archive(inputFile, sevenZFile, SevenZMethod.COPY)
+		File outputDir = new File(work, "output")
+
+		when: "线程数不合法"
+		SevenZUtils.extractParallel(new SevenZResource(sevenZFile), outputDir, 0)
+		then:
+		thrown(IllegalArgumentException)
+
+		when: "资源为null"
+		SevenZUtils.extractParallel(null as SevenZResource, outputDir, 2)
+		then:
+		thrown(NullPointerException)
+	}
+
+	def "按条件解压7z条目"() {
+		setup:
+		File work = new File("target/test-work/7z-extract-filter")
+		work.deleteDir()
+		File inputDir = new File(work, "input")
+		new File(inputDir, "docs/sub").mkdirs()
+		new File(inputDir, "docs/a.md").text = "a"
+		new File(inputDir, "docs/sub/b.md").text = "b"
+		new File(inputDir, "docs/sub/c.txt").text = "c"
+		File sevenZFile = new File(work, "input.7z")
+		SevenZUtils.archive(inputDir, sevenZFile, SevenZMethod.COPY)
+		File resourceOutputDir = new File(work, "resource")
+		File fileOutputDir = new File(work, "file")
+
+		when:
+		SevenZUtils.extract(new SevenZResource(sevenZFile), resourceOutputDir, ArchiveUtils.globFilter("**/*.md"))
+		try (SevenZFile sevenZ = SevenZFile.builder().setFile(sevenZFile).get()) {
+			SevenZUtils.extract(sevenZ, fileOutputDir, { !it.directory && it.name.endsWith(".txt") })
+		}
+
+		then:
+		listFiles(resourceOutputDir).findAll { it.value != null }.keySet() == ["input/docs/a.md", "input/docs/sub/b.md"] as Set
+		listFiles(fileOutputDir).findAll { it.value != null }.keySet() == ["input/docs/sub/c.txt"] as Set
+	}
+
+	private static Map<String, String> listFiles(File dir) {
+		Map<String, String> files = [:]
+		dir.eachFileRecurse { File file ->
+			String path = dir.toPath().relativize(file.toPath()).toString().replace(File.separator, "/")
+			files[path] = file.directory ? null : file.bytes.md5()
+		}
+		return files
+	}
 }
@@ -2,10 +2,13 @@ package io.github.pangju666.commons.compress.utils
 
 import io.github.pangju666.commons.compress.io.resource.TarResource
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream
 import org.apache.commons.compress.archivers.tar.TarFile
 import spock.lang.Specification
 
+import java.util.concurrent.Executors
+
 class TarUtilsSpec extends Specification {
 
 	def "压缩文件到TAR文件成功"() {
@@ -343,4 +346,112 @@ class TarUtilsSpec extends Specification {
 		outputFile.exists()
 		outputFile.length() > 0
 	}
+
+	def "并行解压TarFile与顺序解压结果一致"() {
+		setup:
+		File work = new File("target/test-work/tar-extract-parallel")
+		work.deleteDir()
+		File tarFile = new File("src/test/resources/test.tar")
+		File sequentialDir = new File(work, "sequential")
+		File parallelDir = new File(work, "parallel")
+
+		when:
+		try (TarFile tar = new TarFile(tarFile)) {
+			TarUtils.extract(tar, sequentialDir)
+		}
+		try (TarFile tar = new TarFile(tarFile)) {
+			TarUtils.extractParallel(tar, parallelDir, 4)
+		}
+
+		then:
+		!listFiles(parallelDir).isEmpty()
+		listFiles(parallelDir) == listFiles(sequentialDir)
+	}
+
+	def "并行解压TarResource回调进度"() {
+		setup:
+		File work = new File("target/test-work/tar-extract-parallel")
+		work.deleteDir()
+		File tarFile = new File("src/test/resources/test.tar")
+		File sequentialDir = new File(work, "sequential")
+		File parallelDir = new File(work, "parallel")
+		def executorService = Executors.newFixedThreadPool(2)
+		List<Integer> completedEntries = []
+		int total = 0
+
+		when:
+		TarUtils.extract(new TarResource(tarFile), sequentialDir)
+		try (TarFile tar = new TarFile(tarFile)) {
+			TarUtils.extractParallel(tar, parallelDir, executorService, 1024, { entry, completed, totalEntries, bytes, totalBytes ->
+				completedEntries << completed
+				total = totalEntries
+			} as ArchiveUtils.ExtractProgressListener)
+		}
+		TarUtils.extractParallel(new TarResource(tarFile), new File(work, "resource"), 2)
+
+		then:
+		completedEntries == ((total - completedEntries.size() + 1)..total).toList()
+		listFiles(parallelDir) == listFiles(sequentialDir)
+		listFiles(new File(work, "resource")) == listFiles(sequentialDir)
+		!executorService.isShutdown()
+
+		cleanup:
+		executorService?.shutdown()
+	}
+
+	def "并行解压TarFile非法参数抛出异常"() {
+		setup:
+		File work = new File("target/test-work/tar")
+		work.mkdirs()
+		File tarFile = new File("src/test/resources/test.tar")
+		File outputDir = new File(work, "output")
+
+		when: "线程数不合法"
+		try (TarFile tar = new TarFile(tarFile)) {
+			TarUtils.extractParallel(tar, outputDir, 0)
+		}
+		then:
+		thrown(IllegalArgumentException)
+
+		when: "在途字节上限不合法"
+		try (TarFile tar = new TarFile(tarFile)) {
+			TarUtils.extractParallel(tar, outputDir, Executors.newSingleThreadExecutor(), 0, null)
+		}
+		then:
+		thrown(IllegalArgumentException)
+	}
+
+	def "按条件解压TAR条目"() {
+		setup:
+		File work = new File("target/test-work/tar-extract-filter")
+		work.deleteDir()
+		File tarFile = new File("src/test/resources/test.tar")
+		File fileOutputDir = new File(work, "file")
+		File resourceOutputDir = new File(work, "resource")
+		File streamOutputDir = new File(work, "stream")
+
+		when:
+		try (TarFile tar = new TarFile(tarFile)) {
+			TarUtils.extract(tar, fileOutputDir, ArchiveUtils.globFilter("**/*.svg"))
+		}
+		TarUtils.extract(new TarResource(tarFile), resourceOutputDir, ArchiveUtils.globFilter("sample-2/*.jpg"))
+		try (TarArchiveInputStream inputStream = new TarArchiveInputStream(new FileInputStream(tarFile))) {
+			TarUtils.extract(inputStream, streamOutputDir, ArchiveUtils.globFilter("sample-2/sample-?.gif"))
+		}
+
+		then:
+		listFiles(fileOutputDir).keySet() == ["sample-2", "sample-2/sample-cat.svg"] as Set
+		listFiles(resourceOutputDir).keySet() == ["sample-2", "sample-2/monalisa-100x100.jpg"] as Set
+		listFiles(streamOutputDir).keySet() == ["sample-2", "sample-2/sample-1.gif"] as Set
+		new File(fileOutputDir, "sample-2/sample-cat.svg").length() == 5438
+	}
+
+	private static Map<String, String> listFiles(File dir) {
+		Map<String, String> files = [:]
+		dir.eachFileRecurse { File file ->
+			String path = dir.toPath().relativize(file.toPath()).toString().replace(File.separator, "/")
+			files[path] = file.directory ? null : file.bytes.md5()
+		}
+		return files
+	}
 }
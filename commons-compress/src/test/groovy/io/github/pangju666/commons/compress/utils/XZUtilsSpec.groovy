@@ -1,11 +1,15 @@
 package io.github.pangju666.commons.compress.utils
 
+import io.github.pangju666.commons.compress.io.ParallelXZOutputStream
 import io.github.pangju666.commons.compress.io.resource.XZResource
+import io.github.pangju666.commons.io.model.DataSize
 import io.github.pangju666.commons.io.resource.IOResource
 import org.apache.commons.compress.compressors.xz.XZCompressorOutputStream
 import org.tukaani.xz.LZMA2Options
 import spock.lang.Specification
 
+import java.util.concurrent.Executors
+
 class XZUtilsSpec extends Specification {
 
 	def "压缩输入流到输出流成功"() {
@@ -313,4 +317,124 @@ class XZUtilsSpec extends Specification {
 		outputFile.exists()
 		outputFile.length() > 0
 	}
+
+	def "并行压缩并并行解压成功"() {
+		setup:
+		File work = new File("target/test-work/xz-parallel")
+		work.mkdirs()
+		File inputFile = new File(work, "input.txt")
+		inputFile.text = (1..400000).collect { "line-${it}" }.join("\n")
+		File outputFile = new File(work, "output.xz")
+		File resourceOutputFile = new File(work, "resource-output.xz")
+		File uncompressedFile = new File(work, "uncompressed.txt")
+		ByteArrayOutputStream uncompressedOutputStream = new ByteArrayOutputStream()
+
+		when:
+		try (InputStream inputStream = new FileInputStream(inputFile)) {
+			XZUtils.compressParallel(inputStream, outputFile, new LZMA2Options(1), 4)
+		}
+		XZUtils.compressParallel(new IOResource(inputFile), resourceOutputFile, new LZMA2Options(1), 2)
+		XZUtils.uncompressParallel(new XZResource(outputFile), uncompressedFile, 4, DataSize.ofMegabytes(64))
+		XZUtils.uncompress(new XZResource(outputFile), uncompressedOutputStream)
+
+		then:
+		uncompressedFile.bytes == inputFile.bytes
+		uncompressedOutputStream.toByteArray() == inputFile.bytes
+		resourceOutputFile.bytes == outputFile.bytes
+	}
+
+	def "使用调用方线程池并行压缩并解压"() {
+		setup:
+		File work = new File("target/test-work/xz-parallel")
+		work.mkdirs()
+		byte[] bytes = (1..400000).collect { "line-${it}" }.join("\n").getBytes("UTF-8")
+		File outputFile = new File(work, "executor-output.xz")
+		def executorService = Executors.newFixedThreadPool(2)
+		ByteArrayOutputStream uncompressedOutputStream = new ByteArrayOutputStream()
+
+		when:
+		try (OutputStream outputStream = new FileOutputStream(outputFile)) {
+			XZUtils.compressParallel(new ByteArrayInputStream(bytes), outputStream, new LZMA2Options(1),
+				ParallelXZOutputStream.MIN_BLOCK_SIZE, executorService)
+		}
+		XZUtils.uncompressParallel(new XZResource(outputFile), uncompressedOutputStream, executorService, 2,
+			DataSize.ofMegabytes(64))
+
+		then:
+		uncompressedOutputStream.toByteArray() == bytes
+		!executorService.isShutdown()
+
+		cleanup:
+		executorService?.shutdown()
+	}
+
+	def "并行解压超出内存限制或写入失败时抛出异常"() {
+		setup:
+		File work = new File("target/test-work/xz-parallel")
+		work.mkdirs()
+		byte[] bytes = (1..400000).collect { "line-${it}" }.join("\n").getBytes("UTF-8")
+		File outputFile = new File(work, "limit-output.xz")
+		try (OutputStream outputStream = new FileOutputStream(outputFile)) {
+			XZUtils.compressParallel(new ByteArrayInputStream(bytes), outputStream, new LZMA2Options(6), 4)
+		}
+
+		when: "内存限制小于解码所需内存"
+		XZUtils.uncompressParallel(new XZResource(outputFile), new ByteArrayOutputStream(), 4, DataSize.ofKilobytes(1))
+		then:
+		thrown(IOException)
+
+		when: "写入输出流失败"
+		XZUtils.uncompressParallel(new XZResource(outputFile), new OutputStream() {
+			@Override
+			void write(int b) throws IOException {
+				throw new IOException("write failed")
+			}
+
+			@Override
+			void write(byte[] b, int off, int len) throws IOException {
+				throw new IOException("write failed")
+			}
+		}, 4, DataSize.ofMegabytes(64))
+		then:
+		def e = thrown(IOException)
+		e.message == "write failed"
+	}
+
+	def "单数据块文件并行解压回退为顺序解压"() {
+		setup:
+		File work = new File("target/test-work/xz-parallel")
+		work.mkdirs()
+		File outputFile = new File(work, "output.txt")
+
+		when:
+		XZUtils.uncompressParallel(new XZResource(new File("src/test/resources/test.xz")), outputFile, 4,
+			DataSize.ofMegabytes(64))
+
+		then:
+		outputFile.length() > 0
+	}
+
+	def "并行压缩参数不合法抛出异常"() {
+		when: "线程数不合法"
+		XZUtils.compressParallel(new ByteArrayInputStream(new byte[1]), new ByteArrayOutputStream(), new LZMA2Options(), 0)
+		then:
+		thrown(IllegalArgumentException)
+
+		when: "压缩选项为null"
+		XZUtils.compressParallel(new ByteArrayInputStream(new byte[1]), new ByteArrayOutputStream(), null, 2)
+		then:
+		thrown(NullPointerException)
+
+		when: "等待写出的数据块数量上限不合法"
+		XZUtils.compressParallel(new ByteArrayInputStream(new byte[1]), new ByteArrayOutputStream(), new LZMA2Options(),
+			ParallelXZOutputStream.MIN_BLOCK_SIZE, Executors.newSingleThreadExecutor(), 0)
+		then:
+		thrown(IllegalArgumentException)
+
+		when: "解压线程数不合法"
+		XZUtils.uncompressParallel(new XZResource(new File("src/test/resources/test.xz")), new ByteArrayOutputStream(), 0,
+			DataSize.ofMegabytes(64))
+		then:
+		thrown(IllegalArgumentException)
+	}
 }
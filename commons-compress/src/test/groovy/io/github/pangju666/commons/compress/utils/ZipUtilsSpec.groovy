@@ -1,6 +1,7 @@
 package io.github.pangju666.commons.compress.utils
 
 import io.github.pangju666.commons.compress.io.resource.ZipResource
+import io.github.pangju666.commons.compress.model.ArchiveManifest
 import net.lingala.zip4j.model.ZipParameters
 import net.lingala.zip4j.model.enums.EncryptionMethod
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry
@@ -10,6 +11,11 @@ import spock.lang.Specification
 
 import java.nio.channels.FileChannel
 import java.nio.file.StandardOpenOption
+import java.util.concurrent.Executors
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.function.Predicate
 import java.util.zip.Deflater
 
 class ZipUtilsSpec extends Specification {
@@ -1488,4 +1494,458 @@ class ZipUtilsSpec extends Specification {
 		then:
 		thrown(NullPointerException)
 	}
+
+	def "并行压缩目录与顺序压缩的条目和内容一致"() {
+		setup:
+		File work = new File("target/test-work/zip-parallel")
+		work.deleteDir()
+		File inputDir = new File(work, "input")
+		new File(inputDir, "sub/empty").mkdirs()
+		(0..<50).each { i ->
+			new File(inputDir, (i % 2 == 0 ? "sub/" : "") + "file${i}.txt").text = "test content ${i}\n" * (i * 10)
+		}
+		File sequentialFile = new File(work, "sequential.zip")
+		File parallelFile = new File(work, "parallel.zip")
+
+		when:
+		ZipUtils.archive(inputDir, sequentialFile)
+		ZipUtils.archiveParallel(inputDir, parallelFile, Deflater.DEFAULT_COMPRESSION, null, 4)
+
+		then: "条目顺序与内容一致"
+		readEntries(parallelFile).keySet().toList() == readEntries(sequentialFile).keySet().toList()
+		readEntries(parallelFile) == readEntries(sequentialFile)
+	}
+
+	def "并行压缩文件到ZIP文件成功"() {
+		setup:
+		File work = new File("target/test-work/zip")
+		work.mkdirs()
+		File inputFile = new File(work, "input.txt")
+		inputFile.text = "test content"
+		File outputFile = new File(work, "output-parallel.zip")
+
+		when:
+		ZipUtils.archiveParallel(inputFile, outputFile)
+
+		then:
+		readEntries(outputFile) == ["input.txt": "test content"]
+	}
+
+	def "批量并行压缩文件到ZIP文件带条目处理器成功"() {
+		setup:
+		File work = new File("target/test-work/zip")
+		work.mkdirs()
+		File inputFile1 = new File(work, "input1.txt")
+		inputFile1.text = "test content 1"
+		File inputFile2 = new File(work, "input2.txt")
+		inputFile2.text = "test content 2"
+		File outputFile = new File(work, "output-parallel.zip")
+
+		when:
+		ZipUtils.archiveParallel([inputFile1, inputFile2], outputFile, Deflater.BEST_SPEED, { ZipArchiveEntry entry ->
+			entry.setComment("comment")
+			if (entry.name == "input1.txt") {
+				entry.setMethod(ZipArchiveEntry.STORED)
+			}
+		}, 2)
+
+		then:
+		readEntries(outputFile) == ["input1.txt": "test content 1", "input2.txt": "test content 2"]
+		readMethods(outputFile) == ["input1.txt": ZipArchiveEntry.STORED, "input2.txt": ZipArchiveEntry.DEFLATED]
+	}
+
+	def "并行压缩到输出流不关闭调用方线程池"() {
+		setup:
+		File work = new File("target/test-work/zip")
+		work.mkdirs()
+		File inputFile1 = new File(work, "input1.txt")
+		inputFile1.text = "test content 1"
+		File inputFile2 = new File(work, "input2.txt")
+		inputFile2.text = "test content 2"
+		def executorService = Executors.newFixedThreadPool(2)
+		def outputStream = new ByteArrayOutputStream()
+
+		when:
+		ZipUtils.archiveParallel([inputFile1, inputFile2], outputStream, Deflater.DEFAULT_COMPRESSION, null, executorService)
+		File outputFile = new File(work, "output-parallel.zip")
+		outputFile.bytes = outputStream.toByteArray()
+
+		then:
+		!executorService.isShutdown()
+		readEntries(outputFile) == ["input1.txt": "test content 1", "input2.txt": "test content 2"]
+
+		cleanup:
+		executorService?.shutdown()
+	}
+
+	def "并行压缩非法参数抛出异常"() {
+		setup:
+		File work = new File("target/test-work/zip")
+		work.mkdirs()
+		File inputFile = new File(work, "input.txt")
+		inputFile.text = "test content"
+		File outputFile = new File(work, "output-parallel.zip")
+
+		when: "线程数不合法"
+		ZipUtils.archiveParallel(inputFile, outputFile, Deflater.DEFAULT_COMPRESSION, null, 0)
+		then:
+		thrown(IllegalArgumentException)
+
+		when: "输出文件为null"
+		ZipUtils.archiveParallel(inputFile, null as File)
+		then:
+		thrown(NullPointerException)
+
+		when: "线程池为null"
+		ZipUtils.archiveParallel([inputFile], new ByteArrayOutputStream(), Deflater.DEFAULT_COMPRESSION, null, null)
+		then:
+		thrown(NullPointerException)
+	}
+
+	private static Map<String, String> readEntries(File zipFile) {
+		Map<String, String> entries = [:]
+		try (ZipFile zip = ZipFile.builder().setFile(zipFile).get()) {
+			zip.entries.each { ZipArchiveEntry entry ->
+				entries[entry.name] = entry.directory ? null : zip.getInputStream(entry).text
+			}
+		}
+		return entries
+	}
+
+	private static Map<String, Integer> readMethods(File zipFile) {
+		Map<String, Integer> methods = [:]
+		try (ZipFile zip = ZipFile.builder().setFile(zipFile).get()) {
+			zip.entries.each { ZipArchiveEntry entry ->
+				methods[entry.name] = entry.method
+			}
+		}
+		return methods
+	}
+
+	def "并行解压ZipFile与顺序解压结果一致"() {
+		setup:
+		File work = new File("target/test-work/zip-extract-parallel")
+		work.deleteDir()
+		File zipFile = new File("src/test/resources/test.zip")
+		File sequentialDir = new File(work, "sequential")
+		File parallelDir = new File(work, "parallel")
+
+		when:
+		try (ZipFile zip = ZipFile.builder().setFile(zipFile).get()) {
+			ZipUtils.extract(zip, sequentialDir)
+			ZipUtils.extractParallel(zip, parallelDir, 4)
+		}
+
+		then:
+		!listFiles(parallelDir).isEmpty()
+		listFiles(parallelDir) == listFiles(sequentialDir)
+	}
+
+	def "并行解压ZipFile回调进度并限制在途字节"() {
+		setup:
+		File work = new File("target/test-work/zip-extract-parallel")
+		work.deleteDir()
+		File zipFile = new File("src/test/resources/test.zip")
+		File outputDir = new File(work, "output")
+		def executorService = Executors.newFixedThreadPool(2)
+		List<Integer> completedEntries = []
+		List<Long> completedBytes = []
+		int total = 0
+		long totalSize = 0
+
+		when: "在途字节上限小于单个条目大小"
+		try (ZipFile zip = ZipFile.builder().setFile(zipFile).get()) {
+			ZipUtils.extractParallel(zip, outputDir, executorService, 1024, { entry, completed, totalEntries, bytes, totalBytes ->
+				completedEntries << completed
+				completedBytes << bytes
+				total = totalEntries
+				totalSize = totalBytes
+			} as ArchiveUtils.ExtractProgressListener)
+		}
+
+		then:
+		completedEntries == ((total - completedEntries.size() + 1)..total).toList()
+		completedBytes == completedBytes.toSorted()
+		completedBytes.last() == totalSize
+		totalSize == listFiles(outputDir).keySet().sum { new File(outputDir, it).length() }
+		!executorService.isShutdown()
+
+		cleanup:
+		executorService?.shutdown()
+	}
+
+	def "并行解压ZipFile在途字节不足时调用线程暂停提交"() {
+		setup:
+		File work = new File("target/test-work/zip-extract-parallel")
+		work.deleteDir()
+		File zipFile = new File("src/test/resources/test.zip")
+		File outputDir = new File(work, "output")
+		List<Integer> queuedTasks = Collections.synchronizedList([])
+		def executorService = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>()) {
+			@Override
+			void execute(Runnable command) {
+				queuedTasks << getQueue().size()
+				super.execute(command)
+			}
+		}
+
+		when: "每个条目都需要独占全部在途字节预算"
+		try (ZipFile zip = ZipFile.builder().setFile(zipFile).get()) {
+			ZipUtils.extractParallel(zip, outputDir, executorService, 1024, null)
+		}
+
+		then: "提交新任务时之前的任务已经执行完毕，不会在线程池中排队等待预算"
+		queuedTasks.size() == 4
+		queuedTasks.every { it == 0 }
+		listFiles(outputDir).size() == 4
+
+		cleanup:
+		executorService?.shutdown()
+	}
+
+	def "并行解压ZipFile非法参数抛出异常"() {
+		setup:
+		File work = new File("target/test-work/zip")
+		work.mkdirs()
+		File zipFile = new File("src/test/resources/test.zip")
+		File outputDir = new File(work, "output")
+
+		when: "线程数不合法"
+		try (ZipFile zip = ZipFile.builder().setFile(zipFile).get()) {
+			ZipUtils.extractParallel(zip, outputDir, 0)
+		}
+		then:
+		thrown(IllegalArgumentException)
+
+		when: "ZipFile为null"
+		ZipUtils.extractParallel(null as ZipFile, outputDir, 2)
+		then:
+		thrown(NullPointerException)
+	}
+
+	def "按条件解压ZIP条目"() {
+		setup:
+		File work = new File("target/test-work/zip-extract-filter")
+		work.deleteDir()
+		File zipFile = new File("src/test/resources/test.zip")
+		File fileOutputDir = new File(work, "file")
+		File resourceOutputDir = new File(work, "resource")
+
+		when:
+		try (ZipFile zip = ZipFile.builder().setFile(zipFile).get()) {
+			ZipUtils.extract(zip, fileOutputDir, ArchiveUtils.globFilter("*.svg", "*.jpg"))
+		}
+		ZipUtils.extract(new ZipResource(zipFile), resourceOutputDir, { it.size > 800000 })
+
+		then:
+		listFiles(fileOutputDir).keySet() == ["monalisa-100x100.jpg", "sample-cat.svg"] as Set
+		listFiles(resourceOutputDir).keySet() == ["sample-1.gif"] as Set
+
+		when:
+		try (ZipFile zip = ZipFile.builder().setFile(zipFile).get()) {
+			ZipUtils.extract(zip, fileOutputDir, null as Predicate<ZipArchiveEntry>)
+		}
+
+		then:
+		thrown(NullPointerException)
+	}
+
+	def "增量压缩复用未变化文件的压缩数据"() {
+		setup:
+		File work = new File("target/test-work/zip-incremental")
+		work.deleteDir()
+		File inputDir = new File(work, "input")
+		new File(inputDir, "docs").mkdirs()
+		File sameFile = new File(inputDir, "docs/same.txt")
+		File touchedFile = new File(inputDir, "touched.txt")
+		File changedFile = new File(inputDir, "changed.txt")
+		sameFile.text = "a" * 100000
+		touchedFile.text = "b" * 100000
+		changedFile.text = "c" * 100000
+		[sameFile, touchedFile, changedFile].each { it.setLastModified(1700000000000L) }
+		File previousArchive = new File(work, "previous.zip")
+		File outputFile = new File(work, "output.zip")
+		File outputDir = new File(work, "output")
+
+		when:
+		ArchiveManifest previousManifest = ZipUtils.archiveIncremental([inputDir], null, null, previousArchive,
+			Deflater.NO_COMPRESSION)
+
+		then:
+		previousManifest.entries.keySet() == ["input/docs/same.txt", "input/touched.txt", "input/changed.txt"] as Set
+		previousManifest.getEntry("input/docs/same.txt").size() == 100000
+		previousManifest.getEntry("input/docs/same.txt").lastModified() == 1700000000000L
+
+		when:
+		touchedFile.setLastModified(1700000010000L)
+		changedFile.text = "d" * 100000
+		changedFile.setLastModified(1700000010000L)
+		new File(inputDir, "added.txt").text = "e" * 100000
+		ArchiveManifest manifest = ZipUtils.archiveIncremental([inputDir], previousArchive, previousManifest,
+			outputFile, Deflater.BEST_COMPRESSION)
+		Map<String, Long> previousSizes = readCompressedSizes(previousArchive)
+		Map<String, Long> sizes = readCompressedSizes(outputFile)
+		ZipUtils.extract(new ZipResource(outputFile), outputDir)
+
+		then:
+		sizes["input/docs/same.txt"] == previousSizes["input/docs/same.txt"]
+		sizes["input/touched.txt"] == previousSizes["input/touched.txt"]
+		sizes["input/changed.txt"] < previousSizes["input/changed.txt"]
+		sizes["input/added.txt"] < 1000
+		listFiles(new File(outputDir, "input")) == listFiles(inputDir)
+		manifest.size() == 4
+		manifest.getEntry("input/touched.txt").lastModified() == 1700000010000L
+		manifest.getEntry("input/docs/same.txt") == previousManifest.getEntry("input/docs/same.txt")
+		manifest.getEntry("input/changed.txt").crc() != previousManifest.getEntry("input/changed.txt").crc()
+	}
+
+	def "增量压缩视大小与修改时间均未变化的文件为未变化"() {
+		setup:
+		File work = new File("target/test-work/zip-incremental-unchanged")
+		work.deleteDir()
+		File inputDir = new File(work, "input")
+		inputDir.mkdirs()
+		File inputFile = new File(inputDir, "a.txt")
+		inputFile.text = "aaaa"
+		inputFile.setLastModified(1700000000000L)
+		File previousArchive = new File(work, "previous.zip")
+		File outputFile = new File(work, "output.zip")
+
+		when:
+		ArchiveManifest previousManifest = ZipUtils.archiveIncremental([inputDir], null, null, previousArchive,
+			Deflater.DEFAULT_COMPRESSION)
+		inputFile.text = "bbbb"
+		inputFile.setLastModified(1700000000000L)
+		ZipUtils.archiveIncremental([inputDir], previousArchive, previousManifest, outputFile,
+			Deflater.DEFAULT_COMPRESSION)
+
+		then:
+		readEntryText(outputFile, "input/a.txt") == "aaaa"
+
+		when:
+		ZipUtils.archiveIncremental([inputDir], previousArchive, null, outputFile, Deflater.DEFAULT_COMPRESSION)
+
+		then:
+		readEntryText(outputFile, "input/a.txt") == "bbbb"
+	}
+
+	def "原地增量压缩更新归档与清单"() {
+		setup:
+		File work = new File("target/test-work/zip-incremental-in-place")
+		work.deleteDir()
+		File inputDir = new File(work, "input")
+		inputDir.mkdirs()
+		new File(inputDir, "a.txt").text = "aaaa"
+		File archiveFile = new File(work, "backup.zip")
+		File manifestFile = new File(work, "backup.zip.manifest")
+		File outputDir = new File(work, "output")
+
+		when:
+		ZipUtils.archiveIncremental(inputDir, archiveFile)
+
+		then:
+		archiveFile.exists()
+		ArchiveManifest.load(manifestFile).entries.keySet() == ["input/a.txt"] as Set
+
+		when:
+		new File(inputDir, "b.txt").text = "bbbb"
+		ZipUtils.archiveIncremental([inputDir], archiveFile, Deflater.BEST_SPEED)
+		ZipUtils.extract(new ZipResource(archiveFile), outputDir)
+
+		then:
+		ArchiveManifest.load(manifestFile).entries.keySet() == ["input/a.txt", "input/b.txt"] as Set
+		listFiles(new File(outputDir, "input")) == listFiles(inputDir)
+		work.list() as Set == ["backup.zip", "backup.zip.manifest", "input", "output"] as Set
+	}
+
+	def "原地增量压缩文件名包含换行符时清单可以重新加载"() {
+		setup:
+		File work = new File("target/test-work/zip-incremental-newline")
+		work.deleteDir()
+		File inputDir = new File(work, "input")
+		inputDir.mkdirs()
+		new File(inputDir, "a\nb.txt").text = "aaaa"
+		File archiveFile = new File(work, "backup.zip")
+		File manifestFile = new File(work, "backup.zip.manifest")
+
+		when:
+		ZipUtils.archiveIncremental(inputDir, archiveFile)
+		new File(inputDir, "c.txt").text = "cccc"
+		ZipUtils.archiveIncremental(inputDir, archiveFile)
+
+		then:
+		ArchiveManifest.load(manifestFile).entries.keySet() == ["input/a\nb.txt", "input/c.txt"] as Set
+		work.list() as Set == ["backup.zip", "backup.zip.manifest", "input"] as Set
+	}
+
+	def "原地增量压缩清单文件无效时保持原归档不变"() {
+		setup:
+		File work = new File("target/test-work/zip-incremental-invalid")
+		work.deleteDir()
+		File inputDir = new File(work, "input")
+		inputDir.mkdirs()
+		new File(inputDir, "a.txt").text = "aaaa"
+		File archiveFile = new File(work, "backup.zip")
+		File manifestFile = new File(work, "backup.zip.manifest")
+		ZipUtils.archiveIncremental(inputDir, archiveFile)
+		String archiveDigest = archiveFile.bytes.md5()
+		manifestFile.text = "invalid"
+		new File(inputDir, "b.txt").text = "bbbb"
+
+		when:
+		ZipUtils.archiveIncremental(inputDir, archiveFile)
+
+		then:
+		thrown(IllegalArgumentException)
+		archiveFile.bytes.md5() == archiveDigest
+		work.list() as Set == ["backup.zip", "backup.zip.manifest", "input"] as Set
+	}
+
+	def "增量压缩非法参数抛出异常"() {
+		setup:
+		File work = new File("target/test-work/zip-incremental-args")
+		work.deleteDir()
+		File inputDir = new File(work, "input")
+		inputDir.mkdirs()
+		new File(inputDir, "a.txt").text = "aaaa"
+		File previousArchive = new File(work, "previous.zip")
+		ZipUtils.archiveIncremental([inputDir], null, null, previousArchive, Deflater.DEFAULT_COMPRESSION)
+
+		when:
+		action.call(inputDir, previousArchive)
+
+		then:
+		thrown(exception)
+
+		where:
+		action                                                                                                          | exception
+		{ File dir, File zip -> ZipUtils.archiveIncremental([], null, null, new File(zip.parentFile, "o.zip"), -1) }   | IllegalArgumentException
+		{ File dir, File zip -> ZipUtils.archiveIncremental([new File(dir, "missing")], null, null, new File(zip.parentFile, "o.zip"), -1) } | IllegalArgumentException
+		{ File dir, File zip -> ZipUtils.archiveIncremental([dir], null, null, null, -1) }                              | NullPointerException
+		{ File dir, File zip -> ZipUtils.archiveIncremental([dir], zip, null, zip, -1) }                                | IllegalArgumentException
+		{ File dir, File zip -> ZipUtils.archiveIncremental([dir], dir, null, new File(zip.parentFile, "o.zip"), -1) }  | IllegalArgumentException
+		{ File dir, File zip -> ZipUtils.archiveIncremental(dir, null) }                                                | NullPointerException
+		{ File dir, File zip -> ZipUtils.archiveIncremental(new File(dir, "missing"), zip) }                            | IOException
+	}
+
+	private static Map<String, Long> readCompressedSizes(File zipFile) {
+		ZipFile.builder().setFile(zipFile).get().withCloseable { ZipFile zip ->
+			zip.entries.toList().collectEntries { [(it.name): it.compressedSize] }
+		}
+	}
+
+	private static String readEntryText(File zipFile, String name) {
+		ZipFile.builder().setFile(zipFile).get().withCloseable { ZipFile zip ->
+			zip.getInputStream(zip.getEntry(name)).text
+		}
+	}
+
+	private static Map<String, String> listFiles(File dir) {
+		Map<String, String> files = [:]
+		dir.eachFileRecurse { File file ->
+			String path = dir.toPath().relativize(file.toPath()).toString().replace(File.separator, "/")
+			files[path] = file.directory ? null : file.bytes.md5()
+		}
+		return files
+	}
 }
@@ -1,6 +1,8 @@
 package io.github.pangju666.commons.compress.utils
 
 import io.github.pangju666.commons.compress.io.resource.ZstdResource
+import io.github.pangju666.commons.compress.model.ZstdDictionary
+import io.github.pangju666.commons.compress.model.ZstdOptions
 import io.github.pangju666.commons.io.resource.IOResource
 import org.apache.commons.compress.compressors.zstandard.ZstdCompressorOutputStream
 import org.apache.commons.compress.compressors.zstandard.ZstdConstants
@@ -295,4 +297,152 @@ class ZstdUtilsSpec extends Specification {
 		outputFile.exists()
 		outputFile.length() > 0
 	}
+
+	def "使用ZstdOptions压缩并解压字节数组"() {
+		setup:
+		byte[] bytes = ("zstd options content " * 2000).getBytes("UTF-8")
+		ZstdOptions options = new ZstdOptions(level)
+		options.setWorkers(workers)
+		options.setChecksum(checksum)
+		options.setLongDistanceMatching(longDistanceMatching)
+
+		when:
+		byte[] compressed = ZstdUtils.compress(bytes, options)
+
+		then:
+		compressed.length < bytes.length
+		ZstdUtils.uncompress(compressed, options) == bytes
+		uncompress(new ZstdResource(compressed)) == bytes
+
+		where:
+		level | workers | checksum | longDistanceMatching
+		1     | 0       | false    | false
+		3     | 2       | true     | false
+		19    | 0       | false    | true
+	}
+
+	def "使用训练字典压缩并解压小数据"() {
+		setup:
+		List<byte[]> samples = (1..1000).collect {
+			"{\"id\":${it},\"name\":\"user-${it}\",\"status\":\"active\",\"roles\":[\"reader\",\"writer\"]}".getBytes("UTF-8")
+		}
+		byte[] bytes = "{\"id\":1001,\"name\":\"user-1001\",\"status\":\"active\",\"roles\":[\"reader\"]}".getBytes("UTF-8")
+
+		when:
+		ZstdDictionary dictionary = ZstdUtils.trainDictionary(samples, 4096)
+		ZstdOptions options = new ZstdOptions()
+		options.setDictionary(dictionary)
+		byte[] compressed = ZstdUtils.compress(bytes, options)
+
+		then:
+		dictionary.getId() != 0
+		compressed.length < ZstdUtils.compress(bytes, new ZstdOptions()).length
+		ZstdUtils.uncompress(compressed, options) == bytes
+
+		when: "启用校验和时走流式压缩"
+		options.setChecksum(true)
+		compressed = ZstdUtils.compress(bytes, options)
+
+		then:
+		ZstdUtils.uncompress(compressed, options) == bytes
+
+		when: "解压时缺少字典"
+		ZstdUtils.uncompress(compressed, new ZstdOptions())
+
+		then:
+		thrown(IOException)
+	}
+
+	def "使用ZstdOptions压缩文件并从ZstdResource解压"() {
+		setup:
+		File work = new File("target/test-work/zstd")
+		work.mkdirs()
+		File inputFile = new File(work, "input.txt")
+		inputFile.text = "test content\n" * 10000
+		File outputFile = new File(work, "output.zst")
+		File uncompressedFile = new File(work, "uncompressed.txt")
+		ZstdOptions options = new ZstdOptions(ZstdConstants.ZSTD_CLEVEL_DEFAULT)
+		options.setWindowLog(28)
+
+		when:
+		ZstdUtils.compress(new IOResource(inputFile), outputFile, options)
+		ZstdUtils.uncompress(new ZstdResource(outputFile), uncompressedFile, options)
+
+		then:
+		uncompressedFile.bytes == inputFile.bytes
+	}
+
+	def "保存并加载ZstdDictionary"() {
+		setup:
+		File work = new File("target/test-work/zstd")
+		work.mkdirs()
+		File dictionaryFile = new File(work, "dictionary/test.dict")
+		byte[] bytes = "raw content dictionary".getBytes("UTF-8")
+
+		when:
+		ZstdDictionary dictionary = ZstdDictionary.of(bytes)
+		dictionary.save(dictionaryFile)
+		ZstdDictionary loaded = ZstdDictionary.load(dictionaryFile)
+
+		then:
+		loaded.toByteArray() == bytes
+		loaded.getId() == 0
+		dictionary.getCompressDict(3).is(dictionary.getCompressDict(3))
+		dictionary.getDecompressDict().is(dictionary.getDecompressDict())
+	}
+
+	def "ZstdOptions参数不合法抛出异常"() {
+		when:
+		new ZstdOptions(ZstdConstants.ZSTD_CLEVEL_MAX + 1)
+		then:
+		thrown(IllegalArgumentException)
+
+		when:
+		new ZstdOptions().setWorkers(-1)
+		then:
+		thrown(IllegalArgumentException)
+
+		when:
+		new ZstdOptions().setWindowLog(ZstdOptions.MIN_WINDOW_LOG - 1)
+		then:
+		thrown(IllegalArgumentException)
+
+		when:
+		ZstdDictionary.of(new byte[0])
+		then:
+		thrown(IllegalArgumentException)
+
+		when:
+		ZstdUtils.trainDictionary([], 1024)
+		then:
+		thrown(IllegalArgumentException)
+
+		when:
+		ZstdUtils.compress("test".getBytes("UTF-8"), null as ZstdOptions)
+		then:
+		thrown(NullPointerException)
+	}
+
+	def "ZstdOptions实际生效的窗口对数"() {
+		setup:
+		ZstdOptions options = new ZstdOptions()
+		options.setWindowLog(windowLog)
+		options.setLongDistanceMatching(longDistanceMatching)
+
+		expect:
+		options.getEffectiveWindowLog() == result
+
+		where:
+		windowLog | longDistanceMatching | result
+		0         | false                | 0
+		0         | true                 | ZstdOptions.DEFAULT_LONG_WINDOW_LOG
+		24        | true                 | 24
+		24        | false                | 24
+	}
+
+	private static byte[] uncompress(ZstdResource resource) {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream()
+		ZstdUtils.uncompress(resource, outputStream)
+		return outputStream.toByteArray()
+	}
 }
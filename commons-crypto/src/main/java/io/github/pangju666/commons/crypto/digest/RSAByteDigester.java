@@ -43,6 +43,7 @@ import java.util.Objects;
  *   <li>签名验证：公钥验签</li>
  *   <li>算法可选：支持 JCA 标准算法，默认 {@code SHA256withRSA}</li>
  *   <li>并发安全：关键配置与初始化同步控制</li>
+ *   <li>签名器复用：每个线程缓存已用密钥初始化的 {@link Signature}，避免每次调用重复查找 Provider 与设置密钥（2.2.0 新增）</li>
  * </ul>
  *
  * <h3>密钥管理</h3>
@@ -104,6 +105,21 @@ public final class RSAByteDigester implements ByteDigester {
 	 * @since 1.0.0
 	 */
 	private boolean initialized = false;
+	/**
+	 * 线程级签名器缓存（私钥签名）
+	 * <p>密钥在初始化后不可修改，因此每个线程首次签名时创建并初始化一次签名器，之后直接复用；
+	 * 操作失败时会丢弃当前线程的缓存，避免复用状态不确定的签名器。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	private final ThreadLocal<Signature> signSignatureCache = new ThreadLocal<>();
+	/**
+	 * 线程级验签器缓存（公钥验签）
+	 * <p>与 {@link #signSignatureCache} 相同的复用策略。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	private final ThreadLocal<Signature> verifySignatureCache = new ThreadLocal<>();
 
 	/**
 	 * 使用默认签名算法构建实例
@@ -225,11 +241,17 @@ public final class RSAByteDigester implements ByteDigester {
 		}
 
 		try {
-			Signature signature = Signature.getInstance(this.algorithm.getAlgorithm());
-			signature.initSign(privateKey);
+			Signature signature = signSignatureCache.get();
+			if (Objects.isNull(signature)) {
+				signature = Signature.getInstance(this.algorithm.getAlgorithm());
+				signature.initSign(privateKey);
+				signSignatureCache.set(signature);
+			}
+			// sign 完成后签名器会恢复到 initSign 之后的状态，可直接复用
 			signature.update(message);
 			return signature.sign();
 		} catch (SignatureException | InvalidKeyException | NoSuchAlgorithmException e) {
+			signSignatureCache.remove();
 			throw new EncryptionOperationNotPossibleException(e);
 		}
 	}
@@ -266,11 +288,17 @@ public final class RSAByteDigester implements ByteDigester {
 		}
 
 		try {
-			Signature signature = Signature.getInstance(this.algorithm.getAlgorithm());
-			signature.initVerify(publicKey);
+			Signature signature = verifySignatureCache.get();
+			if (Objects.isNull(signature)) {
+				signature = Signature.getInstance(this.algorithm.getAlgorithm());
+				signature.initVerify(publicKey);
+				verifySignatureCache.set(signature);
+			}
+			// verify 完成后验签器会恢复到 initVerify 之后的状态，可直接复用
 			signature.update(message);
 			return signature.verify(digest);
 		} catch (SignatureException | InvalidKeyException | NoSuchAlgorithmException e) {
+			verifySignatureCache.remove();
 			throw new EncryptionOperationNotPossibleException(e);
 		}
 	}
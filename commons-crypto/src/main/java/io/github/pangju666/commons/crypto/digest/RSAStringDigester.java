@@ -39,6 +39,7 @@ import java.security.interfaces.RSAPublicKey;
  *   <li>签名验证：公钥验签</li>
  *   <li>编码规范：RFC 4648 标准 Base64（包含填充）</li>
  *   <li>并发安全：关键配置与初始化同步控制</li>
+ *   <li>签名器复用：委托的 {@link RSAByteDigester} 按线程缓存已初始化的签名器（2.2.0 新增）</li>
  * </ul>
  *
  * <h3>密钥管理</h3>
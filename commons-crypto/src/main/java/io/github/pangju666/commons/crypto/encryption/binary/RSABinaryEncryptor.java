@@ -16,6 +16,7 @@
 
 package io.github.pangju666.commons.crypto.encryption.binary;
 
+import io.github.pangju666.commons.crypto.enums.RSAEncryptionMode;
 import io.github.pangju666.commons.crypto.key.RSAKeyPair;
 import io.github.pangju666.commons.crypto.lang.CryptoConstants;
 import io.github.pangju666.commons.crypto.transformation.RSATransformation;
@@ -32,11 +33,14 @@ import org.jasypt.util.binary.BinaryEncryptor;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.KeyGenerator;
 import javax.crypto.NoSuchPaddingException;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import javax.crypto.SecretKey;
+import java.io.*;
 import java.security.InvalidKeyException;
+import java.security.Key;
 import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 import java.security.spec.InvalidKeySpecException;
@@ -53,7 +57,10 @@ import java.util.Objects;
  *   <li>分段处理：自动对超出单块大小的数据进行分块加/解密</li>
  *   <li>非对称密钥：公钥加密、私钥解密</li>
  *   <li>方案可插拔：默认 OAEPWithSHA-256，支持自定义（如 PKCS#1 v1.5）</li>
+ *   <li>数字信封：可切换为 {@link RSAEncryptionMode#ENVELOPE} 模式，使用 RSA 加密随机 AES-256 数据密钥、AES-GCM 加密数据（2.2.0 新增）</li>
+ *   <li>流式处理：支持基于 {@link InputStream}/{@link OutputStream} 的数字信封加/解密（2.2.0 新增）</li>
  *   <li>并发安全：关键初始化与配置变更均做同步控制</li>
+ *   <li>密码器复用：每个线程缓存已用密钥初始化的 {@link Cipher}，避免每次调用重复查找 Provider 与设置密钥（2.2.0 新增）</li>
  * </ul>
  *
  * <h3>密钥管理</h3>
@@ -65,10 +72,25 @@ import java.util.Objects;
  * <h3>安全与限制</h3>
  * <ul>
  *   <li>优先使用 OAEP；不建议在新场景使用过时的 PKCS#1 v1.5</li>
- *   <li>大数据建议采用“RSA + 对称加密”的混合方案</li>
+ *   <li>大数据建议使用 {@link RSAEncryptionMode#ENVELOPE} 模式或流式方法，只需一次 RSA 运算</li>
+ *   <li>{@link RSAEncryptionMode#BLOCK} 与 {@link RSAEncryptionMode#ENVELOPE} 的密文互不兼容</li>
  *   <li>分块逻辑为工程兼容处理，不改变 RSA 单块大小上限</li>
  * </ul>
  *
+ * <h3>数字信封示例</h3>
+ * <pre>{@code
+ * RSABinaryEncryptor encryptor = new RSABinaryEncryptor();
+ * encryptor.setKeyPair(keyPair);
+ * encryptor.setMode(RSAEncryptionMode.ENVELOPE);
+ * byte[] encrypted = encryptor.encrypt(largeBytes);
+ * byte[] decrypted = encryptor.decrypt(encrypted);
+ *
+ * // 流式加/解密（始终使用数字信封格式）
+ * try (OutputStream outputStream = encryptor.openEncryptOutputStream(new FileOutputStream("data.enc"))) {
+ *     inputStream.transferTo(outputStream);
+ * }
+ * }</pre>
+ *
  * <h3>初始化行为</h3>
  * <ul>
  *   <li>惰性初始化且幂等；首次加/解密时计算并缓存分块大小</li>
@@ -81,6 +103,13 @@ import java.util.Objects;
  * @since 1.0.0
  */
 public final class RSABinaryEncryptor implements BinaryEncryptor {
+	/**
+	 * 数字信封数据密钥与随机数前缀使用的随机数生成器
+	 *
+	 * @since 2.2.0
+	 */
+	private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
 	/**
 	 * RSA 加密方案
 	 * <p>定义算法与填充模式，影响 Cipher 名称与分块大小计算：</p>
@@ -145,6 +174,29 @@ public final class RSABinaryEncryptor implements BinaryEncryptor {
 	 * @since 1.0.0
 	 */
 	private RSAPrivateKey privateKey;
+	/**
+	 * 字节数组加/解密使用的加密模式
+	 * <p>默认为 {@link RSAEncryptionMode#BLOCK}；初始化后不可修改。</p>
+	 *
+	 * @see #setMode(RSAEncryptionMode)
+	 * @since 2.2.0
+	 */
+	private RSAEncryptionMode mode = RSAEncryptionMode.BLOCK;
+	/**
+	 * 线程级公钥加密密码器缓存
+	 * <p>密钥在初始化后不可修改，因此每个线程首次加密时创建并初始化一次密码器，之后直接复用；
+	 * 操作失败时会丢弃当前线程的缓存，避免复用状态不确定的密码器。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	private final ThreadLocal<Cipher> encryptCipherCache = new ThreadLocal<>();
+	/**
+	 * 线程级私钥解密密码器缓存
+	 * <p>与 {@link #encryptCipherCache} 相同的复用策略。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	private final ThreadLocal<Cipher> decryptCipherCache = new ThreadLocal<>();
 
 	/**
 	 * 构建使用默认配置的加密器实例
@@ -236,6 +288,35 @@ public final class RSABinaryEncryptor implements BinaryEncryptor {
 		this.publicKey = publicKey;
 	}
 
+	/**
+	 * 设置字节数组加/解密使用的加密模式（初始化前有效）
+	 * <p>已初始化后调用将抛出 {@link AlreadyInitializedException}。</p>
+	 * <p>该设置只影响 {@link #encrypt(byte[])} 与 {@link #decrypt(byte[])}，流式方法始终使用数字信封格式。</p>
+	 *
+	 * @param mode 加密模式，不可为 null
+	 * @throws NullPointerException        当 mode 为 null 时抛出
+	 * @throws AlreadyInitializedException 当已初始化后调用时抛出
+	 * @see RSAEncryptionMode
+	 * @since 2.2.0
+	 */
+	public synchronized void setMode(final RSAEncryptionMode mode) {
+		Validate.notNull(mode, "mode 不可为 null");
+		if (initialized) {
+			throw new AlreadyInitializedException();
+		}
+		this.mode = mode;
+	}
+
+	/**
+	 * 获取字节数组加/解密使用的加密模式
+	 *
+	 * @return 加密模式
+	 * @since 2.2.0
+	 */
+	public RSAEncryptionMode getMode() {
+		return mode;
+	}
+
 	/**
 	 * 初始化加密组件
 	 * <p>根据当前配置计算并缓存分块大小（加密/解密），自动检测可用密钥：</p>
@@ -280,11 +361,13 @@ public final class RSABinaryEncryptor implements BinaryEncryptor {
 	 *   <li>合并并返回结果</li>
 	 * </ol>
 	 *
+	 * <p>{@link RSAEncryptionMode#ENVELOPE} 模式下输出数字信封格式的密文，仅执行一次 RSA 运算。</p>
+	 *
 	 * @param binary 要加密的数据，允许为 null 或空数组（返回空数组）
 	 * @return 加密后的数据（非 null；空输入返回空数组）
 	 * @throws EncryptionInitializationException       当算法不支持或密钥规格解析失败时抛出
 	 * @throws EncryptionOperationNotPossibleException 未设置公钥或加密过程出现异常时抛出
-	 * @apiNote 若需提升大数据性能，建议配合对称加密采用混合方案
+	 * @apiNote 若需提升大数据性能，建议使用 {@link RSAEncryptionMode#ENVELOPE} 模式
 	 * @since 1.0.0
 	 */
 	public byte[] encrypt(final byte[] binary) {
@@ -297,13 +380,22 @@ public final class RSABinaryEncryptor implements BinaryEncryptor {
 		if (!initialized) {
 			initialize();
 		}
+		if (mode == RSAEncryptionMode.ENVELOPE) {
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream(binary.length + 1024);
+			try (OutputStream envelopeOutputStream = openEncryptOutputStream(outputStream)) {
+				envelopeOutputStream.write(binary);
+			} catch (IOException e) {
+				throw new EncryptionOperationNotPossibleException(e);
+			}
+			return outputStream.toByteArray();
+		}
 
 		try {
-			Cipher cipher = Cipher.getInstance(this.transformation.getName());
-			cipher.init(Cipher.ENCRYPT_MODE, publicKey);
+			Cipher cipher = getCipher(encryptCipherCache, Cipher.ENCRYPT_MODE, publicKey);
 			return doFinal(cipher, binary, this.encryptBlockSize);
 		} catch (IllegalBlockSizeException | BadPaddingException | InvalidKeyException | NoSuchAlgorithmException |
 		         NoSuchPaddingException e) {
+			encryptCipherCache.remove();
 			throw new EncryptionOperationNotPossibleException(e);
 		}
 	}
@@ -318,11 +410,13 @@ public final class RSABinaryEncryptor implements BinaryEncryptor {
 	 *   <li>合并并返回原文</li>
 	 * </ol>
 	 *
+	 * <p>{@link RSAEncryptionMode#ENVELOPE} 模式下按数字信封格式解密，并校验每个分段的认证标签。</p>
+	 *
 	 * @param encryptedBinary 要解密的数据，允许为 null 或空数组（返回空数组）
 	 * @return 解密后的原始数据（非 null；空输入返回空数组）
 	 * @throws EncryptionInitializationException       当算法不支持或密钥规格解析失败时抛出
-	 * @throws EncryptionOperationNotPossibleException 未设置私钥或解密过程出现异常时抛出
-	 * @apiNote 若需提升大数据性能，建议配合对称加密采用混合方案
+	 * @throws EncryptionOperationNotPossibleException 未设置私钥、密文被篡改或解密过程出现异常时抛出
+	 * @apiNote 若需提升大数据性能，建议使用 {@link RSAEncryptionMode#ENVELOPE} 模式
 	 * @since 1.0.0
 	 */
 	public byte[] decrypt(final byte[] encryptedBinary) {
@@ -335,17 +429,179 @@ public final class RSABinaryEncryptor implements BinaryEncryptor {
 		if (!initialized) {
 			initialize();
 		}
+		if (mode == RSAEncryptionMode.ENVELOPE) {
+			try (InputStream envelopeInputStream = openDecryptInputStream(new ByteArrayInputStream(encryptedBinary))) {
+				return envelopeInputStream.readAllBytes();
+			} catch (IOException e) {
+				throw new EncryptionOperationNotPossibleException(e);
+			}
+		}
 
 		try {
-			Cipher cipher = Cipher.getInstance(this.transformation.getName());
-			cipher.init(Cipher.DECRYPT_MODE, privateKey);
+			Cipher cipher = getCipher(decryptCipherCache, Cipher.DECRYPT_MODE, privateKey);
 			return doFinal(cipher, encryptedBinary, this.decryptBlockSize);
 		} catch (IllegalBlockSizeException | BadPaddingException | InvalidKeyException | NoSuchAlgorithmException |
 		         NoSuchPaddingException e) {
+			decryptCipherCache.remove();
 			throw new EncryptionOperationNotPossibleException(e);
 		}
 	}
 
+	/**
+	 * 打开数字信封加密输出流
+	 * <p>立即生成随机 AES-256 数据密钥并使用公钥加密后写入信封头，之后写入的数据按 64KB 分段使用 AES-GCM 加密。</p>
+	 * <p>必须关闭返回的输出流才会写入最后分段，关闭时会同时关闭 {@code outputStream}。</p>
+	 * <p>该方法不受 {@link #setMode(RSAEncryptionMode)} 影响，始终输出数字信封格式。</p>
+	 *
+	 * @param outputStream 密文输出流，不可为 null
+	 * @return 加密输出流
+	 * @throws IOException                             当写入信封头失败时抛出
+	 * @throws NullPointerException                    当 outputStream 为 null 时抛出
+	 * @throws EncryptionInitializationException       当算法不支持或密钥规格解析失败时抛出
+	 * @throws EncryptionOperationNotPossibleException 未设置公钥或加密过程出现异常时抛出
+	 * @since 2.2.0
+	 */
+	public OutputStream openEncryptOutputStream(final OutputStream outputStream) throws IOException {
+		Validate.notNull(outputStream, "outputStream 不可为 null");
+		return newEnvelopeOutputStream(outputStream);
+	}
+
+	/**
+	 * 打开数字信封解密输入流
+	 * <p>立即读取信封头并使用私钥解密数据密钥，之后逐分段校验并解密。</p>
+	 * <p>密文被篡改或截断时，读取方法抛出 {@link EncryptionOperationNotPossibleException}；关闭返回的输入流时会同时关闭 {@code inputStream}。</p>
+	 *
+	 * @param inputStream 密文输入流，不可为 null
+	 * @return 解密输入流
+	 * @throws IOException                             当读取信封头失败时抛出
+	 * @throws NullPointerException                    当 inputStream 为 null 时抛出
+	 * @throws EncryptionInitializationException       当算法不支持或密钥规格解析失败时抛出
+	 * @throws EncryptionOperationNotPossibleException 未设置私钥、信封头非法或数据密钥解密失败时抛出
+	 * @since 2.2.0
+	 */
+	public InputStream openDecryptInputStream(final InputStream inputStream) throws IOException {
+		Validate.notNull(inputStream, "inputStream 不可为 null");
+		if (Objects.isNull(privateKey)) {
+			throw new EncryptionOperationNotPossibleException("未设置私钥");
+		}
+		if (!initialized) {
+			initialize();
+		}
+
+		return new RSAEnvelopeInputStream(inputStream, encryptedKey -> {
+			try {
+				return getCipher(decryptCipherCache, Cipher.DECRYPT_MODE, privateKey).doFinal(encryptedKey);
+			} catch (IllegalBlockSizeException | BadPaddingException | InvalidKeyException | NoSuchAlgorithmException |
+			         NoSuchPaddingException e) {
+				decryptCipherCache.remove();
+				throw new EncryptionOperationNotPossibleException(e);
+			}
+		});
+	}
+
+	/**
+	 * 以数字信封格式加密输入流中的全部数据并写入输出流
+	 * <p>方法不会关闭 {@code inputStream} 与 {@code outputStream}。</p>
+	 *
+	 * @param inputStream  明文输入流，不可为 null
+	 * @param outputStream 密文输出流，不可为 null
+	 * @throws IOException                             当读写失败时抛出
+	 * @throws NullPointerException                    当任一参数为 null 时抛出
+	 * @throws EncryptionInitializationException       当算法不支持或密钥规格解析失败时抛出
+	 * @throws EncryptionOperationNotPossibleException 未设置公钥或加密过程出现异常时抛出
+	 * @see #openEncryptOutputStream(OutputStream)
+	 * @since 2.2.0
+	 */
+	public void encrypt(final InputStream inputStream, final OutputStream outputStream) throws IOException {
+		Validate.notNull(inputStream, "inputStream 不可为 null");
+		Validate.notNull(outputStream, "outputStream 不可为 null");
+
+		RSAEnvelopeOutputStream envelopeOutputStream = newEnvelopeOutputStream(outputStream);
+		inputStream.transferTo(envelopeOutputStream);
+		envelopeOutputStream.finish();
+	}
+
+	/**
+	 * 解密数字信封格式的输入流并将明文写入输出流
+	 * <p>方法不会关闭 {@code inputStream} 与 {@code outputStream}。</p>
+	 *
+	 * @param inputStream  密文输入流，不可为 null
+	 * @param outputStream 明文输出流，不可为 null
+	 * @throws IOException                             当读写失败时抛出
+	 * @throws NullPointerException                    当任一参数为 null 时抛出
+	 * @throws EncryptionInitializationException       当算法不支持或密钥规格解析失败时抛出
+	 * @throws EncryptionOperationNotPossibleException 未设置私钥、密文被篡改或解密过程出现异常时抛出
+	 * @see #openDecryptInputStream(InputStream)
+	 * @since 2.2.0
+	 */
+	public void decrypt(final InputStream inputStream, final OutputStream outputStream) throws IOException {
+		Validate.notNull(outputStream, "outputStream 不可为 null");
+
+		openDecryptInputStream(inputStream).transferTo(outputStream);
+	}
+
+	/**
+	 * 创建数字信封加密输出流
+	 * <p>生成随机数据密钥与随机数前缀，并使用公钥加密数据密钥。</p>
+	 *
+	 * @param outputStream 密文输出流
+	 * @return 加密输出流
+	 * @throws IOException 当写入信封头失败时抛出
+	 * @since 2.2.0
+	 */
+	private RSAEnvelopeOutputStream newEnvelopeOutputStream(final OutputStream outputStream) throws IOException {
+		if (Objects.isNull(publicKey)) {
+			throw new EncryptionOperationNotPossibleException("未设置公钥");
+		}
+		if (!initialized) {
+			initialize();
+		}
+
+		SecretKey key;
+		byte[] encryptedKey;
+		try {
+			KeyGenerator keyGenerator = KeyGenerator.getInstance(CryptoConstants.AES_ALGORITHM);
+			keyGenerator.init(CryptoConstants.AES_GCM_KEY_SIZE, SECURE_RANDOM);
+			key = keyGenerator.generateKey();
+			encryptedKey = getCipher(encryptCipherCache, Cipher.ENCRYPT_MODE, publicKey).doFinal(key.getEncoded());
+		} catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+			throw new EncryptionInitializationException(e);
+		} catch (IllegalBlockSizeException | BadPaddingException | InvalidKeyException e) {
+			encryptCipherCache.remove();
+			throw new EncryptionOperationNotPossibleException(e);
+		}
+
+		byte[] noncePrefix = new byte[RSAEnvelopeOutputStream.NONCE_PREFIX_LENGTH];
+		SECURE_RANDOM.nextBytes(noncePrefix);
+		return new RSAEnvelopeOutputStream(outputStream, encryptedKey, key, noncePrefix,
+			RSAEnvelopeOutputStream.DEFAULT_SEGMENT_SIZE);
+	}
+
+	/**
+	 * 获取当前线程缓存的密码器
+	 * <p>缓存不存在时按加密方案创建密码器并使用指定密钥初始化。
+	 * RSA 密码器在每次 {@code doFinal} 后会自动恢复到初始化后的状态，因此同一线程可直接重复使用。</p>
+	 *
+	 * @param cache  线程级密码器缓存
+	 * @param opmode 密码器模式
+	 * @param key    公钥或私钥
+	 * @return 已初始化的密码器
+	 * @throws NoSuchAlgorithmException 当算法不可用时抛出
+	 * @throws NoSuchPaddingException   当填充方案不可用时抛出
+	 * @throws InvalidKeyException      当密钥非法时抛出
+	 * @since 2.2.0
+	 */
+	private Cipher getCipher(final ThreadLocal<Cipher> cache, final int opmode, final Key key)
+		throws NoSuchAlgorithmException, NoSuchPaddingException, InvalidKeyException {
+		Cipher cipher = cache.get();
+		if (Objects.isNull(cipher)) {
+			cipher = Cipher.getInstance(this.transformation.getName());
+			cipher.init(opmode, key);
+			cache.set(cipher);
+		}
+		return cipher;
+	}
+
 	/**
 	 * 执行分段加密/解密操作
 	 * <p>内部方法，处理大数据的分块加密/解密，流程包括：</p>
@@ -0,0 +1,254 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.crypto.encryption.binary;
+
+import io.github.pangju666.commons.crypto.lang.CryptoConstants;
+import org.jasypt.exceptions.EncryptionInitializationException;
+import org.jasypt.exceptions.EncryptionOperationNotPossibleException;
+
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * RSA 数字信封解密输入流
+ * <p>读取 {@link RSAEnvelopeOutputStream} 写出的信封，逐分段校验认证标签并解密。</p>
+ * <p>任一分段认证失败、密文被截断或分段顺序被篡改时，读取方法抛出 {@link EncryptionOperationNotPossibleException}。</p>
+ *
+ * @author pangju666
+ * @see RSAEnvelopeOutputStream
+ * @since 2.2.0
+ */
+final class RSAEnvelopeInputStream extends InputStream {
+	/**
+	 * 数据密钥密文最大长度（字节），对应 16384 位 RSA 密钥
+	 *
+	 * @since 2.2.0
+	 */
+	private static final int MAX_ENCRYPTED_KEY_LENGTH = 2048;
+	/**
+	 * 允许的最大分段大小（字节）
+	 *
+	 * @since 2.2.0
+	 */
+	private static final int MAX_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+	/**
+	 * 源输入流
+	 *
+	 * @since 2.2.0
+	 */
+	private final InputStream in;
+	/**
+	 * AES-GCM 密码器
+	 *
+	 * @since 2.2.0
+	 */
+	private final Cipher cipher;
+	/**
+	 * 数据密钥
+	 *
+	 * @since 2.2.0
+	 */
+	private final SecretKey key;
+	/**
+	 * 随机数前缀
+	 *
+	 * @since 2.2.0
+	 */
+	private final byte[] noncePrefix;
+	/**
+	 * 密文分段缓冲区，额外多读 1 字节用于判断是否为最后分段
+	 *
+	 * @since 2.2.0
+	 */
+	private final byte[] encryptedBuffer;
+	/**
+	 * 明文分段缓冲区
+	 *
+	 * @since 2.2.0
+	 */
+	private final byte[] buffer;
+	/**
+	 * 密文分段缓冲区中预读的字节数
+	 *
+	 * @since 2.2.0
+	 */
+	private int carry = 0;
+	/**
+	 * 明文分段缓冲区读取位置
+	 *
+	 * @since 2.2.0
+	 */
+	private int position = 0;
+	/**
+	 * 明文分段缓冲区有效字节数
+	 *
+	 * @since 2.2.0
+	 */
+	private int limit = 0;
+	/**
+	 * 下一个分段的序号
+	 *
+	 * @since 2.2.0
+	 */
+	private int segmentIndex = 0;
+	/**
+	 * 是否已解密最后分段
+	 *
+	 * @since 2.2.0
+	 */
+	private boolean finished = false;
+
+	/**
+	 * 读取信封头并创建输入流
+	 *
+	 * @param in           源输入流
+	 * @param keyDecryptor 数据密钥解密函数（使用 RSA 私钥解密数据密钥密文）
+	 * @throws IOException                             当读取信封头失败时抛出
+	 * @throws EncryptionInitializationException       当 AES-GCM 不可用时抛出
+	 * @throws EncryptionOperationNotPossibleException 当信封头非法或数据密钥解密失败时抛出
+	 * @since 2.2.0
+	 */
+	RSAEnvelopeInputStream(final InputStream in, final UnaryOperator<byte[]> keyDecryptor) throws IOException {
+		this.in = in;
+		try {
+			this.cipher = Cipher.getInstance(CryptoConstants.AES_GCM_TRANSFORMATION);
+		} catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+			throw new EncryptionInitializationException(e);
+		}
+
+		DataInputStream dataInputStream = new DataInputStream(in);
+		byte version = dataInputStream.readByte();
+		if (version != RSAEnvelopeOutputStream.VERSION) {
+			throw new EncryptionOperationNotPossibleException("不支持的信封版本：" + version);
+		}
+		int encryptedKeyLength = dataInputStream.readUnsignedShort();
+		if (encryptedKeyLength == 0 || encryptedKeyLength > MAX_ENCRYPTED_KEY_LENGTH) {
+			throw new EncryptionOperationNotPossibleException("非法的数据密钥长度：" + encryptedKeyLength);
+		}
+		byte[] encryptedKey = new byte[encryptedKeyLength];
+		dataInputStream.readFully(encryptedKey);
+		this.noncePrefix = new byte[RSAEnvelopeOutputStream.NONCE_PREFIX_LENGTH];
+		dataInputStream.readFully(noncePrefix);
+		int segmentSize = dataInputStream.readInt();
+		if (segmentSize <= 0 || segmentSize > MAX_SEGMENT_SIZE) {
+			throw new EncryptionOperationNotPossibleException("非法的分段大小：" + segmentSize);
+		}
+
+		byte[] keyBytes = keyDecryptor.apply(encryptedKey);
+		if (keyBytes.length != CryptoConstants.AES_GCM_KEY_SIZE / Byte.SIZE) {
+			throw new EncryptionOperationNotPossibleException("非法的数据密钥");
+		}
+		this.key = new SecretKeySpec(keyBytes, CryptoConstants.AES_ALGORITHM);
+		this.encryptedBuffer = new byte[segmentSize + RSAEnvelopeOutputStream.TAG_LENGTH + 1];
+		this.buffer = new byte[segmentSize];
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (position == limit && !readSegment()) {
+			return -1;
+		}
+		return buffer[position++] & 0xFF;
+	}
+
+	@Override
+	public int read(final byte[] b, final int off, final int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, b.length);
+		if (len == 0) {
+			return 0;
+		}
+		while (position == limit) {
+			if (!readSegment()) {
+				return -1;
+			}
+		}
+		int length = Math.min(len, limit - position);
+		System.arraycopy(buffer, position, b, off, length);
+		position += length;
+		return length;
+	}
+
+	@Override
+	public int available() {
+		return limit - position;
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+
+	/**
+	 * 读取并解密下一个分段
+	 *
+	 * @return 没有更多分段时返回 false
+	 * @throws IOException 当读取失败时抛出
+	 * @since 2.2.0
+	 */
+	private boolean readSegment() throws IOException {
+		if (finished) {
+			return false;
+		}
+
+		int length = carry;
+		while (length < encryptedBuffer.length) {
+			int read = in.read(encryptedBuffer, length, encryptedBuffer.length - length);
+			if (read == -1) {
+				break;
+			}
+			length += read;
+		}
+		// 读满“分段 + 1 字节”说明后面还有数据，当前分段不是最后分段
+		boolean last = length < encryptedBuffer.length;
+		int segmentLength = last ? length : length - 1;
+		if (segmentLength < RSAEnvelopeOutputStream.TAG_LENGTH) {
+			throw new EncryptionOperationNotPossibleException("密文已被截断");
+		}
+		if (!last && segmentIndex == -1) {
+			throw new EncryptionOperationNotPossibleException("分段数量超出上限");
+		}
+
+		try {
+			cipher.init(Cipher.DECRYPT_MODE, key, RSAEnvelopeOutputStream.segmentParameterSpec(noncePrefix, segmentIndex));
+			cipher.updateAAD(new byte[]{(byte) (last ? 1 : 0)});
+			limit = cipher.doFinal(encryptedBuffer, 0, segmentLength, buffer, 0);
+		} catch (GeneralSecurityException e) {
+			throw new EncryptionOperationNotPossibleException(e);
+		}
+		position = 0;
+		++segmentIndex;
+
+		if (last) {
+			finished = true;
+			carry = 0;
+		} else {
+			encryptedBuffer[0] = encryptedBuffer[length - 1];
+			carry = 1;
+		}
+		return true;
+	}
+}
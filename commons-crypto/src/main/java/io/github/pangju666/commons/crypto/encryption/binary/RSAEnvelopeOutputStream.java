@@ -0,0 +1,264 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.crypto.encryption.binary;
+
+import io.github.pangju666.commons.crypto.lang.CryptoConstants;
+import org.jasypt.exceptions.EncryptionInitializationException;
+import org.jasypt.exceptions.EncryptionOperationNotPossibleException;
+
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+
+/**
+ * RSA 数字信封加密输出流
+ * <p>写入数据时按分段使用 AES-GCM 加密，数据密钥由调用方使用 RSA 公钥加密后写入信封头。</p>
+ *
+ * <h3>信封格式（版本 1）</h3>
+ * <pre>
+ * 版本号(1 字节) | 数据密钥密文长度(2 字节) | 数据密钥密文 | 随机数前缀(8 字节) | 分段大小(4 字节)
+ * 分段 0 | 分段 1 | ... | 最后分段
+ * </pre>
+ * <ul>
+ *   <li>每个分段为“AES-GCM 密文 + 16 字节认证标签”，除最后分段外明文长度均等于分段大小</li>
+ *   <li>分段 IV 为“随机数前缀 + 4 字节大端分段序号”，附加认证数据为 1 字节的最后分段标记</li>
+ *   <li>最后分段可能为空，用于识别截断或追加的密文</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see RSAEnvelopeInputStream
+ * @since 2.2.0
+ */
+final class RSAEnvelopeOutputStream extends FilterOutputStream {
+	/**
+	 * 信封格式版本号
+	 *
+	 * @since 2.2.0
+	 */
+	static final byte VERSION = 1;
+	/**
+	 * 随机数前缀长度（字节）
+	 *
+	 * @since 2.2.0
+	 */
+	static final int NONCE_PREFIX_LENGTH = 8;
+	/**
+	 * 认证标签长度（字节）
+	 *
+	 * @since 2.2.0
+	 */
+	static final int TAG_LENGTH = CryptoConstants.AES_GCM_TAG_SIZE / Byte.SIZE;
+	/**
+	 * 默认分段大小（字节）
+	 *
+	 * @since 2.2.0
+	 */
+	static final int DEFAULT_SEGMENT_SIZE = 64 * 1024;
+
+	/**
+	 * AES-GCM 密码器
+	 *
+	 * @since 2.2.0
+	 */
+	private final Cipher cipher;
+	/**
+	 * 数据密钥
+	 *
+	 * @since 2.2.0
+	 */
+	private final SecretKey key;
+	/**
+	 * 随机数前缀
+	 *
+	 * @since 2.2.0
+	 */
+	private final byte[] noncePrefix;
+	/**
+	 * 明文分段缓冲区
+	 *
+	 * @since 2.2.0
+	 */
+	private final byte[] buffer;
+	/**
+	 * 密文分段缓冲区
+	 *
+	 * @since 2.2.0
+	 */
+	private final byte[] encryptedBuffer;
+	/**
+	 * 明文分段缓冲区中的有效字节数
+	 *
+	 * @since 2.2.0
+	 */
+	private int count = 0;
+	/**
+	 * 下一个分段的序号
+	 *
+	 * @since 2.2.0
+	 */
+	private int segmentIndex = 0;
+	/**
+	 * 是否已写入最后分段
+	 *
+	 * @since 2.2.0
+	 */
+	private boolean finished = false;
+
+	/**
+	 * 创建输出流并立即写入信封头
+	 *
+	 * @param out          目标输出流
+	 * @param encryptedKey 使用 RSA 公钥加密后的数据密钥
+	 * @param key          数据密钥
+	 * @param noncePrefix  随机数前缀，长度必须为 {@link #NONCE_PREFIX_LENGTH}
+	 * @param segmentSize  分段大小（字节）
+	 * @throws IOException                       当写入信封头失败时抛出
+	 * @throws EncryptionInitializationException 当 AES-GCM 不可用时抛出
+	 * @since 2.2.0
+	 */
+	RSAEnvelopeOutputStream(final OutputStream out, final byte[] encryptedKey, final SecretKey key,
+							final byte[] noncePrefix, final int segmentSize) throws IOException {
+		super(out);
+		try {
+			this.cipher = Cipher.getInstance(CryptoConstants.AES_GCM_TRANSFORMATION);
+		} catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+			throw new EncryptionInitializationException(e);
+		}
+		this.key = key;
+		this.noncePrefix = noncePrefix;
+		this.buffer = new byte[segmentSize];
+		this.encryptedBuffer = new byte[segmentSize + TAG_LENGTH];
+
+		DataOutputStream dataOutputStream = new DataOutputStream(out);
+		dataOutputStream.writeByte(VERSION);
+		dataOutputStream.writeShort(encryptedKey.length);
+		dataOutputStream.write(encryptedKey);
+		dataOutputStream.write(noncePrefix);
+		dataOutputStream.writeInt(segmentSize);
+	}
+
+	/**
+	 * 计算分段 IV
+	 *
+	 * @param noncePrefix  随机数前缀
+	 * @param segmentIndex 分段序号
+	 * @return GCM 参数
+	 * @since 2.2.0
+	 */
+	static GCMParameterSpec segmentParameterSpec(final byte[] noncePrefix, final int segmentIndex) {
+		byte[] iv = new byte[NONCE_PREFIX_LENGTH + Integer.BYTES];
+		System.arraycopy(noncePrefix, 0, iv, 0, NONCE_PREFIX_LENGTH);
+		iv[NONCE_PREFIX_LENGTH] = (byte) (segmentIndex >>> 24);
+		iv[NONCE_PREFIX_LENGTH + 1] = (byte) (segmentIndex >>> 16);
+		iv[NONCE_PREFIX_LENGTH + 2] = (byte) (segmentIndex >>> 8);
+		iv[NONCE_PREFIX_LENGTH + 3] = (byte) segmentIndex;
+		return new GCMParameterSpec(CryptoConstants.AES_GCM_TAG_SIZE, iv);
+	}
+
+	@Override
+	public void write(final int b) throws IOException {
+		ensureOpen();
+		if (count == buffer.length) {
+			writeSegment(false);
+		}
+		buffer[count++] = (byte) b;
+	}
+
+	@Override
+	public void write(final byte[] b, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, b.length);
+		ensureOpen();
+		while (len > 0) {
+			// 缓冲区已满且还有后续数据时才能确定当前分段不是最后分段
+			if (count == buffer.length) {
+				writeSegment(false);
+			}
+			int length = Math.min(len, buffer.length - count);
+			System.arraycopy(b, off, buffer, count, length);
+			count += length;
+			off += length;
+			len -= length;
+		}
+	}
+
+	/**
+	 * 写入最后分段但不关闭目标输出流
+	 * <p>重复调用无副作用，调用后不可再写入数据。</p>
+	 *
+	 * @throws IOException 当写入失败时抛出
+	 * @since 2.2.0
+	 */
+	void finish() throws IOException {
+		if (!finished) {
+			writeSegment(true);
+			finished = true;
+			out.flush();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			finish();
+		} finally {
+			out.close();
+		}
+	}
+
+	/**
+	 * 加密并写入当前分段
+	 *
+	 * @param last 是否为最后分段
+	 * @throws IOException 当写入失败时抛出
+	 * @since 2.2.0
+	 */
+	private void writeSegment(final boolean last) throws IOException {
+		if (!last && segmentIndex == -1) {
+			throw new IOException("分段数量超出上限");
+		}
+		try {
+			cipher.init(Cipher.ENCRYPT_MODE, key, segmentParameterSpec(noncePrefix, segmentIndex));
+			cipher.updateAAD(new byte[]{(byte) (last ? 1 : 0)});
+			int length = cipher.doFinal(buffer, 0, count, encryptedBuffer, 0);
+			out.write(encryptedBuffer, 0, length);
+		} catch (GeneralSecurityException e) {
+			throw new EncryptionOperationNotPossibleException(e);
+		}
+		++segmentIndex;
+		count = 0;
+	}
+
+	/**
+	 * 校验输出流是否仍可写入
+	 *
+	 * @throws IOException 当已写入最后分段时抛出
+	 * @since 2.2.0
+	 */
+	private void ensureOpen() throws IOException {
+		if (finished) {
+			throw new IOException("输出流已结束");
+		}
+	}
+}
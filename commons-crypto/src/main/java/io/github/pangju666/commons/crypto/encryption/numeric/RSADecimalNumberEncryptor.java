@@ -17,6 +17,7 @@
 package io.github.pangju666.commons.crypto.encryption.numeric;
 
 import io.github.pangju666.commons.crypto.encryption.binary.RSABinaryEncryptor;
+import io.github.pangju666.commons.crypto.enums.RSAEncryptionMode;
 import io.github.pangju666.commons.crypto.key.RSAKeyPair;
 import io.github.pangju666.commons.crypto.transformation.RSATransformation;
 import io.github.pangju666.commons.crypto.transformation.impl.RSAOEAPWithSHA256Transformation;
@@ -181,6 +182,21 @@ public final class RSADecimalNumberEncryptor implements DecimalNumberEncryptor {
 		this.binaryEncryptor.setPublicKey(publicKey);
 	}
 
+	/**
+	 * 设置加密模式（初始化前有效）
+	 * <p>已初始化后调用将抛出 {@link AlreadyInitializedException}。</p>
+	 * <p>默认为 {@link RSAEncryptionMode#BLOCK}；数值较大时可切换为 {@link RSAEncryptionMode#ENVELOPE}，只需一次 RSA 运算。两种模式的密文互不兼容。</p>
+	 *
+	 * @param mode 加密模式，不可为 null
+	 * @throws NullPointerException        当 mode 为 null 时抛出
+	 * @throws AlreadyInitializedException 当已初始化后调用时抛出
+	 * @see RSABinaryEncryptor#setMode(RSAEncryptionMode)
+	 * @since 2.2.0
+	 */
+	public void setMode(final RSAEncryptionMode mode) {
+		this.binaryEncryptor.setMode(mode);
+	}
+
 	/**
 	 * 初始化加密组件
 	 * <p>根据当前配置计算并缓存分块大小（加密/解密），自动检测可用密钥：</p>
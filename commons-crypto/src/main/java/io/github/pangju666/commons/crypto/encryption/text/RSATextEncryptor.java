@@ -17,6 +17,7 @@
 package io.github.pangju666.commons.crypto.encryption.text;
 
 import io.github.pangju666.commons.crypto.encryption.binary.RSABinaryEncryptor;
+import io.github.pangju666.commons.crypto.enums.RSAEncryptionMode;
 import io.github.pangju666.commons.crypto.key.RSAKeyPair;
 import io.github.pangju666.commons.crypto.transformation.RSATransformation;
 import io.github.pangju666.commons.crypto.transformation.impl.RSAOEAPWithSHA256Transformation;
@@ -61,7 +62,7 @@ import java.security.interfaces.RSAPublicKey;
  *
  * <h3>安全与性能建议</h3>
  * <ul>
- *   <li>大文本采用“RSA + 对称加密”的混合方案</li>
+ *   <li>大文本使用 {@link RSAEncryptionMode#ENVELOPE} 模式（“RSA + AES-GCM”数字信封）</li>
  *   <li>优先使用 OAEP；避免在新场景使用过时的 PKCS#1 v1.5</li>
  *   <li>RSA 单块大小受密钥长度与填充影响</li>
  * </ul>
@@ -71,6 +72,7 @@ import java.security.interfaces.RSAPublicKey;
  *   <li>不可变引用：内部加密器为 final</li>
  *   <li>同步配置：变更密钥时使用同步保证原子性</li>
  *   <li>无共享状态：加/解密操作幂等</li>
+ *   <li>密码器复用：委托的 {@link RSABinaryEncryptor} 按线程缓存已初始化的密码器（2.2.0 新增）</li>
  * </ul>
  *
  * @author pangju666
@@ -188,6 +190,21 @@ public final class RSATextEncryptor implements TextEncryptor {
 		this.binaryEncryptor.setPublicKey(publicKey);
 	}
 
+	/**
+	 * 设置加密模式（初始化前有效）
+	 * <p>已初始化后调用将抛出 {@link AlreadyInitializedException}。</p>
+	 * <p>默认为 {@link RSAEncryptionMode#BLOCK}；文本较大时可切换为 {@link RSAEncryptionMode#ENVELOPE}，只需一次 RSA 运算。两种模式的密文互不兼容。</p>
+	 *
+	 * @param mode 加密模式，不可为 null
+	 * @throws NullPointerException        当 mode 为 null 时抛出
+	 * @throws AlreadyInitializedException 当已初始化后调用时抛出
+	 * @see RSABinaryEncryptor#setMode(RSAEncryptionMode)
+	 * @since 2.2.0
+	 */
+	public void setMode(final RSAEncryptionMode mode) {
+		this.binaryEncryptor.setMode(mode);
+	}
+
 	/**
 	 * 初始化加密组件
 	 * <p>根据当前配置计算并缓存分块大小（加密/解密），自动检测可用密钥：</p>
@@ -226,7 +243,7 @@ public final class RSATextEncryptor implements TextEncryptor {
 	 * @return Base64 编码的密文
 	 * @throws EncryptionInitializationException       当算法不支持或密钥规格解析失败时抛出
 	 * @throws EncryptionOperationNotPossibleException 公钥未设置或加密失败
-	 * @apiNote 对于大文本，建议采用“RSA + 对称加密”混合方案以提升性能与安全性
+	 * @apiNote 对于大文本，建议通过 {@link #setMode(RSAEncryptionMode)} 切换为数字信封模式以提升性能与安全性
 	 * @see Base64#encodeBase64String(byte[])
 	 * @since 1.0.0
 	 */
@@ -0,0 +1,30 @@
+package io.github.pangju666.commons.crypto.enums;
+
+/**
+ * RSA 加密模式
+ * <p>决定 RSA 加密器对数据的处理方式：</p>
+ * <ul>
+ *   <li>{@link #BLOCK}：按 RSA 单块大小分段，逐块执行 RSA 加/解密（默认，兼容历史密文）</li>
+ *   <li>{@link #ENVELOPE}：数字信封，随机生成 AES-256 数据密钥并使用 RSA 加密，数据本身使用 AES-GCM 分段加密</li>
+ * </ul>
+ * <p>两种模式的密文格式互不兼容，加密端与解密端必须使用相同的模式。</p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+public enum RSAEncryptionMode {
+	/**
+	 * RSA 分段模式
+	 * <p>每个分块都执行一次 RSA 运算，仅适合小数据。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	BLOCK,
+	/**
+	 * RSA + AES-GCM 数字信封模式
+	 * <p>无论数据大小都只执行一次 RSA 运算，适合大数据与流式处理。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	ENVELOPE
+}
@@ -46,6 +46,18 @@ public class CryptoConstants {
 	 * @since 1.0.0
 	 */
 	public static final String DSA_ALGORITHM = "DSA";
+	/**
+	 * AES 算法标准名称
+	 *
+	 * @since 2.2.0
+	 */
+	public static final String AES_ALGORITHM = "AES";
+	/**
+	 * AES-GCM 加密方案名称（算法/模式/填充）
+	 *
+	 * @since 2.2.0
+	 */
+	public static final String AES_GCM_TRANSFORMATION = "AES/GCM/NoPadding";
 
 	/**
 	 * RSA 默认密钥长度（单位：bit），当前值为 2048
@@ -77,6 +89,19 @@ public class CryptoConstants {
 	 */
 	public static final Set<Integer> DSA_KEY_SIZE_SET = Set.of(1024, 2048);
 
+	/**
+	 * AES-GCM 数据密钥长度（单位：bit），当前值为 256
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int AES_GCM_KEY_SIZE = 256;
+	/**
+	 * AES-GCM 认证标签长度（单位：bit），当前值为 128
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int AES_GCM_TAG_SIZE = 128;
+
 	protected CryptoConstants() {
 	}
 }
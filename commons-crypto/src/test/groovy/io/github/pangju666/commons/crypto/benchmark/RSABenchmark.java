@@ -0,0 +1,157 @@
+package io.github.pangju666.commons.crypto.benchmark;
+
+import io.github.pangju666.commons.crypto.digest.RSAByteDigester;
+import io.github.pangju666.commons.crypto.encryption.binary.RSABinaryEncryptor;
+import io.github.pangju666.commons.crypto.enums.RSASignatureAlgorithm;
+import io.github.pangju666.commons.crypto.key.RSAKeyPair;
+import io.github.pangju666.commons.crypto.transformation.RSATransformation;
+import io.github.pangju666.commons.crypto.transformation.impl.RSAOEAPWithSHA256Transformation;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.Cipher;
+import java.io.ByteArrayOutputStream;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.Signature;
+import java.security.spec.RSAPrivateKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RSABinaryEncryptor}与{@link RSAByteDigester}多线程共享同一实例时的吞吐量
+ * <p>
+ * {@link #main(String[])}依次使用{@link #THREADS}中的线程数运行全部基准，用于观察线程缓存的密码器与签名器随线程数增加的扩展性。
+ * {@code payloadSize}为明文字节数，超过单块大小时按块加密。
+ * </p>
+ * <p>
+ * 以{@code Uncached}结尾的基准为对照组，每次调用都重新执行{@link Cipher#getInstance(String)}、{@link Signature#getInstance(String)}
+ * 并使用密钥初始化，与共享实例使用相同的转换、签名算法和分块方式，用于对比相同线程数下线程缓存带来的差异。
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RSABenchmark {
+	/**
+	 * 依次运行的线程数
+	 */
+	public static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+	@Param({"32", "1024"})
+	private int payloadSize;
+
+	private RSABinaryEncryptor encryptor;
+	private RSAByteDigester digester;
+	private byte[] message;
+	private byte[] encrypted;
+	private byte[] digest;
+	private RSAKeyPair keyPair;
+	private RSATransformation transformation;
+	private String signatureAlgorithm;
+	private int encryptBlockSize;
+	private int decryptBlockSize;
+
+	public static void main(String[] args) throws RunnerException {
+		for (int threads : THREADS) {
+			new Runner(new OptionsBuilder()
+				.include(RSABenchmark.class.getSimpleName())
+				.threads(threads)
+				.build())
+				.run();
+		}
+	}
+
+	@Setup
+	public void setup() throws GeneralSecurityException {
+		keyPair = RSAKeyPair.random(2048);
+
+		encryptor = new RSABinaryEncryptor();
+		encryptor.setKeyPair(keyPair);
+		digester = new RSAByteDigester();
+		digester.setKeyPair(keyPair);
+
+		message = new byte[payloadSize];
+		new Random(0).nextBytes(message);
+		encrypted = encryptor.encrypt(message);
+		digest = digester.digest(message);
+
+		KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+		transformation = new RSAOEAPWithSHA256Transformation();
+		signatureAlgorithm = RSASignatureAlgorithm.SHA256_WITH_RSA.getAlgorithm();
+		encryptBlockSize = transformation.getEncryptBlockSize(
+			keyFactory.getKeySpec(keyPair.publicKey(), RSAPublicKeySpec.class));
+		decryptBlockSize = transformation.getDecryptBlockSize(
+			keyFactory.getKeySpec(keyPair.privateKey(), RSAPrivateKeySpec.class));
+	}
+
+	@Benchmark
+	public byte[] encrypt() {
+		return encryptor.encrypt(message);
+	}
+
+	@Benchmark
+	public byte[] decrypt() {
+		return encryptor.decrypt(encrypted);
+	}
+
+	@Benchmark
+	public byte[] sign() {
+		return digester.digest(message);
+	}
+
+	@Benchmark
+	public boolean verify() {
+		return digester.matches(message, digest);
+	}
+
+	@Benchmark
+	public byte[] encryptUncached() throws GeneralSecurityException {
+		return doFinal(newCipher(Cipher.ENCRYPT_MODE, keyPair.publicKey()), message, encryptBlockSize);
+	}
+
+	@Benchmark
+	public byte[] decryptUncached() throws GeneralSecurityException {
+		return doFinal(newCipher(Cipher.DECRYPT_MODE, keyPair.privateKey()), encrypted, decryptBlockSize);
+	}
+
+	@Benchmark
+	public byte[] signUncached() throws GeneralSecurityException {
+		Signature signature = Signature.getInstance(signatureAlgorithm);
+		signature.initSign(keyPair.privateKey());
+		signature.update(message);
+		return signature.sign();
+	}
+
+	@Benchmark
+	public boolean verifyUncached() throws GeneralSecurityException {
+		Signature signature = Signature.getInstance(signatureAlgorithm);
+		signature.initVerify(keyPair.publicKey());
+		signature.update(message);
+		return signature.verify(digest);
+	}
+
+	private Cipher newCipher(final int opmode, final Key key) throws GeneralSecurityException {
+		Cipher cipher = Cipher.getInstance(transformation.getName());
+		cipher.init(opmode, key);
+		return cipher;
+	}
+
+	private byte[] doFinal(final Cipher cipher, final byte[] input, final int blockSize) throws GeneralSecurityException {
+		if (input.length <= blockSize) {
+			return cipher.doFinal(input);
+		}
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream(input.length);
+		for (int offset = 0; offset < input.length; offset += blockSize) {
+			outputStream.writeBytes(cipher.doFinal(input, offset, Math.min(blockSize, input.length - offset)));
+		}
+		return outputStream.toByteArray();
+	}
+}
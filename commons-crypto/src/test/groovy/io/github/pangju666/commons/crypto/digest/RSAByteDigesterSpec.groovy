@@ -11,6 +11,8 @@ import spock.lang.Title
 import spock.lang.Unroll
 
 import java.security.KeyPair
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
 
 @Title("RSAByteDigester 单元测试")
 class RSAByteDigesterSpec extends Specification {
@@ -136,4 +138,45 @@ class RSAByteDigesterSpec extends Specification {
 		sig.length > 0
 		thrown(AlreadyInitializedException)
 	}
+
+	def "同一实例重复签名/验签结果一致"() {
+		given:
+		def digester = new RSAByteDigester()
+		def kp = KeyPairUtils.generateKeyPair(CryptoConstants.RSA_ALGORITHM, 1024)
+		digester.setKeyPair(RSAKeyPair.fromKeyPair(kp))
+		byte[] message = "repeat".bytes
+
+		when:
+		def signatures = (1..5).collect { digester.digest(message) }
+
+		then:
+		signatures.every { it == signatures[0] }
+		signatures.every { digester.matches(message, it) }
+		!digester.matches("other".bytes, signatures[0])
+	}
+
+	def "多线程并发签名/验签结果正确"() {
+		given:
+		def digester = new RSAByteDigester()
+		def kp = KeyPairUtils.generateKeyPair(CryptoConstants.RSA_ALGORITHM, 1024)
+		digester.setKeyPair(RSAKeyPair.fromKeyPair(kp))
+		def executor = Executors.newFixedThreadPool(8)
+
+		when:
+		def futures = (1..32).collect { i ->
+			executor.submit({
+				(1..10).every { j ->
+					byte[] message = "message-${i}-${j}".toString().bytes
+					digester.matches(message, digester.digest(message)) &&
+						!digester.matches(message, digester.digest("other-${i}-${j}".toString().bytes))
+				}
+			} as Callable<Boolean>)
+		}
+
+		then:
+		futures.every { it.get() }
+
+		cleanup:
+		executor.shutdownNow()
+	}
 }
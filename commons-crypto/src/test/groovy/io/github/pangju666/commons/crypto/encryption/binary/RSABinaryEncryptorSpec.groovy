@@ -1,5 +1,6 @@
 package io.github.pangju666.commons.crypto.encryption.binary
 
+import io.github.pangju666.commons.crypto.enums.RSAEncryptionMode
 import io.github.pangju666.commons.crypto.key.RSAKeyPair
 import io.github.pangju666.commons.crypto.lang.CryptoConstants
 import io.github.pangju666.commons.crypto.transformation.impl.RSAOEAPWithSHA256Transformation
@@ -15,6 +16,8 @@ import java.security.KeyPair
 import java.security.SecureRandom
 import java.security.interfaces.RSAPrivateKey
 import java.security.interfaces.RSAPublicKey
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
 
 @Title("RSABinaryEncryptor 单元测试")
 class RSABinaryEncryptorSpec extends Specification {
@@ -180,4 +183,189 @@ class RSABinaryEncryptorSpec extends Specification {
 		then:
 		thrown(EncryptionOperationNotPossibleException)
 	}
+
+	@Unroll
+	def "数字信封模式加密与解密保持一致: #size 字节"() {
+		given:
+		def encryptor = new RSABinaryEncryptor()
+		KeyPair kp = KeyPairUtils.generateKeyPair(CryptoConstants.RSA_ALGORITHM, 1024)
+		encryptor.setKeyPair(RSAKeyPair.fromKeyPair(kp))
+		encryptor.setMode(RSAEncryptionMode.ENVELOPE)
+		byte[] data = new byte[size]
+		new SecureRandom().nextBytes(data)
+
+		when:
+		byte[] encrypted = encryptor.encrypt(data)
+
+		then:
+		encrypted.length < size + 1024
+		encryptor.decrypt(encrypted) == data
+
+		where:
+		size << [1, 500, 65536, 65537, 1024 * 1024]
+	}
+
+	def "数字信封模式与分段模式密文互不兼容"() {
+		given:
+		KeyPair kp = KeyPairUtils.generateKeyPair(CryptoConstants.RSA_ALGORITHM, 1024)
+		def envelopeEncryptor = new RSABinaryEncryptor()
+		envelopeEncryptor.setKeyPair(RSAKeyPair.fromKeyPair(kp))
+		envelopeEncryptor.setMode(RSAEncryptionMode.ENVELOPE)
+		def blockEncryptor = new RSABinaryEncryptor()
+		blockEncryptor.setKeyPair(RSAKeyPair.fromKeyPair(kp))
+
+		when:
+		blockEncryptor.decrypt(envelopeEncryptor.encrypt("envelope".bytes))
+
+		then:
+		thrown(EncryptionOperationNotPossibleException)
+	}
+
+	@Unroll
+	def "数字信封密文被篡改时解密抛出异常: #label"() {
+		given:
+		def encryptor = new RSABinaryEncryptor()
+		KeyPair kp = KeyPairUtils.generateKeyPair(CryptoConstants.RSA_ALGORITHM, 1024)
+		encryptor.setKeyPair(RSAKeyPair.fromKeyPair(kp))
+		encryptor.setMode(RSAEncryptionMode.ENVELOPE)
+		byte[] data = new byte[200 * 1024]
+		new SecureRandom().nextBytes(data)
+		byte[] encrypted = encryptor.encrypt(data)
+
+		when:
+		encryptor.decrypt(tamper(encrypted))
+
+		then:
+		thrown(EncryptionOperationNotPossibleException)
+
+		where:
+		label     | tamper
+		"数据密钥"  | { byte[] bytes -> bytes[10] ^= 1; bytes }
+		"分段数据"  | { byte[] bytes -> bytes[bytes.length.intdiv(2)] ^= 1; bytes }
+		"认证标签"  | { byte[] bytes -> bytes[bytes.length - 1] ^= 1; bytes }
+		"截断分段"  | { byte[] bytes -> Arrays.copyOf(bytes, bytes.length - 65536 - 16) }
+		"版本号"   | { byte[] bytes -> bytes[0] = 2; bytes }
+	}
+
+	def "初始化后不可再设置加密模式"() {
+		given:
+		def encryptor = new RSABinaryEncryptor()
+		encryptor.initialize()
+
+		when:
+		encryptor.setMode(RSAEncryptionMode.ENVELOPE)
+
+		then:
+		thrown(AlreadyInitializedException)
+	}
+
+	def "setMode 传入null抛出异常"() {
+		when:
+		new RSABinaryEncryptor().setMode(null)
+
+		then:
+		thrown(NullPointerException)
+	}
+
+	def "流式加密与解密保持一致且与数字信封模式兼容"() {
+		given:
+		def encryptor = new RSABinaryEncryptor()
+		KeyPair kp = KeyPairUtils.generateKeyPair(CryptoConstants.RSA_ALGORITHM, 1024)
+		encryptor.setKeyPair(RSAKeyPair.fromKeyPair(kp))
+		encryptor.setMode(RSAEncryptionMode.ENVELOPE)
+		byte[] data = new byte[300 * 1024]
+		new SecureRandom().nextBytes(data)
+		def encryptedOutputStream = new ByteArrayOutputStream()
+		def decryptedOutputStream = new ByteArrayOutputStream()
+
+		when:
+		encryptor.encrypt(new ByteArrayInputStream(data), encryptedOutputStream)
+		encryptor.decrypt(new ByteArrayInputStream(encryptedOutputStream.toByteArray()), decryptedOutputStream)
+
+		then:
+		decryptedOutputStream.toByteArray() == data
+		encryptor.decrypt(encryptedOutputStream.toByteArray()) == data
+	}
+
+	def "打开加密输出流与解密输入流读写数据"() {
+		given:
+		def encryptor = new RSABinaryEncryptor()
+		KeyPair kp = KeyPairUtils.generateKeyPair(CryptoConstants.RSA_ALGORITHM, 1024)
+		encryptor.setKeyPair(RSAKeyPair.fromKeyPair(kp))
+		def encryptedOutputStream = new ByteArrayOutputStream()
+
+		when:
+		encryptor.openEncryptOutputStream(encryptedOutputStream).withCloseable { outputStream ->
+			outputStream.write("hello ".bytes)
+			outputStream.write((int) 'w')
+			outputStream.write("orld".bytes)
+		}
+		def decrypted = encryptor.openDecryptInputStream(new ByteArrayInputStream(encryptedOutputStream.toByteArray()))
+			.withCloseable { it.readAllBytes() }
+
+		then:
+		new String(decrypted) == "hello world"
+	}
+
+	def "流式加密空输入可解密为空数据"() {
+		given:
+		def encryptor = new RSABinaryEncryptor()
+		KeyPair kp = KeyPairUtils.generateKeyPair(CryptoConstants.RSA_ALGORITHM, 1024)
+		encryptor.setKeyPair(RSAKeyPair.fromKeyPair(kp))
+		def encryptedOutputStream = new ByteArrayOutputStream()
+
+		when:
+		encryptor.encrypt(new ByteArrayInputStream(new byte[0]), encryptedOutputStream)
+
+		then:
+		encryptedOutputStream.size() > 0
+		encryptor.openDecryptInputStream(new ByteArrayInputStream(encryptedOutputStream.toByteArray())).readAllBytes().length == 0
+	}
+
+	def "流式加密未设置公钥抛出异常"() {
+		when:
+		new RSABinaryEncryptor().openEncryptOutputStream(new ByteArrayOutputStream())
+
+		then:
+		thrown(EncryptionOperationNotPossibleException)
+	}
+
+	def "多线程并发加密/解密结果正确"() {
+		given:
+		def encryptor = new RSABinaryEncryptor()
+		KeyPair kp = KeyPairUtils.generateKeyPair(CryptoConstants.RSA_ALGORITHM, 1024)
+		encryptor.setKeyPair(RSAKeyPair.fromKeyPair(kp))
+		def executor = Executors.newFixedThreadPool(8)
+
+		when:
+		def futures = (1..32).collect { i ->
+			executor.submit({
+				(1..10).every { j ->
+					byte[] data = ("message-${i}-${j}".toString() * 20).bytes
+					encryptor.decrypt(encryptor.encrypt(data)) == data
+				}
+			} as Callable<Boolean>)
+		}
+
+		then:
+		futures.every { it.get() }
+
+		cleanup:
+		executor.shutdownNow()
+	}
+
+	def "解密失败后同一实例仍可正常解密"() {
+		given:
+		def encryptor = new RSABinaryEncryptor()
+		KeyPair kp = KeyPairUtils.generateKeyPair(CryptoConstants.RSA_ALGORITHM, 1024)
+		encryptor.setKeyPair(RSAKeyPair.fromKeyPair(kp))
+		byte[] encrypted = encryptor.encrypt("recover".bytes)
+
+		when:
+		encryptor.decrypt(new byte[128])
+
+		then:
+		thrown(EncryptionOperationNotPossibleException)
+		new String(encryptor.decrypt(encrypted)) == "recover"
+	}
 }
@@ -1,5 +1,6 @@
 package io.github.pangju666.commons.crypto.encryption.numeric
 
+import io.github.pangju666.commons.crypto.enums.RSAEncryptionMode
 import io.github.pangju666.commons.crypto.key.RSAKeyPair
 import io.github.pangju666.commons.crypto.lang.CryptoConstants
 import io.github.pangju666.commons.crypto.transformation.impl.RSAOEAPWithSHA256Transformation
@@ -159,6 +160,18 @@ class RSAIntegerNumberEncryptorSpec extends Specification {
 		thrown(EncryptionOperationNotPossibleException)
 	}
 
+	def "数字信封模式加密与解密保持一致"() {
+		given:
+		def encryptor = new RSAIntegerNumberEncryptor()
+		KeyPair kp = KeyPairUtils.generateKeyPair(CryptoConstants.RSA_ALGORITHM, 1024)
+		encryptor.setKeyPair(RSAKeyPair.fromKeyPair(kp))
+		encryptor.setMode(RSAEncryptionMode.ENVELOPE)
+		def n = new BigInteger(1, randomBytes(100 * 1024)).negate()
+
+		expect:
+		encryptor.decrypt(encryptor.encrypt(n)) == n
+	}
+
 	private static byte[] randomBytes(int len) {
 		def b = new byte[len]
 		new SecureRandom().nextBytes(b)
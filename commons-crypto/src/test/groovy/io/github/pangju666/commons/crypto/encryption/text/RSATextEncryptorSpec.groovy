@@ -1,5 +1,6 @@
 package io.github.pangju666.commons.crypto.encryption.text
 
+import io.github.pangju666.commons.crypto.enums.RSAEncryptionMode
 import io.github.pangju666.commons.crypto.key.RSAKeyPair
 import io.github.pangju666.commons.crypto.lang.CryptoConstants
 import io.github.pangju666.commons.crypto.transformation.impl.RSAOEAPWithSHA256Transformation
@@ -168,6 +169,18 @@ class RSATextEncryptorSpec extends Specification {
 		thrown(EncryptionOperationNotPossibleException)
 	}
 
+	def "数字信封模式加密与解密保持一致"() {
+		given:
+		def encryptor = new RSATextEncryptor()
+		KeyPair kp = KeyPairUtils.generateKeyPair(CryptoConstants.RSA_ALGORITHM, 1024)
+		encryptor.setKeyPair(RSAKeyPair.fromKeyPair(kp))
+		encryptor.setMode(RSAEncryptionMode.ENVELOPE)
+		def data = randomAscii(100 * 1024)
+
+		expect:
+		encryptor.decrypt(encryptor.encrypt(data)) == data
+	}
+
 	private static String randomAscii(int len) {
 		def chars = ('a'..'z') + ('A'..'Z') + ('0'..'9')
 		def r = new SecureRandom()
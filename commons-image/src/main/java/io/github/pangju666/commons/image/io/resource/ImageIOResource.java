@@ -19,13 +19,13 @@ package io.github.pangju666.commons.image.io.resource;
 import com.drew.imaging.ImageMetadataReader;
 import com.drew.imaging.ImageProcessingException;
 import com.drew.metadata.Metadata;
+import com.drew.metadata.file.FileSystemMetadataReader;
 import com.twelvemonkeys.image.ImageUtil;
 import io.github.pangju666.commons.image.lang.ImageConstants;
 import io.github.pangju666.commons.image.model.ImageSize;
 import io.github.pangju666.commons.image.utils.ImageUtils;
 import io.github.pangju666.commons.io.exception.UnsupportedResourceException;
 import io.github.pangju666.commons.io.resource.IOResource;
-import io.github.pangju666.commons.io.utils.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
@@ -184,7 +184,7 @@ public class ImageIOResource extends IOResource {
 			int exifOrientation = ImageConstants.NORMAL_EXIF_ORIENTATION;
 			if (correctOrientation) {
 				try {
-					this.metadata = ImageMetadataReader.readMetadata(file);
+					this.metadata = readFileMetadata();
 					exifOrientation = ImageUtils.getExifOrientation(this.metadata);
 				} catch (ImageProcessingException ignored) {
 					this.metadata = new Metadata();
@@ -203,11 +203,11 @@ public class ImageIOResource extends IOResource {
 		} else {
 			if (correctOrientation) {
 				int exifOrientation = ImageConstants.NORMAL_EXIF_ORIENTATION;
-				InputStream byteArrayInputStream = IOUtils.toUnsynchronizedByteArrayInputStream(getBytes());
+				InputStream byteArrayInputStream = openInputStream();
 
 				try {
 					this.metadata = ImageMetadataReader.readMetadata(byteArrayInputStream,
-						byteArrayOutputStream.size());
+						size.toBytes());
 					exifOrientation = ImageUtils.getExifOrientation(this.metadata);
 				} catch (ImageProcessingException ignored) {
 					this.metadata = new Metadata();
@@ -276,7 +276,7 @@ public class ImageIOResource extends IOResource {
 					throw new IOException("图片读取失败，文件路径：" + this.file.getAbsolutePath());
 				}
 			} else {
-				try (InputStream inputStream = IOUtils.toUnsynchronizedByteArrayInputStream(getBytes())) {
+				try (InputStream inputStream = openInputStream()) {
 					image = ImageIO.read(inputStream);
 				}
 				if (Objects.isNull(image)) {
@@ -348,7 +348,7 @@ public class ImageIOResource extends IOResource {
 		if (correctOrientation) {
 			int exifOrientation = ImageConstants.NORMAL_EXIF_ORIENTATION;
 			try {
-				this.metadata = ImageMetadataReader.readMetadata(this.file);
+				this.metadata = readFileMetadata();
 				exifOrientation = ImageUtils.getExifOrientation(this.metadata);
 			} catch (ImageProcessingException ignored) {
 				this.metadata = new Metadata();
@@ -475,7 +475,7 @@ public class ImageIOResource extends IOResource {
 		if (correctOrientation) {
 			int exifOrientation = ImageConstants.NORMAL_EXIF_ORIENTATION;
 			try {
-				this.metadata = ImageMetadataReader.readMetadata(this.file);
+				this.metadata = readFileMetadata();
 				exifOrientation = ImageUtils.getExifOrientation(this.metadata);
 			} catch (ImageProcessingException ignored) {
 				this.metadata = new Metadata();
@@ -598,11 +598,11 @@ public class ImageIOResource extends IOResource {
 
 		if (correctOrientation) {
 			int exifOrientation = ImageConstants.NORMAL_EXIF_ORIENTATION;
-			InputStream byteArrayInputStream = IOUtils.toUnsynchronizedByteArrayInputStream(getBytes());
+			InputStream byteArrayInputStream = openInputStream();
 
 			try {
 				this.metadata = ImageMetadataReader.readMetadata(byteArrayInputStream,
-					byteArrayOutputStream.size());
+					size.toBytes());
 				exifOrientation = ImageUtils.getExifOrientation(this.metadata);
 			} catch (ImageProcessingException ignored) {
 				this.metadata = new Metadata();
@@ -658,7 +658,7 @@ public class ImageIOResource extends IOResource {
 		this.orientationCorrected = true;
 
 		if (exifOrientation != ImageConstants.NORMAL_EXIF_ORIENTATION) {
-			try (InputStream inputStream = IOUtils.toUnsynchronizedByteArrayInputStream(getBytes())) {
+			try (InputStream inputStream = openInputStream()) {
 				BufferedImage image = ImageIO.read(inputStream);
 				if (Objects.isNull(image)) {
 					throw new IOException("图片读取失败");
@@ -726,11 +726,11 @@ public class ImageIOResource extends IOResource {
 
 		if (correctOrientation) {
 			int exifOrientation = ImageConstants.NORMAL_EXIF_ORIENTATION;
-			InputStream byteArrayInputStream = IOUtils.toUnsynchronizedByteArrayInputStream(getBytes());
+			InputStream byteArrayInputStream = openInputStream();
 
 			try {
 				this.metadata = ImageMetadataReader.readMetadata(byteArrayInputStream,
-					byteArrayOutputStream.size());
+					size.toBytes());
 				exifOrientation = ImageUtils.getExifOrientation(this.metadata);
 			} catch (ImageProcessingException ignored) {
 				this.metadata = new Metadata();
@@ -787,7 +787,7 @@ public class ImageIOResource extends IOResource {
 		this.orientationCorrected = true;
 
 		if (exifOrientation != ImageConstants.NORMAL_EXIF_ORIENTATION) {
-			try (InputStream byteArrayInputStream = IOUtils.toUnsynchronizedByteArrayInputStream(getBytes())) {
+			try (InputStream byteArrayInputStream = openInputStream()) {
 				BufferedImage image = ImageIO.read(byteArrayInputStream);
 				if (Objects.isNull(image)) {
 					throw new IOException("图片读取失败");
@@ -872,14 +872,14 @@ public class ImageIOResource extends IOResource {
 
 			if (Objects.nonNull(file)) {
 				try {
-					metadata = ImageMetadataReader.readMetadata(file);
+					metadata = readFileMetadata();
 				} catch (ImageProcessingException ignored) {
 					metadata = new Metadata();
 				}
 			} else {
-				try (InputStream byteArrayInputStream = IOUtils.toUnsynchronizedByteArrayInputStream(getBytes())) {
+				try (InputStream byteArrayInputStream = openInputStream()) {
 					metadata = ImageMetadataReader.readMetadata(byteArrayInputStream,
-						byteArrayOutputStream.size());
+						size.toBytes());
 				} catch (ImageProcessingException ignored) {
 					metadata = new Metadata();
 				}
@@ -931,7 +931,7 @@ public class ImageIOResource extends IOResource {
 					throw new IOException("图像读取失败，文件路径：" + file.getAbsolutePath());
 				}
 			} else {
-				try (InputStream byteArrayInputStream = IOUtils.toUnsynchronizedByteArrayInputStream(getBytes())) {
+				try (InputStream byteArrayInputStream = openInputStream()) {
 					image = ImageIO.read(byteArrayInputStream);
 					if (Objects.isNull(image)) {
 						throw new IOException("图像读取失败");
@@ -1047,6 +1047,37 @@ public class ImageIOResource extends IOResource {
 		}
 	}
 
+	/**
+	 * 读取文件模式的图像元数据
+	 * <p>优先从头部缓冲区解析，避免再次读取文件：</p>
+	 * <ul>
+	 *     <li>头部缓冲区包含全部内容时，直接从头部缓冲区解析</li>
+	 *     <li>JPEG的元数据段位于图像数据之前，元数据段全部位于头部缓冲区内时直接从头部缓冲区解析</li>
+	 *     <li>其他情况读取文件解析</li>
+	 * </ul>
+	 *
+	 * @return 图像元数据对象
+	 * @throws IOException              当文件读取失败时抛出
+	 * @throws ImageProcessingException 当元数据解析失败时抛出
+	 * @since 2.2.0
+	 */
+	protected Metadata readFileMetadata() throws IOException, ImageProcessingException {
+		boolean headComplete = isHeadComplete();
+		if (headComplete || ImageConstants.JPEG_MIME_TYPE.equals(mimeType)) {
+			try (InputStream inputStream = openHeadInputStream()) {
+				Metadata metadata = ImageMetadataReader.readMetadata(inputStream, size.toBytes());
+				new FileSystemMetadataReader().read(file, metadata);
+				return metadata;
+			} catch (IOException | ImageProcessingException e) {
+				// JPEG元数据段超出头部缓冲区，回退到读取文件
+				if (headComplete) {
+					throw e;
+				}
+			}
+		}
+		return ImageMetadataReader.readMetadata(file);
+	}
+
 	/**
 	 * 验证图像类型
 	 * <p>验证资源是否为支持的图像类型。</p>
@@ -33,6 +33,12 @@ public class ImageConstants {
 	 * @since 1.0.0
 	 */
 	public static final int NORMAL_EXIF_ORIENTATION = 1;
+	/**
+	 * JPEG图像MIME类型
+	 *
+	 * @since 2.2.0
+	 */
+	public static final String JPEG_MIME_TYPE = "image/jpeg";
 	/**
 	 * 不支持透明通道的图像格式集合
 	 *
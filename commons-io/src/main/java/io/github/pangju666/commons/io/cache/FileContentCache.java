@@ -0,0 +1,507 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.io.cache;
+
+import io.github.pangju666.commons.io.utils.FileUtils;
+import org.apache.commons.io.function.IOFunction;
+import org.apache.commons.io.input.BoundedInputStream;
+import org.apache.commons.lang3.Validate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 文件内容信息缓存（线程安全）
+ * <p>按文件标识（规范路径、大小、最后修改时间以及平台提供的文件键，如inode）缓存文件的摘要、MIME类型和元数据，
+ * 避免同一文件被多次打开时重复计算。</p>
+ *
+ * <p>实现特性：</p>
+ * <ul>
+ *     <li>文件大小、修改时间或文件键变化后标识随之变化，旧的缓存条目不会再被命中，并最终被淘汰</li>
+ *     <li>条目数量超过上限时按最近最少使用（LRU）淘汰</li>
+ *     <li>记录命中、未命中和淘汰次数</li>
+ *     <li>可保存到本地文件，重启后加载，加载时丢弃文件已变化或已删除的条目</li>
+ *     <li>计算前后文件标识不一致时（计算期间文件被修改），结果不会被缓存</li>
+ * </ul>
+ *
+ * <h3>使用示例</h3>
+ * <pre>{@code
+ * FileContentCache cache = FileContentCache.getShared();
+ * cache.load(new File("file-content.cache"));
+ * // 同时对IOResource文件模式的摘要和MIME类型检测生效
+ * IOResource.setFileContentCache(cache);
+ * String digest = cache.getDigest(file);
+ * cache.save(new File("file-content.cache"));
+ * }</pre>
+ *
+ * @author pangju666
+ * @see io.github.pangju666.commons.io.resource.IOResource#setFileContentCache(FileContentCache)
+ * @since 2.2.0
+ */
+public final class FileContentCache {
+	/**
+	 * 默认最大条目数
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 10000;
+
+	/**
+	 * 缓存文件格式标识
+	 *
+	 * @since 2.2.0
+	 */
+	private static final String HEADER = "#pangju-file-content-cache v1";
+	/**
+	 * 进程内共享的缓存实例
+	 *
+	 * @since 2.2.0
+	 */
+	private static final FileContentCache SHARED = new FileContentCache(DEFAULT_MAX_ENTRIES);
+
+	/**
+	 * 最大条目数
+	 *
+	 * @since 2.2.0
+	 */
+	private final int maxEntries;
+	/**
+	 * 文件标识到缓存条目的映射（按访问顺序），访问时需同步
+	 *
+	 * @since 2.2.0
+	 */
+	private final LinkedHashMap<FileIdentity, Entry> entries;
+	/**
+	 * 命中次数
+	 *
+	 * @since 2.2.0
+	 */
+	private final LongAdder hitCount = new LongAdder();
+	/**
+	 * 未命中次数
+	 *
+	 * @since 2.2.0
+	 */
+	private final LongAdder missCount = new LongAdder();
+	/**
+	 * 淘汰次数
+	 *
+	 * @since 2.2.0
+	 */
+	private final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * 创建缓存
+	 *
+	 * @param maxEntries 最大条目数，必须大于0
+	 * @throws IllegalArgumentException 当maxEntries小于等于0时抛出
+	 * @since 2.2.0
+	 */
+	public FileContentCache(final int maxEntries) {
+		Validate.isTrue(maxEntries > 0, "maxEntries 必须大于0");
+
+		this.maxEntries = maxEntries;
+		this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<FileIdentity, Entry> eldest) {
+				if (size() > FileContentCache.this.maxEntries) {
+					evictionCount.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * 获取进程内共享的缓存实例
+	 *
+	 * @return 最大条目数为 {@link #DEFAULT_MAX_ENTRIES} 的共享缓存
+	 * @since 2.2.0
+	 */
+	public static FileContentCache getShared() {
+		return SHARED;
+	}
+
+	/**
+	 * 获取文件摘要，未缓存时使用 {@link FileUtils#computeDigest(File)} 计算
+	 *
+	 * @param file 目标文件（必须非null且存在）
+	 * @return 摘要字符串
+	 * @throws IOException              当文件读取失败时抛出
+	 * @throws NullPointerException     当file为null时抛出
+	 * @throws IllegalArgumentException 当file不存在或不是文件时抛出
+	 * @since 2.2.0
+	 */
+	public String getDigest(final File file) throws IOException {
+		return get(file, entry -> entry.digest, (entry, digest) -> entry.digest = digest,
+			FileUtils::computeDigest);
+	}
+
+	/**
+	 * 获取文件MIME类型，未缓存时使用 {@link FileUtils#getMimeType(File)} 检测
+	 *
+	 * @param file 目标文件（必须非null且存在）
+	 * @return MIME类型
+	 * @throws IOException              当文件读取失败时抛出
+	 * @throws NullPointerException     当file为null时抛出
+	 * @throws IllegalArgumentException 当file不存在或不是文件时抛出
+	 * @since 2.2.0
+	 */
+	public String getMimeType(final File file) throws IOException {
+		return get(file, entry -> entry.mimeType, (entry, mimeType) -> entry.mimeType = mimeType,
+			FileUtils::getMimeType);
+	}
+
+	/**
+	 * 获取文件元数据，未缓存时使用 {@link FileUtils#parseMetaData(File)} 解析
+	 *
+	 * @param file 目标文件（必须非null且存在）
+	 * @return 不可修改的元数据键值对
+	 * @throws IOException              当文件读取或解析失败时抛出
+	 * @throws NullPointerException     当file为null时抛出
+	 * @throws IllegalArgumentException 当file不存在或不是文件时抛出
+	 * @since 2.2.0
+	 */
+	public Map<String, String> getMetaData(final File file) throws IOException {
+		return get(file, entry -> entry.metaData, (entry, metaData) -> entry.metaData = metaData,
+			target -> Collections.unmodifiableMap(new LinkedHashMap<>(FileUtils.parseMetaData(target))));
+	}
+
+	/**
+	 * 移除指定路径文件的全部缓存条目
+	 *
+	 * @param file 文件（必须非null），可以已被删除
+	 * @throws IOException          当获取规范路径失败时抛出
+	 * @throws NullPointerException 当file为null时抛出
+	 * @since 2.2.0
+	 */
+	public void invalidate(final File file) throws IOException {
+		Validate.notNull(file, "file 不可为 null");
+
+		String path = file.getCanonicalPath();
+		synchronized (entries) {
+			entries.keySet().removeIf(identity -> identity.path().equals(path));
+		}
+	}
+
+	/**
+	 * 清空全部缓存条目，统计数据不受影响
+	 *
+	 * @since 2.2.0
+	 */
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	/**
+	 * 获取缓存条目数量
+	 *
+	 * @return 条目数量
+	 * @since 2.2.0
+	 */
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * 获取最大条目数
+	 *
+	 * @return 最大条目数
+	 * @since 2.2.0
+	 */
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	/**
+	 * 获取统计数据快照
+	 *
+	 * @return 统计数据
+	 * @since 2.2.0
+	 */
+	public Stats getStats() {
+		return new Stats(hitCount.sum(), missCount.sum(), evictionCount.sum(), size());
+	}
+
+	/**
+	 * 将缓存条目保存到文件，会自动创建父目录并覆盖已存在文件
+	 *
+	 * @param file 输出文件（必须非null）
+	 * @throws IOException              当写入文件失败时抛出
+	 * @throws NullPointerException     当file为null时抛出
+	 * @throws IllegalArgumentException 当file已存在且不是文件时抛出
+	 * @since 2.2.0
+	 */
+	public void save(final File file) throws IOException {
+		FileUtils.checkFileIfExist(file, "file 不可为 null");
+
+		Map<FileIdentity, Entry> snapshot;
+		synchronized (entries) {
+			snapshot = new LinkedHashMap<>(entries);
+		}
+
+		FileUtils.forceMkdirParent(file);
+		try (DataOutputStream outputStream = new DataOutputStream(FileUtils.newBufferedOutputStream(file))) {
+			outputStream.writeUTF(HEADER);
+			outputStream.writeInt(snapshot.size());
+			for (Map.Entry<FileIdentity, Entry> entry : snapshot.entrySet()) {
+				FileIdentity identity = entry.getKey();
+				writeString(outputStream, identity.path());
+				outputStream.writeLong(identity.size());
+				outputStream.writeLong(identity.lastModified());
+				writeString(outputStream, identity.fileKey());
+
+				Entry value = entry.getValue();
+				writeString(outputStream, value.digest);
+				writeString(outputStream, value.mimeType);
+				Map<String, String> metaData = value.metaData;
+				outputStream.writeInt(Objects.isNull(metaData) ? -1 : metaData.size());
+				if (Objects.nonNull(metaData)) {
+					for (Map.Entry<String, String> metaDataEntry : metaData.entrySet()) {
+						writeString(outputStream, metaDataEntry.getKey());
+						writeString(outputStream, metaDataEntry.getValue());
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * 从文件加载缓存条目
+	 * <p>文件已删除或标识已变化的条目会被丢弃，加载的条目按保存时的访问顺序加入缓存，超出上限时淘汰最久未使用的条目。</p>
+	 *
+	 * @param file 缓存文件（必须存在）
+	 * @return 加载的条目数量
+	 * @throws IOException              当读取文件失败时抛出
+	 * @throws NullPointerException     当file为null时抛出
+	 * @throws IllegalArgumentException 当file不存在、不是文件或不是有效的缓存文件时抛出
+	 * @since 2.2.0
+	 */
+	public int load(final File file) throws IOException {
+		FileUtils.checkFile(file, "file 不可为 null");
+
+		Map<FileIdentity, Entry> loaded = new LinkedHashMap<>();
+		try (BoundedInputStream boundedInputStream = BoundedInputStream.builder()
+			.setInputStream(FileUtils.newUnsynchronizedBufferedInputStream(file))
+			.setMaxCount(file.length())
+			.get();
+		     DataInputStream inputStream = new DataInputStream(boundedInputStream)) {
+			Validate.isTrue(HEADER.equals(inputStream.readUTF()), "file 不是有效的缓存文件");
+
+			int count = inputStream.readInt();
+			for (int i = 0; i < count; i++) {
+				FileIdentity identity = new FileIdentity(readString(inputStream, boundedInputStream),
+					inputStream.readLong(), inputStream.readLong(), readString(inputStream, boundedInputStream));
+
+				Entry entry = new Entry();
+				entry.digest = readString(inputStream, boundedInputStream);
+				entry.mimeType = readString(inputStream, boundedInputStream);
+				int metaDataSize = inputStream.readInt();
+				if (metaDataSize >= 0) {
+					// 每个元数据键值对至少占用两个长度前缀
+					Validate.isTrue(metaDataSize <= boundedInputStream.getRemaining() / (Integer.BYTES * 2),
+						"file 不是有效的缓存文件");
+					Map<String, String> metaData = new LinkedHashMap<>(metaDataSize);
+					for (int j = 0; j < metaDataSize; j++) {
+						metaData.put(readString(inputStream, boundedInputStream), readString(inputStream, boundedInputStream));
+					}
+					entry.metaData = Collections.unmodifiableMap(metaData);
+				}
+
+				File target = new File(identity.path());
+				if (target.isFile() && identity.equals(FileIdentity.of(target))) {
+					loaded.put(identity, entry);
+				}
+			}
+		} catch (EOFException | UTFDataFormatException e) {
+			throw new IllegalArgumentException("file 不是有效的缓存文件", e);
+		}
+
+		synchronized (entries) {
+			entries.putAll(loaded);
+		}
+		return loaded.size();
+	}
+
+	/**
+	 * 获取缓存值，未命中时计算并缓存
+	 *
+	 * @param file   目标文件
+	 * @param getter 从条目读取值
+	 * @param setter 向条目写入值
+	 * @param loader 计算值
+	 * @param <T>    值类型
+	 * @return 缓存值或计算结果
+	 * @throws IOException 当计算失败时抛出
+	 * @since 2.2.0
+	 */
+	private <T> T get(final File file, final Function<Entry, T> getter, final BiConsumer<Entry, T> setter,
+					  final IOFunction<File, T> loader) throws IOException {
+		FileUtils.checkFile(file, "file 不可为 null");
+
+		FileIdentity identity = FileIdentity.of(file);
+		Entry entry;
+		synchronized (entries) {
+			entry = entries.computeIfAbsent(identity, key -> new Entry());
+		}
+
+		T value = getter.apply(entry);
+		if (Objects.nonNull(value)) {
+			hitCount.increment();
+			return value;
+		}
+
+		missCount.increment();
+		value = loader.apply(file);
+		if (identity.equals(FileIdentity.of(file))) {
+			setter.accept(entry, value);
+		}
+		return value;
+	}
+
+	/**
+	 * 写入可为null的字符串
+	 *
+	 * @param outputStream 输出流
+	 * @param value        字符串，可为null
+	 * @throws IOException 当写入失败时抛出
+	 * @since 2.2.0
+	 */
+	private static void writeString(final DataOutputStream outputStream, final String value) throws IOException {
+		if (Objects.isNull(value)) {
+			outputStream.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		outputStream.writeInt(bytes.length);
+		outputStream.write(bytes);
+	}
+
+	/**
+	 * 读取可为null的字符串
+	 * <p>长度前缀大于文件剩余字节数时视为缓存文件损坏，不会按该长度分配缓冲区。</p>
+	 *
+	 * @param inputStream        输入流
+	 * @param boundedInputStream 以文件大小为上限的底层输入流，用于获取剩余字节数
+	 * @return 字符串，可为null
+	 * @throws IOException              当读取失败时抛出
+	 * @throws IllegalArgumentException 当长度前缀大于文件剩余字节数时抛出
+	 * @since 2.2.0
+	 */
+	private static String readString(final DataInputStream inputStream, final BoundedInputStream boundedInputStream)
+		throws IOException {
+		int length = inputStream.readInt();
+		if (length < 0) {
+			return null;
+		}
+		Validate.isTrue(length <= boundedInputStream.getRemaining(), "file 不是有效的缓存文件");
+		byte[] bytes = new byte[length];
+		inputStream.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 文件标识
+	 * <p>相同路径的文件在大小、修改时间或文件键变化后视为不同的文件。</p>
+	 *
+	 * @param path         规范路径
+	 * @param size         文件大小（字节）
+	 * @param lastModified 最后修改时间（纳秒）
+	 * @param fileKey      平台提供的文件键（如inode），不支持时为null
+	 * @since 2.2.0
+	 */
+	public record FileIdentity(String path, long size, long lastModified, String fileKey) {
+		/**
+		 * 读取文件当前的标识
+		 *
+		 * @param file 文件（必须存在）
+		 * @return 文件标识
+		 * @throws IOException 当读取文件属性失败时抛出
+		 * @since 2.2.0
+		 */
+		public static FileIdentity of(final File file) throws IOException {
+			BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+			Object fileKey = attributes.fileKey();
+			return new FileIdentity(file.getCanonicalPath(), attributes.size(),
+				attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS), Objects.isNull(fileKey) ? null :
+				fileKey.toString());
+		}
+	}
+
+	/**
+	 * 缓存统计数据
+	 *
+	 * @param hitCount      命中次数
+	 * @param missCount     未命中次数
+	 * @param evictionCount 淘汰次数
+	 * @param size          当前条目数量
+	 * @since 2.2.0
+	 */
+	public record Stats(long hitCount, long missCount, long evictionCount, int size) {
+		/**
+		 * 获取命中率
+		 *
+		 * @return 命中次数占总请求次数的比例，没有请求时为0
+		 * @since 2.2.0
+		 */
+		public double hitRate() {
+			long requestCount = hitCount + missCount;
+			return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+		}
+	}
+
+	/**
+	 * 缓存条目，各项值首次请求时计算
+	 *
+	 * @since 2.2.0
+	 */
+	private static final class Entry {
+		/**
+		 * 摘要
+		 *
+		 * @since 2.2.0
+		 */
+		private volatile String digest;
+		/**
+		 * MIME类型
+		 *
+		 * @since 2.2.0
+		 */
+		private volatile String mimeType;
+		/**
+		 * 不可修改的元数据
+		 *
+		 * @since 2.2.0
+		 */
+		private volatile Map<String, String> metaData;
+	}
+}
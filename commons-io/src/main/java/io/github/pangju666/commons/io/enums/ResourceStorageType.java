@@ -0,0 +1,38 @@
+package io.github.pangju666.commons.io.enums;
+
+/**
+ * IO资源存储类型
+ * <p>决定 {@link io.github.pangju666.commons.io.resource.IOResource} 内存内容的存放位置：</p>
+ * <ul>
+ *   <li>{@link #HEAP}：堆内字节数组（默认）</li>
+ *   <li>{@link #DIRECT}：堆外直接缓冲区</li>
+ *   <li>{@link #MAPPED}：内存映射文件</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see io.github.pangju666.commons.io.resource.ResourceStoragePolicy
+ * @since 2.2.0
+ */
+public enum ResourceStorageType {
+	/**
+	 * 堆内存储
+	 * <p>内容存放在堆内字节数组中，适合小数据。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	HEAP,
+	/**
+	 * 堆外存储
+	 * <p>内容存放在 {@link java.nio.ByteBuffer#allocateDirect(int) 直接缓冲区} 中，不占用堆内存，也不参与垃圾回收时的复制。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	DIRECT,
+	/**
+	 * 内存映射文件存储
+	 * <p>内容写入临时文件（或直接使用源文件）后通过内存映射读取，由操作系统页缓存管理，适合大数据。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	MAPPED
+}
@@ -63,6 +63,12 @@ public class IOConstants {
 	 * @since 2.1.0
 	 */
 	public static final String DIGEST_FORMAT = "%016x";
+	/**
+	 * 全量树形摘要的默认叶子大小（4MB）
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int DEFAULT_TREE_DIGEST_LEAF_SIZE = 4 * 1024 * 1024;
 	/**
 	 * 任意文件类型
 	 *
@@ -0,0 +1,277 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.io.model;
+
+import io.github.pangju666.commons.io.lang.IOConstants;
+import net.openhft.hashing.LongHashFunction;
+import org.apache.commons.lang3.Validate;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * 全量内容树形摘要（不可变且线程安全）
+ * <p>内容按固定叶子大小切分，每个叶子单独计算哈希，根哈希由叶子大小、内容长度和全部叶子哈希计算得出。
+ * 与三段采样摘要不同，内容的任意字节变化都会改变根哈希，可用于内容去重校验。</p>
+ *
+ * <p>实现特性：</p>
+ * <ul>
+ *     <li>叶子之间相互独立，可以并行计算</li>
+ *     <li>内容追加后只需重新计算最后一个不完整叶子及新增叶子，完整叶子的哈希可直接复用</li>
+ *     <li>摘要记录了哈希函数标识，只有叶子大小和哈希函数都相同的摘要才可以比较</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see io.github.pangju666.commons.io.utils.FileUtils#computeTreeDigest(java.io.File)
+ * @see io.github.pangju666.commons.io.utils.IOUtils#computeTreeDigest(java.io.InputStream)
+ * @since 2.2.0
+ */
+public final class TreeDigest implements Serializable {
+	@Serial
+	private static final long serialVersionUID = 1L;
+	/**
+	 * 计算哈希函数标识时使用的探测值
+	 *
+	 * @since 2.2.0
+	 */
+	private static final long HASH_FUNC_PROBE = 0x9E3779B97F4A7C15L;
+
+	/**
+	 * 叶子大小（字节）
+	 *
+	 * @since 2.2.0
+	 */
+	private final int leafSize;
+	/**
+	 * 内容长度（字节）
+	 *
+	 * @since 2.2.0
+	 */
+	private final long length;
+	/**
+	 * 叶子哈希，按内容顺序排列
+	 *
+	 * @since 2.2.0
+	 */
+	private final long[] leafHashes;
+	/**
+	 * 根哈希
+	 *
+	 * @since 2.2.0
+	 */
+	private final long rootHash;
+	/**
+	 * 哈希函数标识
+	 *
+	 * @since 2.2.0
+	 */
+	private final long hashFuncId;
+
+	private TreeDigest(final int leafSize, final long length, final long[] leafHashes, final long rootHash,
+					   final long hashFuncId) {
+		this.leafSize = leafSize;
+		this.length = length;
+		this.leafHashes = leafHashes;
+		this.rootHash = rootHash;
+		this.hashFuncId = hashFuncId;
+	}
+
+	/**
+	 * 根据叶子哈希创建树形摘要并计算根哈希
+	 *
+	 * @param leafSize   叶子大小（字节，必须大于0）
+	 * @param length     内容长度（字节，不可为负数）
+	 * @param leafHashes 叶子哈希（必须非null），数量必须等于内容长度按叶子大小切分后的叶子数量
+	 * @param hashFunc   计算根哈希的哈希函数（必须非null），应与计算叶子哈希的函数相同
+	 * @return 树形摘要
+	 * @throws NullPointerException     当leafHashes或hashFunc为null时抛出
+	 * @throws IllegalArgumentException 当leafSize小于等于0、length为负数或叶子数量不匹配时抛出
+	 * @since 2.2.0
+	 */
+	public static TreeDigest of(final int leafSize, final long length, final long[] leafHashes,
+								final LongHashFunction hashFunc) {
+		Validate.isTrue(leafSize > 0, "leafSize 必须大于0");
+		Validate.isTrue(length >= 0, "length 不可为负数");
+		Validate.notNull(leafHashes, "leafHashes 不可为 null");
+		Validate.notNull(hashFunc, "hashFunc 不可为 null");
+		Validate.isTrue(leafHashes.length == getLeafCount(length, leafSize),
+			"leafHashes 数量与内容长度不匹配，期望 %d 个，实际 %d 个", getLeafCount(length, leafSize), leafHashes.length);
+
+		long[] rootInput = new long[leafHashes.length + 2];
+		rootInput[0] = leafSize;
+		rootInput[1] = length;
+		System.arraycopy(leafHashes, 0, rootInput, 2, leafHashes.length);
+		return new TreeDigest(leafSize, length, leafHashes.clone(), hashFunc.hashLongs(rootInput),
+			getHashFuncId(hashFunc));
+	}
+
+	/**
+	 * 计算哈希函数标识
+	 * <p>标识为哈希函数对固定探测值的哈希结果，算法或种子不同的哈希函数会得到不同的标识。</p>
+	 *
+	 * @param hashFunc 哈希函数（必须非null）
+	 * @return 哈希函数标识
+	 * @throws NullPointerException 当hashFunc为null时抛出
+	 * @since 2.2.0
+	 */
+	public static long getHashFuncId(final LongHashFunction hashFunc) {
+		Validate.notNull(hashFunc, "hashFunc 不可为 null");
+		return hashFunc.hashLong(HASH_FUNC_PROBE);
+	}
+
+	/**
+	 * 计算内容按叶子大小切分后的叶子数量
+	 *
+	 * @param length   内容长度（字节）
+	 * @param leafSize 叶子大小（字节）
+	 * @return 叶子数量，最后一个叶子可能不完整
+	 * @since 2.2.0
+	 */
+	public static int getLeafCount(final long length, final int leafSize) {
+		return Math.toIntExact((length + leafSize - 1) / leafSize);
+	}
+
+	/**
+	 * 获取叶子大小
+	 *
+	 * @return 叶子大小（字节）
+	 * @since 2.2.0
+	 */
+	public int getLeafSize() {
+		return leafSize;
+	}
+
+	/**
+	 * 获取内容长度
+	 *
+	 * @return 内容长度（字节）
+	 * @since 2.2.0
+	 */
+	public long getLength() {
+		return length;
+	}
+
+	/**
+	 * 获取叶子数量
+	 *
+	 * @return 叶子数量
+	 * @since 2.2.0
+	 */
+	public int getLeafCount() {
+		return leafHashes.length;
+	}
+
+	/**
+	 * 获取完整叶子数量
+	 * <p>内容追加后，这些叶子的哈希不会改变。</p>
+	 *
+	 * @return 长度等于叶子大小的叶子数量
+	 * @since 2.2.0
+	 */
+	public int getCompleteLeafCount() {
+		return Math.toIntExact(length / leafSize);
+	}
+
+	/**
+	 * 获取指定叶子的哈希
+	 *
+	 * @param index 叶子索引
+	 * @return 叶子哈希
+	 * @throws IndexOutOfBoundsException 当索引越界时抛出
+	 * @since 2.2.0
+	 */
+	public long getLeafHash(final int index) {
+		return leafHashes[index];
+	}
+
+	/**
+	 * 获取全部叶子哈希
+	 *
+	 * @return 叶子哈希的副本
+	 * @since 2.2.0
+	 */
+	public long[] getLeafHashes() {
+		return leafHashes.clone();
+	}
+
+	/**
+	 * 获取根哈希
+	 *
+	 * @return 根哈希
+	 * @since 2.2.0
+	 */
+	public long getRootHash() {
+		return rootHash;
+	}
+
+	/**
+	 * 获取计算摘要时使用的哈希函数标识
+	 *
+	 * @return 哈希函数标识
+	 * @see #getHashFuncId(LongHashFunction)
+	 * @since 2.2.0
+	 */
+	public long getHashFuncId() {
+		return hashFuncId;
+	}
+
+	/**
+	 * 判断摘要是否由指定哈希函数计算
+	 *
+	 * @param hashFunc 哈希函数（必须非null）
+	 * @return 哈希函数标识相同时返回true
+	 * @throws NullPointerException 当hashFunc为null时抛出
+	 * @since 2.2.0
+	 */
+	public boolean isComputedBy(final LongHashFunction hashFunc) {
+		return this.hashFuncId == getHashFuncId(hashFunc);
+	}
+
+	/**
+	 * 获取格式化的根哈希
+	 *
+	 * @return 使用 {@link IOConstants#DIGEST_FORMAT} 格式化的根哈希
+	 * @since 2.2.0
+	 */
+	public String getDigest() {
+		return String.format(IOConstants.DIGEST_FORMAT, rootHash);
+	}
+
+	@Override
+	public String toString() {
+		return getDigest();
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (other == null || getClass() != other.getClass()) {
+			return false;
+		}
+		TreeDigest that = (TreeDigest) other;
+		return this.leafSize == that.leafSize && this.length == that.length && this.rootHash == that.rootHash &&
+			this.hashFuncId == that.hashFuncId && Arrays.equals(this.leafHashes, that.leafHashes);
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(this.rootHash);
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.io.resource;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * 基于字节缓冲区的只读可定位字节通道
+ * <p>直接读取缓冲区内容，不复制数据。</p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+final class ByteBufferChannel implements SeekableByteChannel {
+	/**
+	 * 字节缓冲区，position为0，limit为内容大小
+	 *
+	 * @since 2.2.0
+	 */
+	private final ByteBuffer buffer;
+	/**
+	 * 当前读取位置
+	 *
+	 * @since 2.2.0
+	 */
+	private long position = 0;
+	/**
+	 * 是否已关闭
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile boolean closed = false;
+
+	/**
+	 * 创建通道
+	 *
+	 * @param buffer 字节缓冲区，通道不会修改其位置
+	 * @since 2.2.0
+	 */
+	ByteBufferChannel(final ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	@Override
+	public synchronized int read(final ByteBuffer dst) throws ClosedChannelException {
+		checkOpen();
+
+		if (position >= buffer.limit()) {
+			return -1;
+		}
+		int count = (int) Math.min(dst.remaining(), buffer.limit() - position);
+		if (count == 0) {
+			return 0;
+		}
+		dst.put(buffer.slice((int) position, count));
+		position += count;
+		return count;
+	}
+
+	@Override
+	public int write(final ByteBuffer src) {
+		throw new NonWritableChannelException();
+	}
+
+	@Override
+	public synchronized long position() throws ClosedChannelException {
+		checkOpen();
+
+		return position;
+	}
+
+	@Override
+	public synchronized SeekableByteChannel position(final long newPosition) throws ClosedChannelException {
+		checkOpen();
+
+		if (newPosition < 0) {
+			throw new IllegalArgumentException("newPosition 不可为负数");
+		}
+		this.position = newPosition;
+		return this;
+	}
+
+	@Override
+	public long size() throws ClosedChannelException {
+		checkOpen();
+
+		return buffer.limit();
+	}
+
+	@Override
+	public SeekableByteChannel truncate(final long size) {
+		throw new NonWritableChannelException();
+	}
+
+	@Override
+	public boolean isOpen() {
+		return !closed;
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+	}
+
+	/**
+	 * 检查通道是否已关闭
+	 *
+	 * @throws ClosedChannelException 当通道已关闭时抛出
+	 * @since 2.2.0
+	 */
+	private void checkOpen() throws ClosedChannelException {
+		if (closed) {
+			throw new ClosedChannelException();
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.io.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Objects;
+
+/**
+ * 基于字节缓冲区的输入流（非线程安全）
+ * <p>直接读取缓冲区内容，不复制数据；跳过、标记和重置只修改缓冲区位置。</p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+final class ByteBufferInputStream extends InputStream {
+	/**
+	 * 字节缓冲区
+	 *
+	 * @since 2.2.0
+	 */
+	private final ByteBuffer buffer;
+	/**
+	 * 标记位置
+	 *
+	 * @since 2.2.0
+	 */
+	private int mark;
+
+	/**
+	 * 创建输入流
+	 *
+	 * @param buffer 字节缓冲区，从当前位置读取到limit，输入流会修改其位置
+	 * @since 2.2.0
+	 */
+	ByteBufferInputStream(final ByteBuffer buffer) {
+		this.buffer = buffer;
+		this.mark = buffer.position();
+	}
+
+	@Override
+	public int read() {
+		return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+	}
+
+	@Override
+	public int read(final byte[] bytes, final int offset, final int length) {
+		Objects.checkFromIndexSize(offset, length, bytes.length);
+		if (length == 0) {
+			return 0;
+		}
+		if (!buffer.hasRemaining()) {
+			return -1;
+		}
+		int count = Math.min(length, buffer.remaining());
+		buffer.get(bytes, offset, count);
+		return count;
+	}
+
+	@Override
+	public long skip(final long n) {
+		if (n <= 0) {
+			return 0;
+		}
+		int count = (int) Math.min(n, buffer.remaining());
+		buffer.position(buffer.position() + count);
+		return count;
+	}
+
+	@Override
+	public int available() {
+		return buffer.remaining();
+	}
+
+	@Override
+	public boolean markSupported() {
+		return true;
+	}
+
+	@Override
+	public void mark(final int readLimit) {
+		this.mark = buffer.position();
+	}
+
+	@Override
+	public void reset() {
+		buffer.position(mark);
+	}
+
+	@Override
+	public long transferTo(final OutputStream outputStream) throws IOException {
+		Objects.requireNonNull(outputStream, "outputStream");
+		int count = buffer.remaining();
+		if (buffer.hasArray()) {
+			outputStream.write(buffer.array(), buffer.arrayOffset() + buffer.position(), count);
+			buffer.position(buffer.limit());
+		} else {
+			Channels.newChannel(outputStream).write(buffer);
+		}
+		return count;
+	}
+}
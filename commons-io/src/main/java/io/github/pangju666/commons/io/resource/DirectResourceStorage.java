@@ -0,0 +1,129 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.io.resource;
+
+import io.github.pangju666.commons.io.enums.ResourceStorageType;
+import org.apache.commons.lang3.Validate;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * 堆外IO资源存储
+ * <p>内容存放在直接缓冲区中，不占用堆内存，所有视图共享该缓冲区，不复制数据。</p>
+ * <p>直接缓冲区的内存在存储不再被引用后由垃圾回收器释放。</p>
+ *
+ * @author pangju666
+ * @see ResourceStorageType#DIRECT
+ * @since 2.2.0
+ */
+public final class DirectResourceStorage implements ResourceStorage {
+	/**
+	 * 直接缓冲区，position为0，limit为内容大小
+	 *
+	 * @since 2.2.0
+	 */
+	private final ByteBuffer buffer;
+
+	/**
+	 * 包装直接缓冲区从当前位置到limit的内容
+	 * <p>不会复制缓冲区，创建后调用方不应再修改该缓冲区的内容。</p>
+	 *
+	 * @param buffer 直接缓冲区（必须非null）
+	 * @throws NullPointerException     当buffer为null时抛出
+	 * @throws IllegalArgumentException 当buffer不是直接缓冲区时抛出
+	 * @since 2.2.0
+	 */
+	public DirectResourceStorage(final ByteBuffer buffer) {
+		Validate.notNull(buffer, "buffer 不可为 null");
+		Validate.isTrue(buffer.isDirect(), "buffer 必须为直接缓冲区");
+
+		this.buffer = buffer.slice();
+	}
+
+	/**
+	 * 从输入流读取指定长度的内容创建存储
+	 * <p>直接读取到直接缓冲区，不经过堆内数组中转，输入流不会被关闭。</p>
+	 *
+	 * @param inputStream 输入流（必须非null）
+	 * @param size        内容长度，必须在0到{@link Integer#MAX_VALUE}之间
+	 * @return 堆外存储
+	 * @throws IOException              当读取失败或输入流内容不足size时抛出
+	 * @throws NullPointerException     当inputStream为null时抛出
+	 * @throws IllegalArgumentException 当size超出范围时抛出
+	 * @since 2.2.0
+	 */
+	public static DirectResourceStorage read(final InputStream inputStream, final long size) throws IOException {
+		Validate.notNull(inputStream, "inputStream 不可为 null");
+		Validate.inclusiveBetween(0, Integer.MAX_VALUE, size, "size 超出直接缓冲区容量范围");
+
+		ByteBuffer buffer = ByteBuffer.allocateDirect((int) size);
+		ReadableByteChannel channel = Channels.newChannel(inputStream);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) < 0) {
+				throw new EOFException("输入流长度不足，期望 " + size + " 字节，实际 " + buffer.position() + " 字节");
+			}
+		}
+		return new DirectResourceStorage(buffer.flip());
+	}
+
+	@Override
+	public ResourceStorageType getType() {
+		return ResourceStorageType.DIRECT;
+	}
+
+	@Override
+	public long size() {
+		return buffer.limit();
+	}
+
+	@Override
+	public ByteBuffer asByteBuffer() {
+		return buffer.asReadOnlyBuffer();
+	}
+
+	@Override
+	public SeekableByteChannel openChannel() {
+		return new ByteBufferChannel(buffer.duplicate());
+	}
+
+	@Override
+	public InputStream openInputStream() {
+		return new ByteBufferInputStream(buffer.duplicate());
+	}
+
+	@Override
+	public byte[] toByteArray() {
+		byte[] bytes = new byte[buffer.limit()];
+		buffer.get(0, bytes);
+		return bytes;
+	}
+
+	/**
+	 * 直接缓冲区的内存由垃圾回收器释放，关闭操作不做处理，避免仍在使用的视图访问到已释放的内存
+	 *
+	 * @since 2.2.0
+	 */
+	@Override
+	public void close() {
+	}
+}
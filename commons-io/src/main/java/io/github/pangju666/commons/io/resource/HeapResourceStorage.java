@@ -0,0 +1,187 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.io.resource;
+
+import io.github.pangju666.commons.io.enums.ResourceStorageType;
+import org.apache.commons.io.output.ByteArrayOutputStream;
+import org.apache.commons.lang3.Validate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Arrays;
+
+/**
+ * 堆内IO资源存储
+ * <p>内容存放在堆内字节数组中，所有视图直接包装该数组，不复制数据。</p>
+ *
+ * @author pangju666
+ * @see ResourceStorageType#HEAP
+ * @since 2.2.0
+ */
+public final class HeapResourceStorage implements ResourceStorage {
+	/**
+	 * 字节数组
+	 *
+	 * @since 2.2.0
+	 */
+	private final byte[] bytes;
+	/**
+	 * 内容长度
+	 *
+	 * @since 2.2.0
+	 */
+	private final int length;
+
+	/**
+	 * 包装整个字节数组
+	 * <p>不会复制数组，创建后调用方不应再修改该数组。</p>
+	 *
+	 * @param bytes 字节数组（必须非null）
+	 * @throws NullPointerException 当bytes为null时抛出
+	 * @since 2.2.0
+	 */
+	public HeapResourceStorage(final byte[] bytes) {
+		this(bytes, Validate.notNull(bytes, "bytes 不可为 null").length);
+	}
+
+	/**
+	 * 包装字节数组的前length个字节
+	 * <p>不会复制数组，创建后调用方不应再修改该数组。</p>
+	 *
+	 * @param bytes  字节数组（必须非null）
+	 * @param length 内容长度
+	 * @throws NullPointerException     当bytes为null时抛出
+	 * @throws IllegalArgumentException 当length小于0或大于数组长度时抛出
+	 * @since 2.2.0
+	 */
+	public HeapResourceStorage(final byte[] bytes, final int length) {
+		Validate.notNull(bytes, "bytes 不可为 null");
+		Validate.isTrue(length >= 0 && length <= bytes.length, "length 超出数组范围");
+
+		this.bytes = bytes;
+		this.length = length;
+	}
+
+	@Override
+	public ResourceStorageType getType() {
+		return ResourceStorageType.HEAP;
+	}
+
+	@Override
+	public long size() {
+		return length;
+	}
+
+	@Override
+	public ByteBuffer asByteBuffer() {
+		return ByteBuffer.wrap(bytes, 0, length).asReadOnlyBuffer();
+	}
+
+	@Override
+	public SeekableByteChannel openChannel() {
+		return new ByteBufferChannel(ByteBuffer.wrap(bytes, 0, length));
+	}
+
+	@Override
+	public InputStream openInputStream() {
+		return new ByteBufferInputStream(ByteBuffer.wrap(bytes, 0, length));
+	}
+
+	@Override
+	public byte[] toByteArray() {
+		return Arrays.copyOf(bytes, length);
+	}
+
+	/**
+	 * 堆内存储不持有需要释放的资源，数组由垃圾回收器回收
+	 *
+	 * @since 2.2.0
+	 */
+	@Override
+	public void close() {
+	}
+
+	/**
+	 * 创建直接读取该数组的只读字节数组输出流视图，供已废弃的 {@link IOResource#byteArrayOutputStream} 字段使用
+	 *
+	 * @return 只读字节数组输出流视图
+	 * @since 2.2.0
+	 */
+	ByteArrayOutputStream toByteArrayOutputStream() {
+		return new ReadOnlyByteArrayOutputStream(bytes, length);
+	}
+
+	/**
+	 * 只读字节数组输出流视图
+	 * <p>读取操作直接访问数组，不复制数据；写入与重置会修改资源内容，因此抛出 {@link UnsupportedOperationException}。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	private static final class ReadOnlyByteArrayOutputStream extends ByteArrayOutputStream {
+		private final byte[] bytes;
+		private final int length;
+
+		ReadOnlyByteArrayOutputStream(final byte[] bytes, final int length) {
+			super(0);
+			this.bytes = bytes;
+			this.length = length;
+		}
+
+		@Override
+		public void reset() {
+			throw new UnsupportedOperationException("资源内容不可修改");
+		}
+
+		@Override
+		public int size() {
+			return length;
+		}
+
+		@Override
+		public byte[] toByteArray() {
+			return Arrays.copyOf(bytes, length);
+		}
+
+		@Override
+		public InputStream toInputStream() {
+			return new ByteBufferInputStream(ByteBuffer.wrap(bytes, 0, length));
+		}
+
+		@Override
+		public void write(final byte[] b, final int off, final int len) {
+			throw new UnsupportedOperationException("资源内容不可修改");
+		}
+
+		@Override
+		public int write(final InputStream in) {
+			throw new UnsupportedOperationException("资源内容不可修改");
+		}
+
+		@Override
+		public void write(final int b) {
+			throw new UnsupportedOperationException("资源内容不可修改");
+		}
+
+		@Override
+		public void writeTo(final OutputStream out) throws IOException {
+			out.write(bytes, 0, length);
+		}
+	}
+}
@@ -16,6 +16,8 @@
 
 package io.github.pangju666.commons.io.resource;
 
+import io.github.pangju666.commons.io.cache.FileContentCache;
+import io.github.pangju666.commons.io.enums.ResourceStorageType;
 import io.github.pangju666.commons.io.lang.IOConstants;
 import io.github.pangju666.commons.io.model.DataSize;
 import io.github.pangju666.commons.io.utils.FileUtils;
@@ -28,7 +30,13 @@ import org.apache.commons.lang3.Strings;
 import org.apache.commons.lang3.Validate;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -39,7 +47,10 @@ import java.util.UUID;
  * <ul>
  *     <li><strong>多数据源支持</strong> - 支持文件、字节数组、输入流等多种数据源</li>
  *     <li><strong>自动类型检测</strong> - 基于Apache Tika自动识别MIME类型</li>
+ *     <li><strong>头部缓冲区</strong> - 构造时读取一次资源头部（{@link #HEAD_BUFFER_SIZE}），MIME类型检测和子类的格式检测、元数据读取共用该缓冲区，避免重复读取文件</li>
  *     <li><strong>可选缓存</strong> - 文件模式可选择是否将内容缓存到内存</li>
+ *     <li><strong>可插拔存储</strong> - 内存内容按 {@link ResourceStoragePolicy 存储策略} 存放在堆内、堆外或内存映射文件中，
+ *     {@link #asByteBuffer()}、{@link #openChannel()}、{@link #openInputStream()} 直接读取存储内容，不复制数据</li>
  *     <li><strong>摘要计算</strong> - 支持基于三段采样策略的摘要计算</li>
  *     <li><strong>资源管理</strong> - 实现Closeable接口，支持资源自动清理</li>
  *     <li><strong>临时文件管理</strong> - 自动管理临时文件的创建和删除</li>
@@ -57,7 +68,7 @@ import java.util.UUID;
  * <ul>
  *     <li>资源关闭后禁止执行任何操作</li>
  *     <li>临时文件在资源关闭时自动删除</li>
- *     <li>大文件建议使用文件模式且不缓存以避免内存占用过高</li>
+ *     <li>大文件建议使用文件模式且不缓存以避免内存占用过高，或通过 {@link #setDefaultStoragePolicy(ResourceStoragePolicy)} 使用堆外或内存映射文件存储</li>
  *     <li><strong>format字段说明</strong> - format是基于MIME类型推断的文件真实格式的默认后缀，而非文件名称的后缀</li>
  * </ul>
  *
@@ -83,6 +94,37 @@ public class IOResource implements Closeable {
 	 * @since 2.1.0
 	 */
 	protected static final String TMP_FILE_EXTENSION = "tmp";
+	/**
+	 * 头部缓冲区大小（字节），当前值为 64KB
+	 * <p>与 Tika 魔数检测读取的最大长度一致，因此基于头部缓冲区的检测结果与读取整个文件相同。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	protected static final int HEAD_BUFFER_SIZE = 64 * 1024;
+	/**
+	 * 需要读取完整文件才能准确识别的容器格式MIME类型
+	 * <p>
+	 * 类路径中存在 Tika 容器检测器（如 tika-parsers）时，OOXML、OLE2 等格式需要解析整个容器才能识别具体类型，
+	 * 头部缓冲区检测结果为以下类型且文件大于头部缓冲区时，会回退到基于完整文件的检测。
+	 * </p>
+	 *
+	 * @since 2.2.0
+	 */
+	protected static final Set<String> CONTAINER_MIME_TYPES = Set.of("application/zip",
+		"application/x-tika-ooxml", "application/x-tika-msoffice");
+
+	/**
+	 * 默认存储策略，默认仅使用堆内存储
+	 *
+	 * @since 2.2.0
+	 */
+	private static volatile ResourceStoragePolicy defaultStoragePolicy = ResourceStoragePolicy.HEAP;
+	/**
+	 * 文件内容信息缓存，为null时不使用缓存
+	 *
+	 * @since 2.2.0
+	 */
+	private static volatile FileContentCache fileContentCache;
 
 	/**
 	 * 文件格式（基于MIME类型推断的真实格式默认后缀）
@@ -107,10 +149,31 @@ public class IOResource implements Closeable {
 	protected final DataSize size;
 	/**
 	 * 字节数组缓存
+	 * <p>
+	 * 内存内容使用堆内存储（{@link HeapResourceStorage}）时为直接读取该存储的只读视图，不复制数据，写入与重置操作会抛出
+	 * {@link UnsupportedOperationException}；使用 {@link #IOResource(ByteArrayOutputStream, String)} 构造时为传入的输出流；
+	 * 堆外、内存映射文件存储或文件模式且不缓存内容时为null。
+	 * </p>
 	 *
 	 * @since 2.1.0
+	 * @deprecated 内存内容改为存放在 {@link #storage} 中，请使用 {@link #storage} 代替
 	 */
+	@Deprecated(since = "2.2.0")
 	protected final ByteArrayOutputStream byteArrayOutputStream;
+	/**
+	 * 内存内容存储
+	 * <p>文件模式且不缓存内容时为null，存储在资源关闭时一并关闭。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	protected final ResourceStorage storage;
+	/**
+	 * 头部缓冲区
+	 * <p>资源开头最多 {@link #HEAD_BUFFER_SIZE} 字节，构造时读取一次后不再修改，子类可直接用于格式检测与元数据读取。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	protected final byte[] head;
 
 	/**
 	 * 文件引用
@@ -158,8 +221,8 @@ public class IOResource implements Closeable {
 	 * <ul>
 	 *     <li>源资源必须未关闭</li>
 	 *     <li>非临时文件且不缓存时共享文件引用</li>
-	 *     <li>非临时文件且缓存时读取文件内容到字节数组</li>
-	 *     <li>临时文件或字节数组模式读取内容到字节数组</li>
+	 *     <li>非临时文件且缓存时按 {@link #getDefaultStoragePolicy() 默认存储策略} 缓存文件内容</li>
+	 *     <li>临时文件或内存模式按 {@link #getDefaultStoragePolicy() 默认存储策略} 复制内容</li>
 	 * </ul>
 	 *
 	 * @param resource     源资源（必须非null且未关闭）
@@ -180,23 +243,17 @@ public class IOResource implements Closeable {
 		this.mimeType = resource.mimeType;
 		this.digest = resource.digest;
 		this.format = resource.format;
+		this.head = resource.head;
 
 		if (Objects.nonNull(resource.file) && !resource.isTempFile()) {
 			this.file = resource.file;
-			if (cacheContent) {
-				this.byteArrayOutputStream = new ByteArrayOutputStream(IOUtils.getBufferSize(file.length()));
-				try (InputStream inputStream = FileUtils.openBufferedFileChannelInputStream(file)) {
-					this.byteArrayOutputStream.write(inputStream);
-				}
-			} else {
-				this.byteArrayOutputStream = null;
-			}
+			this.storage = cacheContent ? defaultStoragePolicy.createStorage(file) : null;
 		} else {
-			this.byteArrayOutputStream = new ByteArrayOutputStream(IOUtils.getBufferSize(this.size.toBytes()));
-			try (InputStream inputStream = resource.newBufferedInputStream()) {
-				this.byteArrayOutputStream.write(inputStream);
+			try (InputStream inputStream = resource.openInputStream()) {
+				this.storage = defaultStoragePolicy.createStorage(inputStream, this.size.toBytes());
 			}
 		}
+		this.byteArrayOutputStream = toByteArrayOutputStream(this.storage);
 	}
 
 	/**
@@ -219,7 +276,9 @@ public class IOResource implements Closeable {
 	 *
 	 * <p>注意事项：</p>
 	 * <ul>
-	 *     <li>cacheContent为true时，构造时立即读取文件内容到内存</li>
+	 *     <li>cacheContent为true时，构造时按 {@link #getDefaultStoragePolicy() 默认存储策略} 缓存文件内容
+	 *     （选择内存映射文件存储时直接映射该文件），MIME类型基于缓存的内容检测</li>
+	 *     <li>cacheContent为false时，仅读取一次文件头部用于MIME类型检测</li>
 	 *     <li>大文件建议设置为false以避免内存占用过高</li>
 	 *     <li>format基于文件的MIME类型推断，而非文件名称的后缀</li>
 	 * </ul>
@@ -236,17 +295,18 @@ public class IOResource implements Closeable {
 		this.file = new File(filePath);
 		FileUtils.checkFile(file, StringUtils.EMPTY);
 
-		this.mimeType = FileUtils.getMimeType(file);
 		this.size = DataSize.ofBytes(file.length());
 
 		if (cacheContent) {
-			this.byteArrayOutputStream = new ByteArrayOutputStream(IOUtils.getBufferSize(file.length()));
-			try (InputStream inputStream = FileUtils.openBufferedFileChannelInputStream(file)) {
-				this.byteArrayOutputStream.write(inputStream);
-			}
+			this.storage = defaultStoragePolicy.createStorage(file);
+			this.head = readHead(this.storage);
+			this.mimeType = detectMimeType(this.storage, file.getName());
 		} else {
-			this.byteArrayOutputStream = null;
+			this.storage = null;
+			this.head = readHead(file);
+			this.mimeType = detectMimeType(file, this.head);
 		}
+		this.byteArrayOutputStream = toByteArrayOutputStream(this.storage);
 
 		this.format = FilenameUtils.getExtensionByMimeType(this.mimeType, null).toLowerCase();
 	}
@@ -270,7 +330,9 @@ public class IOResource implements Closeable {
 	 *
 	 * <p>注意事项：</p>
 	 * <ul>
-	 *     <li>cacheContent为true时，构造时立即读取文件内容到内存</li>
+	 *     <li>cacheContent为true时，构造时按 {@link #getDefaultStoragePolicy() 默认存储策略} 缓存文件内容
+	 *     （选择内存映射文件存储时直接映射该文件），MIME类型基于缓存的内容检测</li>
+	 *     <li>cacheContent为false时，仅读取一次文件头部用于MIME类型检测</li>
 	 *     <li>大文件建议设置为false以避免内存占用过高</li>
 	 *     <li>format基于文件的MIME类型推断，而非文件名称的后缀</li>
 	 * </ul>
@@ -281,25 +343,40 @@ public class IOResource implements Closeable {
 	 * @since 2.1.0
 	 */
 	public IOResource(File file, boolean cacheContent) throws IOException {
+		FileUtils.checkFile(file, "file 不可为 null");
+
 		this.file = file;
-		this.mimeType = FileUtils.getMimeType(file);
 		this.size = DataSize.ofBytes(file.length());
 
 		if (cacheContent) {
-			this.byteArrayOutputStream = new ByteArrayOutputStream(IOUtils.getBufferSize(file.length()));
-			try (InputStream inputStream = FileUtils.openBufferedFileChannelInputStream(file)) {
-				this.byteArrayOutputStream.write(inputStream);
-			}
+			this.storage = defaultStoragePolicy.createStorage(file);
+			this.head = readHead(this.storage);
+			this.mimeType = detectMimeType(this.storage, file.getName());
 		} else {
-			this.byteArrayOutputStream = null;
+			this.storage = null;
+			this.head = readHead(file);
+			this.mimeType = detectMimeType(file, this.head);
 		}
+		this.byteArrayOutputStream = toByteArrayOutputStream(this.storage);
 
 		this.format = FilenameUtils.getExtensionByMimeType(this.mimeType, null).toLowerCase();
 	}
 
 	/**
 	 * 基于字节数组构造IOResource
-	 * <p>自动检测MIME类型和文件格式，内容存储在内存中。</p>
+	 * <p>等同于 {@code new IOResource(bytes, IOResource.getDefaultStoragePolicy())}。</p>
+	 *
+	 * @param bytes 字节数组（必须非空）
+	 * @throws IllegalArgumentException 当bytes为空时抛出
+	 * @since 2.1.0
+	 */
+	public IOResource(byte[] bytes) throws IOException {
+		this(bytes, defaultStoragePolicy);
+	}
+
+	/**
+	 * 基于字节数组和存储策略构造IOResource
+	 * <p>自动检测MIME类型和文件格式，内容复制到存储策略选择的存储中。</p>
 	 *
 	 * <p>注意事项：</p>
 	 * <ul>
@@ -307,49 +384,117 @@ public class IOResource implements Closeable {
 	 *     <li>format基于MIME类型推断，而非文件名称的后缀</li>
 	 * </ul>
 	 *
-	 * @param bytes 字节数组（必须非空）
+	 * @param bytes         字节数组（必须非空）
+	 * @param storagePolicy 存储策略（必须非null）
+	 * @throws IOException              当写入存储失败时抛出
 	 * @throws IllegalArgumentException 当bytes为空时抛出
-	 * @since 2.1.0
+	 * @throws NullPointerException     当storagePolicy为null时抛出
+	 * @since 2.2.0
 	 */
-	public IOResource(byte[] bytes) throws IOException {
+	public IOResource(byte[] bytes, ResourceStoragePolicy storagePolicy) throws IOException {
 		Validate.isTrue(ArrayUtils.isNotEmpty(bytes), "bytes 不可为空");
+		Validate.notNull(storagePolicy, "storagePolicy 不可为 null");
 
-		this.byteArrayOutputStream = new ByteArrayOutputStream(IOUtils.getBufferSize(bytes.length));
-		this.byteArrayOutputStream.write(bytes);
+		try (InputStream inputStream = IOUtils.toUnsynchronizedByteArrayInputStream(bytes)) {
+			this.storage = storagePolicy.createStorage(inputStream, bytes.length);
+		}
+		this.byteArrayOutputStream = toByteArrayOutputStream(this.storage);
 
 		this.size = DataSize.ofBytes(bytes.length);
-		try (InputStream inputStream = this.byteArrayOutputStream.toInputStream()) {
-			this.mimeType = IOConstants.getDefaultTika().detect(inputStream);
-		}
+		this.head = Arrays.copyOf(bytes, Math.min(bytes.length, HEAD_BUFFER_SIZE));
+		this.mimeType = detectMimeType(this.storage, this.head);
 
 		this.format = FilenameUtils.getExtensionByMimeType(this.mimeType, null).toLowerCase();
 	}
 
 	/**
 	 * 基于输入流构造IOResource
-	 * <p>读取输入流全部内容到内存，自动检测MIME类型。</p>
+	 * <p>等同于 {@code new IOResource(inputStream, IOResource.getDefaultStoragePolicy())}。</p>
+	 *
+	 * @param inputStream 输入流（必须非null）
+	 * @throws IOException              当流读取失败时抛出
+	 * @throws IllegalArgumentException 当inputStream为null时抛出
+	 * @since 2.1.0
+	 */
+	public IOResource(InputStream inputStream) throws IOException {
+		this(inputStream, defaultStoragePolicy);
+	}
+
+	/**
+	 * 基于输入流和存储策略构造IOResource
+	 * <p>流式读取输入流全部内容，按内容大小存放到存储策略选择的存储中，自动检测MIME类型并计算摘要。</p>
+	 *
+	 * <p>实现特性：</p>
+	 * <ul>
+	 *     <li>内容先缓冲在堆内，达到 {@link ResourceStoragePolicy#getSpillThreshold() 溢出阈值} 后溢出到临时文件，
+	 *     堆内占用不超过该阈值</li>
+	 *     <li>溢出后直接映射该临时文件，{@link #getFile()} 返回该文件而不再复制，资源关闭时删除</li>
+	 *     <li>MIME类型基于读取时保留的头部检测，仅容器格式会回退到读取完整内容</li>
+	 *     <li>摘要在构造时基于存储采样计算，只读取采样部分</li>
+	 * </ul>
 	 *
 	 * <p>注意事项：</p>
 	 * <ul>
 	 *     <li>输入流会被完全读取，但不会自动关闭</li>
-	 *     <li>大流可能导致内存不足，建议使用文件模式</li>
 	 *     <li>format基于MIME类型推断，而非文件名称的后缀</li>
 	 * </ul>
 	 *
-	 * @param inputStream 输入流（必须非null）
-	 * @throws IOException              当流读取失败时抛出
-	 * @throws IllegalArgumentException 当inputStream为null时抛出
-	 * @since 2.1.0
+	 * @param inputStream   输入流（必须非null）
+	 * @param storagePolicy 存储策略（必须非null）
+	 * @throws IOException          当流读取失败时抛出
+	 * @throws NullPointerException 当inputStream或storagePolicy为null时抛出
+	 * @since 2.2.0
 	 */
-	public IOResource(InputStream inputStream) throws IOException {
+	public IOResource(InputStream inputStream, ResourceStoragePolicy storagePolicy) throws IOException {
 		Validate.notNull(inputStream, "inputStream 不可为 null");
+		Validate.notNull(storagePolicy, "storagePolicy 不可为 null");
 
-		this.byteArrayOutputStream = new ByteArrayOutputStream();
-		this.byteArrayOutputStream.write(inputStream);
+		this.head = readHead(inputStream);
+		try (ResourceStorageOutputStream outputStream = new ResourceStorageOutputStream(storagePolicy)) {
+			outputStream.write(this.head);
+			inputStream.transferTo(outputStream);
+			this.storage = outputStream.toStorage();
+		}
+		this.byteArrayOutputStream = toByteArrayOutputStream(this.storage);
 
-		this.size = DataSize.ofBytes(this.byteArrayOutputStream.size());
-		try (InputStream tmpInputStream = this.byteArrayOutputStream.toInputStream()) {
-			this.mimeType = IOConstants.getDefaultTika().detect(tmpInputStream);
+		try {
+			this.size = DataSize.ofBytes(this.storage.size());
+			this.mimeType = detectMimeType(this.storage, this.head);
+			try (InputStream storageInputStream = this.storage.openInputStream()) {
+				this.digest = IOUtils.computeDigest(storageInputStream, this.storage.size());
+			}
+		} catch (IOException | RuntimeException e) {
+			this.storage.close();
+			throw e;
+		}
+
+		this.format = FilenameUtils.getExtensionByMimeType(this.mimeType, null).toLowerCase();
+	}
+
+	/**
+	 * 基于{@link ResourceStorage}构造IOResource
+	 * <p>用于子类内部构造，自动检测MIME类型（如果未指定）。</p>
+	 *
+	 * <p>format基于MIME类型推断，而非文件名称的后缀。</p>
+	 *
+	 * @param storage  存储（必须非null），资源关闭时一并关闭
+	 * @param mimeType MIME类型（可为空，为空时自动检测）
+	 * @throws IOException          当读取存储失败时抛出
+	 * @throws NullPointerException 当storage为null时抛出
+	 * @since 2.2.0
+	 */
+	protected IOResource(ResourceStorage storage, String mimeType) throws IOException {
+		Validate.notNull(storage, "storage 不可为 null");
+
+		this.storage = storage;
+		this.byteArrayOutputStream = toByteArrayOutputStream(this.storage);
+
+		this.size = DataSize.ofBytes(this.storage.size());
+		this.head = readHead(this.storage);
+		if (StringUtils.isBlank(mimeType)) {
+			this.mimeType = detectMimeType(this.storage, this.head);
+		} else {
+			this.mimeType = mimeType;
 		}
 
 		this.format = FilenameUtils.getExtensionByMimeType(this.mimeType, null).toLowerCase();
@@ -365,17 +510,20 @@ public class IOResource implements Closeable {
 	 * @param mimeType              MIME类型（可为空，为空时自动检测）
 	 * @throws IllegalArgumentException 当byteArrayOutputStream为null时抛出
 	 * @since 2.1.0
+	 * @deprecated 会在 {@link #byteArrayOutputStream} 之外再复制一份内容到 {@link #storage}，
+	 * 请使用 {@link #IOResource(ResourceStorage, String)} 代替
 	 */
+	@Deprecated(since = "2.2.0")
 	protected IOResource(ByteArrayOutputStream byteArrayOutputStream, String mimeType) throws IOException {
 		Validate.notNull(byteArrayOutputStream, "byteArrayOutputStream 不可为 null");
 
 		this.byteArrayOutputStream = byteArrayOutputStream;
+		this.storage = new HeapResourceStorage(byteArrayOutputStream.toByteArray());
 
-		this.size = DataSize.ofBytes(this.byteArrayOutputStream.size());
+		this.size = DataSize.ofBytes(this.storage.size());
+		this.head = readHead(this.storage);
 		if (StringUtils.isBlank(mimeType)) {
-			try (InputStream tmpInputStream = this.byteArrayOutputStream.toInputStream()) {
-				this.mimeType = IOConstants.getDefaultTika().detect(tmpInputStream);
-			}
+			this.mimeType = detectMimeType(this.storage, this.head);
 		} else {
 			this.mimeType = mimeType;
 		}
@@ -383,6 +531,55 @@ public class IOResource implements Closeable {
 		this.format = FilenameUtils.getExtensionByMimeType(this.mimeType, null).toLowerCase();
 	}
 
+	/**
+	 * 获取默认存储策略
+	 *
+	 * @return 默认存储策略
+	 * @see #setDefaultStoragePolicy(ResourceStoragePolicy)
+	 * @since 2.2.0
+	 */
+	public static ResourceStoragePolicy getDefaultStoragePolicy() {
+		return defaultStoragePolicy;
+	}
+
+	/**
+	 * 设置默认存储策略
+	 * <p>对之后创建的全部IOResource（包括子类）生效，未指定存储策略的构造方法以及文件模式缓存内容时使用该策略，
+	 * 已创建的资源不受影响。</p>
+	 *
+	 * @param storagePolicy 存储策略（必须非null）
+	 * @throws NullPointerException 当storagePolicy为null时抛出
+	 * @since 2.2.0
+	 */
+	public static void setDefaultStoragePolicy(ResourceStoragePolicy storagePolicy) {
+		Validate.notNull(storagePolicy, "storagePolicy 不可为 null");
+
+		defaultStoragePolicy = storagePolicy;
+	}
+
+	/**
+	 * 获取文件内容信息缓存
+	 *
+	 * @return 文件内容信息缓存，未设置时为null
+	 * @see #setFileContentCache(FileContentCache)
+	 * @since 2.2.0
+	 */
+	public static FileContentCache getFileContentCache() {
+		return fileContentCache;
+	}
+
+	/**
+	 * 设置文件内容信息缓存
+	 * <p>设置后，全部IOResource（包括子类）文件模式计算摘要以及检测容器格式的MIME类型时使用该缓存，
+	 * 同一文件被多次打开时不再重复计算；为null时不使用缓存（默认）。</p>
+	 *
+	 * @param cache 文件内容信息缓存，可为null
+	 * @see FileContentCache#getShared()
+	 * @since 2.2.0
+	 */
+	public static void setFileContentCache(FileContentCache cache) {
+		fileContentCache = cache;
+	}
 
 	/**
 	 * 获取资源摘要
@@ -391,8 +588,8 @@ public class IOResource implements Closeable {
 	 * <p>实现特性：</p>
 	 * <ul>
 	 *     <li>首次计算后缓存结果</li>
-	 *     <li>文件模式使用{@link FileUtils#computeDigest}</li>
-	 *     <li>字节数组模式使用{@link IOUtils#computeDigest}</li>
+	 *     <li>文件模式使用{@link FileUtils#computeDigest}，设置了 {@link #setFileContentCache 文件内容信息缓存} 时优先读取缓存</li>
+	 *     <li>内存模式使用{@link IOUtils#computeDigest}，直接读取存储内容</li>
 	 * </ul>
 	 *
 	 * @return 摘要字符串
@@ -408,10 +605,11 @@ public class IOResource implements Closeable {
 			}
 
 			if (Objects.nonNull(file)) {
-				digest = FileUtils.computeDigest(file);
+				FileContentCache cache = fileContentCache;
+				digest = Objects.nonNull(cache) ? cache.getDigest(file) : FileUtils.computeDigest(file);
 			} else {
-				try (InputStream inputStream = byteArrayOutputStream.toInputStream()) {
-					digest = IOUtils.computeDigest(inputStream, byteArrayOutputStream.size());
+				try (InputStream inputStream = storage.openInputStream()) {
+					digest = IOUtils.computeDigest(inputStream, storage.size());
 				}
 			}
 			return digest;
@@ -451,13 +649,52 @@ public class IOResource implements Closeable {
 		return mimeType;
 	}
 
+	/**
+	 * 获取头部缓冲区副本
+	 * <p>返回资源开头最多 {@link #HEAD_BUFFER_SIZE} 字节，可用于魔数检测等只需要文件头的场景，不会再次读取文件。</p>
+	 *
+	 * @return 头部字节数组
+	 * @since 2.2.0
+	 */
+	public byte[] getHead() {
+		checkClosed();
+
+		return head.clone();
+	}
+
+	/**
+	 * 创建头部缓冲区输入流
+	 * <p>输入流直接读取头部缓冲区，不复制数据，也不会读取文件。</p>
+	 *
+	 * @return 头部缓冲区输入流
+	 * @throws IOException 当流创建失败时抛出
+	 * @see #isHeadComplete()
+	 * @since 2.2.0
+	 */
+	public InputStream openHeadInputStream() throws IOException {
+		checkClosed();
+
+		return IOUtils.toUnsynchronizedByteArrayInputStream(head);
+	}
+
+	/**
+	 * 判断头部缓冲区是否包含资源的全部内容
+	 *
+	 * @return 资源大小不超过头部缓冲区大小时返回true，否则返回false
+	 * @since 2.2.0
+	 */
+	public boolean isHeadComplete() {
+		return head.length == size.toBytes();
+	}
+
 	/**
 	 * 获取文件对象
-	 * <p>如果当前为字节数组模式，会创建临时文件。</p>
+	 * <p>如果当前为内存模式，会创建临时文件。</p>
 	 *
 	 * <p>注意事项：</p>
 	 * <ul>
-	 *     <li>字节数组模式首次调用时创建临时文件</li>
+	 *     <li>内存模式首次调用时创建临时文件</li>
+	 *     <li>内存映射文件存储直接返回映射的文件，不会创建临时文件</li>
 	 *     <li>临时文件在资源关闭时自动删除</li>
 	 *     <li>文件模式直接返回文件引用</li>
 	 * </ul>
@@ -474,8 +711,13 @@ public class IOResource implements Closeable {
 				return file;
 			}
 
+			if (Objects.nonNull(storage.getFile())) {
+				file = storage.getFile();
+				return file;
+			}
+
 			File tempFile = new File(FileUtils.getTempDirectory(), createTempFileName());
-			try (InputStream inputStream = byteArrayOutputStream.toInputStream()) {
+			try (InputStream inputStream = storage.openInputStream()) {
 				FileUtils.copyInputStreamToFile(inputStream, tempFile);
 			}
 			file = tempFile;
@@ -490,8 +732,8 @@ public class IOResource implements Closeable {
 	 *
 	 * <p>实现特性：</p>
 	 * <ul>
-	 *     <li>文件模式使用{@link FileUtils#openInputStream}</li>
-	 *     <li>字节数组模式使用{@link ByteArrayOutputStream#toByteArray()}</li>
+	 *     <li>已缓存内容时使用{@link ResourceStorage#openInputStream()}，直接读取存储内容，不复制数据</li>
+	 *     <li>文件模式且未缓存时使用{@link FileUtils#openInputStream}</li>
 	 *     <li>每次调用返回新的输入流实例</li>
 	 * </ul>
 	 *
@@ -502,10 +744,10 @@ public class IOResource implements Closeable {
 	public InputStream openInputStream() throws IOException {
 		checkClosed();
 
-		if (Objects.nonNull(file)) {
-			return FileUtils.openInputStream(file);
+		if (Objects.nonNull(storage)) {
+			return storage.openInputStream();
 		} else {
-			return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+			return FileUtils.openInputStream(file);
 		}
 	}
 
@@ -515,8 +757,8 @@ public class IOResource implements Closeable {
 	 *
 	 * <p>实现特性：</p>
 	 * <ul>
-	 *     <li>文件模式使用{@link FileUtils#openBufferedFileChannelInputStream}</li>
-	 *     <li>字节数组模式使用{@link ByteArrayOutputStream#toInputStream()}</li>
+	 *     <li>已缓存内容时使用{@link ResourceStorage#openInputStream()}，内容已在内存中，无需额外缓冲</li>
+	 *     <li>文件模式且未缓存时使用{@link FileUtils#openBufferedFileChannelInputStream}</li>
 	 *     <li>每次调用返回新的输入流实例</li>
 	 * </ul>
 	 *
@@ -527,22 +769,85 @@ public class IOResource implements Closeable {
 	public InputStream newBufferedInputStream() throws IOException {
 		checkClosed();
 
-		if (Objects.nonNull(file)) {
+		if (Objects.nonNull(storage)) {
+			return storage.openInputStream();
+		} else {
 			return FileUtils.openBufferedFileChannelInputStream(file);
+		}
+	}
+
+	/**
+	 * 获取只读的字节缓冲区视图
+	 * <p>缓冲区与资源内容共享，不复制数据，position为0，limit为资源大小。</p>
+	 *
+	 * <p>实现特性：</p>
+	 * <ul>
+	 *     <li>已缓存内容时使用{@link ResourceStorage#asByteBuffer()}</li>
+	 *     <li>文件模式且未缓存时只读映射文件</li>
+	 *     <li>每次调用返回独立的缓冲区，读取位置互不影响</li>
+	 * </ul>
+	 *
+	 * @return 只读字节缓冲区
+	 * @throws IOException           当映射文件失败时抛出
+	 * @throws IllegalStateException 当资源大小超过 {@link Integer#MAX_VALUE} 时抛出
+	 * @since 2.2.0
+	 */
+	public ByteBuffer asByteBuffer() throws IOException {
+		checkClosed();
+
+		if (Objects.nonNull(storage)) {
+			return storage.asByteBuffer();
+		}
+		Validate.validState(size.toBytes() <= Integer.MAX_VALUE, "资源大小超过 %d 字节，无法映射为单个缓冲区",
+			Integer.MAX_VALUE);
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, size.toBytes());
+		}
+	}
+
+	/**
+	 * 打开只读的可定位字节通道
+	 *
+	 * <p>实现特性：</p>
+	 * <ul>
+	 *     <li>已缓存内容时使用{@link ResourceStorage#openChannel()}，直接读取存储内容，不复制数据</li>
+	 *     <li>文件模式且未缓存时打开只读的{@link FileChannel}</li>
+	 *     <li>每次调用返回新的通道实例，使用完毕后需要关闭</li>
+	 * </ul>
+	 *
+	 * @return 可定位字节通道
+	 * @throws IOException 当通道打开失败时抛出
+	 * @since 2.2.0
+	 */
+	public SeekableByteChannel openChannel() throws IOException {
+		checkClosed();
+
+		if (Objects.nonNull(storage)) {
+			return storage.openChannel();
 		} else {
-			return byteArrayOutputStream.toInputStream();
+			return FileChannel.open(file.toPath(), StandardOpenOption.READ);
 		}
 	}
 
+	/**
+	 * 获取存储类型
+	 *
+	 * @return 存储类型，文件模式且未缓存内容时返回null
+	 * @since 2.2.0
+	 */
+	public ResourceStorageType getStorageType() {
+		return Objects.nonNull(storage) ? storage.getType() : null;
+	}
+
 	/**
 	 * 获取字节数组
 	 * <p>如果当前为文件模式且未缓存，会读取文件内容。</p>
 	 *
 	 * <p>注意事项：</p>
 	 * <ul>
-	 *     <li>文件模式且已缓存时直接返回字节数组</li>
+	 *     <li>已缓存内容时复制存储内容</li>
 	 *     <li>文件模式且未缓存时读取文件内容（不缓存）</li>
-	 *     <li>字节数组模式直接返回字节数组</li>
+	 *     <li>需要只读访问时建议使用 {@link #asByteBuffer()}，避免复制数据</li>
 	 * </ul>
 	 *
 	 * @return 字节数组
@@ -552,8 +857,8 @@ public class IOResource implements Closeable {
 	public byte[] getBytes() throws IOException {
 		checkClosed();
 
-		if (Objects.nonNull(byteArrayOutputStream)) {
-			return byteArrayOutputStream.toByteArray();
+		if (Objects.nonNull(storage)) {
+			return storage.toByteArray();
 		}
 		return FileUtils.readFileToByteArray(file);
 	}
@@ -619,6 +924,7 @@ public class IOResource implements Closeable {
 	 *     <li>文件扩展名为 {@link #TMP_FILE_EXTENSION}</li>
 	 *     <li>父目录为 {@link #TEMP_FILE_DIRECTORY}</li>
 	 * </ul>
+	 * <p>{@link #getFile()} 创建的临时文件和内存映射文件存储自行创建的临时文件同样视为临时文件。</p>
 	 *
 	 * @return 如果是临时文件返回true，否则返回false
 	 * @since 2.1.0
@@ -627,6 +933,13 @@ public class IOResource implements Closeable {
 		if (Objects.isNull(file)) {
 			return false;
 		}
+		if (tempFileFlag) {
+			return true;
+		}
+		if (storage instanceof MappedResourceStorage mappedStorage && mappedStorage.isDeleteOnClose() &&
+			file.equals(mappedStorage.getFile())) {
+			return true;
+		}
 		String parent = file.getParent();
 		String filename = file.getName();
 		String extension = FilenameUtils.getExtension(filename);
@@ -640,7 +953,8 @@ public class IOResource implements Closeable {
 	 * <p>清理操作：</p>
 	 * <ul>
 	 *     <li>如果是临时文件，删除临时文件</li>
-	 *     <li>清空文件、字节数组、摘要引用</li>
+	 *     <li>关闭内容存储</li>
+	 *     <li>清空文件、摘要引用</li>
 	 *     <li>标记为已关闭状态</li>
 	 * </ul>
 	 *
@@ -657,6 +971,9 @@ public class IOResource implements Closeable {
 			FileUtils.forceDeleteIfExist(file);
 		}
 
+		if (Objects.nonNull(storage)) {
+			storage.close();
+		}
 		if (Objects.nonNull(byteArrayOutputStream)) {
 			byteArrayOutputStream.close();
 		}
@@ -712,4 +1029,114 @@ public class IOResource implements Closeable {
 	protected String resolveTempFileExtension() {
 		return StringUtils.defaultIfBlank(format, TMP_FILE_EXTENSION);
 	}
+
+	/**
+	 * 读取文件头部
+	 *
+	 * @param file 文件
+	 * @return 文件开头最多 {@link #HEAD_BUFFER_SIZE} 字节
+	 * @throws IOException 当文件读取失败时抛出
+	 * @since 2.2.0
+	 */
+	protected static byte[] readHead(final File file) throws IOException {
+		try (InputStream inputStream = FileUtils.openInputStream(file)) {
+			return readHead(inputStream);
+		}
+	}
+
+	/**
+	 * 读取存储内容头部
+	 *
+	 * @param storage 存储
+	 * @return 内容开头最多 {@link #HEAD_BUFFER_SIZE} 字节
+	 * @throws IOException 当读取失败时抛出
+	 * @since 2.2.0
+	 */
+	protected static byte[] readHead(final ResourceStorage storage) throws IOException {
+		try (InputStream inputStream = storage.openInputStream()) {
+			return readHead(inputStream);
+		}
+	}
+
+	/**
+	 * 检测文件MIME类型
+	 * <p>基于头部缓冲区和文件名检测；检测结果为容器格式且文件大于头部缓冲区时，回退到基于完整文件的检测。</p>
+	 *
+	 * @param file 文件
+	 * @param head 文件头部缓冲区
+	 * @return MIME类型
+	 * @throws IOException 当文件读取失败时抛出
+	 * @see #CONTAINER_MIME_TYPES
+	 * @since 2.2.0
+	 */
+	protected static String detectMimeType(final File file, final byte[] head) throws IOException {
+		String mimeType = IOConstants.getDefaultTika().detect(head, file.getName());
+		if (file.length() > head.length && CONTAINER_MIME_TYPES.contains(mimeType)) {
+			FileContentCache cache = fileContentCache;
+			return Objects.nonNull(cache) ? cache.getMimeType(file) : FileUtils.getMimeType(file);
+		}
+		return mimeType;
+	}
+
+	/**
+	 * 检测存储内容MIME类型
+	 * <p>基于头部缓冲区检测；检测结果为容器格式且内容大于头部缓冲区时，回退到基于完整内容的检测。</p>
+	 *
+	 * @param storage 存储
+	 * @param head    内容头部缓冲区
+	 * @return MIME类型
+	 * @throws IOException 当读取失败时抛出
+	 * @see #CONTAINER_MIME_TYPES
+	 * @since 2.2.0
+	 */
+	protected static String detectMimeType(final ResourceStorage storage, final byte[] head) throws IOException {
+		String mimeType = IOConstants.getDefaultTika().detect(head);
+		if (storage.size() > head.length && CONTAINER_MIME_TYPES.contains(mimeType)) {
+			return detectMimeType(storage, (String) null);
+		}
+		return mimeType;
+	}
+
+	/**
+	 * 检测存储内容MIME类型
+	 *
+	 * @param storage 存储
+	 * @param name    资源名称（可为null），用于辅助检测
+	 * @return MIME类型
+	 * @throws IOException 当读取失败时抛出
+	 * @since 2.2.0
+	 */
+	protected static String detectMimeType(final ResourceStorage storage, final String name) throws IOException {
+		try (InputStream inputStream = storage.openInputStream()) {
+			return IOConstants.getDefaultTika().detect(inputStream, name);
+		}
+	}
+
+	/**
+	 * 为已废弃的 {@link #byteArrayOutputStream} 字段创建字节数组输出流视图
+	 *
+	 * @param storage 存储，可为null
+	 * @return 堆内存储时返回只读视图，否则返回null
+	 * @since 2.2.0
+	 */
+	private static ByteArrayOutputStream toByteArrayOutputStream(final ResourceStorage storage) {
+		if (storage instanceof HeapResourceStorage heapResourceStorage) {
+			return heapResourceStorage.toByteArrayOutputStream();
+		}
+		return null;
+	}
+
+	/**
+	 * 从输入流读取头部
+	 *
+	 * @param inputStream 输入流
+	 * @return 开头最多 {@link #HEAD_BUFFER_SIZE} 字节
+	 * @throws IOException 当读取失败时抛出
+	 * @since 2.2.0
+	 */
+	private static byte[] readHead(final InputStream inputStream) throws IOException {
+		byte[] buffer = new byte[HEAD_BUFFER_SIZE];
+		int length = IOUtils.read(inputStream, buffer);
+		return length == buffer.length ? buffer : Arrays.copyOf(buffer, length);
+	}
 }
@@ -0,0 +1,213 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.io.resource;
+
+import io.github.pangju666.commons.io.enums.ResourceStorageType;
+import io.github.pangju666.commons.io.utils.FileUtils;
+import org.apache.commons.lang3.Validate;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * 内存映射文件IO资源存储
+ * <p>内容存放在文件中，通过只读内存映射读取，由操作系统页缓存管理，不占用堆内存。</p>
+ *
+ * <p>实现特性：</p>
+ * <ul>
+ *     <li>首次获取视图时才映射文件，映射结果在存储关闭前复用</li>
+ *     <li>内容大小不超过 {@link Integer#MAX_VALUE} 时，通道和输入流直接读取映射内存</li>
+ *     <li>内容大小超过 {@link Integer#MAX_VALUE} 时，通道和输入流改为读取文件，{@link #asByteBuffer()} 和 {@link #toByteArray()} 不可用</li>
+ *     <li>存储创建后文件内容不应再被修改</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see ResourceStorageType#MAPPED
+ * @since 2.2.0
+ */
+public final class MappedResourceStorage implements ResourceStorage {
+	/**
+	 * 映射的文件
+	 *
+	 * @since 2.2.0
+	 */
+	private final File file;
+	/**
+	 * 内容大小
+	 *
+	 * @since 2.2.0
+	 */
+	private final long size;
+	/**
+	 * 关闭时是否删除文件
+	 *
+	 * @since 2.2.0
+	 */
+	private final boolean deleteOnClose;
+	/**
+	 * 映射缓冲区，首次使用时创建
+	 *
+	 * @since 2.2.0
+	 */
+	private volatile MappedByteBuffer buffer;
+
+	/**
+	 * 基于文件创建存储
+	 *
+	 * @param file          文件（必须存在）
+	 * @param deleteOnClose 关闭存储时是否删除文件，用于存储自行创建的临时文件
+	 * @throws IOException              当文件不存在时抛出
+	 * @throws NullPointerException     当file为null时抛出
+	 * @throws IllegalArgumentException 当file不是文件时抛出
+	 * @since 2.2.0
+	 */
+	public MappedResourceStorage(final File file, final boolean deleteOnClose) throws IOException {
+		FileUtils.checkFile(file, "file 不可为 null");
+
+		this.file = file;
+		this.size = file.length();
+		this.deleteOnClose = deleteOnClose;
+	}
+
+	/**
+	 * 将输入流内容写入文件后创建存储
+	 * <p>存储关闭时会删除该文件，输入流不会被关闭。</p>
+	 *
+	 * @param inputStream 输入流（必须非null）
+	 * @param file        写入的文件（必须非null），已存在时会被覆盖
+	 * @return 内存映射文件存储
+	 * @throws IOException              当写入文件失败时抛出
+	 * @throws NullPointerException     当inputStream或file为null时抛出
+	 * @throws IllegalArgumentException 当file已存在且不是文件时抛出
+	 * @since 2.2.0
+	 */
+	public static MappedResourceStorage write(final InputStream inputStream, final File file) throws IOException {
+		Validate.notNull(inputStream, "inputStream 不可为 null");
+		FileUtils.checkFileIfExist(file, "file 不可为 null");
+
+		try {
+			FileUtils.copyToFile(inputStream, file);
+			return new MappedResourceStorage(file, true);
+		} catch (IOException | RuntimeException e) {
+			FileUtils.deleteQuietly(file);
+			throw e;
+		}
+	}
+
+	@Override
+	public ResourceStorageType getType() {
+		return ResourceStorageType.MAPPED;
+	}
+
+	@Override
+	public long size() {
+		return size;
+	}
+
+	@Override
+	public ByteBuffer asByteBuffer() throws IOException {
+		return map().duplicate();
+	}
+
+	@Override
+	public SeekableByteChannel openChannel() throws IOException {
+		if (size > Integer.MAX_VALUE) {
+			return FileChannel.open(file.toPath(), StandardOpenOption.READ);
+		}
+		return new ByteBufferChannel(map().duplicate());
+	}
+
+	@Override
+	public InputStream openInputStream() throws IOException {
+		if (size > Integer.MAX_VALUE) {
+			return FileUtils.openBufferedFileChannelInputStream(file);
+		}
+		return new ByteBufferInputStream(map().duplicate());
+	}
+
+	@Override
+	public byte[] toByteArray() throws IOException {
+		ByteBuffer mapped = map();
+		byte[] bytes = new byte[mapped.limit()];
+		mapped.get(0, bytes);
+		return bytes;
+	}
+
+	@Override
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * 判断关闭存储时是否删除文件
+	 *
+	 * @return 文件为存储自行创建的临时文件时返回true
+	 * @since 2.2.0
+	 */
+	public boolean isDeleteOnClose() {
+		return deleteOnClose;
+	}
+
+	/**
+	 * 关闭存储
+	 * <p>释放映射缓冲区的引用，创建时指定删除的文件会被删除；映射内存由垃圾回收器解除映射，
+	 * 在无法删除仍被映射的文件的平台上，文件会在虚拟机退出时删除。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	@Override
+	public synchronized void close() {
+		buffer = null;
+		if (deleteOnClose && !FileUtils.deleteQuietly(file) && file.exists()) {
+			file.deleteOnExit();
+		}
+	}
+
+	/**
+	 * 获取映射缓冲区，首次调用时映射整个文件
+	 *
+	 * @return 只读映射缓冲区
+	 * @throws IOException           当映射失败时抛出
+	 * @throws IllegalStateException 当内容大小超过 {@link Integer#MAX_VALUE} 时抛出
+	 * @since 2.2.0
+	 */
+	private MappedByteBuffer map() throws IOException {
+		Validate.validState(size <= Integer.MAX_VALUE, "内容大小超过 %d 字节，无法映射为单个缓冲区",
+			Integer.MAX_VALUE);
+
+		MappedByteBuffer mapped = buffer;
+		if (Objects.isNull(mapped)) {
+			synchronized (this) {
+				mapped = buffer;
+				if (Objects.isNull(mapped)) {
+					try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+						mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+					}
+					buffer = mapped;
+				}
+			}
+		}
+		return mapped;
+	}
+}
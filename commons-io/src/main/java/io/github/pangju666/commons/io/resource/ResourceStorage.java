@@ -0,0 +1,123 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.io.resource;
+
+import io.github.pangju666.commons.io.enums.ResourceStorageType;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * IO资源存储
+ * <p>{@link IOResource} 内存内容的存储后端，内容在创建后不可修改。</p>
+ *
+ * <p>视图特性：</p>
+ * <ul>
+ *     <li>{@link #asByteBuffer()}、{@link #openChannel()}、{@link #openInputStream()} 直接读取存储内容，不复制数据</li>
+ *     <li>每次调用返回独立的视图，视图之间的读取位置互不影响，可以在多个线程中同时读取</li>
+ *     <li>只有 {@link #toByteArray()} 会复制数据</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see HeapResourceStorage
+ * @see DirectResourceStorage
+ * @see MappedResourceStorage
+ * @see ResourceStoragePolicy
+ * @since 2.2.0
+ */
+public interface ResourceStorage extends Closeable {
+	/**
+	 * 获取存储类型
+	 *
+	 * @return 存储类型
+	 * @since 2.2.0
+	 */
+	ResourceStorageType getType();
+
+	/**
+	 * 获取内容大小（字节）
+	 *
+	 * @return 内容大小
+	 * @since 2.2.0
+	 */
+	long size();
+
+	/**
+	 * 获取只读的字节缓冲区视图
+	 * <p>缓冲区与存储共享内容，不复制数据，position为0，limit为内容大小。</p>
+	 *
+	 * @return 只读字节缓冲区
+	 * @throws IOException           当映射文件失败时抛出
+	 * @throws IllegalStateException 当内容大小超过 {@link Integer#MAX_VALUE} 时抛出
+	 * @since 2.2.0
+	 */
+	ByteBuffer asByteBuffer() throws IOException;
+
+	/**
+	 * 打开只读的可定位字节通道
+	 * <p>通道直接读取存储内容，不复制数据，写入操作会抛出 {@link java.nio.channels.NonWritableChannelException}。</p>
+	 *
+	 * @return 可定位字节通道
+	 * @throws IOException 当通道打开失败时抛出
+	 * @since 2.2.0
+	 */
+	SeekableByteChannel openChannel() throws IOException;
+
+	/**
+	 * 打开输入流
+	 * <p>输入流直接读取存储内容，不复制数据。</p>
+	 *
+	 * @return 输入流
+	 * @throws IOException 当输入流打开失败时抛出
+	 * @since 2.2.0
+	 */
+	InputStream openInputStream() throws IOException;
+
+	/**
+	 * 复制存储内容到新的字节数组
+	 *
+	 * @return 字节数组
+	 * @throws IOException           当读取失败时抛出
+	 * @throws IllegalStateException 当内容大小超过 {@link Integer#MAX_VALUE} 时抛出
+	 * @since 2.2.0
+	 */
+	byte[] toByteArray() throws IOException;
+
+	/**
+	 * 获取存储使用的文件
+	 *
+	 * @return 映射的文件，不基于文件的存储返回null
+	 * @since 2.2.0
+	 */
+	default File getFile() {
+		return null;
+	}
+
+	/**
+	 * 关闭存储，释放存储持有的资源
+	 * <p>关闭前获取的视图仍可读取，但不应在关闭后继续使用。</p>
+	 *
+	 * @throws IOException 当释放资源失败时抛出
+	 * @since 2.2.0
+	 */
+	@Override
+	void close() throws IOException;
+}
@@ -0,0 +1,277 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.io.resource;
+
+import io.github.pangju666.commons.io.enums.ResourceStorageType;
+import io.github.pangju666.commons.io.utils.FileUtils;
+import io.github.pangju666.commons.io.utils.IOUtils;
+import org.apache.commons.lang3.Validate;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 写入内容并生成 {@link ResourceStorage} 的输出流（非线程安全）
+ * <p>用于长度未知的数据（如上传文件的输入流）：内容先缓冲在堆内，写入量达到
+ * {@link ResourceStoragePolicy#getSpillThreshold() 溢出阈值} 时，将已缓冲的内容写入临时文件并释放堆内缓冲区，
+ * 之后的内容直接写入临时文件。因此无论数据多大，堆内占用都不超过溢出阈值。</p>
+ *
+ * <p>生成存储：</p>
+ * <ul>
+ *     <li>已溢出到临时文件时，直接映射该临时文件（{@link MappedResourceStorage}），不再复制数据</li>
+ *     <li>未溢出时，按 {@link ResourceStoragePolicy#resolve(long)} 选择堆内或堆外存储，堆内存储直接接管缓冲区而不复制</li>
+ * </ul>
+ *
+ * <h3>使用示例</h3>
+ * <pre>{@code
+ * ResourceStorageOutputStream outputStream = new ResourceStorageOutputStream(policy);
+ * try {
+ *     inputStream.transferTo(outputStream);
+ *     ResourceStorage storage = outputStream.toStorage();
+ * } finally {
+ *     // 未调用 toStorage 时删除临时文件
+ *     outputStream.close();
+ * }
+ * }</pre>
+ *
+ * @author pangju666
+ * @see ResourceStoragePolicy#createStorage(java.io.InputStream)
+ * @since 2.2.0
+ */
+public class ResourceStorageOutputStream extends OutputStream {
+	/**
+	 * 存储策略
+	 *
+	 * @since 2.2.0
+	 */
+	private final ResourceStoragePolicy storagePolicy;
+	/**
+	 * 溢出阈值（字节）
+	 *
+	 * @since 2.2.0
+	 */
+	private final long spillThreshold;
+	/**
+	 * 堆内缓冲区，溢出后为null
+	 *
+	 * @since 2.2.0
+	 */
+	private byte[] buffer = new byte[IOUtils.DEFAULT_BUFFER_SIZE];
+	/**
+	 * 临时文件，未溢出时为null
+	 *
+	 * @since 2.2.0
+	 */
+	private File tempFile;
+	/**
+	 * 临时文件输出流，未溢出时为null
+	 *
+	 * @since 2.2.0
+	 */
+	private OutputStream fileOutputStream;
+	/**
+	 * 已写入字节数
+	 *
+	 * @since 2.2.0
+	 */
+	private long count = 0;
+	/**
+	 * 是否已关闭
+	 *
+	 * @since 2.2.0
+	 */
+	private boolean closed = false;
+
+	/**
+	 * 创建输出流
+	 *
+	 * @param storagePolicy 存储策略（必须非null）
+	 * @throws NullPointerException 当storagePolicy为null时抛出
+	 * @since 2.2.0
+	 */
+	public ResourceStorageOutputStream(final ResourceStoragePolicy storagePolicy) {
+		Validate.notNull(storagePolicy, "storagePolicy 不可为 null");
+
+		this.storagePolicy = storagePolicy;
+		this.spillThreshold = storagePolicy.getSpillThreshold();
+	}
+
+	@Override
+	public void write(final int b) throws IOException {
+		checkOpen();
+
+		prepareWrite(1);
+		if (Objects.nonNull(fileOutputStream)) {
+			fileOutputStream.write(b);
+		} else {
+			buffer[(int) count] = (byte) b;
+		}
+		count++;
+	}
+
+	@Override
+	public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+		checkOpen();
+		Objects.checkFromIndexSize(offset, length, bytes.length);
+
+		prepareWrite(length);
+		if (Objects.nonNull(fileOutputStream)) {
+			fileOutputStream.write(bytes, offset, length);
+		} else {
+			System.arraycopy(bytes, offset, buffer, (int) count, length);
+		}
+		count += length;
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (Objects.nonNull(fileOutputStream)) {
+			fileOutputStream.flush();
+		}
+	}
+
+	/**
+	 * 获取已写入的字节数
+	 *
+	 * @return 已写入的字节数
+	 * @since 2.2.0
+	 */
+	public long size() {
+		return count;
+	}
+
+	/**
+	 * 判断内容是否已溢出到临时文件
+	 *
+	 * @return 已溢出返回true，否则返回false
+	 * @since 2.2.0
+	 */
+	public boolean isSpilled() {
+		return Objects.nonNull(tempFile);
+	}
+
+	/**
+	 * 结束写入并生成存储
+	 * <p>调用后输出流关闭，临时文件或堆内缓冲区的所有权转移给返回的存储，临时文件在存储关闭时删除。</p>
+	 *
+	 * @return 存储
+	 * @throws IOException           当写入临时文件失败时抛出
+	 * @throws IllegalStateException 当输出流已关闭时抛出
+	 * @since 2.2.0
+	 */
+	public ResourceStorage toStorage() throws IOException {
+		Validate.validState(!closed, "输出流已关闭");
+
+		closed = true;
+		if (Objects.isNull(tempFile)) {
+			byte[] bytes = buffer;
+			buffer = null;
+			if (storagePolicy.resolve(count) == ResourceStorageType.HEAP) {
+				return new HeapResourceStorage(bytes, (int) count);
+			}
+			try (InputStream inputStream = new ByteBufferInputStream(ByteBuffer.wrap(bytes, 0, (int) count))) {
+				return storagePolicy.createStorage(inputStream, count);
+			}
+		}
+
+		try {
+			fileOutputStream.close();
+			return new MappedResourceStorage(tempFile, true);
+		} catch (IOException | RuntimeException e) {
+			FileUtils.deleteQuietly(tempFile);
+			throw e;
+		}
+	}
+
+	/**
+	 * 关闭输出流
+	 * <p>未调用 {@link #toStorage()} 时丢弃已写入的内容并删除临时文件；已调用时不做处理。</p>
+	 *
+	 * @throws IOException 当关闭临时文件输出流失败时抛出
+	 * @since 2.2.0
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+		buffer = null;
+		if (Objects.nonNull(fileOutputStream)) {
+			try {
+				fileOutputStream.close();
+			} finally {
+				FileUtils.deleteQuietly(tempFile);
+			}
+		}
+	}
+
+	/**
+	 * 写入前检查是否需要溢出到临时文件，未溢出时确保堆内缓冲区容量足够
+	 * <p>缓冲区按两倍扩容，但不超过溢出阈值，因此未溢出时 {@link #count} 总能用 int 表示。</p>
+	 *
+	 * @param length 即将写入的字节数
+	 * @throws IOException 当创建临时文件失败时抛出
+	 * @since 2.2.0
+	 */
+	private void prepareWrite(final int length) throws IOException {
+		if (Objects.nonNull(tempFile)) {
+			return;
+		}
+		long required = count + length;
+		if (required < spillThreshold) {
+			if (required > buffer.length) {
+				long capacity = Math.min(Math.max((long) buffer.length << 1, required), spillThreshold - 1);
+				buffer = Arrays.copyOf(buffer, (int) capacity);
+			}
+		} else {
+			File file = storagePolicy.createTempFile();
+			OutputStream outputStream = null;
+			try {
+				outputStream = FileUtils.newBufferedOutputStream(file);
+				outputStream.write(buffer, 0, (int) count);
+			} catch (IOException | RuntimeException e) {
+				if (Objects.nonNull(outputStream)) {
+					outputStream.close();
+				}
+				FileUtils.deleteQuietly(file);
+				throw e;
+			}
+			tempFile = file;
+			fileOutputStream = outputStream;
+			buffer = null;
+		}
+	}
+
+	/**
+	 * 检查输出流是否已关闭
+	 *
+	 * @throws IOException 当输出流已关闭时抛出
+	 * @since 2.2.0
+	 */
+	private void checkOpen() throws IOException {
+		if (closed) {
+			throw new IOException("输出流已关闭");
+		}
+	}
+}
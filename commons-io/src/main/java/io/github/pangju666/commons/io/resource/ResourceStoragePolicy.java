@@ -0,0 +1,359 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.io.resource;
+
+import io.github.pangju666.commons.io.enums.ResourceStorageType;
+import io.github.pangju666.commons.io.model.DataSize;
+import io.github.pangju666.commons.io.utils.FileUtils;
+import io.github.pangju666.commons.io.utils.IOUtils;
+import org.apache.commons.lang3.Validate;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * IO资源存储策略（不可变）
+ * <p>根据内容大小选择 {@link ResourceStorage} 存储后端：</p>
+ * <ul>
+ *     <li>大小不小于映射阈值：{@link ResourceStorageType#MAPPED 内存映射文件}</li>
+ *     <li>大小不小于堆外阈值：{@link ResourceStorageType#DIRECT 堆外直接缓冲区}</li>
+ *     <li>其他情况：{@link ResourceStorageType#HEAP 堆内字节数组}</li>
+ * </ul>
+ * <p>大小超过字节数组容量上限时始终使用内存映射文件。</p>
+ * <p>长度未知的输入流（{@link #createStorage(InputStream)}）先缓冲在堆内，写入量达到
+ * {@link #getSpillThreshold() 溢出阈值} 时溢出到临时文件，堆内占用不超过该阈值。溢出阈值默认为
+ * {@link #DEFAULT_SPILL_THRESHOLD}，与映射阈值相互独立。</p>
+ *
+ * <h3>使用示例</h3>
+ * <pre>{@code
+ * // 1MB 以上使用堆外内存，64MB 以上使用内存映射文件
+ * ResourceStoragePolicy policy = ResourceStoragePolicy.of(DataSize.ofMegabytes(1), DataSize.ofMegabytes(64));
+ * // 长度未知的输入流缓冲超过 16MB 时溢出到临时文件
+ * ResourceStoragePolicy spillPolicy = ResourceStoragePolicy.of(DataSize.ofMegabytes(1), DataSize.ofMegabytes(64),
+ *     DataSize.ofMegabytes(16), FileUtils.getTempDirectory());
+ * // 对之后创建的全部IOResource（包括子类）生效
+ * IOResource.setDefaultStoragePolicy(policy);
+ * // 或仅对单个资源生效
+ * IOResource resource = new IOResource(inputStream, policy);
+ * }</pre>
+ *
+ * @author pangju666
+ * @see IOResource#setDefaultStoragePolicy(ResourceStoragePolicy)
+ * @since 2.2.0
+ */
+public final class ResourceStoragePolicy {
+	/**
+	 * 默认溢出阈值（4MB）
+	 *
+	 * @since 2.2.0
+	 */
+	public static final DataSize DEFAULT_SPILL_THRESHOLD = DataSize.ofMegabytes(4);
+	/**
+	 * 已知长度的内容仅使用堆内存储的策略
+	 * <p>长度未知的内容缓冲超过 {@link #DEFAULT_SPILL_THRESHOLD} 时仍会溢出到临时文件。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	public static final ResourceStoragePolicy HEAP = new ResourceStoragePolicy(Long.MAX_VALUE, Long.MAX_VALUE,
+		DEFAULT_SPILL_THRESHOLD.toBytes(), FileUtils.getTempDirectory());
+
+	/**
+	 * 字节数组容量上限
+	 *
+	 * @since 2.2.0
+	 */
+	private static final long MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+	/**
+	 * 临时文件前缀
+	 *
+	 * @since 2.2.0
+	 */
+	private static final String TEMP_FILE_PREFIX = "io-resource-storage-";
+	/**
+	 * 临时文件扩展名
+	 *
+	 * @since 2.2.0
+	 */
+	private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+	/**
+	 * 堆外阈值（字节）
+	 *
+	 * @since 2.2.0
+	 */
+	private final long directThreshold;
+	/**
+	 * 映射阈值（字节）
+	 *
+	 * @since 2.2.0
+	 */
+	private final long mappedThreshold;
+	/**
+	 * 溢出阈值（字节）
+	 *
+	 * @since 2.2.0
+	 */
+	private final long spillThreshold;
+	/**
+	 * 内存映射文件存储的临时文件目录
+	 *
+	 * @since 2.2.0
+	 */
+	private final File tempDirectory;
+
+	private ResourceStoragePolicy(final long directThreshold, final long mappedThreshold, final long spillThreshold,
+								  final File tempDirectory) {
+		this.directThreshold = directThreshold;
+		this.mappedThreshold = mappedThreshold;
+		this.spillThreshold = spillThreshold;
+		this.tempDirectory = tempDirectory;
+	}
+
+	/**
+	 * 创建存储策略，临时文件存放在系统临时目录，溢出阈值为 {@link #DEFAULT_SPILL_THRESHOLD}
+	 *
+	 * @param directThreshold 堆外阈值，为null时不使用堆外存储
+	 * @param mappedThreshold 映射阈值，为null时不使用内存映射文件存储
+	 * @return 存储策略
+	 * @throws IllegalArgumentException 当阈值为负数时抛出
+	 * @since 2.2.0
+	 */
+	public static ResourceStoragePolicy of(final DataSize directThreshold, final DataSize mappedThreshold) {
+		return of(directThreshold, mappedThreshold, FileUtils.getTempDirectory());
+	}
+
+	/**
+	 * 创建存储策略，溢出阈值为 {@link #DEFAULT_SPILL_THRESHOLD}
+	 *
+	 * @param directThreshold 堆外阈值，为null时不使用堆外存储
+	 * @param mappedThreshold 映射阈值，为null时不使用内存映射文件存储
+	 * @param tempDirectory   内存映射文件存储的临时文件目录（必须非null）
+	 * @return 存储策略
+	 * @throws NullPointerException     当tempDirectory为null时抛出
+	 * @throws IllegalArgumentException 当阈值为负数或tempDirectory已存在且不是目录时抛出
+	 * @since 2.2.0
+	 */
+	public static ResourceStoragePolicy of(final DataSize directThreshold, final DataSize mappedThreshold,
+										   final File tempDirectory) {
+		return of(directThreshold, mappedThreshold, DEFAULT_SPILL_THRESHOLD, tempDirectory);
+	}
+
+	/**
+	 * 创建存储策略
+	 *
+	 * @param directThreshold 堆外阈值，为null时不使用堆外存储
+	 * @param mappedThreshold 映射阈值，为null时不使用内存映射文件存储
+	 * @param spillThreshold  长度未知的内容缓冲在堆内的溢出阈值，为null时仅在超出字节数组容量时溢出
+	 * @param tempDirectory   内存映射文件存储的临时文件目录（必须非null）
+	 * @return 存储策略
+	 * @throws NullPointerException     当tempDirectory为null时抛出
+	 * @throws IllegalArgumentException 当阈值为负数或tempDirectory已存在且不是目录时抛出
+	 * @since 2.2.0
+	 */
+	public static ResourceStoragePolicy of(final DataSize directThreshold, final DataSize mappedThreshold,
+										   final DataSize spillThreshold, final File tempDirectory) {
+		FileUtils.checkDirIfExist(tempDirectory, "tempDirectory 不可为 null");
+
+		return new ResourceStoragePolicy(toThreshold(directThreshold, "directThreshold"),
+			toThreshold(mappedThreshold, "mappedThreshold"), toThreshold(spillThreshold, "spillThreshold"),
+			tempDirectory);
+	}
+
+	/**
+	 * 根据内容大小选择存储类型
+	 *
+	 * @param size 内容大小（字节）
+	 * @return 存储类型
+	 * @since 2.2.0
+	 */
+	public ResourceStorageType resolve(final long size) {
+		if (size >= mappedThreshold || size > MAX_ARRAY_SIZE) {
+			return ResourceStorageType.MAPPED;
+		}
+		if (size >= directThreshold) {
+			return ResourceStorageType.DIRECT;
+		}
+		return ResourceStorageType.HEAP;
+	}
+
+	/**
+	 * 从输入流读取指定长度的内容，按内容大小创建存储
+	 * <p>输入流不会被关闭，内存映射文件存储会在临时目录中创建临时文件，存储关闭时删除。</p>
+	 *
+	 * @param inputStream 输入流（必须非null）
+	 * @param size        内容长度
+	 * @return 存储
+	 * @throws IOException              当读取失败或输入流长度与size不一致时抛出
+	 * @throws NullPointerException     当inputStream为null时抛出
+	 * @throws IllegalArgumentException 当size为负数时抛出
+	 * @since 2.2.0
+	 */
+	public ResourceStorage createStorage(final InputStream inputStream, final long size) throws IOException {
+		Validate.notNull(inputStream, "inputStream 不可为 null");
+		Validate.isTrue(size >= 0, "size 不可为负数");
+
+		return switch (resolve(size)) {
+			case HEAP -> new HeapResourceStorage(IOUtils.toByteArray(inputStream, (int) size));
+			case DIRECT -> DirectResourceStorage.read(inputStream, size);
+			case MAPPED -> {
+				MappedResourceStorage storage = MappedResourceStorage.write(inputStream, createTempFile());
+				if (storage.size() != size) {
+					storage.close();
+					throw new IOException("输入流长度与 size 不一致，期望 " + size + " 字节，实际 " + storage.size() + " 字节");
+				}
+				yield storage;
+			}
+		};
+	}
+
+	/**
+	 * 从长度未知的输入流读取全部内容，按内容大小创建存储
+	 * <p>内容先缓冲在堆内，写入量达到 {@link #getSpillThreshold() 溢出阈值} 时溢出到临时文件并直接映射该文件，
+	 * 不会将全部内容读入堆内。输入流不会被关闭，临时文件在存储关闭时删除。</p>
+	 *
+	 * @param inputStream 输入流（必须非null）
+	 * @return 存储
+	 * @throws IOException          当读取失败或写入临时文件失败时抛出
+	 * @throws NullPointerException 当inputStream为null时抛出
+	 * @see ResourceStorageOutputStream
+	 * @since 2.2.0
+	 */
+	public ResourceStorage createStorage(final InputStream inputStream) throws IOException {
+		Validate.notNull(inputStream, "inputStream 不可为 null");
+
+		try (ResourceStorageOutputStream outputStream = new ResourceStorageOutputStream(this)) {
+			inputStream.transferTo(outputStream);
+			return outputStream.toStorage();
+		}
+	}
+
+	/**
+	 * 按内容大小为字节数组创建存储
+	 * <p>选择堆内存储时直接包装该数组而不复制，调用方不应再修改该数组。</p>
+	 *
+	 * @param bytes 字节数组（必须非null）
+	 * @return 存储
+	 * @throws IOException          当写入临时文件失败时抛出
+	 * @throws NullPointerException 当bytes为null时抛出
+	 * @since 2.2.0
+	 */
+	public ResourceStorage createStorage(final byte[] bytes) throws IOException {
+		Validate.notNull(bytes, "bytes 不可为 null");
+
+		if (resolve(bytes.length) == ResourceStorageType.HEAP) {
+			return new HeapResourceStorage(bytes);
+		}
+		try (InputStream inputStream = IOUtils.toUnsynchronizedByteArrayInputStream(bytes)) {
+			return createStorage(inputStream, bytes.length);
+		}
+	}
+
+	/**
+	 * 为文件创建存储
+	 * <p>选择内存映射文件存储时直接映射该文件，不复制数据，存储关闭时不会删除该文件；其他情况读取文件内容。</p>
+	 *
+	 * @param file 文件（必须存在）
+	 * @return 存储
+	 * @throws IOException              当文件不存在或读取文件失败时抛出
+	 * @throws NullPointerException     当file为null时抛出
+	 * @throws IllegalArgumentException 当file不是文件时抛出
+	 * @since 2.2.0
+	 */
+	public ResourceStorage createStorage(final File file) throws IOException {
+		FileUtils.checkFile(file, "file 不可为 null");
+
+		if (resolve(file.length()) == ResourceStorageType.MAPPED) {
+			return new MappedResourceStorage(file, false);
+		}
+		try (InputStream inputStream = FileUtils.openBufferedFileChannelInputStream(file)) {
+			return createStorage(inputStream, file.length());
+		}
+	}
+
+	/**
+	 * 获取堆外阈值
+	 *
+	 * @return 堆外阈值（字节），未启用时为 {@link Long#MAX_VALUE}
+	 * @since 2.2.0
+	 */
+	public long getDirectThreshold() {
+		return directThreshold;
+	}
+
+	/**
+	 * 获取映射阈值
+	 *
+	 * @return 映射阈值（字节），未启用时为 {@link Long#MAX_VALUE}
+	 * @since 2.2.0
+	 */
+	public long getMappedThreshold() {
+		return mappedThreshold;
+	}
+
+	/**
+	 * 获取溢出阈值
+	 * <p>写入长度未知的内容时，写入量达到该阈值后溢出到临时文件。取创建策略时指定的溢出阈值、映射阈值与字节数组容量上限中的
+	 * 最小值，达到映射阈值的内容无论如何都会使用内存映射文件存储，超出字节数组容量的内容也无法缓冲在堆内。</p>
+	 *
+	 * @return 溢出阈值（字节）
+	 * @since 2.2.0
+	 */
+	public long getSpillThreshold() {
+		return Math.min(Math.min(spillThreshold, mappedThreshold), MAX_ARRAY_SIZE + 1);
+	}
+
+	/**
+	 * 获取临时文件目录
+	 *
+	 * @return 临时文件目录
+	 * @since 2.2.0
+	 */
+	public File getTempDirectory() {
+		return tempDirectory;
+	}
+
+	/**
+	 * 在临时文件目录中创建临时文件路径，目录不存在时自动创建
+	 *
+	 * @return 临时文件（尚未创建）
+	 * @throws IOException 当创建目录失败时抛出
+	 * @since 2.2.0
+	 */
+	File createTempFile() throws IOException {
+		FileUtils.forceMkdir(tempDirectory);
+		return new File(tempDirectory, TEMP_FILE_PREFIX + UUID.randomUUID() + TEMP_FILE_SUFFIX);
+	}
+
+	/**
+	 * 转换阈值
+	 *
+	 * @param threshold 阈值，为null时表示不启用
+	 * @param name      参数名称
+	 * @return 阈值（字节）
+	 * @since 2.2.0
+	 */
+	private static long toThreshold(final DataSize threshold, final String name) {
+		if (Objects.isNull(threshold)) {
+			return Long.MAX_VALUE;
+		}
+		Validate.isTrue(!threshold.isNegative(), "%s 不可为负数", name);
+		return threshold.toBytes();
+	}
+}
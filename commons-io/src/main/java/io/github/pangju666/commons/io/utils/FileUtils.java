@@ -18,6 +18,7 @@ package io.github.pangju666.commons.io.utils;
 
 import io.github.pangju666.commons.io.lang.IOConstants;
 import io.github.pangju666.commons.io.model.DataSize;
+import io.github.pangju666.commons.io.model.TreeDigest;
 import net.openhft.hashing.LongHashFunction;
 import org.apache.commons.io.FileExistsException;
 import org.apache.commons.io.RandomAccessFiles;
@@ -33,10 +34,20 @@ import org.apache.tika.metadata.Metadata;
 
 import java.io.*;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -287,6 +298,143 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
 		return String.format(IOConstants.DIGEST_FORMAT, hash);
 	}
 
+	/**
+	 * 并行计算文件全部内容的树形摘要（使用默认叶子大小和哈希函数）
+	 * <p>使用默认叶子大小 {@link IOConstants#DEFAULT_TREE_DIGEST_LEAF_SIZE}、默认哈希函数 {@link IOConstants#DEFAULT_HASH_FUNC}
+	 * 和可用处理器数量的线程，参见 {@link #computeTreeDigest(File, int, LongHashFunction, ExecutorService)}。</p>
+	 *
+	 * @param file 目标文件（必须非null且存在）
+	 * @return 树形摘要
+	 * @throws IOException              当文件读取失败或计算线程被中断时抛出
+	 * @throws NullPointerException     当file为null时抛出
+	 * @throws IllegalArgumentException 当file不存在或不是文件时抛出
+	 * @since 2.2.0
+	 */
+	public static TreeDigest computeTreeDigest(final File file) throws IOException {
+		return computeTreeDigest(file, IOConstants.DEFAULT_TREE_DIGEST_LEAF_SIZE,
+			Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * 使用指定线程数并行计算文件全部内容的树形摘要
+	 * <p>使用默认哈希函数 {@link IOConstants#DEFAULT_HASH_FUNC}，方法内部创建固定大小的线程池，计算完成后自动关闭。
+	 * 参见 {@link #computeTreeDigest(File, int, LongHashFunction, ExecutorService)}。</p>
+	 *
+	 * @param file     目标文件（必须非null且存在）
+	 * @param leafSize 叶子大小（字节，必须大于0）
+	 * @param threads  计算线程数，必须大于0
+	 * @return 树形摘要
+	 * @throws IOException              当文件读取失败或计算线程被中断时抛出
+	 * @throws NullPointerException     当file为null时抛出
+	 * @throws IllegalArgumentException 当file不存在、不是文件、leafSize或threads小于等于0时抛出
+	 * @since 2.2.0
+	 */
+	public static TreeDigest computeTreeDigest(final File file, final int leafSize, final int threads) throws IOException {
+		Validate.isTrue(threads > 0, "threads 必须大于0");
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threads);
+		try {
+			return computeTreeDigest(file, leafSize, IOConstants.DEFAULT_HASH_FUNC, executorService);
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	/**
+	 * 使用调用方提供的线程池并行计算文件全部内容的树形摘要
+	 * <p>文件按叶子大小切分，每个叶子作为一个任务提交到线程池，通过 {@link FileChannel} 定位读取到堆外直接缓冲区后计算哈希，
+	 * 最后由全部叶子哈希计算根哈希。与 {@link #computeDigest(File)} 的三段采样不同，文件的任意字节变化都会改变摘要。</p>
+	 *
+	 * <p>实现特性：</p>
+	 * <ul>
+	 *     <li>同时处于计算中的叶子不超过 {@code 2 * 可用处理器数} 个，直接缓冲区在任务之间复用，
+	 *     内存占用约为 {@code leafSize * 线程数}</li>
+	 *     <li>线程池不会被关闭，可在多次调用间复用</li>
+	 *     <li>叶子大小和哈希函数相同时，结果与 {@link IOUtils#computeTreeDigest(InputStream, int, LongHashFunction)}
+	 *     计算相同内容的结果一致</li>
+	 * </ul>
+	 *
+	 * @param file            目标文件（必须非null且存在）
+	 * @param leafSize        叶子大小（字节，必须大于0）
+	 * @param hashFunc        哈希函数（必须非null）
+	 * @param executorService 执行计算任务的线程池（必须非null）
+	 * @return 树形摘要
+	 * @throws IOException              当文件读取失败或计算线程被中断时抛出
+	 * @throws NullPointerException     当file、hashFunc或executorService为null时抛出
+	 * @throws IllegalArgumentException 当file不存在、不是文件或leafSize小于等于0时抛出
+	 * @see TreeDigest
+	 * @since 2.2.0
+	 */
+	public static TreeDigest computeTreeDigest(final File file, final int leafSize, final LongHashFunction hashFunc,
+											   final ExecutorService executorService) throws IOException {
+		checkFile(file, "file 不可为 null");
+		Validate.isTrue(leafSize > 0, "leafSize 必须大于0");
+		Validate.notNull(hashFunc, "hashFunc 不可为 null");
+		Validate.notNull(executorService, "executorService 不可为 null");
+
+		return computeTreeDigest(file, leafSize, hashFunc, executorService, ArrayUtils.EMPTY_LONG_ARRAY);
+	}
+
+	/**
+	 * 文件追加内容后增量更新树形摘要（使用默认哈希函数）
+	 * <p>使用默认哈希函数 {@link IOConstants#DEFAULT_HASH_FUNC} 和可用处理器数量的线程，
+	 * 参见 {@link #updateTreeDigest(File, TreeDigest, LongHashFunction, ExecutorService)}。
+	 * previous不是由默认哈希函数计算时，会使用默认哈希函数重新计算整个文件。</p>
+	 *
+	 * @param file     目标文件（必须非null且存在）
+	 * @param previous 追加前计算的树形摘要（必须非null）
+	 * @return 更新后的树形摘要
+	 * @throws IOException              当文件读取失败或计算线程被中断时抛出
+	 * @throws NullPointerException     当file或previous为null时抛出
+	 * @throws IllegalArgumentException 当file不存在、不是文件或文件长度小于previous的内容长度时抛出
+	 * @since 2.2.0
+	 */
+	public static TreeDigest updateTreeDigest(final File file, final TreeDigest previous) throws IOException {
+		ExecutorService executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		try {
+			return updateTreeDigest(file, previous, IOConstants.DEFAULT_HASH_FUNC, executorService);
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	/**
+	 * 使用调用方提供的线程池在文件追加内容后增量更新树形摘要
+	 * <p>复用previous中完整叶子的哈希，只重新计算最后一个不完整叶子及新增的叶子，叶子大小沿用previous的叶子大小。
+	 * 结果与重新计算整个文件的摘要一致。</p>
+	 *
+	 * <p>注意事项：</p>
+	 * <ul>
+	 *     <li>仅适用于只在末尾追加内容的文件，不会校验已有内容是否被修改</li>
+	 *     <li>hashFunc与计算previous时使用的哈希函数不同（参见 {@link TreeDigest#isComputedBy(LongHashFunction)}）时，
+	 *     previous的叶子哈希无法复用，会使用hashFunc重新计算整个文件</li>
+	 * </ul>
+	 *
+	 * @param file            目标文件（必须非null且存在）
+	 * @param previous        追加前计算的树形摘要（必须非null）
+	 * @param hashFunc        哈希函数（必须非null）
+	 * @param executorService 执行计算任务的线程池（必须非null）
+	 * @return 更新后的树形摘要
+	 * @throws IOException              当文件读取失败或计算线程被中断时抛出
+	 * @throws NullPointerException     当file、previous、hashFunc或executorService为null时抛出
+	 * @throws IllegalArgumentException 当file不存在、不是文件或文件长度小于previous的内容长度时抛出
+	 * @since 2.2.0
+	 */
+	public static TreeDigest updateTreeDigest(final File file, final TreeDigest previous, final LongHashFunction hashFunc,
+											  final ExecutorService executorService) throws IOException {
+		checkFile(file, "file 不可为 null");
+		Validate.notNull(previous, "previous 不可为 null");
+		Validate.notNull(hashFunc, "hashFunc 不可为 null");
+		Validate.notNull(executorService, "executorService 不可为 null");
+		Validate.isTrue(file.length() >= previous.getLength(), "文件长度小于摘要的内容长度，文件不是追加修改");
+
+		if (!previous.isComputedBy(hashFunc)) {
+			return computeTreeDigest(file, previous.getLeafSize(), hashFunc, executorService, ArrayUtils.EMPTY_LONG_ARRAY);
+		}
+		long[] completeLeafHashes = Arrays.copyOf(previous.getLeafHashes(), previous.getCompleteLeafCount());
+		return computeTreeDigest(file, previous.getLeafSize(), hashFunc, executorService, completeLeafHashes);
+	}
+
 	/**
 	 * 根据文件大小计算最佳缓冲区大小
 	 * <p>缓冲区大小策略如下：</p>
@@ -1380,4 +1528,104 @@ public class FileUtils extends org.apache.commons.io.FileUtils {
 			}
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 并行计算文件的树形摘要，复用已知的前若干个完整叶子的哈希
+	 *
+	 * @param file              目标文件
+	 * @param leafSize          叶子大小（字节）
+	 * @param hashFunc          哈希函数
+	 * @param executorService   执行计算任务的线程池
+	 * @param reusedLeafHashes  可复用的前若干个完整叶子的哈希
+	 * @return 树形摘要
+	 * @throws IOException 当文件读取失败或计算线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	private static TreeDigest computeTreeDigest(final File file, final int leafSize, final LongHashFunction hashFunc,
+												final ExecutorService executorService, final long[] reusedLeafHashes)
+		throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long length = channel.size();
+			int leafCount = TreeDigest.getLeafCount(length, leafSize);
+			long[] leafHashes = Arrays.copyOf(reusedLeafHashes, leafCount);
+
+			int maxPendingLeaves = Runtime.getRuntime().availableProcessors() * 2;
+			Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+			Deque<Future<?>> pendingLeaves = new ArrayDeque<>(maxPendingLeaves);
+			try {
+				for (int i = reusedLeafHashes.length; i < leafCount; i++) {
+					if (pendingLeaves.size() >= maxPendingLeaves) {
+						awaitLeaf(pendingLeaves.removeFirst());
+					}
+					int index = i;
+					pendingLeaves.addLast(executorService.submit(() -> {
+						leafHashes[index] = hashLeaf(channel, (long) index * leafSize,
+							(int) Math.min(leafSize, length - (long) index * leafSize), buffers, hashFunc);
+						return null;
+					}));
+				}
+				while (!pendingLeaves.isEmpty()) {
+					awaitLeaf(pendingLeaves.removeFirst());
+				}
+			} finally {
+				for (Future<?> pendingLeaf : pendingLeaves) {
+					pendingLeaf.cancel(true);
+				}
+			}
+			return TreeDigest.of(leafSize, length, leafHashes, hashFunc);
+		}
+	}
+
+	/**
+	 * 读取并计算单个叶子的哈希
+	 *
+	 * @param channel  文件通道
+	 * @param position 叶子在文件中的起始位置
+	 * @param size     叶子大小（字节）
+	 * @param buffers  可复用的直接缓冲区
+	 * @param hashFunc 哈希函数
+	 * @return 叶子哈希
+	 * @throws IOException 当文件读取失败或文件内容不足时抛出
+	 * @since 2.2.0
+	 */
+	private static long hashLeaf(final FileChannel channel, final long position, final int size,
+								 final Queue<ByteBuffer> buffers, final LongHashFunction hashFunc) throws IOException {
+		ByteBuffer buffer = buffers.poll();
+		if (Objects.isNull(buffer) || buffer.capacity() < size) {
+			buffer = ByteBuffer.allocateDirect(size);
+		}
+		try {
+			buffer.clear().limit(size);
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer, position + buffer.position()) < 0) {
+					throw new EOFException("文件长度不足，期望读取到 " + (position + size) + " 字节，实际 " +
+						(position + buffer.position()) + " 字节");
+				}
+			}
+			return hashFunc.hashBytes(buffer.flip());
+		} finally {
+			buffers.offer(buffer);
+		}
+	}
+
+	/**
+	 * 等待叶子哈希计算完成
+	 *
+	 * @param future 计算任务
+	 * @throws IOException 当计算失败或线程被中断时抛出
+	 * @since 2.2.0
+	 */
+	private static void awaitLeaf(final Future<?> future) throws IOException {
+		try {
+			future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("并行计算摘要被中断");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			throw new IOException(e.getCause());
+		}
+	}
+}
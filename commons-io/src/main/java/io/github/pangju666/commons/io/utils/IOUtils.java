@@ -18,6 +18,7 @@ package io.github.pangju666.commons.io.utils;
 
 import io.github.pangju666.commons.io.lang.IOConstants;
 import io.github.pangju666.commons.io.model.DataSize;
+import io.github.pangju666.commons.io.model.TreeDigest;
 import net.openhft.hashing.LongHashFunction;
 import org.apache.commons.crypto.stream.CryptoInputStream;
 import org.apache.commons.crypto.stream.CryptoOutputStream;
@@ -43,6 +44,7 @@ import java.security.spec.AlgorithmParameterSpec;
 import java.util.Arrays;
 import java.util.Properties;
 import java.util.Set;
+import java.util.stream.LongStream;
 
 /**
  * 增强型IO流操作工具类（继承自 {@link org.apache.commons.io.IOUtils}）
@@ -319,6 +321,54 @@ public class IOUtils extends org.apache.commons.io.IOUtils {
 		return String.format(IOConstants.DIGEST_FORMAT, hash);
 	}
 
+	/**
+	 * 计算输入流全部内容的树形摘要（使用默认叶子大小和哈希函数）
+	 * <p>使用默认叶子大小 {@link IOConstants#DEFAULT_TREE_DIGEST_LEAF_SIZE} 和默认哈希函数 {@link IOConstants#DEFAULT_HASH_FUNC}，
+	 * 参见 {@link #computeTreeDigest(InputStream, int, LongHashFunction)}。</p>
+	 *
+	 * @param inputStream 输入流（必须非null）
+	 * @return 树形摘要
+	 * @throws IOException          当流读取失败时抛出
+	 * @throws NullPointerException 当inputStream为null时抛出
+	 * @since 2.2.0
+	 */
+	public static TreeDigest computeTreeDigest(final InputStream inputStream) throws IOException {
+		return computeTreeDigest(inputStream, IOConstants.DEFAULT_TREE_DIGEST_LEAF_SIZE, IOConstants.DEFAULT_HASH_FUNC);
+	}
+
+	/**
+	 * 计算输入流全部内容的树形摘要
+	 * <p>按叶子大小顺序读取输入流并逐个计算叶子哈希，只占用一个叶子大小的缓冲区，输入流不会被关闭。</p>
+	 * <p>叶子大小和哈希函数相同时，结果与 {@link FileUtils#computeTreeDigest(java.io.File, int, LongHashFunction, java.util.concurrent.ExecutorService)}
+	 * 计算相同内容文件的结果一致，可用于校验上传内容与已存储文件是否相同。</p>
+	 *
+	 * @param inputStream 输入流（必须非null）
+	 * @param leafSize    叶子大小（字节，必须大于0）
+	 * @param hashFunc    哈希函数（必须非null）
+	 * @return 树形摘要
+	 * @throws IOException              当流读取失败时抛出
+	 * @throws NullPointerException     当inputStream或hashFunc为null时抛出
+	 * @throws IllegalArgumentException 当leafSize小于等于0时抛出
+	 * @see TreeDigest
+	 * @since 2.2.0
+	 */
+	public static TreeDigest computeTreeDigest(final InputStream inputStream, final int leafSize,
+											   final LongHashFunction hashFunc) throws IOException {
+		Validate.notNull(inputStream, "inputStream 不可为 null");
+		Validate.isTrue(leafSize > 0, "leafSize 必须大于0");
+		Validate.notNull(hashFunc, "hashFunc 不可为 null");
+
+		LongStream.Builder leafHashes = LongStream.builder();
+		byte[] leaf = new byte[leafSize];
+		long length = 0;
+		int read;
+		while ((read = inputStream.readNBytes(leaf, 0, leafSize)) > 0) {
+			leafHashes.add(hashFunc.hashBytes(leaf, 0, read));
+			length += read;
+		}
+		return TreeDigest.of(leafSize, length, leafHashes.build().toArray(), hashFunc);
+	}
+
 	/**
 	 * 根据总大小获取推荐的缓冲区大小
 	 * <p>缓冲区大小策略如下：</p>
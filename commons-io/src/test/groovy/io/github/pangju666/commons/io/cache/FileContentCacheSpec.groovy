@@ -0,0 +1,197 @@
+package io.github.pangju666.commons.io.cache
+
+import io.github.pangju666.commons.io.resource.IOResource
+import io.github.pangju666.commons.io.utils.FileUtils
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Path
+
+class FileContentCacheSpec extends Specification {
+	@TempDir
+	Path tempDir
+
+	def "相同文件重复获取时命中缓存"() {
+		given:
+		File f = tempDir.resolve("a.txt").toFile()
+		f.text = "hello world"
+		def cache = new FileContentCache(10)
+
+		when:
+		def digest1 = cache.getDigest(f)
+		def digest2 = cache.getDigest(f)
+
+		then:
+		digest1 == digest2
+		digest1 == FileUtils.computeDigest(f)
+		cache.stats.hitCount() == 1
+		cache.stats.missCount() == 1
+		cache.stats.hitRate() == 0.5d
+		cache.size() == 1
+	}
+
+	def "文件修改后不再命中旧条目"() {
+		given:
+		File f = tempDir.resolve("b.txt").toFile()
+		f.text = "before"
+		def cache = new FileContentCache(10)
+		def before = cache.getDigest(f)
+
+		when:
+		f.text = "after change"
+		f.setLastModified(f.lastModified() + 2000)
+		def after = cache.getDigest(f)
+
+		then:
+		before != after
+		cache.stats.missCount() == 2
+		cache.stats.hitCount() == 0
+	}
+
+	def "超过最大条目数时淘汰最久未使用的条目"() {
+		given:
+		def cache = new FileContentCache(2)
+		def files = (1..3).collect {
+			File f = tempDir.resolve("lru${it}.txt").toFile()
+			f.text = "content ${it}"
+			f
+		}
+
+		when:
+		cache.getDigest(files[0])
+		cache.getDigest(files[1])
+		cache.getDigest(files[0])
+		cache.getDigest(files[2])
+		cache.getDigest(files[0])
+
+		then:
+		cache.size() == 2
+		cache.stats.evictionCount() == 1
+		cache.stats.hitCount() == 2
+
+		when:
+		cache.getDigest(files[1])
+
+		then:
+		cache.stats.missCount() == 4
+	}
+
+	def "保存后加载并丢弃已删除文件的条目"() {
+		given:
+		File kept = tempDir.resolve("kept.txt").toFile()
+		File deleted = tempDir.resolve("deleted.txt").toFile()
+		kept.text = "kept"
+		deleted.text = "deleted"
+		File cacheFile = tempDir.resolve("cache/file-content.cache").toFile()
+		def cache = new FileContentCache(10)
+		cache.getDigest(kept)
+		cache.getDigest(deleted)
+		cache.save(cacheFile)
+		deleted.delete()
+
+		when:
+		def loaded = new FileContentCache(10)
+		def count = loaded.load(cacheFile)
+		def digest = loaded.getDigest(kept)
+
+		then:
+		count == 1
+		digest == FileUtils.computeDigest(kept)
+		loaded.stats.hitCount() == 1
+		loaded.stats.missCount() == 0
+	}
+
+	def "移除指定文件的缓存条目"() {
+		given:
+		File f = tempDir.resolve("invalidate.txt").toFile()
+		f.text = "data"
+		def cache = new FileContentCache(10)
+		cache.getDigest(f)
+
+		when:
+		cache.invalidate(f)
+
+		then:
+		cache.size() == 0
+	}
+
+	def "IOResource文件模式使用缓存计算摘要"() {
+		given:
+		File f = tempDir.resolve("resource.txt").toFile()
+		f.text = "resource content"
+		def cache = new FileContentCache(10)
+		IOResource.setFileContentCache(cache)
+
+		when:
+		def digest1 = new IOResource(f).withCloseable { it.digest }
+		def digest2 = new IOResource(f).withCloseable { it.digest }
+
+		then:
+		digest1 == digest2
+		cache.stats.missCount() == 1
+		cache.stats.hitCount() == 1
+
+		cleanup:
+		IOResource.setFileContentCache(null)
+	}
+
+	def "参数校验"() {
+		when:
+		new FileContentCache(0)
+
+		then:
+		thrown(IllegalArgumentException)
+
+		when:
+		new FileContentCache(10).getDigest(null)
+
+		then:
+		thrown(NullPointerException)
+
+		when:
+		File invalid = tempDir.resolve("invalid.cache").toFile()
+		invalid.text = "not a cache file"
+		new FileContentCache(10).load(invalid)
+
+		then:
+		thrown(IllegalArgumentException)
+	}
+
+	def "加载长度前缀超出文件剩余字节数的缓存文件时抛出异常"() {
+		given:
+		File corrupted = tempDir.resolve("corrupted.cache").toFile()
+		def writeString = { DataOutputStream outputStream, String value ->
+			byte[] bytes = value.getBytes("UTF-8")
+			outputStream.writeInt(bytes.length)
+			outputStream.write(bytes)
+		}
+
+		when: "字符串长度前缀超出剩余字节数"
+		corrupted.withDataOutputStream { outputStream ->
+			outputStream.writeUTF("#pangju-file-content-cache v1")
+			outputStream.writeInt(1)
+			outputStream.writeInt(Integer.MAX_VALUE - 8)
+		}
+		new FileContentCache(10).load(corrupted)
+
+		then:
+		thrown(IllegalArgumentException)
+
+		when: "元数据数量超出剩余字节数"
+		corrupted.withDataOutputStream { outputStream ->
+			outputStream.writeUTF("#pangju-file-content-cache v1")
+			outputStream.writeInt(1)
+			writeString(outputStream, "/path")
+			outputStream.writeLong(1L)
+			outputStream.writeLong(1L)
+			writeString(outputStream, "key")
+			writeString(outputStream, "digest")
+			writeString(outputStream, "text/plain")
+			outputStream.writeInt(Integer.MAX_VALUE)
+		}
+		new FileContentCache(10).load(corrupted)
+
+		then:
+		thrown(IllegalArgumentException)
+	}
+}
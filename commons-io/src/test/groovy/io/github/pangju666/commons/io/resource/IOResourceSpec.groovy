@@ -1,17 +1,36 @@
 package io.github.pangju666.commons.io.resource
 
 
+import io.github.pangju666.commons.io.enums.ResourceStorageType
+import io.github.pangju666.commons.io.model.DataSize
 import io.github.pangju666.commons.io.utils.FileUtils
+import org.apache.commons.io.output.ByteArrayOutputStream
 import spock.lang.Specification
 import spock.lang.TempDir
 import spock.lang.Unroll
 
+import java.nio.ByteBuffer
+import java.nio.channels.NonWritableChannelException
 import java.nio.file.Path
 
 class IOResourceSpec extends Specification {
 	@TempDir
 	Path tempDir
 
+	static class LegacyResource extends IOResource {
+		LegacyResource(byte[] bytes, ResourceStoragePolicy storagePolicy) {
+			super(bytes, storagePolicy)
+		}
+
+		LegacyResource(File file, boolean cacheContent) {
+			super(file, cacheContent)
+		}
+
+		ByteArrayOutputStream legacyBuffer() {
+			return byteArrayOutputStream
+		}
+	}
+
 	def "基于文件路径构造IOResource"() {
 		given:
 		File f = tempDir.resolve("test.txt").toFile()
@@ -590,4 +609,408 @@ class IOResourceSpec extends Specification {
 		bytes1 == bytes2
 		!bytes1.is(bytes2)
 	}
+
+	@Unroll
+	def "文件模式头部缓冲区为文件开头: #size 字节, cache=#cache"() {
+		given:
+		File f = tempDir.resolve("head-${size}-${cache}.bin").toFile()
+		def data = new byte[size]
+		new Random().nextBytes(data)
+		f.bytes = data
+
+		when:
+		def resource = new IOResource(f, cache)
+
+		then:
+		resource.head == Arrays.copyOf(data, Math.min(size, 64 * 1024))
+		resource.headComplete == (size <= 64 * 1024)
+		resource.openHeadInputStream().bytes == resource.head
+
+		where:
+		size      | cache
+		100       | false
+		100       | true
+		64 * 1024 | false
+		200000    | false
+		200000    | true
+	}
+
+	def "文件模式MIME类型与基于文件检测结果一致"() {
+		given:
+		File f = tempDir.resolve("mime.txt").toFile()
+		f.text = "plain text content\n" * 5000
+
+		expect:
+		new IOResource(f).mimeType == FileUtils.getMimeType(f)
+		new IOResource(f, true).mimeType == FileUtils.getMimeType(f)
+	}
+
+	def "内存模式与复制构造头部缓冲区"() {
+		given:
+		def data = new byte[100000]
+		new Random().nextBytes(data)
+		def resource = new IOResource(new ByteArrayInputStream(data))
+
+		when:
+		def copy = new IOResource(resource)
+
+		then:
+		resource.head == Arrays.copyOf(data, 64 * 1024)
+		!resource.headComplete
+		copy.head == resource.head
+		new IOResource("small".bytes).headComplete
+	}
+
+	def "修改头部缓冲区副本不影响资源"() {
+		given:
+		def resource = new IOResource("head".bytes)
+
+		when:
+		def head = resource.head
+		head[0] = (byte) 0
+
+		then:
+		resource.head == "head".bytes
+	}
+
+	def "已关闭资源获取头部缓冲区抛异常"() {
+		given:
+		def resource = new IOResource("closed".bytes)
+		resource.close()
+
+		when:
+		resource.getHead()
+
+		then:
+		thrown(IllegalStateException)
+	}
+
+	@Unroll
+	def "按存储策略选择存储类型: #expected"() {
+		given:
+		def data = new byte[300000]
+		new Random().nextBytes(data)
+
+		when:
+		def fromStream = new IOResource(new ByteArrayInputStream(data), policy)
+		def fromBytes = new IOResource(data, policy)
+
+		then:
+		fromStream.storageType == expected
+		fromBytes.storageType == expected
+		fromStream.bytes == data
+		fromBytes.bytes == data
+		fromStream.digest == new IOResource(data).digest
+
+		cleanup:
+		fromStream?.close()
+		fromBytes?.close()
+
+		where:
+		policy                                                  | expected
+		ResourceStoragePolicy.HEAP                              | ResourceStorageType.HEAP
+		ResourceStoragePolicy.of(DataSize.ofKilobytes(1), null) | ResourceStorageType.DIRECT
+		ResourceStoragePolicy.of(null, DataSize.ofKilobytes(1)) | ResourceStorageType.MAPPED
+		ResourceStoragePolicy.of(DataSize.ofMegabytes(1), null) | ResourceStorageType.HEAP
+	}
+
+	@Unroll
+	def "存储视图共享内容且只读: #expected"() {
+		given:
+		def data = new byte[100000]
+		new Random().nextBytes(data)
+		def resource = new IOResource(data, policy)
+
+		when:
+		ByteBuffer buffer = resource.asByteBuffer()
+		def fromBuffer = new byte[buffer.remaining()]
+		buffer.get(fromBuffer)
+		def channel = resource.openChannel()
+		channel.position(1000)
+		def fromChannel = ByteBuffer.allocate(16)
+		channel.read(fromChannel)
+
+		then:
+		resource.storageType == expected
+		buffer.readOnly
+		fromBuffer == data
+		fromChannel.array() == Arrays.copyOfRange(data, 1000, 1016)
+		channel.size() == data.length
+		resource.openInputStream().bytes == data
+		resource.newBufferedInputStream().bytes == data
+
+		when:
+		channel.write(ByteBuffer.allocate(1))
+
+		then:
+		thrown(NonWritableChannelException)
+
+		cleanup:
+		channel?.close()
+		resource?.close()
+
+		where:
+		policy                                              | expected
+		ResourceStoragePolicy.HEAP                          | ResourceStorageType.HEAP
+		ResourceStoragePolicy.of(DataSize.ofBytes(0), null) | ResourceStorageType.DIRECT
+		ResourceStoragePolicy.of(null, DataSize.ofBytes(0)) | ResourceStorageType.MAPPED
+	}
+
+	def "堆内存储时已废弃的字节数组缓存字段为只读视图"() {
+		given:
+		def data = new byte[100000]
+		new Random().nextBytes(data)
+		File file = tempDir.resolve("legacy.bin").toFile()
+		file.bytes = data
+
+		when:
+		def heapResource = new LegacyResource(data, ResourceStoragePolicy.HEAP)
+		def cachedFileResource = new LegacyResource(file, true)
+		def directResource = new LegacyResource(data, ResourceStoragePolicy.of(DataSize.ofBytes(0), null))
+		def fileResource = new LegacyResource(file, false)
+
+		then: "堆内存储时字段可用且内容与资源一致"
+		[heapResource, cachedFileResource].every { resource ->
+			def buffer = resource.legacyBuffer()
+			buffer.size() == data.length && buffer.toByteArray() == data && buffer.toInputStream().bytes == data
+		}
+		def outputStream = new ByteArrayOutputStream()
+		heapResource.legacyBuffer().writeTo(outputStream)
+		outputStream.toByteArray() == data
+
+		and: "非堆内存储时字段为null"
+		directResource.legacyBuffer() == null
+		fileResource.legacyBuffer() == null
+
+		when:
+		heapResource.legacyBuffer().write(1)
+
+		then: "不可修改资源内容"
+		thrown(UnsupportedOperationException)
+		heapResource.bytes == data
+
+		cleanup:
+		heapResource?.close()
+		cachedFileResource?.close()
+		directResource?.close()
+		fileResource?.close()
+	}
+
+	def "内存映射文件存储获取文件不复制内容"() {
+		given:
+		def data = new byte[10000]
+		new Random().nextBytes(data)
+		def resource = new IOResource(data, ResourceStoragePolicy.of(null, DataSize.ofBytes(0)))
+
+		when:
+		def file = resource.getFile()
+
+		then:
+		resource.storageType == ResourceStorageType.MAPPED
+		resource.tempFile
+		file.bytes == data
+		resource.getFile().is(file)
+
+		when:
+		resource.close()
+
+		then:
+		!file.exists()
+	}
+
+	def "默认存储策略为内存映射文件时缓存文件内容直接映射源文件"() {
+		given:
+		File f = tempDir.resolve("mapped.bin").toFile()
+		def data = new byte[10000]
+		new Random().nextBytes(data)
+		f.bytes = data
+		IOResource.setDefaultStoragePolicy(ResourceStoragePolicy.of(null, DataSize.ofBytes(0)))
+
+		when:
+		def resource = new IOResource(f, true)
+
+		then:
+		resource.storageType == ResourceStorageType.MAPPED
+		resource.bytes == data
+		!resource.tempFile
+
+		when:
+		resource.close()
+
+		then:
+		f.exists()
+
+		cleanup:
+		IOResource.setDefaultStoragePolicy(ResourceStoragePolicy.HEAP)
+	}
+
+	def "文件模式不缓存时映射文件视图"() {
+		given:
+		File f = tempDir.resolve("view.bin").toFile()
+		def data = new byte[10000]
+		new Random().nextBytes(data)
+		f.bytes = data
+		def resource = new IOResource(f)
+
+		when:
+		ByteBuffer buffer = resource.asByteBuffer()
+		def bytes = new byte[buffer.remaining()]
+		buffer.get(bytes)
+
+		then:
+		resource.storageType == null
+		buffer.readOnly
+		bytes == data
+		resource.openChannel().withCloseable { it.size() } == data.length
+	}
+
+	def "复制内存模式资源后源资源关闭不影响副本"() {
+		given:
+		def resource = new IOResource("copy source".bytes)
+		resource.getFile()
+
+		when:
+		def copy = new IOResource(resource)
+		resource.close()
+
+		then:
+		copy.bytes == "copy source".bytes
+		copy.getFile().text == "copy source"
+	}
+
+	def "存储策略参数校验"() {
+		when:
+		ResourceStoragePolicy.of(DataSize.ofBytes(-1), null)
+
+		then:
+		thrown(IllegalArgumentException)
+
+		when:
+		IOResource.setDefaultStoragePolicy(null)
+
+		then:
+		thrown(NullPointerException)
+
+		when:
+		new IOResource("data".bytes, null)
+
+		then:
+		thrown(NullPointerException)
+	}
+
+	def "输入流超过溢出阈值时溢出到临时文件"() {
+		given:
+		File dir = tempDir.resolve("spill").toFile()
+		def policy = ResourceStoragePolicy.of(null, DataSize.ofKilobytes(64), dir)
+		def data = new byte[300000]
+		new Random().nextBytes(data)
+
+		when:
+		def resource = new IOResource(new ByteArrayInputStream(data), policy)
+
+		then:
+		resource.storageType == ResourceStorageType.MAPPED
+		resource.size.toBytes() == data.length
+		resource.bytes == data
+		resource.getFile().parentFile == dir
+		resource.getFile().length() == data.length
+		resource.digest == new IOResource(data).digest
+		dir.list().length == 1
+
+		when:
+		resource.close()
+
+		then:
+		dir.list().length == 0
+	}
+
+	def "输入流未超过溢出阈值时保留在堆内"() {
+		given:
+		File dir = tempDir.resolve("no-spill").toFile()
+		def policy = ResourceStoragePolicy.of(null, DataSize.ofKilobytes(64), dir)
+
+		when:
+		def resource = new IOResource(new ByteArrayInputStream("small".bytes), policy)
+
+		then:
+		resource.storageType == ResourceStorageType.HEAP
+		resource.bytes == "small".bytes
+		!dir.exists() || dir.list().length == 0
+	}
+
+	def "输入流读取失败时删除溢出的临时文件"() {
+		given:
+		File dir = tempDir.resolve("spill-failure").toFile()
+		def policy = ResourceStoragePolicy.of(null, DataSize.ofKilobytes(64), dir)
+		def failing = new SequenceInputStream(new ByteArrayInputStream(new byte[200000]), new InputStream() {
+			@Override
+			int read() throws IOException {
+				throw new IOException("read failed")
+			}
+		})
+
+		when:
+		new IOResource(failing, policy)
+
+		then:
+		thrown(IOException)
+		dir.list().length == 0
+	}
+
+	def "存储输出流关闭前未生成存储时丢弃临时文件"() {
+		given:
+		File dir = tempDir.resolve("discard").toFile()
+		def policy = ResourceStoragePolicy.of(null, DataSize.ofKilobytes(1), dir)
+		def outputStream = new ResourceStorageOutputStream(policy)
+
+		when:
+		outputStream.write(new byte[4096])
+
+		then:
+		outputStream.spilled
+		outputStream.size() == 4096
+		dir.list().length == 1
+
+		when:
+		outputStream.close()
+
+		then:
+		dir.list().length == 0
+	}
+
+	def "溢出阈值默认与映射阈值无关且不超过字节数组容量上限"() {
+		expect:
+		ResourceStoragePolicy.HEAP.spillThreshold == ResourceStoragePolicy.DEFAULT_SPILL_THRESHOLD.toBytes()
+		ResourceStoragePolicy.of(null, DataSize.ofGigabytes(1)).spillThreshold == ResourceStoragePolicy.DEFAULT_SPILL_THRESHOLD.toBytes()
+		ResourceStoragePolicy.of(null, DataSize.ofKilobytes(64)).spillThreshold == 65536
+		ResourceStoragePolicy.of(null, null, DataSize.ofKilobytes(16), tempDir.toFile()).spillThreshold == 16384
+		ResourceStoragePolicy.of(null, null, null, tempDir.toFile()).spillThreshold == Integer.MAX_VALUE - 7
+	}
+
+	def "仅堆内存储策略下长度未知的输入流超过默认溢出阈值时溢出到临时文件"() {
+		given:
+		File dir = tempDir.resolve("default-spill").toFile()
+		def policy = ResourceStoragePolicy.of(null, null, DataSize.ofKilobytes(16), dir)
+		def data = new byte[100000]
+		new Random().nextBytes(data)
+
+		when:
+		def spilled = new IOResource(new ByteArrayInputStream(data), policy)
+		def heap = new IOResource(new ByteArrayInputStream(Arrays.copyOf(data, 10000)), policy)
+
+		then:
+		spilled.storageType == ResourceStorageType.MAPPED
+		spilled.bytes == data
+		heap.storageType == ResourceStorageType.HEAP
+		heap.bytes == Arrays.copyOf(data, 10000)
+
+		when:
+		ResourceStoragePolicy.of(null, null, DataSize.ofBytes(-1), dir)
+
+		then:
+		thrown(IllegalArgumentException)
+
+		cleanup:
+		spilled?.close()
+	}
 }
@@ -8,6 +8,7 @@ import spock.lang.Unroll
 import javax.imageio.ImageIO
 import java.awt.image.BufferedImage
 import java.nio.file.Path
+import java.util.concurrent.Executors
 
 class FileUtilsSpec extends Specification {
 	@TempDir
@@ -155,6 +156,109 @@ class FileUtilsSpec extends Specification {
 		digest1 != digest2
 	}
 
+	def "computeTreeDigest 文件与输入流结果一致且任意字节变化都会改变摘要"() {
+		given:
+		File f = tempDir.resolve("tree.dat").toFile()
+		def data = new byte[100003]
+		new Random().nextBytes(data)
+		f.bytes = data
+
+		when:
+		def fileDigest = FileUtils.computeTreeDigest(f, 4096, 4)
+		def streamDigest = IOUtils.computeTreeDigest(new ByteArrayInputStream(data), 4096, LongHashFunction.xx())
+
+		then:
+		fileDigest == streamDigest
+		fileDigest.digest.size() == 16
+		fileDigest.length == data.length
+		fileDigest.leafCount == 25
+		fileDigest.completeLeafCount == 24
+
+		when:
+		data[50000] = (byte) (data[50000] ^ 1)
+		f.bytes = data
+
+		then:
+		FileUtils.computeTreeDigest(f, 4096, 2) != fileDigest
+	}
+
+	def "updateTreeDigest 追加内容后与重新计算结果一致"() {
+		given:
+		File f = tempDir.resolve("append.dat").toFile()
+		def data = new byte[10000]
+		new Random().nextBytes(data)
+		f.bytes = data
+		def previous = FileUtils.computeTreeDigest(f, 1024, 2)
+
+		when:
+		def appended = new byte[5000]
+		new Random().nextBytes(appended)
+		f.append(appended)
+		def updated = FileUtils.updateTreeDigest(f, previous)
+
+		then:
+		updated == FileUtils.computeTreeDigest(f, 1024, 2)
+		updated != previous
+		updated.leafCount == 15
+	}
+
+	def "updateTreeDigest 哈希函数不同时重新计算整个文件"() {
+		given:
+		File f = tempDir.resolve("append-rehash.dat").toFile()
+		def data = new byte[10000]
+		new Random().nextBytes(data)
+		f.bytes = data
+		def seeded = LongHashFunction.xx(42L)
+		def executor = Executors.newFixedThreadPool(2)
+		def previous = FileUtils.computeTreeDigest(f, 1024, seeded, executor)
+
+		when:
+		f.append(new byte[3000])
+		def updated = FileUtils.updateTreeDigest(f, previous)
+		def reseeded = FileUtils.updateTreeDigest(f, previous, LongHashFunction.xx(7L), executor)
+
+		then:
+		previous.isComputedBy(seeded)
+		!previous.isComputedBy(LongHashFunction.xx())
+		updated.isComputedBy(LongHashFunction.xx())
+		updated == FileUtils.computeTreeDigest(f, 1024, 2)
+		reseeded == FileUtils.computeTreeDigest(f, 1024, LongHashFunction.xx(7L), executor)
+		FileUtils.updateTreeDigest(f, previous, seeded, executor) == FileUtils.computeTreeDigest(f, 1024, seeded, executor)
+
+		cleanup:
+		executor.shutdownNow()
+	}
+
+	def "computeTreeDigest 空文件与参数校验"() {
+		given:
+		File f = tempDir.resolve("empty-tree.dat").toFile()
+		f.createNewFile()
+
+		expect:
+		FileUtils.computeTreeDigest(f).leafCount == 0
+		FileUtils.computeTreeDigest(f) == IOUtils.computeTreeDigest(new ByteArrayInputStream(new byte[0]))
+
+		when:
+		FileUtils.computeTreeDigest(f, 0, 1)
+
+		then:
+		thrown(IllegalArgumentException)
+
+		when:
+		FileUtils.computeTreeDigest(f, 1024, 0)
+
+		then:
+		thrown(IllegalArgumentException)
+
+		when:
+		File longer = tempDir.resolve("longer-tree.dat").toFile()
+		longer.bytes = new byte[2048]
+		FileUtils.updateTreeDigest(f, FileUtils.computeTreeDigest(longer))
+
+		then:
+		thrown(IllegalArgumentException)
+	}
+
 	@Unroll
 	def "getBufferSize 返回预期大小: size=#size -> buffer=#expected"() {
 		given:
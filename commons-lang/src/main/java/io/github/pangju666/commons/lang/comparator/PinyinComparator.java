@@ -20,10 +20,8 @@ import com.hankcs.hanlp.HanLP;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 基于拼音的字符串比较器（不可变实现）
@@ -51,6 +49,9 @@ import java.util.Objects;
  *   <li>分隔符用于连接多音字或多字的拼音结果，例如 "-" 或空格</li>
  *   <li>该比较器不可变且线程安全；不要求与 equals 一致</li>
  *   <li>可考虑 {@code Collator.getInstance(Locale.CHINA)} 进行区域化比较，但与拼音规则可能存在差异</li>
+ *   <li>拼音转换结果会缓存在全局共享的有界并发缓存中（最多{@value #CACHE_SIZE}条），读取无锁</li>
+ *   <li>{@code order} 系列方法会预先为每个元素计算一次排序键后再排序，避免比较时重复转换拼音；
+ *   排序键同样从全局缓存中获取，元素数量达到{@value #PARALLEL_THRESHOLD}时使用并行排序</li>
  * </ul>
  *
  * @author pangju666
@@ -58,6 +59,26 @@ import java.util.Objects;
  * @since 1.0.0
  */
 public final class PinyinComparator implements Comparator<String> {
+	/**
+	 * 拼音缓存最大条目数
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int CACHE_SIZE = 10000;
+	/**
+	 * 使用并行排序的最小元素数量
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int PARALLEL_THRESHOLD = 8192;
+
+	/**
+	 * 全局共享的拼音缓存
+	 *
+	 * @since 2.2.0
+	 */
+	private static final Map<CacheKey, String> PINYIN_CACHE = new ConcurrentHashMap<>();
+
 	private final String separator;
 
 	/**
@@ -87,9 +108,7 @@ public final class PinyinComparator implements Comparator<String> {
 	 * @since 1.0.0
 	 */
 	public static void order(final List<String> list) {
-		if (Objects.nonNull(list) && !list.isEmpty()) {
-			list.sort(new PinyinComparator());
-		}
+		order(list, StringUtils.SPACE);
 	}
 
 	/**
@@ -101,7 +120,13 @@ public final class PinyinComparator implements Comparator<String> {
 	 */
 	public static void order(final List<String> list, final String separator) {
 		if (Objects.nonNull(list) && !list.isEmpty()) {
-			list.sort(new PinyinComparator(separator));
+			String[] array = list.toArray(new String[0]);
+			order(array, separator);
+			ListIterator<String> iterator = list.listIterator();
+			for (String value : array) {
+				iterator.next();
+				iterator.set(value);
+			}
 		}
 	}
 
@@ -112,9 +137,7 @@ public final class PinyinComparator implements Comparator<String> {
 	 * @since 1.0.0
 	 */
 	public static void order(final String[] array) {
-		if (ArrayUtils.isNotEmpty(array)) {
-			Arrays.sort(array, new PinyinComparator());
-		}
+		order(array, StringUtils.SPACE);
 	}
 
 	/**
@@ -126,10 +149,39 @@ public final class PinyinComparator implements Comparator<String> {
 	 */
 	public static void order(final String[] array, final String separator) {
 		if (ArrayUtils.isNotEmpty(array)) {
-			Arrays.sort(array, new PinyinComparator(separator));
+			PinyinComparator comparator = new PinyinComparator(separator);
+			boolean parallel = array.length >= PARALLEL_THRESHOLD;
+
+			// 每个元素只计算一次排序键，排序时不再重复转换拼音
+			SortEntry[] entries = new SortEntry[array.length];
+			if (parallel) {
+				Arrays.parallelSetAll(entries, i -> new SortEntry(array[i], comparator.getSortKey(array[i])));
+			} else {
+				Arrays.setAll(entries, i -> new SortEntry(array[i], comparator.getSortKey(array[i])));
+			}
+
+			Comparator<SortEntry> entryComparator = (e1, e2) -> compare(e1.value, e1.sortKey, e2.value, e2.sortKey);
+			if (parallel) {
+				Arrays.parallelSort(entries, entryComparator);
+			} else {
+				Arrays.sort(entries, entryComparator);
+			}
+
+			for (int i = 0; i < entries.length; i++) {
+				array[i] = entries[i].value;
+			}
 		}
 	}
 
+	/**
+	 * 清空全局拼音缓存
+	 *
+	 * @since 2.2.0
+	 */
+	public static void clearCache() {
+		PINYIN_CACHE.clear();
+	}
+
 	/**
 	 * 比较两个字符串的拼音顺序
 	 *
@@ -150,6 +202,73 @@ public final class PinyinComparator implements Comparator<String> {
 	 */
 	@Override
 	public int compare(String o1, String o2) {
+		return compare(o1, getSortKey(o1), o2, getSortKey(o2));
+	}
+
+	/**
+	 * 获取字符串的排序键
+	 * <p>
+	 * null、空白字符串和ASCII可打印字符串返回原值，其他字符串返回其拼音字符串表示（结果会被缓存）。
+	 * 缓存达到上限时会随机淘汰一条已有缓存，保证读取无锁。
+	 * </p>
+	 *
+	 * @param str 字符串
+	 * @return 排序键
+	 * @since 2.2.0
+	 */
+	public String getSortKey(final String str) {
+		if (!isPinyinRequired(str)) {
+			return str;
+		}
+		CacheKey cacheKey = new CacheKey(separator, str);
+		String pinyin = PINYIN_CACHE.get(cacheKey);
+		if (Objects.nonNull(pinyin)) {
+			return pinyin;
+		}
+		pinyin = convertToPinyin(str);
+		// 并发写入时多个线程可能淘汰同一条缓存，循环淘汰直到低于上限
+		Iterator<CacheKey> iterator = PINYIN_CACHE.keySet().iterator();
+		while (PINYIN_CACHE.size() >= CACHE_SIZE && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+		String previous = PINYIN_CACHE.putIfAbsent(cacheKey, pinyin);
+		return Objects.nonNull(previous) ? previous : pinyin;
+	}
+
+	/**
+	 * 将字符串转换为拼音字符串（不使用缓存）
+	 *
+	 * @param str 字符串
+	 * @return 使用分隔符连接的无音调拼音字符串
+	 * @since 2.2.0
+	 */
+	private String convertToPinyin(final String str) {
+		return HanLP.convertToPinyinString(str, separator, false);
+	}
+
+	/**
+	 * 判断字符串的排序键是否需要转换为拼音
+	 *
+	 * @param str 字符串
+	 * @return null、空白字符串和ASCII可打印字符串返回false，其他返回true
+	 * @since 2.2.0
+	 */
+	private static boolean isPinyinRequired(final String str) {
+		return !StringUtils.isBlank(str) && !StringUtils.isAsciiPrintable(str);
+	}
+
+	/**
+	 * 使用预先计算的排序键比较两个字符串
+	 *
+	 * @param o1        第一个字符串
+	 * @param o1SortKey 第一个字符串的排序键
+	 * @param o2        第二个字符串
+	 * @param o2SortKey 第二个字符串的排序键
+	 * @return 比较结果，规则与{@link #compare(String, String)}一致
+	 * @since 2.2.0
+	 */
+	private static int compare(final String o1, final String o1SortKey, final String o2, final String o2SortKey) {
 		// 调用原生方法判断是否相等
 		if (Objects.equals(o1, o2)) {
 			return 0;
@@ -184,11 +303,12 @@ public final class PinyinComparator implements Comparator<String> {
 			return 1;
 		}
 
-		// 判断是否为Ascii可打印字符，不是则获取其拼音字符串表示
-		String o1PinYin = StringUtils.isAsciiPrintable(o1) ? o1 :
-			HanLP.convertToPinyinString(o1, separator, false);
-		String o2PinYin = StringUtils.isAsciiPrintable(o2) ? o2 :
-			HanLP.convertToPinyinString(o2, separator, false);
-		return o1PinYin.compareTo(o2PinYin);
+		return o1SortKey.compareTo(o2SortKey);
+	}
+
+	private record CacheKey(String separator, String str) {
+	}
+
+	private record SortEntry(String value, String sortKey) {
 	}
 }
\ No newline at end of file
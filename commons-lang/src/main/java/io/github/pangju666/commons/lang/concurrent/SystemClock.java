@@ -16,11 +16,15 @@
 
 package io.github.pangju666.commons.lang.concurrent;
 
-import java.sql.Timestamp;
+import io.github.pangju666.commons.lang.time.CachedDateTimeFormatter;
+import io.github.pangju666.commons.lang.time.DateTimeFormatterRegistry;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 高并发场景下System.currentTimeMillis()的性能问题的优化
@@ -33,48 +37,272 @@ import java.util.concurrent.atomic.AtomicLong;
  * <p>1000万：480,12,40.0%</p>
  * <p>100万：50,10,5.0%</p>
  *
+ * <p>除默认的1毫秒全局实例外，还可以通过{@link #create(String, long, long, boolean)}创建具名实例：</p>
+ * <ul>
+ *     <li>可配置刷新周期（毫秒），周期越大后台线程唤醒越少，精度越低</li>
+ *     <li>可配置空闲超时，超过该时长没有读取时停止刷新，下次读取时立即校准并恢复刷新</li>
+ *     <li>可选单调模式，基于{@link System#nanoTime()}推算时间，不受系统时间调整影响</li>
+ * </ul>
+ * <p>具名实例各自持有一个后台刷新线程，不再使用时应调用{@link #close()}释放；默认实例由所有调用方共享，不会被关闭。</p>
+ *
  * <p>
  * 代码来源于：<a href="https://github.com/baomidou/mybatis-plus/blob/v3.5.11/mybatis-plus-core/src/main/java/com/baomidou/mybatisplus/core/toolkit/SystemClock.java">com.baomidou.mybatisplus.core.toolkit.SystemClock v3.5.11</a>
  * </p>
  *
  * @since 1.0.0
  */
-public final class SystemClock {
+public final class SystemClock implements TimeSource, AutoCloseable {
+	/**
+	 * 默认实例的空闲超时时长（毫秒）
+	 */
+	private static final long DEFAULT_IDLE_TIMEOUT = 60000;
+
+	private final String name;
 	private final long period;
-	private final AtomicLong now;
+	private final long idleTimeout;
+	private final boolean monotonic;
+	/**
+	 * 是否为共享的默认实例，默认实例不允许关闭
+	 */
+	private final boolean shared;
+	/**
+	 * 单调模式下的基准毫秒时间戳
+	 */
+	private final long baseMillis;
+	/**
+	 * 单调模式下的基准纳秒时间
+	 */
+	private final long baseNanos;
+	private final ScheduledExecutorService scheduler;
+
+	private volatile long now;
+	/**
+	 * 上次刷新后是否被读取过
+	 */
+	private volatile boolean accessed;
+	/**
+	 * 连续未被读取的刷新次数
+	 */
+	private volatile long idleTicks;
+	/**
+	 * 当前的刷新任务，为null表示已停止刷新
+	 */
+	private volatile ScheduledFuture<?> tickFuture;
+	/**
+	 * 是否已关闭，关闭后每次读取都直接获取时间
+	 */
+	private volatile boolean closed;
 
-	private SystemClock(long period) {
+	private SystemClock(String name, long period, long idleTimeout, boolean monotonic, boolean shared) {
+		this.name = name;
 		this.period = period;
-		this.now = new AtomicLong(System.currentTimeMillis());
+		this.idleTimeout = idleTimeout;
+		this.monotonic = monotonic;
+		this.shared = shared;
+		this.baseMillis = System.currentTimeMillis();
+		this.baseNanos = System.nanoTime();
+		this.now = baseMillis;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		});
 		scheduleClockUpdating();
 	}
 
-	private static SystemClock instance() {
+	/**
+	 * 创建具名时钟实例
+	 * <p>每个实例启动一个后台刷新线程，不再使用时应调用{@link #close()}关闭。</p>
+	 *
+	 * @param name        时钟名称，用作后台刷新线程的名称
+	 * @param period      刷新周期（毫秒）
+	 * @param idleTimeout 空闲超时时长（毫秒），超过该时长没有读取时停止刷新；小于等于0表示始终刷新
+	 * @param monotonic   是否使用基于{@link System#nanoTime()}的单调模式
+	 * @return 时钟实例
+	 * @throws NullPointerException     当name为null时抛出
+	 * @throws IllegalArgumentException 当name为空白或period小于等于0时抛出
+	 * @since 2.2.0
+	 */
+	public static SystemClock create(String name, long period, long idleTimeout, boolean monotonic) {
+		Validate.notBlank(name, "name 不可为空");
+		Validate.isTrue(period > 0, "period 必须大于0");
+		return new SystemClock(name, period, idleTimeout, monotonic, false);
+	}
+
+	/**
+	 * 获取默认时钟实例（1毫秒刷新周期，空闲60秒后停止刷新）
+	 *
+	 * @return 默认时钟实例
+	 * @since 2.2.0
+	 */
+	public static SystemClock getDefault() {
 		return InstanceHolder.INSTANCE;
 	}
 
 	public static long now() {
-		return instance().currentTimeMillis();
+		return getDefault().currentTimeMillis();
 	}
 
+	/**
+	 * 获取当前时间的字符串表示，格式与{@link java.sql.Timestamp#toString()}一致
+	 * <p>秒级部分按秒缓存格式化结果，只拼接毫秒部分</p>
+	 *
+	 * @return 当前时间字符串
+	 */
 	public static String nowDate() {
-		return new Timestamp(instance().currentTimeMillis()).toString();
+		long millis = getDefault().currentTimeMillis();
+		String seconds = NowFormatterHolder.INSTANCE.format(millis);
+		int fraction = (int) Math.floorMod(millis, 1000L);
+		if (fraction == 0) {
+			return seconds + ".0";
+		}
+		StringBuilder builder = new StringBuilder(seconds.length() + 4).append(seconds).append('.');
+		if (fraction < 100) {
+			builder.append('0');
+		}
+		if (fraction < 10) {
+			builder.append('0');
+		}
+		while (fraction % 10 == 0) {
+			fraction /= 10;
+		}
+		return builder.append(fraction).toString();
 	}
 
-	private void scheduleClockUpdating() {
-		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
-			Thread thread = new Thread(runnable, "System Clock");
-			thread.setDaemon(true);
-			return thread;
-		});
-		scheduler.scheduleAtFixedRate(() -> now.set(System.currentTimeMillis()), period, period, TimeUnit.MILLISECONDS);
+	/**
+	 * 获取当前时间的毫秒时间戳
+	 * <p>如果时钟因空闲已停止刷新，会立即校准时间并恢复刷新；时钟关闭后直接读取当前时间。</p>
+	 *
+	 * @return 毫秒时间戳
+	 * @since 2.2.0
+	 */
+	@Override
+	public long currentTimeMillis() {
+		if (Objects.isNull(tickFuture)) {
+			if (closed) {
+				return readTime();
+			}
+			resume();
+		}
+		if (!accessed) {
+			accessed = true;
+		}
+		return now;
+	}
+
+	/**
+	 * 获取时钟名称
+	 *
+	 * @return 时钟名称
+	 * @since 2.2.0
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * 获取刷新周期（毫秒）
+	 *
+	 * @return 刷新周期
+	 * @since 2.2.0
+	 */
+	public long getPeriod() {
+		return period;
+	}
+
+	/**
+	 * 是否使用单调模式
+	 *
+	 * @return 是否使用单调模式
+	 * @since 2.2.0
+	 */
+	public boolean isMonotonic() {
+		return monotonic;
+	}
+
+	/**
+	 * 是否正在后台刷新
+	 *
+	 * @return 是否正在后台刷新
+	 * @since 2.2.0
+	 */
+	public boolean isTicking() {
+		return Objects.nonNull(tickFuture);
+	}
+
+	/**
+	 * 是否已关闭
+	 *
+	 * @return 是否已关闭
+	 * @since 2.2.0
+	 */
+	public boolean isClosed() {
+		return closed;
+	}
+
+	/**
+	 * 关闭时钟，停止后台刷新线程
+	 * <p>关闭后仍可读取时间，每次读取都直接获取当前时间。重复关闭没有效果，默认实例调用此方法也没有效果。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	@Override
+	public synchronized void close() {
+		if (shared || closed) {
+			return;
+		}
+		closed = true;
+		if (Objects.nonNull(tickFuture)) {
+			tickFuture.cancel(false);
+			tickFuture = null;
+		}
+		scheduler.shutdownNow();
+	}
+
+	private synchronized void resume() {
+		if (!closed && Objects.isNull(tickFuture)) {
+			now = readTime();
+			scheduleClockUpdating();
+		}
+	}
+
+	private synchronized void scheduleClockUpdating() {
+		idleTicks = 0;
+		tickFuture = scheduler.scheduleAtFixedRate(this::tick, period, period, TimeUnit.MILLISECONDS);
+	}
+
+	private void tick() {
+		now = readTime();
+		if (idleTimeout <= 0) {
+			return;
+		}
+		if (accessed) {
+			accessed = false;
+			idleTicks = 0;
+		} else if (++idleTicks * period >= idleTimeout) {
+			synchronized (this) {
+				// 停止前再次确认期间没有被读取
+				if (!accessed && Objects.nonNull(tickFuture)) {
+					tickFuture.cancel(false);
+					tickFuture = null;
+				}
+			}
+		}
+	}
+
+	private long readTime() {
+		if (monotonic) {
+			return baseMillis + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - baseNanos);
+		}
+		return System.currentTimeMillis();
 	}
 
-	private long currentTimeMillis() {
-		return now.get();
+	private static class NowFormatterHolder {
+		public static final CachedDateTimeFormatter INSTANCE =
+			new CachedDateTimeFormatter(DateTimeFormatterRegistry.DATETIME_FORMATTER);
 	}
 
 	private static class InstanceHolder {
-		public static final SystemClock INSTANCE = new SystemClock(1);
+		public static final SystemClock INSTANCE = new SystemClock("System Clock", 1, DEFAULT_IDLE_TIMEOUT, false, true);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.lang.concurrent;
+
+/**
+ * 毫秒级时间源
+ * <p>
+ * 用于向ID生成器、日期工具等组件注入时间来源，便于替换为缓存时钟或在测试中手动驱动时间。
+ * </p>
+ *
+ * <pre>{@code
+ * // 系统时间
+ * TimeSource system = TimeSource.system();
+ * // 后台定时刷新的缓存时钟
+ * TimeSource cached = SystemClock.getDefault();
+ * // 测试中手动驱动时间
+ * AtomicLong time = new AtomicLong(0);
+ * TimeSource manual = time::get;
+ * }</pre>
+ *
+ * @author pangju666
+ * @see SystemClock
+ * @since 2.2.0
+ */
+@FunctionalInterface
+public interface TimeSource {
+	/**
+	 * 获取使用{@link System#currentTimeMillis()}的时间源
+	 *
+	 * @return 系统时间源
+	 * @since 2.2.0
+	 */
+	static TimeSource system() {
+		return System::currentTimeMillis;
+	}
+
+	/**
+	 * 获取当前时间的毫秒时间戳
+	 *
+	 * @return 毫秒时间戳
+	 * @since 2.2.0
+	 */
+	long currentTimeMillis();
+}
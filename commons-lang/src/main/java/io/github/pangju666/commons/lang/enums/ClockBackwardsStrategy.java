@@ -0,0 +1,56 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.lang.enums;
+
+/**
+ * 时钟回拨处理策略
+ *
+ * @author pangju666
+ * @see io.github.pangju666.commons.lang.id.SnowflakeIdWorker
+ * @since 2.2.0
+ */
+public enum ClockBackwardsStrategy {
+	/**
+	 * 借用未来时间
+	 * <p>
+	 * 时钟回拨（或当前毫秒序列号用尽）时继续沿用上一次的时间戳，序列号用尽后时间戳直接加一，
+	 * 不会阻塞线程；回拨超过最大容忍时长时抛出异常。借用产生的时间戳领先量不计入回拨时长，
+	 * 因此同一毫秒内的大批量生成不会因借用而失败。
+	 * </p>
+	 *
+	 * @since 2.2.0
+	 */
+	BORROW,
+	/**
+	 * 阻塞等待
+	 * <p>
+	 * 时钟回拨时阻塞等待时钟追上上一次的时间戳，序列号用尽时等待下一毫秒；回拨超过最大容忍时长时抛出异常。
+	 * </p>
+	 *
+	 * @since 2.2.0
+	 */
+	BLOCK,
+	/**
+	 * 直接失败
+	 * <p>
+	 * 检测到任何时钟回拨时立即抛出异常，序列号用尽时等待下一毫秒。
+	 * </p>
+	 *
+	 * @since 2.2.0
+	 */
+	FAIL
+}
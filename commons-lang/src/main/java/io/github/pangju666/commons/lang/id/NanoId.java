@@ -21,6 +21,7 @@ import java.util.Random;
  *     代码来源于：<a href="https://github.com/chinabugotech/hutool/blob/5.8.36/hutool-core/src/main/java/cn/hutool/core/lang/id/NanoId.java">cn.hutool.core.lang.id.NanoId 5.8.36</a>
  * </p>
  *
+ * @see NanoIdGenerator
  * @since 1.0.0
  */
 public final class NanoId {
@@ -35,7 +36,7 @@ public final class NanoId {
 	/**
 	 * 默认随机字符表，使用URL安全的Base64字符
 	 */
-	private static final char[] DEFAULT_ALPHABET = {'_', '-', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a',
+	static final char[] DEFAULT_ALPHABET = {'_', '-', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a',
 		'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'j', 'k', 'l', 'm', 'n', 'o', 'p', 'q', 'r', 's', 't', 'u', 'v', 'w',
 		'x', 'y', 'z', 'A', 'B', 'C', 'D', 'E', 'F', 'G', 'H', 'I', 'J', 'K', 'L', 'M', 'N', 'O', 'P', 'Q', 'R', 'S',
 		'T', 'U', 'V', 'W', 'X', 'Y', 'Z'};
@@ -72,23 +73,47 @@ public final class NanoId {
 		Validate.isTrue(size > 0, "size 必须大于0");
 		Validate.isTrue(alphabet.length >= 1 && alphabet.length <= 255, "alphabet必须包含 1 至 255 个符号。");
 
-		final int mask = (2 << (int) Math.floor(Math.log(alphabet.length - 1) / Math.log(2))) - 1;
-		final int step = (int) Math.ceil(1.6 * mask * size / alphabet.length);
-
-		final StringBuilder idBuilder = new StringBuilder();
+		final int mask = computeMask(alphabet.length);
+		final int step = computeStep(mask, size, alphabet.length);
 
+		final char[] id = new char[size];
+		final byte[] bytes = new byte[step];
+		int length = 0;
 		while (true) {
-			final byte[] bytes = new byte[step];
 			random.nextBytes(bytes);
 			for (int i = 0; i < step; i++) {
 				final int alphabetIndex = bytes[i] & mask;
 				if (alphabetIndex < alphabet.length) {
-					idBuilder.append(alphabet[alphabetIndex]);
-					if (idBuilder.length() == size) {
-						return idBuilder.toString();
+					id[length++] = alphabet[alphabetIndex];
+					if (length == size) {
+						return new String(id);
 					}
 				}
 			}
 		}
 	}
+
+	/**
+	 * 计算覆盖字符表索引的最小位掩码
+	 *
+	 * @param alphabetLength 字符表长度
+	 * @return 位掩码
+	 * @since 2.2.0
+	 */
+	static int computeMask(final int alphabetLength) {
+		return (2 << (int) Math.floor(Math.log(alphabetLength - 1) / Math.log(2))) - 1;
+	}
+
+	/**
+	 * 计算每次获取的随机字节数
+	 *
+	 * @param mask           位掩码
+	 * @param size           ID长度
+	 * @param alphabetLength 字符表长度
+	 * @return 随机字节数
+	 * @since 2.2.0
+	 */
+	static int computeStep(final int mask, final int size, final int alphabetLength) {
+		return (int) Math.ceil(1.6 * mask * size / alphabetLength);
+	}
 }
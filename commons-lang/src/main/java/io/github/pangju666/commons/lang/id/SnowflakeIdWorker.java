@@ -1,8 +1,13 @@
 package io.github.pangju666.commons.lang.id;
 
 import io.github.pangju666.commons.lang.concurrent.SystemClock;
+import io.github.pangju666.commons.lang.concurrent.TimeSource;
+import io.github.pangju666.commons.lang.enums.ClockBackwardsStrategy;
+import org.apache.commons.lang3.Validate;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * <h1>SnowflakeIdWorker（使用 ChatGpt 生成的）</h1>
@@ -11,7 +16,7 @@ import java.util.concurrent.atomic.AtomicLong;
  * 生成的 ID 为 64 位 long 型整数，按时间递增且在全局范围内唯一。
  * </p>
  *
- * <h2>ID 组成结构（共 64 位）</h2>
+ * <h2>ID 组成结构（共 64 位，默认布局）</h2>
  * <pre>
  *  0 | 时间戳（41 位） | 数据中心 ID（5 位） | 机器 ID（5 位） | 序列号（12 位）
  * </pre>
@@ -22,87 +27,113 @@ import java.util.concurrent.atomic.AtomicLong;
  *   <li>机器 ID（5 位）：支持每个数据中心最多 32 台机器</li>
  *   <li>序列号（12 位）：支持每毫秒生成 4096 个 ID</li>
  * </ul>
+ * <p>可通过 {@link #builder()} 自定义数据中心 ID、机器 ID 和序列号的位数，时间戳占用剩余的位数。</p>
  *
  * <h2>特性</h2>
  * <ul>
- *   <li>线程安全，无锁设计（基于 CAS）</li>
- *   <li>每毫秒最多可生成 4096 个唯一 ID</li>
- *   <li>可容忍 ≤5ms 的系统时钟小幅回拨</li>
- *   <li>支持自定义起始时间戳（epoch）</li>
+ *   <li>线程安全，无锁设计：时间戳和序列号打包在同一个 {@link AtomicLong} 中，每次分配只需一次 CAS</li>
+ *   <li>支持批量生成（{@link #nextIds(int)}、{@link #fill(long[])}），一次 CAS 预留一段连续的序列号</li>
+ *   <li>支持可配置的时钟回拨处理策略（{@link ClockBackwardsStrategy}），默认阻塞等待且可容忍 ≤5ms 的回拨</li>
+ *   <li>支持自定义起始时间戳（epoch）和位布局</li>
+ *   <li>支持注入时间源（{@link TimeSource}），默认使用 {@link SystemClock#getDefault()}</li>
  * </ul>
  *
  * <h2>示例</h2>
  * <pre>{@code
  * SnowflakeIdWorker worker = new SnowflakeIdWorker(1, 1);
  * long id = worker.nextId();
- * System.out.println(id);
+ * long[] ids = worker.nextIds(100);
+ *
+ * SnowflakeIdWorker borrowWorker = SnowflakeIdWorker.builder()
+ *     .workerId(1)
+ *     .datacenterId(1)
+ *     .sequenceBits(14)
+ *     .clockBackwardsStrategy(ClockBackwardsStrategy.BORROW)
+ *     .maxBackwardsMillis(1000)
+ *     .build();
  * }</pre>
  *
  * @since 1.0.0
  */
 public final class SnowflakeIdWorker {
 	/**
-	 * 序列号部分占用的位数（12 位）
+	 * 默认序列号部分占用的位数（12 位）
 	 */
-	private static final int BIT_SEQUENCE = 12;
+	private static final int DEFAULT_BIT_SEQUENCE = 12;
 	/**
-	 * 机器 ID 部分占用的位数（5 位）
+	 * 默认机器 ID 部分占用的位数（5 位）
 	 */
-	private static final int BIT_WORKER_ID = 5;
+	private static final int DEFAULT_BIT_WORKER_ID = 5;
 	/**
-	 * 数据中心 ID 部分占用的位数（5 位）
+	 * 默认数据中心 ID 部分占用的位数（5 位）
 	 */
-	private static final int BIT_DATACENTER_ID = 5;
+	private static final int DEFAULT_BIT_DATACENTER_ID = 5;
 
 	/**
-	 * 最大机器 ID 值（31）
+	 * 默认起始时间戳（Twitter 的 Snowflake 初始值：2010-11-04）
 	 */
-	private static final long MAX_WORKER_ID = ~(-1L << BIT_WORKER_ID);
+	private static final long DEFAULT_EPOCH = 1288834974657L;
 	/**
-	 * 最大数据中心 ID 值（31）
+	 * 默认最大可容忍的时钟回拨毫秒数
 	 */
-	private static final long MAX_DATACENTER_ID = ~(-1L << BIT_DATACENTER_ID);
+	private static final long DEFAULT_MAX_BACKWARDS_MILLIS = 5;
 	/**
-	 * 序列号最大值（4095）
+	 * 序列号用尽时每次等待的纳秒数
 	 */
-	private static final long SEQUENCE_MASK = ~(-1L << BIT_SEQUENCE);
+	private static final long WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
 
 	/**
-	 * 各部分的位移量
+	 * 起始时间戳（epoch），用于计算相对时间
 	 */
-	private static final int SHIFT_WORKER_ID = BIT_SEQUENCE;
-	private static final int SHIFT_DATACENTER_ID = BIT_SEQUENCE + BIT_WORKER_ID;
-	private static final int SHIFT_TIMESTAMP = BIT_SEQUENCE + BIT_WORKER_ID + BIT_DATACENTER_ID;
+	private final long epoch;
 
 	/**
-	 * 默认起始时间戳（Twitter 的 Snowflake 初始值：2010-11-04）
+	 * 序列号部分占用的位数
 	 */
-	private static final long DEFAULT_EPOCH = 1288834974657L;
-
+	private final int sequenceBits;
 	/**
-	 * 当前机器 ID（0 ~ 31）
+	 * 序列号最大值
 	 */
-	private final long workerId;
-
+	private final long sequenceMask;
 	/**
-	 * 当前数据中心 ID（0 ~ 31）
+	 * 相对时间戳最大值
 	 */
-	private final long datacenterId;
-
+	private final long maxTimestamp;
 	/**
-	 * 起始时间戳（epoch），用于计算相对时间
+	 * 时间戳的位移量
 	 */
-	private final long epoch;
+	private final int timestampShift;
+	/**
+	 * 数据中心 ID 和机器 ID 拼装后的固定部分
+	 */
+	private final long nodeBits;
 
 	/**
-	 * 上一次生成 ID 的时间戳（毫秒）
+	 * 时间源
+	 */
+	private final TimeSource timeSource;
+	/**
+	 * 时钟回拨处理策略
 	 */
-	private final AtomicLong lastTimestamp = new AtomicLong(-1L);
+	private final ClockBackwardsStrategy clockBackwardsStrategy;
+	/**
+	 * 最大可容忍的时钟回拨毫秒数
+	 */
+	private final long maxBackwardsMillis;
 
 	/**
-	 * 当前毫秒内的序列号（0 ~ 4095）
+	 * 最近一次分配的状态：高位为相对时间戳，低 {@link #sequenceBits} 位为序列号
+	 * <p>初始值 -1 表示尚未分配过（相对时间戳为 -1）。</p>
+	 */
+	private final AtomicLong state = new AtomicLong(-1L);
+	/**
+	 * 已读取到的最大时钟值（相对时间戳）
+	 * <p>
+	 * BORROW 策略借用未来时间后，{@link #state} 中的时间戳可能领先于时钟，该领先量不是时钟回拨；
+	 * 时钟回拨只按此值与当前时钟之差计算。
+	 * </p>
 	 */
-	private final AtomicLong sequence = new AtomicLong(0L);
+	private final AtomicLong highestClock = new AtomicLong(Long.MIN_VALUE);
 
 	/**
 	 * 使用默认起始时间戳（{@link #DEFAULT_EPOCH}）构造一个新的 Snowflake ID 生成器。
@@ -126,15 +157,49 @@ public final class SnowflakeIdWorker {
 	 * @since 1.0.0
 	 */
 	public SnowflakeIdWorker(long workerId, long datacenterId, long epoch) {
-		if (workerId > MAX_WORKER_ID || workerId < 0) {
-			throw new IllegalArgumentException("workerId 必须介于 0 和 " + MAX_WORKER_ID);
+		this(workerId, datacenterId, epoch, DEFAULT_BIT_WORKER_ID, DEFAULT_BIT_DATACENTER_ID, DEFAULT_BIT_SEQUENCE,
+			SystemClock.getDefault(), ClockBackwardsStrategy.BLOCK, DEFAULT_MAX_BACKWARDS_MILLIS);
+	}
+
+	private SnowflakeIdWorker(long workerId, long datacenterId, long epoch, int workerIdBits, int datacenterIdBits,
+	                          int sequenceBits, TimeSource timeSource, ClockBackwardsStrategy clockBackwardsStrategy,
+	                          long maxBackwardsMillis) {
+		Validate.isTrue(workerIdBits >= 0 && datacenterIdBits >= 0, "workerIdBits 和 datacenterIdBits 不能为负数");
+		Validate.isTrue(sequenceBits > 0, "sequenceBits 必须大于0");
+		Validate.isTrue(workerIdBits + datacenterIdBits + sequenceBits < Long.SIZE - 1,
+			"workerIdBits、datacenterIdBits 和 sequenceBits 之和必须小于 " + (Long.SIZE - 1));
+		Validate.notNull(timeSource, "timeSource 不可为 null");
+		Validate.notNull(clockBackwardsStrategy, "clockBackwardsStrategy 不可为 null");
+		Validate.isTrue(maxBackwardsMillis >= 0, "maxBackwardsMillis 不能为负数");
+
+		long maxWorkerId = ~(-1L << workerIdBits);
+		long maxDatacenterId = ~(-1L << datacenterIdBits);
+		if (workerId > maxWorkerId || workerId < 0) {
+			throw new IllegalArgumentException("workerId 必须介于 0 和 " + maxWorkerId);
 		}
-		if (datacenterId > MAX_DATACENTER_ID || datacenterId < 0) {
-			throw new IllegalArgumentException("datacenterId 必须介于 0 和 " + MAX_DATACENTER_ID);
+		if (datacenterId > maxDatacenterId || datacenterId < 0) {
+			throw new IllegalArgumentException("datacenterId 必须介于 0 和 " + maxDatacenterId);
 		}
-		this.workerId = workerId;
-		this.datacenterId = datacenterId;
+
 		this.epoch = epoch;
+		this.sequenceBits = sequenceBits;
+		this.sequenceMask = ~(-1L << sequenceBits);
+		this.timestampShift = sequenceBits + workerIdBits + datacenterIdBits;
+		this.maxTimestamp = ~(-1L << (Long.SIZE - 1 - timestampShift));
+		this.nodeBits = (datacenterId << (sequenceBits + workerIdBits)) | (workerId << sequenceBits);
+		this.timeSource = timeSource;
+		this.clockBackwardsStrategy = clockBackwardsStrategy;
+		this.maxBackwardsMillis = maxBackwardsMillis;
+	}
+
+	/**
+	 * 创建用于自定义位布局和时钟回拨策略的构建器
+	 *
+	 * @return 构建器
+	 * @since 2.2.0
+	 */
+	public static Builder builder() {
+		return new Builder();
 	}
 
 	/**
@@ -142,85 +207,297 @@ public final class SnowflakeIdWorker {
 	 * <p>采用无锁的 CAS 机制确保高并发场景下的唯一性与性能。</p>
 	 *
 	 * @return 唯一 ID（long 类型，按时间递增）
-	 * @throws RuntimeException 当检测到系统时钟严重回拨（超过 5ms）时抛出
+	 * @throws IllegalStateException 当检测到的系统时钟回拨无法按当前策略处理时抛出
 	 * @since 1.0.0
 	 */
 	public long nextId() {
+		long reserved = reserve();
+		return buildId(reserved >> sequenceBits, reserved & sequenceMask);
+	}
+
+	/**
+	 * 批量生成全局唯一的 64 位 ID（线程安全）。
+	 *
+	 * @param count 生成数量
+	 * @return 按生成顺序递增的 ID 数组
+	 * @throws IllegalArgumentException 当 count 为负数时抛出
+	 * @throws IllegalStateException    当检测到的系统时钟回拨无法按当前策略处理时抛出
+	 * @see #fill(long[])
+	 * @since 2.2.0
+	 */
+	public long[] nextIds(int count) {
+		Validate.isTrue(count >= 0, "count 不能为负数");
+
+		long[] ids = new long[count];
+		fill(ids);
+		return ids;
+	}
+
+	/**
+	 * 使用全局唯一的 64 位 ID 填充数组（线程安全）。
+	 * <p>每次 CAS 会预留当前毫秒内剩余的一整段序列号，数量越多时平均每个 ID 的开销越低。</p>
+	 *
+	 * @param ids 要填充的数组
+	 * @throws IllegalStateException 当检测到的系统时钟回拨无法按当前策略处理时抛出
+	 * @since 2.2.0
+	 */
+	public void fill(long[] ids) {
+		Validate.notNull(ids, "ids 不可为 null");
+
+		int offset = 0;
+		while (offset < ids.length) {
+			int remaining = ids.length - offset;
+			long reserved = reserve(remaining);
+			long timestamp = reserved >> sequenceBits;
+			long startSequence = reserved & sequenceMask;
+			int count = (int) Math.min(remaining, sequenceMask - startSequence + 1);
+			for (int i = 0; i < count; i++) {
+				ids[offset + i] = buildId(timestamp, startSequence + i);
+			}
+			offset += count;
+		}
+	}
+
+	/**
+	 * 预留一个序列号。
+	 *
+	 * @return 预留的状态（相对时间戳和序列号）
+	 * @since 2.2.0
+	 */
+	private long reserve() {
+		return reserve(1);
+	}
+
+	/**
+	 * 使用一次 CAS 预留一段连续的序列号。
+	 * <p>
+	 * 预留数量为 {@code min(count, sequenceMask - 起始序列号 + 1)}，调用方可据此自行计算实际预留的数量。
+	 * </p>
+	 *
+	 * @param count 期望预留的数量
+	 * @return 预留的起始状态（相对时间戳和起始序列号）
+	 * @since 2.2.0
+	 */
+	private long reserve(int count) {
 		while (true) {
-			long current = SystemClock.now();
-			long last = lastTimestamp.get();
-
-			if (current < last) {
-				// 可选：增加小回拨容忍，避免测试失败
-				long offset = last - current;
-				if (offset <= 5) {
-					// 等待回拨恢复
-					try {
-						Thread.sleep(offset);
-					} catch (InterruptedException e) {
-						Thread.currentThread().interrupt();
-					}
-					continue;
-				}
-				throw new RuntimeException("时钟向后移动。拒绝为 " + offset + "ms 生成 ID");
+			long current = state.get();
+			long lastTimestamp = current >> sequenceBits;
+			long lastSequence = current & sequenceMask;
+			long now = timeSource.currentTimeMillis() - epoch;
+			long clock = highestClock.get();
+			if (now > clock) {
+				clock = highestClock.accumulateAndGet(now, Math::max);
 			}
 
-			if (current == last) {
-				long seq = sequence.incrementAndGet() & SEQUENCE_MASK;
-				if (seq == 0) {
-					// 序列号用尽，等待下一毫秒
-					current = waitNextMillis(last);
-					// 不在此处重置 sequence！
-				}
-				// 尝试锁定这个时间戳
-				if (lastTimestamp.compareAndSet(last, current)) {
-					if (seq == 0) {
-						// 只有在这里才安全重置 sequence
-						sequence.set(0);
-						return buildId(current, 0);
-					} else {
-						return buildId(current, seq);
-					}
-				}
-				// CAS 失败，重试
-			} else {
+			long timestamp;
+			long startSequence;
+			if (now > lastTimestamp) {
 				// 新毫秒
-				if (lastTimestamp.compareAndSet(last, current)) {
-					sequence.set(0);
-					return buildId(current, 0);
+				timestamp = now;
+				startSequence = 0;
+			} else {
+				// 时间戳领先于时钟可能是借用了未来时间，只有时钟低于已读取到的最大值才是回拨
+				if (now < clock && !handleClockBackwards(clock - now)) {
+					continue;
 				}
-				// CAS 失败，重试
+				if (lastSequence < sequenceMask) {
+					timestamp = lastTimestamp;
+					startSequence = lastSequence + 1;
+				} else if (clockBackwardsStrategy == ClockBackwardsStrategy.BORROW) {
+					// 序列号用尽，借用下一毫秒
+					timestamp = lastTimestamp + 1;
+					startSequence = 0;
+				} else {
+					// 序列号用尽，等待下一毫秒
+					LockSupport.parkNanos(WAIT_NANOS);
+					continue;
+				}
+			}
+			if (timestamp > maxTimestamp) {
+				throw new IllegalStateException("时间戳超出可表示范围，请调整 epoch 或位布局");
 			}
+
+			long endSequence = startSequence + Math.min(count, sequenceMask - startSequence + 1) - 1;
+			if (state.compareAndSet(current, (timestamp << sequenceBits) | endSequence)) {
+				return (timestamp << sequenceBits) | startSequence;
+			}
+			// CAS 失败，重试
 		}
 	}
 
+	/**
+	 * 按策略处理时钟回拨。
+	 *
+	 * @param offset 回拨的毫秒数（相对已读取到的最大时钟值，不包含借用未来时间产生的领先量）
+	 * @return 是否可以继续沿用上一次的时间戳，返回 false 时需要重新读取时钟
+	 * @throws IllegalStateException 当回拨无法按当前策略处理时抛出
+	 * @since 2.2.0
+	 */
+	private boolean handleClockBackwards(long offset) {
+		if (clockBackwardsStrategy == ClockBackwardsStrategy.FAIL || offset > maxBackwardsMillis) {
+			throw new IllegalStateException("时钟向后移动。拒绝为 " + offset + "ms 生成 ID");
+		}
+		if (clockBackwardsStrategy == ClockBackwardsStrategy.BORROW) {
+			return true;
+		}
+		// 等待回拨恢复
+		try {
+			TimeUnit.MILLISECONDS.sleep(offset);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return false;
+	}
+
 	/**
 	 * 将各部分数据拼装为 64 位 ID。
 	 *
-	 * @param timestamp 当前时间戳（毫秒）
+	 * @param timestamp 相对时间戳（毫秒）
 	 * @param seq       序列号
 	 * @return 拼装后的唯一 ID
 	 * @since 1.0.0
 	 */
 	private long buildId(long timestamp, long seq) {
-		return ((timestamp - epoch) << SHIFT_TIMESTAMP)
-			| (datacenterId << SHIFT_DATACENTER_ID)
-			| (workerId << SHIFT_WORKER_ID)
-			| seq;
+		return (timestamp << timestampShift) | nodeBits | seq;
 	}
 
 	/**
-	 * 等待直到下一毫秒，以保证生成的时间戳单调递增。
+	 * {@link SnowflakeIdWorker} 构建器
 	 *
-	 * @param lastTimestamp 上次生成 ID 的时间戳
-	 * @return 当前毫秒级时间戳（必定大于 lastTimestamp）
-	 * @since 1.0.0
+	 * @since 2.2.0
 	 */
-	private long waitNextMillis(long lastTimestamp) {
-		long timestamp;
-		do {
-			timestamp = SystemClock.now();
-		} while (timestamp <= lastTimestamp);
-		return timestamp;
+	public static final class Builder {
+		private long workerId;
+		private long datacenterId;
+		private long epoch = DEFAULT_EPOCH;
+		private int workerIdBits = DEFAULT_BIT_WORKER_ID;
+		private int datacenterIdBits = DEFAULT_BIT_DATACENTER_ID;
+		private int sequenceBits = DEFAULT_BIT_SEQUENCE;
+		private TimeSource timeSource = SystemClock.getDefault();
+		private ClockBackwardsStrategy clockBackwardsStrategy = ClockBackwardsStrategy.BLOCK;
+		private long maxBackwardsMillis = DEFAULT_MAX_BACKWARDS_MILLIS;
+
+		private Builder() {
+		}
+
+		/**
+		 * 设置机器 ID，默认为 0
+		 *
+		 * @param workerId 机器 ID
+		 * @return 当前构建器
+		 * @since 2.2.0
+		 */
+		public Builder workerId(long workerId) {
+			this.workerId = workerId;
+			return this;
+		}
+
+		/**
+		 * 设置数据中心 ID，默认为 0
+		 *
+		 * @param datacenterId 数据中心 ID
+		 * @return 当前构建器
+		 * @since 2.2.0
+		 */
+		public Builder datacenterId(long datacenterId) {
+			this.datacenterId = datacenterId;
+			return this;
+		}
+
+		/**
+		 * 设置起始时间戳（毫秒），默认为 Twitter 的 Snowflake 初始值
+		 *
+		 * @param epoch 起始时间戳
+		 * @return 当前构建器
+		 * @since 2.2.0
+		 */
+		public Builder epoch(long epoch) {
+			this.epoch = epoch;
+			return this;
+		}
+
+		/**
+		 * 设置机器 ID 占用的位数，默认为 5
+		 *
+		 * @param workerIdBits 位数
+		 * @return 当前构建器
+		 * @since 2.2.0
+		 */
+		public Builder workerIdBits(int workerIdBits) {
+			this.workerIdBits = workerIdBits;
+			return this;
+		}
+
+		/**
+		 * 设置数据中心 ID 占用的位数，默认为 5
+		 *
+		 * @param datacenterIdBits 位数
+		 * @return 当前构建器
+		 * @since 2.2.0
+		 */
+		public Builder datacenterIdBits(int datacenterIdBits) {
+			this.datacenterIdBits = datacenterIdBits;
+			return this;
+		}
+
+		/**
+		 * 设置序列号占用的位数，默认为 12
+		 *
+		 * @param sequenceBits 位数
+		 * @return 当前构建器
+		 * @since 2.2.0
+		 */
+		public Builder sequenceBits(int sequenceBits) {
+			this.sequenceBits = sequenceBits;
+			return this;
+		}
+
+		/**
+		 * 设置时间源，默认为 {@link SystemClock#getDefault()}
+		 *
+		 * @param timeSource 时间源
+		 * @return 当前构建器
+		 * @since 2.2.0
+		 */
+		public Builder timeSource(TimeSource timeSource) {
+			this.timeSource = timeSource;
+			return this;
+		}
+
+		/**
+		 * 设置时钟回拨处理策略，默认为 {@link ClockBackwardsStrategy#BLOCK}
+		 *
+		 * @param clockBackwardsStrategy 时钟回拨处理策略
+		 * @return 当前构建器
+		 * @since 2.2.0
+		 */
+		public Builder clockBackwardsStrategy(ClockBackwardsStrategy clockBackwardsStrategy) {
+			this.clockBackwardsStrategy = clockBackwardsStrategy;
+			return this;
+		}
+
+		/**
+		 * 设置最大可容忍的时钟回拨毫秒数，默认为 5
+		 *
+		 * @param maxBackwardsMillis 最大可容忍的时钟回拨毫秒数
+		 * @return 当前构建器
+		 * @since 2.2.0
+		 */
+		public Builder maxBackwardsMillis(long maxBackwardsMillis) {
+			this.maxBackwardsMillis = maxBackwardsMillis;
+			return this;
+		}
+
+		/**
+		 * 构建 Snowflake ID 生成器
+		 *
+		 * @return Snowflake ID 生成器
+		 * @throws IllegalArgumentException 当参数非法时抛出
+		 * @since 2.2.0
+		 */
+		public SnowflakeIdWorker build() {
+			return new SnowflakeIdWorker(workerId, datacenterId, epoch, workerIdBits, datacenterIdBits,
+				sequenceBits, timeSource, clockBackwardsStrategy, maxBackwardsMillis);
+		}
 	}
 }
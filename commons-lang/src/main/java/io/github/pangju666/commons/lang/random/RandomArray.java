@@ -21,6 +21,7 @@ import org.apache.commons.lang3.Validate;
 
 import java.security.SecureRandom;
 import java.security.Security;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
@@ -39,6 +40,25 @@ public class RandomArray {
 	protected static final RandomArray SECURE = new RandomArray(RandomUtils.secure());
 	protected static final RandomArray SECURE_STRONG = new RandomArray(RandomUtils.secureStrong());
 
+	/**
+	 * 并行生成阈值，长度达到该值时使用并行算法生成不重复随机数
+	 *
+	 * @since 2.2.0
+	 */
+	protected static final int PARALLEL_THRESHOLD = 1 << 20;
+	/**
+	 * 取值范围不超过长度的该倍数时视为密集范围，使用部分 Fisher–Yates 洗牌
+	 *
+	 * @since 2.2.0
+	 */
+	protected static final int DENSE_RANGE_FACTOR = 2;
+	/**
+	 * 密集范围允许的最大取值范围（受数组最大长度限制）
+	 *
+	 * @since 2.2.0
+	 */
+	protected static final int MAX_DENSE_RANGE = Integer.MAX_VALUE - 8;
+
 	protected final RandomUtils randomUtils;
 
 	protected RandomArray(final RandomUtils randomUtils) {
@@ -277,14 +297,15 @@ public class RandomArray {
 	 * @since 1.0.0
 	 */
 	public int[] randomUniqueIntArray(final int length) {
-		return randomSet(0, Integer.MAX_VALUE, length, randomUtils::randomInt)
-			.stream()
-			.mapToInt(Integer::intValue)
-			.toArray();
+		return randomUniqueIntArray(0, Integer.MAX_VALUE, length);
 	}
 
 	/**
 	 * 生成指定范围内的随机不重复整数数组
+	 * <p>
+	 * 根据取值范围与长度的比例自动选择采样算法：范围较密集时使用部分 Fisher–Yates 洗牌，
+	 * 范围较稀疏时使用基本类型开放寻址哈希集合去重，长度超过 {@link #PARALLEL_THRESHOLD} 时并行采样，全程不产生装箱对象。
+	 * </p>
 	 *
 	 * @param startInclusive 最小值（包含），必须是非负值
 	 * @param endExclusive   最大值（不包含）
@@ -296,11 +317,18 @@ public class RandomArray {
 	 * @since 1.0.0
 	 */
 	public int[] randomUniqueIntArray(final int startInclusive, final int endExclusive, final int length) {
-		Validate.isTrue(endExclusive - startInclusive >= length, "最大值和最小数的差必须大于等于长度");
-		return randomSet(startInclusive, endExclusive, length, randomUtils::randomInt)
-			.stream()
-			.mapToInt(Integer::intValue)
-			.toArray();
+		validateUniqueRange(startInclusive, endExclusive, length);
+
+		long range = (long) endExclusive - startInclusive;
+		if (isDense(range, length)) {
+			return denseUniqueIntArray(startInclusive, (int) range, length);
+		}
+		long[] samples = sparseUniqueLongArray(startInclusive, endExclusive, length);
+		int[] values = new int[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = (int) samples[i];
+		}
+		return values;
 	}
 
 	/**
@@ -312,14 +340,14 @@ public class RandomArray {
 	 * @since 1.0.0
 	 */
 	public long[] randomUniqueLongArray(final int length) {
-		return randomSet(0L, Long.MAX_VALUE, length, randomUtils::randomLong)
-			.stream()
-			.mapToLong(Long::longValue)
-			.toArray();
+		return randomUniqueLongArray(0L, Long.MAX_VALUE, length);
 	}
 
 	/**
 	 * 生成指定范围内的的随机不重复长整数数组
+	 * <p>
+	 * 采样算法的选择规则与 {@link #randomUniqueIntArray(int, int, int)} 相同。
+	 * </p>
 	 *
 	 * @param startInclusive 最小值（包含），必须是非负值
 	 * @param endExclusive   最大值（不包含）
@@ -331,11 +359,18 @@ public class RandomArray {
 	 * @since 1.0.0
 	 */
 	public long[] randomUniqueLongArray(final long startInclusive, final long endExclusive, final int length) {
-		Validate.isTrue(endExclusive - startInclusive >= length, "最大值和最小数的差必须大于等于长度");
-		return randomSet(startInclusive, endExclusive, length, randomUtils::randomLong)
-			.stream()
-			.mapToLong(Long::longValue)
-			.toArray();
+		validateUniqueRange(startInclusive, endExclusive, length);
+
+		long range = endExclusive - startInclusive;
+		if (isDense(range, length)) {
+			int[] offsets = denseUniqueIntArray(0, (int) range, length);
+			long[] values = new long[length];
+			for (int i = 0; i < length; i++) {
+				values[i] = startInclusive + offsets[i];
+			}
+			return values;
+		}
+		return sparseUniqueLongArray(startInclusive, endExclusive, length);
 	}
 
 	/**
@@ -371,6 +406,127 @@ public class RandomArray {
 			.toArray();
 	}
 
+	/**
+	 * 校验不重复随机数的取值范围
+	 *
+	 * @param startInclusive 最小值（包含）
+	 * @param endExclusive   最大值（不包含）
+	 * @param length         数组长度
+	 * @throws IllegalArgumentException 当参数不合法时抛出
+	 * @since 2.2.0
+	 */
+	protected void validateUniqueRange(final long startInclusive, final long endExclusive, final int length) {
+		Validate.isTrue(length > 0, "length 不能为负数");
+		Validate.isTrue(startInclusive >= 0, "最小值不能为负数");
+		Validate.isTrue(endExclusive >= startInclusive, "最小值必须小于等于最大值");
+		Validate.isTrue(endExclusive - startInclusive >= length, "最大值和最小数的差必须大于等于长度");
+	}
+
+	/**
+	 * 判断取值范围相对于长度是否足够密集，可直接对范围内全部值进行洗牌
+	 *
+	 * @param range  取值范围大小
+	 * @param length 数组长度
+	 * @return 范围密集时返回true
+	 * @since 2.2.0
+	 */
+	protected boolean isDense(final long range, final int length) {
+		return range <= MAX_DENSE_RANGE && range <= (long) length * DENSE_RANGE_FACTOR;
+	}
+
+	/**
+	 * 使用部分 Fisher–Yates 洗牌从 {@code [startInclusive, startInclusive + range)} 中选取不重复值
+	 * <p>只需洗牌前 {@code length} 个位置，时间复杂度为 O(range)，且不会产生冲突重试。</p>
+	 *
+	 * @param startInclusive 最小值（包含）
+	 * @param range          取值范围大小
+	 * @param length         数组长度
+	 * @return 元素唯一的随机整数值的数组
+	 * @since 2.2.0
+	 */
+	protected int[] denseUniqueIntArray(final int startInclusive, final int range, final int length) {
+		int[] pool = new int[range];
+		if (range >= PARALLEL_THRESHOLD) {
+			Arrays.parallelSetAll(pool, i -> startInclusive + i);
+		} else {
+			for (int i = 0; i < range; i++) {
+				pool[i] = startInclusive + i;
+			}
+		}
+		for (int i = 0; i < length; i++) {
+			int j = i + randomUtils.randomInt(0, range - i);
+			int tmp = pool[i];
+			pool[i] = pool[j];
+			pool[j] = tmp;
+		}
+		return range == length ? pool : Arrays.copyOf(pool, length);
+	}
+
+	/**
+	 * 在稀疏范围内选取不重复值
+	 * <p>
+	 * 长度小于 {@link #PARALLEL_THRESHOLD} 时逐个生成并通过开放寻址哈希集合去重；
+	 * 否则按期望去重损耗并行过量生成候选值，并行排序去重后再用部分 Fisher–Yates 从中随机选取，
+	 * 候选值不足时再逐个补足。由于任意大小的去重集合在所有同规模子集上均匀分布，两种方式得到的结果分布一致。
+	 * </p>
+	 *
+	 * @param startInclusive 最小值（包含）
+	 * @param endExclusive   最大值（不包含）
+	 * @param length         数组长度
+	 * @return 元素唯一的随机长整数值的数组
+	 * @since 2.2.0
+	 */
+	protected long[] sparseUniqueLongArray(final long startInclusive, final long endExclusive, final int length) {
+		long[] values = new long[length];
+		LongHashSet seen;
+		int count = 0;
+
+		if (length >= PARALLEL_THRESHOLD) {
+			double range = (double) endExclusive - startInclusive;
+			// 抽取 m 次后期望不重复数为 range * (1 - e^(-m/range))，反解 m 并预留少量余量
+			double expected = -range * Math.log1p(-length / range);
+			int candidateCount = (int) Math.min(MAX_DENSE_RANGE, (long) Math.ceil(expected * 1.01) + 64);
+			long[] candidates = new long[candidateCount];
+			Arrays.parallelSetAll(candidates, i -> randomUtils.randomLong(startInclusive, endExclusive));
+			Arrays.parallelSort(candidates);
+
+			int distinct = 0;
+			for (int i = 0; i < candidates.length; i++) {
+				if (i == 0 || candidates[i] != candidates[i - 1]) {
+					candidates[distinct++] = candidates[i];
+				}
+			}
+			if (distinct >= length) {
+				for (int i = 0; i < length; i++) {
+					int j = i + randomUtils.randomInt(0, distinct - i);
+					long tmp = candidates[j];
+					candidates[j] = candidates[i];
+					values[i] = tmp;
+				}
+				return values;
+			}
+
+			seen = new LongHashSet(length);
+			for (int i = 0; i < distinct; i++) {
+				int j = i + randomUtils.randomInt(0, distinct - i);
+				long tmp = candidates[j];
+				candidates[j] = candidates[i];
+				values[count++] = tmp;
+				seen.add(tmp);
+			}
+		} else {
+			seen = new LongHashSet(length);
+		}
+
+		while (count < length) {
+			long value = randomUtils.randomLong(startInclusive, endExclusive);
+			if (seen.add(value)) {
+				values[count++] = value;
+			}
+		}
+		return values;
+	}
+
 	/**
 	 * 基础随机集合生成方法
 	 *
@@ -397,4 +553,57 @@ public class RandomArray {
 		}
 		return values;
 	}
+
+	/**
+	 * 非负长整数开放寻址哈希集合
+	 * <p>以 -1 作为空槽标记，线性探测，容量为元素上限的两倍以上（最大为{@value #MAX_CAPACITY}），不支持删除与扩容。</p>
+	 *
+	 * @since 2.2.0
+	 */
+	protected static final class LongHashSet {
+		private static final long EMPTY = -1L;
+		private static final int MAX_CAPACITY = 1 << 30;
+
+		private final long[] table;
+		private final int mask;
+
+		LongHashSet(final int expectedSize) {
+			int capacity = capacityFor(expectedSize);
+			this.table = new long[capacity];
+			this.mask = capacity - 1;
+			Arrays.fill(this.table, EMPTY);
+		}
+
+		boolean add(final long value) {
+			int index = mix(value) & mask;
+			long current;
+			while ((current = table[index]) != EMPTY) {
+				if (current == value) {
+					return false;
+				}
+				index = (index + 1) & mask;
+			}
+			table[index] = value;
+			return true;
+		}
+
+		/**
+		 * 计算元素上限对应的哈希表容量
+		 *
+		 * @param expectedSize 元素上限
+		 * @return 不小于元素上限两倍的2的幂，最大为{@value #MAX_CAPACITY}
+		 * @throws IllegalArgumentException 当expectedSize不小于{@value #MAX_CAPACITY}时抛出
+		 * @since 2.2.0
+		 */
+		static int capacityFor(final int expectedSize) {
+			Validate.isTrue(expectedSize < MAX_CAPACITY, "expectedSize 必须小于 %d", MAX_CAPACITY);
+			// 使用long计算，避免expectedSize大于2^29时左移溢出
+			return (int) Math.min(Long.highestOneBit(Math.max(expectedSize, 2) - 1L) << 2, MAX_CAPACITY);
+		}
+
+		private static int mix(final long value) {
+			long h = value * 0x9E3779B97F4A7C15L;
+			return (int) (h ^ (h >>> 32));
+		}
+	}
 }
@@ -22,7 +22,9 @@ import org.apache.commons.lang3.Validate;
 import java.security.SecureRandom;
 import java.security.Security;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BiFunction;
 
@@ -40,9 +42,16 @@ public class RandomList {
 	protected static final RandomList SECURE_STRONG = new RandomList(RandomUtils.secureStrong());
 
 	protected final RandomUtils randomUtils;
+	/**
+	 * 共享同一随机源的数组生成器，用于生成基本类型的不重复随机数
+	 *
+	 * @since 2.2.0
+	 */
+	protected final RandomArray randomArray;
 
 	protected RandomList(final RandomUtils randomUtils) {
 		this.randomUtils = randomUtils;
+		this.randomArray = new RandomArray(randomUtils);
 	}
 
 	/**
@@ -129,7 +138,7 @@ public class RandomList {
 	 * @since 1.0.0
 	 */
 	public List<Integer> randomUniqueIntegerList(final int length) {
-		return randomList(0, Integer.MAX_VALUE, length, true, randomUtils::randomInt);
+		return toList(randomArray.randomUniqueIntArray(length));
 	}
 
 	/**
@@ -160,8 +169,7 @@ public class RandomList {
 	 * @since 1.0.0
 	 */
 	public List<Integer> randomUniqueIntegerList(final int startInclusive, final int endExclusive, final int length) {
-		Validate.isTrue(endExclusive - startInclusive >= length, "最大值和最小数的差必须大于等于长度");
-		return randomList(startInclusive, endExclusive, length, true, randomUtils::randomInt);
+		return toList(randomArray.randomUniqueIntArray(startInclusive, endExclusive, length));
 	}
 
 	/**
@@ -239,7 +247,7 @@ public class RandomList {
 	 * @since 1.0.0
 	 */
 	public List<Long> randomUniqueLongList(final int length) {
-		return randomList(0L, Long.MAX_VALUE, length, true, randomUtils::randomLong);
+		return toList(randomArray.randomUniqueLongArray(length));
 	}
 
 	/**
@@ -270,8 +278,7 @@ public class RandomList {
 	 * @since 1.0.0
 	 */
 	public List<Long> randomUniqueLongList(final long startInclusive, final long endExclusive, final int length) {
-		Validate.isTrue(endExclusive - startInclusive >= length, "最大值和最小数的差必须大于等于长度");
-		return randomList(startInclusive, endExclusive, length, true, randomUtils::randomLong);
+		return toList(randomArray.randomUniqueLongArray(startInclusive, endExclusive, length));
 	}
 
 	/**
@@ -345,12 +352,13 @@ public class RandomList {
 	                                 final BiFunction<T, T, T> biFunction) {
 		Validate.isTrue(length > 0, "length 不能为负数");
 		List<T> values = new ArrayList<>(length);
+		Set<T> seen = unique ? new HashSet<>(Math.max((int) (length / 0.75f) + 1, 16)) : null;
 		for (int i = 0; i < length; i++) {
 			T value;
 			if (unique) {
 				do {
 					value = biFunction.apply(startInclusive, endExclusive);
-				} while (values.contains(value));
+				} while (!seen.add(value));
 			} else {
 				value = biFunction.apply(startInclusive, endExclusive);
 			}
@@ -358,4 +366,34 @@ public class RandomList {
 		}
 		return values;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 将基本类型整数数组装箱为可变列表
+	 *
+	 * @param values 整数数组
+	 * @return 整数列表
+	 * @since 2.2.0
+	 */
+	protected List<Integer> toList(final int[] values) {
+		List<Integer> list = new ArrayList<>(values.length);
+		for (int value : values) {
+			list.add(value);
+		}
+		return list;
+	}
+
+	/**
+	 * 将基本类型长整数数组装箱为可变列表
+	 *
+	 * @param values 长整数数组
+	 * @return 长整数列表
+	 * @since 2.2.0
+	 */
+	protected List<Long> toList(final long[] values) {
+		List<Long> list = new ArrayList<>(values.length);
+		for (long value : values) {
+			list.add(value);
+		}
+		return list;
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.lang.regex;
+
+import io.github.pangju666.commons.lang.utils.RegExUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 多模式正则匹配器（不可变，线程安全）
+ * <p>
+ * 将一组正则表达式（例如{@link io.github.pangju666.commons.lang.pool.RegExPool}中的常量）编译为一个带分组的选择表达式
+ * {@code (regex0)|(regex1)|...}，使用一个{@link Matcher}一次完成"是否匹配其中任意一个"以及"匹配的是哪一个"的判断，
+ * 适用于请求参数校验等热点路径。
+ * </p>
+ * <p>说明：</p>
+ * <ul>
+ *   <li>匹配均为整串匹配（与{@link String#matches}一致）</li>
+ *   <li>多个模式同时匹配时，{@link #indexOf(CharSequence)}返回构造时顺序靠前的模式</li>
+ *   <li>各正则表达式中不应使用数字反向引用（如{@code \1}），合并后分组编号会发生变化</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * MultiPattern pattern = MultiPattern.compile(RegExPool.EMAIL, RegExPool.MOBILE_PHONE_STRONG);
+ * boolean valid = pattern.matchesAny("13800138000");
+ * int index = pattern.indexOf("foo@bar.com"); // 0
+ * }</pre>
+ *
+ * @author pangju666
+ * @see RegExUtils
+ * @since 2.2.0
+ */
+public final class MultiPattern {
+	private final List<String> regexes;
+	private final int flags;
+	private final Pattern pattern;
+	/**
+	 * 各正则表达式对应的外层分组编号
+	 */
+	private final int[] groupIndexes;
+
+	private MultiPattern(final List<String> regexes, final int flags) {
+		this.regexes = Collections.unmodifiableList(regexes);
+		this.flags = flags;
+		this.groupIndexes = new int[regexes.size()];
+
+		StringBuilder builder = new StringBuilder();
+		int groupIndex = 1;
+		for (int i = 0; i < regexes.size(); i++) {
+			String regex = regexes.get(i);
+			if (i > 0) {
+				builder.append('|');
+			}
+			builder.append('(').append(regex).append(')');
+			groupIndexes[i] = groupIndex;
+			// 外层分组 + 正则表达式自身的分组
+			groupIndex += 1 + RegExUtils.compile(regex, flags).matcher(StringUtils.EMPTY).groupCount();
+		}
+		this.pattern = RegExUtils.compile(builder.toString(), flags);
+	}
+
+	/**
+	 * 编译多模式匹配器（无标志位）
+	 *
+	 * @param regexes 正则表达式数组
+	 * @return 多模式匹配器
+	 * @throws NullPointerException     当regexes或其中的正则表达式为null时抛出
+	 * @throws IllegalArgumentException 当regexes为空或包含空白正则表达式时抛出
+	 * @since 2.2.0
+	 */
+	public static MultiPattern compile(final String... regexes) {
+		Validate.notEmpty(regexes, "regexes 不可为空");
+		return compile(Arrays.asList(regexes), 0);
+	}
+
+	/**
+	 * 编译多模式匹配器
+	 *
+	 * @param regexes 正则表达式集合
+	 * @param flags   正则表达式标志位组合值，对所有正则表达式生效
+	 * @return 多模式匹配器
+	 * @throws NullPointerException     当regexes或其中的正则表达式为null时抛出
+	 * @throws IllegalArgumentException 当regexes为空或包含空白正则表达式时抛出
+	 * @since 2.2.0
+	 */
+	public static MultiPattern compile(final Collection<String> regexes, final int flags) {
+		Validate.notEmpty(regexes, "regexes 不可为空");
+		List<String> regexList = new ArrayList<>(regexes.size());
+		for (String regex : regexes) {
+			Validate.notBlank(regex, "regex 不可为空");
+			regexList.add(regex);
+		}
+		return new MultiPattern(regexList, flags);
+	}
+
+	/**
+	 * 判断字符串是否完全匹配任意一个模式
+	 *
+	 * @param str 要匹配的目标字符串
+	 * @return 匹配任意一个模式时返回true，字符串为空白时返回false
+	 * @since 2.2.0
+	 */
+	public boolean matchesAny(final CharSequence str) {
+		if (StringUtils.isBlank(str)) {
+			return false;
+		}
+		return pattern.matcher(str).matches();
+	}
+
+	/**
+	 * 获取字符串完全匹配的第一个模式的下标
+	 *
+	 * @param str 要匹配的目标字符串
+	 * @return 模式在构造时的下标，未匹配或字符串为空白时返回-1
+	 * @since 2.2.0
+	 */
+	public int indexOf(final CharSequence str) {
+		if (StringUtils.isBlank(str)) {
+			return -1;
+		}
+		Matcher matcher = pattern.matcher(str);
+		if (!matcher.matches()) {
+			return -1;
+		}
+		for (int i = 0; i < groupIndexes.length; i++) {
+			if (matcher.start(groupIndexes[i]) != -1) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 获取字符串完全匹配的第一个正则表达式
+	 *
+	 * @param str 要匹配的目标字符串
+	 * @return 匹配的正则表达式，未匹配时返回null
+	 * @since 2.2.0
+	 */
+	public String firstMatch(final CharSequence str) {
+		int index = indexOf(str);
+		return index == -1 ? null : regexes.get(index);
+	}
+
+	/**
+	 * 获取字符串完全匹配的所有模式的下标
+	 * <p>选择表达式只能确定第一个匹配的模式，因此该方法会对每个模式分别匹配</p>
+	 *
+	 * @param str 要匹配的目标字符串
+	 * @return 匹配的模式下标集合，按构造时顺序排列
+	 * @since 2.2.0
+	 */
+	public BitSet matchAll(final CharSequence str) {
+		BitSet result = new BitSet(regexes.size());
+		if (StringUtils.isBlank(str) || !pattern.matcher(str).matches()) {
+			return result;
+		}
+		for (int i = 0; i < regexes.size(); i++) {
+			if (RegExUtils.compile(regexes.get(i), flags).matcher(str).matches()) {
+				result.set(i);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 获取构造时的正则表达式列表
+	 *
+	 * @return 不可修改的正则表达式列表
+	 * @since 2.2.0
+	 */
+	public List<String> getRegexes() {
+		return regexes;
+	}
+
+	/**
+	 * 获取合并后的模式对象
+	 *
+	 * @return 合并后的模式对象
+	 * @since 2.2.0
+	 */
+	public Pattern getPattern() {
+		return pattern;
+	}
+}
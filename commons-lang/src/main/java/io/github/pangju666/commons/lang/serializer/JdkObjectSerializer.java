@@ -0,0 +1,171 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.lang.serializer;
+
+import java.io.*;
+
+/**
+ * 基于Java对象序列化的序列化器（线程安全）
+ * <p>
+ * 每个线程复用同一个输出缓冲区，避免每次序列化都重新分配并扩容缓冲区；克隆时直接从缓冲区反序列化，不再额外复制字节数组。
+ * 缓冲区超过{@value #MAX_RETAINED_BUFFER_SIZE}字节时不会被线程保留，避免大对象长期占用内存。
+ * </p>
+ *
+ * @author pangju666
+ * @see ObjectOutputStream
+ * @see ObjectInputStream
+ * @since 2.2.0
+ */
+public class JdkObjectSerializer implements ObjectSerializer {
+	/**
+	 * 全局实例
+	 *
+	 * @since 2.2.0
+	 */
+	public static final JdkObjectSerializer INSTANCE = new JdkObjectSerializer();
+
+	/**
+	 * 线程保留的最大缓冲区大小（字节）
+	 *
+	 * @since 2.2.0
+	 */
+	protected static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+	/**
+	 * 初始缓冲区大小（字节）
+	 *
+	 * @since 2.2.0
+	 */
+	protected static final int INITIAL_BUFFER_SIZE = 1024;
+
+	private static final ThreadLocal<ReusableByteArrayOutputStream> BUFFER =
+		ThreadLocal.withInitial(() -> new ReusableByteArrayOutputStream(INITIAL_BUFFER_SIZE));
+
+	@Override
+	public byte[] serialize(final Object object) {
+		ReusableByteArrayOutputStream outputStream = writeObject(object);
+		try {
+			return outputStream.toByteArray();
+		} finally {
+			release(outputStream);
+		}
+	}
+
+	@Override
+	public Object deserialize(final byte[] bytes) {
+		return readObject(bytes, 0, bytes.length);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T clone(final T object) {
+		ReusableByteArrayOutputStream outputStream = writeObject(object);
+		try {
+			return (T) readObject(outputStream.getBuffer(), 0, outputStream.size());
+		} finally {
+			release(outputStream);
+		}
+	}
+
+	/**
+	 * 将对象写入线程本地缓冲区
+	 *
+	 * @param object 要序列化的对象
+	 * @return 写入后的缓冲区，使用完毕后需要调用{@link #release(ReusableByteArrayOutputStream)}
+	 * @since 2.2.0
+	 */
+	protected ReusableByteArrayOutputStream writeObject(final Object object) {
+		ReusableByteArrayOutputStream outputStream = BUFFER.get();
+		// 嵌套调用（如writeObject方法中再次序列化）时不能复用同一个缓冲区
+		if (outputStream.inUse) {
+			outputStream = new ReusableByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+		}
+		outputStream.inUse = true;
+		boolean written = false;
+		try (ObjectOutputStream oos = new ObjectOutputStream(outputStream)) {
+			oos.writeObject(object);
+			oos.flush();
+			written = true;
+		} catch (IOException ex) {
+			throw new IllegalArgumentException("序列化对象失败，类型: " + object.getClass(), ex);
+		} finally {
+			// 任何异常（包括writeReplace等抛出的运行时异常）都要归还缓冲区，否则当前线程之后不再复用缓冲区
+			if (!written) {
+				release(outputStream);
+			}
+		}
+		return outputStream;
+	}
+
+	/**
+	 * 从字节数组中读取对象
+	 *
+	 * @param bytes  字节数组
+	 * @param offset 起始位置
+	 * @param length 长度
+	 * @return 反序列化后的对象
+	 * @since 2.2.0
+	 */
+	protected Object readObject(final byte[] bytes, final int offset, final int length) {
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes, offset, length))) {
+			return ois.readObject();
+		} catch (IOException ex) {
+			throw new IllegalArgumentException("反序列化对象失败", ex);
+		} catch (ClassNotFoundException ex) {
+			throw new IllegalStateException("无法反序列化的对象类型", ex);
+		}
+	}
+
+	/**
+	 * 归还线程本地缓冲区
+	 *
+	 * @param outputStream 缓冲区
+	 * @since 2.2.0
+	 */
+	protected void release(final ReusableByteArrayOutputStream outputStream) {
+		outputStream.inUse = false;
+		if (outputStream.getBuffer().length > MAX_RETAINED_BUFFER_SIZE) {
+			if (BUFFER.get() == outputStream) {
+				BUFFER.remove();
+			}
+		} else {
+			outputStream.reset();
+		}
+	}
+
+	/**
+	 * 可复用并可直接访问内部数组的字节数组输出流
+	 *
+	 * @since 2.2.0
+	 */
+	protected static final class ReusableByteArrayOutputStream extends ByteArrayOutputStream {
+		private boolean inUse = false;
+
+		private ReusableByteArrayOutputStream(int size) {
+			super(size);
+		}
+
+		/**
+		 * 获取内部数组（有效长度为{@link #size()}）
+		 *
+		 * @return 内部数组
+		 * @since 2.2.0
+		 */
+		public byte[] getBuffer() {
+			return buf;
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.lang.serializer;
+
+/**
+ * 对象序列化器接口
+ * <p>
+ * 为{@link io.github.pangju666.commons.lang.utils.SerializationUtils}提供可替换的序列化、反序列化和深度克隆实现，
+ * 实现类必须是线程安全的。
+ * </p>
+ *
+ * @author pangju666
+ * @see JdkObjectSerializer
+ * @see ReflectionObjectSerializer
+ * @since 2.2.0
+ */
+public interface ObjectSerializer {
+	/**
+	 * 将对象序列化为字节数组
+	 *
+	 * @param object 要序列化的对象，不为null
+	 * @return 序列化后的字节数组
+	 * @throws IllegalArgumentException 序列化失败时抛出
+	 * @since 2.2.0
+	 */
+	byte[] serialize(Object object);
+
+	/**
+	 * 将字节数组反序列化为对象
+	 *
+	 * @param bytes 序列化后的字节数组，不为空
+	 * @return 反序列化后的对象
+	 * @throws IllegalArgumentException 反序列化失败时抛出
+	 * @throws IllegalStateException    对象类型无法加载时抛出
+	 * @since 2.2.0
+	 */
+	Object deserialize(byte[] bytes);
+
+	/**
+	 * 深度克隆对象
+	 * <p>默认实现为先序列化再反序列化，实现类可以提供更高效的方式</p>
+	 *
+	 * @param object 要克隆的对象，不为null
+	 * @param <T>    对象类型
+	 * @return 克隆后的对象
+	 * @throws IllegalArgumentException 克隆失败时抛出
+	 * @since 2.2.0
+	 */
+	@SuppressWarnings("unchecked")
+	default <T> T clone(T object) {
+		return (T) deserialize(serialize(object));
+	}
+}
@@ -0,0 +1,364 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.lang.serializer;
+
+import java.io.Externalizable;
+import java.io.Serializable;
+import java.lang.reflect.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 基于反射字段复制的序列化器（线程安全）
+ * <p>
+ * 序列化和反序列化与{@link JdkObjectSerializer}一致，深度克隆则不经过字节流，而是按类缓存字段信息后直接复制字段，
+ * 通常比序列化往返快一个数量级以上。克隆语义与Java对象序列化保持一致：
+ * </p>
+ * <ul>
+ *   <li>对象必须实现{@link Serializable}，否则抛出{@link IllegalArgumentException}</li>
+ *   <li>transient字段保持默认值</li>
+ *   <li>对象图中的共享引用和循环引用会被保留</li>
+ *   <li>String、包装类型、枚举、{@code java.time}等不可变类型直接复用原对象</li>
+ *   <li>常用集合（ArrayList、HashMap等）会重新创建并深度复制元素</li>
+ * </ul>
+ * <p>
+ * 副本通过对象自身声明的无参构造器创建（只使用标准反射，不依赖JDK内部API），随后复制可序列化字段并将transient字段重置为默认值。
+ * 因此构造器（包括父类构造器）中的副作用会被执行，这一点与Java对象序列化只调用第一个不可序列化父类构造器不同。
+ * </p>
+ * <p>
+ * 以下对象无法安全地按字段复制，会退回到Java对象序列化克隆该对象（及其引用的对象）：
+ * 未声明无参构造器（或无参构造器不可访问）的类、实现了{@link Externalizable}、
+ * 声明了{@code writeObject}/{@code readObject}/{@code writeReplace}/{@code readResolve}等自定义序列化方法、
+ * record类型，以及未向本模块开放反射访问的类（例如大部分JDK内部类型）。
+ * 退回的子图与对象图其他部分之间的共享引用不会被保留。
+ * </p>
+ *
+ * @author pangju666
+ * @see JdkObjectSerializer
+ * @since 2.2.0
+ */
+public class ReflectionObjectSerializer extends JdkObjectSerializer {
+	/**
+	 * 全局实例
+	 *
+	 * @since 2.2.0
+	 */
+	public static final ReflectionObjectSerializer INSTANCE = new ReflectionObjectSerializer();
+
+	/**
+	 * 已知的不可变类型
+	 */
+	private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, Boolean.class, Character.class,
+		Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class,
+		BigDecimal.class, Class.class, UUID.class, Locale.class, URI.class, Pattern.class);
+
+	/**
+	 * 自定义序列化方法名称
+	 */
+	private static final Set<String> CUSTOM_SERIALIZATION_METHODS = Set.of("writeObject", "readObject",
+		"readObjectNoData", "writeReplace", "readResolve");
+
+	/**
+	 * 按类缓存的复制器
+	 */
+	private final ClassValue<Copier> copiers = new ClassValue<>() {
+		@Override
+		protected Copier computeValue(Class<?> type) {
+			return createCopier(type);
+		}
+	};
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T clone(final T object) {
+		return (T) copy(object, new IdentityHashMap<>());
+	}
+
+	/**
+	 * 深度复制对象
+	 *
+	 * @param source 源对象
+	 * @param copies 已复制对象映射（源对象到副本），用于保留共享引用和循环引用
+	 * @return 副本
+	 * @since 2.2.0
+	 */
+	protected Object copy(final Object source, final Map<Object, Object> copies) {
+		if (Objects.isNull(source)) {
+			return null;
+		}
+		Object copy = copies.get(source);
+		if (Objects.nonNull(copy)) {
+			return copy;
+		}
+		return copiers.get(source.getClass()).copy(source, copies);
+	}
+
+	private Copier createCopier(final Class<?> type) {
+		if (isImmutable(type)) {
+			return (source, copies) -> source;
+		}
+		if (type.isArray()) {
+			return createArrayCopier(type);
+		}
+		Copier collectionCopier = createCollectionCopier(type);
+		if (Objects.nonNull(collectionCopier)) {
+			return collectionCopier;
+		}
+		if (!Serializable.class.isAssignableFrom(type)) {
+			return (source, copies) -> {
+				throw new IllegalArgumentException("序列化对象失败，类型: " + type + " 未实现 Serializable");
+			};
+		}
+		Copier fieldCopier = createFieldCopier(type);
+		if (Objects.nonNull(fieldCopier)) {
+			return fieldCopier;
+		}
+		// 无法按字段复制，退回到Java对象序列化
+		return (source, copies) -> {
+			Object copy = super.clone(source);
+			copies.put(source, copy);
+			return copy;
+		};
+	}
+
+	private boolean isImmutable(final Class<?> type) {
+		return type.isPrimitive() || Enum.class.isAssignableFrom(type) || IMMUTABLE_TYPES.contains(type) ||
+			"java.time".equals(type.getPackageName());
+	}
+
+	private Copier createArrayCopier(final Class<?> type) {
+		Class<?> componentType = type.getComponentType();
+		if (componentType.isPrimitive()) {
+			return (source, copies) -> {
+				int length = Array.getLength(source);
+				Object copy = Array.newInstance(componentType, length);
+				System.arraycopy(source, 0, copy, 0, length);
+				copies.put(source, copy);
+				return copy;
+			};
+		}
+		return (source, copies) -> {
+			Object[] sourceArray = (Object[]) source;
+			Object[] copy = (Object[]) Array.newInstance(componentType, sourceArray.length);
+			copies.put(source, copy);
+			for (int i = 0; i < sourceArray.length; i++) {
+				copy[i] = copy(sourceArray[i], copies);
+			}
+			return copy;
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private Copier createCollectionCopier(final Class<?> type) {
+		if (type == Date.class || type == java.sql.Date.class || type == java.sql.Time.class ||
+			type == java.sql.Timestamp.class) {
+			return (source, copies) -> {
+				Object copy = ((Date) source).clone();
+				copies.put(source, copy);
+				return copy;
+			};
+		}
+		if (type == ArrayList.class) {
+			return (source, copies) -> copyCollection((Collection<Object>) source,
+				new ArrayList<>(((Collection<Object>) source).size()), copies);
+		}
+		if (type == LinkedList.class) {
+			return (source, copies) -> copyCollection((Collection<Object>) source, new LinkedList<>(), copies);
+		}
+		if (type == ArrayDeque.class) {
+			return (source, copies) -> copyCollection((Collection<Object>) source, new ArrayDeque<>(), copies);
+		}
+		if (type == HashSet.class) {
+			return (source, copies) -> copyCollection((Collection<Object>) source,
+				new HashSet<>(Math.max((int) (((Collection<Object>) source).size() / .75f) + 1, 16)), copies);
+		}
+		if (type == LinkedHashSet.class) {
+			return (source, copies) -> copyCollection((Collection<Object>) source,
+				new LinkedHashSet<>(Math.max((int) (((Collection<Object>) source).size() / .75f) + 1, 16)), copies);
+		}
+		if (type == TreeSet.class) {
+			return (source, copies) -> {
+				Comparator<Object> comparator = (Comparator<Object>) copy(((TreeSet<Object>) source).comparator(), copies);
+				return copyCollection((Collection<Object>) source, new TreeSet<>(comparator), copies);
+			};
+		}
+		if (type == HashMap.class) {
+			return (source, copies) -> copyMap((Map<Object, Object>) source,
+				new HashMap<>(Math.max((int) (((Map<Object, Object>) source).size() / .75f) + 1, 16)), copies);
+		}
+		if (type == ConcurrentHashMap.class) {
+			return (source, copies) -> copyMap((Map<Object, Object>) source,
+				new ConcurrentHashMap<>(((Map<Object, Object>) source).size()), copies);
+		}
+		if (type == TreeMap.class) {
+			return (source, copies) -> {
+				Comparator<Object> comparator = (Comparator<Object>) copy(((TreeMap<Object, Object>) source).comparator(), copies);
+				return copyMap((Map<Object, Object>) source, new TreeMap<>(comparator), copies);
+			};
+		}
+		return null;
+	}
+
+	private Object copyCollection(final Collection<Object> source, final Collection<Object> copy,
+	                              final Map<Object, Object> copies) {
+		copies.put(source, copy);
+		for (Object element : source) {
+			copy.add(copy(element, copies));
+		}
+		return copy;
+	}
+
+	private Object copyMap(final Map<Object, Object> source, final Map<Object, Object> copy,
+	                       final Map<Object, Object> copies) {
+		copies.put(source, copy);
+		for (Map.Entry<Object, Object> entry : source.entrySet()) {
+			copy.put(copy(entry.getKey(), copies), copy(entry.getValue(), copies));
+		}
+		return copy;
+	}
+
+	private Copier createFieldCopier(final Class<?> type) {
+		if (Externalizable.class.isAssignableFrom(type) || type.isRecord() || type.isHidden() ||
+			type.isAnonymousClass() || type.isLocalClass()) {
+			return null;
+		}
+
+		// 收集可序列化类层次中的字段，直到第一个不可序列化的父类
+		List<FieldCopier> fieldCopiers = new ArrayList<>();
+		Class<?> current = type;
+		while (Serializable.class.isAssignableFrom(current)) {
+			if (!isFieldCopyable(current)) {
+				return null;
+			}
+			for (Field field : current.getDeclaredFields()) {
+				int modifiers = field.getModifiers();
+				if (Modifier.isStatic(modifiers)) {
+					continue;
+				}
+				if (!field.trySetAccessible()) {
+					return null;
+				}
+				// 构造器可能为transient字段赋值，需要重置为默认值以保持与Java对象序列化一致
+				fieldCopiers.add(Modifier.isTransient(modifiers) ? createFieldResetter(field) :
+					createFieldCopier(field));
+			}
+			current = current.getSuperclass();
+		}
+
+		Constructor<?> constructor;
+		try {
+			constructor = type.getDeclaredConstructor();
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+		if (!constructor.trySetAccessible()) {
+			return null;
+		}
+
+		FieldCopier[] fieldCopierArray = fieldCopiers.toArray(new FieldCopier[0]);
+		return (source, copies) -> {
+			Object copy;
+			try {
+				copy = constructor.newInstance();
+				copies.put(source, copy);
+				for (FieldCopier fieldCopier : fieldCopierArray) {
+					fieldCopier.copy(source, copy, copies);
+				}
+			} catch (InvocationTargetException e) {
+				throw new IllegalArgumentException("复制对象失败，类型: " + type, e.getCause());
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalArgumentException("复制对象失败，类型: " + type, e);
+			}
+			return copy;
+		};
+	}
+
+	private boolean isFieldCopyable(final Class<?> type) {
+		if (!type.getModule().isOpen(type.getPackageName(), ReflectionObjectSerializer.class.getModule())) {
+			return false;
+		}
+		for (Method method : type.getDeclaredMethods()) {
+			if (CUSTOM_SERIALIZATION_METHODS.contains(method.getName()) && !Modifier.isStatic(method.getModifiers())) {
+				return false;
+			}
+		}
+		try {
+			type.getDeclaredField("serialPersistentFields");
+			return false;
+		} catch (NoSuchFieldException e) {
+			return true;
+		}
+	}
+
+	private FieldCopier createFieldCopier(final Field field) {
+		Class<?> fieldType = field.getType();
+		if (fieldType == int.class) {
+			return (source, copy, copies) -> field.setInt(copy, field.getInt(source));
+		}
+		if (fieldType == long.class) {
+			return (source, copy, copies) -> field.setLong(copy, field.getLong(source));
+		}
+		if (fieldType == boolean.class) {
+			return (source, copy, copies) -> field.setBoolean(copy, field.getBoolean(source));
+		}
+		if (fieldType == double.class) {
+			return (source, copy, copies) -> field.setDouble(copy, field.getDouble(source));
+		}
+		if (fieldType == float.class) {
+			return (source, copy, copies) -> field.setFloat(copy, field.getFloat(source));
+		}
+		if (fieldType == short.class) {
+			return (source, copy, copies) -> field.setShort(copy, field.getShort(source));
+		}
+		if (fieldType == byte.class) {
+			return (source, copy, copies) -> field.setByte(copy, field.getByte(source));
+		}
+		if (fieldType == char.class) {
+			return (source, copy, copies) -> field.setChar(copy, field.getChar(source));
+		}
+		return (source, copy, copies) -> field.set(copy, copy(field.get(source), copies));
+	}
+
+	private FieldCopier createFieldResetter(final Field field) {
+		Class<?> fieldType = field.getType();
+		if (!fieldType.isPrimitive()) {
+			return (source, copy, copies) -> field.set(copy, null);
+		}
+		Object defaultValue = Array.get(Array.newInstance(fieldType, 1), 0);
+		return (source, copy, copies) -> field.set(copy, defaultValue);
+	}
+
+	/**
+	 * 对象复制器
+	 */
+	@FunctionalInterface
+	private interface Copier {
+		Object copy(Object source, Map<Object, Object> copies);
+	}
+
+	/**
+	 * 字段复制器
+	 */
+	@FunctionalInterface
+	private interface FieldCopier {
+		void copy(Object source, Object copy, Map<Object, Object> copies) throws IllegalAccessException;
+	}
+}
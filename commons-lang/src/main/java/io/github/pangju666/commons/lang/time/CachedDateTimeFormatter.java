@@ -0,0 +1,85 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.lang.time;
+
+import org.apache.commons.lang3.Validate;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+/**
+ * 按秒缓存格式化结果的格式化器
+ * <p>
+ * 适用于频繁格式化当前时间的场景（如日志、{@link io.github.pangju666.commons.lang.concurrent.SystemClock#nowDate()}），
+ * 同一秒内直接返回上次的格式化结果，命中缓存时不读取系统默认时区，因此系统默认时区的变化最迟在下一秒生效。
+ * 仅适用于精度不超过秒的格式。
+ * </p>
+ * <p>线程安全，缓存通过不可变对象的volatile引用发布。</p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+public final class CachedDateTimeFormatter {
+	private final DateTimeFormatter formatter;
+	private volatile Entry cache;
+
+	/**
+	 * 创建按秒缓存的格式化器
+	 *
+	 * @param pattern 格式字符串，语法参考{@link DateTimeFormatter}，不应包含秒以下的字段
+	 * @throws IllegalArgumentException 当pattern为空或格式不合法时抛出
+	 * @since 2.2.0
+	 */
+	public CachedDateTimeFormatter(final String pattern) {
+		this.formatter = DateTimeFormatterRegistry.getFormatter(pattern);
+	}
+
+	/**
+	 * 创建按秒缓存的格式化器
+	 *
+	 * @param formatter 格式化器，不应包含秒以下的字段
+	 * @throws NullPointerException 当formatter为null时抛出
+	 * @since 2.2.0
+	 */
+	public CachedDateTimeFormatter(final DateTimeFormatter formatter) {
+		Validate.notNull(formatter, "formatter 不可为null");
+		this.formatter = formatter;
+	}
+
+	/**
+	 * 使用系统默认时区格式化毫秒时间戳
+	 *
+	 * @param epochMillis 毫秒时间戳
+	 * @return 格式化后的字符串
+	 * @since 2.2.0
+	 */
+	public String format(final long epochMillis) {
+		long epochSecond = Math.floorDiv(epochMillis, 1000L);
+		Entry entry = cache;
+		if (Objects.nonNull(entry) && entry.epochSecond == epochSecond) {
+			return entry.text;
+		}
+		String text = formatter.format(Instant.ofEpochSecond(epochSecond).atZone(ZoneId.systemDefault()));
+		cache = new Entry(epochSecond, text);
+		return text;
+	}
+
+	private record Entry(long epochSecond, String text) {
+	}
+}
@@ -0,0 +1,319 @@
+/*
+ *   Copyright 2026 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.commons.lang.time;
+
+import io.github.pangju666.commons.lang.pool.Constants;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+
+import java.text.Format;
+import java.text.ParsePosition;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 预编译的{@link DateTimeFormatter}注册表
+ * <p>
+ * 按格式字符串缓存线程安全的{@link DateTimeFormatter}，并提供不依赖异常试错的快速日期解析：
+ * </p>
+ * <ul>
+ *     <li>{@link #parseDefault(String)}：根据字符串长度和分隔符位置直接定位{@link Constants#DATE_FORMAT}、
+ *     "yyyy-MM-dd HH:mm"、{@link Constants#DATETIME_FORMAT}中的一种，逐位解析数字</li>
+ *     <li>{@link #parse(String, String)}：使用缓存的严格解析器解析自定义格式，失败时返回null而不抛出异常</li>
+ * </ul>
+ * <p>
+ * 快速解析只接受严格合法的输入，并且只支持语义与{@link java.text.SimpleDateFormat}一致的格式字母
+ * （yyyy、M/MM、d/dd、H/HH、m/mm、s/ss、SSS），年份早于{@value #MIN_FAST_YEAR}年时同样不处理（儒略历差异）。
+ * 返回null时调用方应回退到{@link org.apache.commons.lang3.time.DateUtils#parseDate(String, String...)}以保持宽松解析的行为。
+ * </p>
+ *
+ * @author pangju666
+ * @since 2.2.0
+ */
+public final class DateTimeFormatterRegistry {
+	/**
+	 * {@link Constants#DATE_FORMAT}格式化器
+	 *
+	 * @since 2.2.0
+	 */
+	public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(Constants.DATE_FORMAT);
+	/**
+	 * {@link Constants#DATETIME_FORMAT}格式化器
+	 *
+	 * @since 2.2.0
+	 */
+	public static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern(Constants.DATETIME_FORMAT);
+	/**
+	 * {@link Constants#TIME_FORMAT}格式化器
+	 *
+	 * @since 2.2.0
+	 */
+	public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern(Constants.TIME_FORMAT);
+	/**
+	 * 缓存的最大格式数量
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int CACHE_SIZE = 256;
+	/**
+	 * 快速解析支持的最小年份，更早的日期在{@link java.util.GregorianCalendar}中使用儒略历
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int MIN_FAST_YEAR = 1600;
+
+	/**
+	 * 格式化器缓存
+	 *
+	 * @since 2.2.0
+	 */
+	private static final Map<String, DateTimeFormatter> FORMATTER_CACHE = new ConcurrentHashMap<>();
+	/**
+	 * 严格解析器缓存，格式不支持快速解析时缓存空值
+	 *
+	 * @since 2.2.0
+	 */
+	private static final Map<String, Optional<Format>> PARSER_CACHE = new ConcurrentHashMap<>();
+
+	private DateTimeFormatterRegistry() {
+	}
+
+	/**
+	 * 获取指定格式的格式化器，不存在时创建并缓存
+	 *
+	 * @param pattern 格式字符串，语法参考{@link DateTimeFormatter}
+	 * @return 格式化器
+	 * @throws IllegalArgumentException 当pattern为空或格式不合法时抛出
+	 * @since 2.2.0
+	 */
+	public static DateTimeFormatter getFormatter(final String pattern) {
+		Validate.notBlank(pattern, "pattern 不可为空");
+		DateTimeFormatter formatter = FORMATTER_CACHE.get(pattern);
+		if (Objects.isNull(formatter)) {
+			formatter = putIfAbsent(FORMATTER_CACHE, pattern, DateTimeFormatter.ofPattern(pattern));
+		}
+		return formatter;
+	}
+
+	/**
+	 * 按长度和分隔符位置解析{@link Constants#DATE_FORMAT}、"yyyy-MM-dd HH:mm"、{@link Constants#DATETIME_FORMAT}格式的字符串
+	 * <p>使用系统默认时区，不创建解析器，不抛出异常。</p>
+	 *
+	 * @param str 日期字符串
+	 * @return 解析成功的Date对象，形状不匹配或字段值不合法时返回null
+	 * @since 2.2.0
+	 */
+	public static Date parseDefault(final String str) {
+		if (Objects.isNull(str)) {
+			return null;
+		}
+		int length = str.length();
+		if (length != 10 && length != 16 && length != 19) {
+			return null;
+		}
+		if (str.charAt(4) != '-' || str.charAt(7) != '-') {
+			return null;
+		}
+		int year = parseDigits(str, 0, 4);
+		int month = parseDigits(str, 5, 7);
+		int day = parseDigits(str, 8, 10);
+		int hour = 0;
+		int minute = 0;
+		int second = 0;
+		if (length > 10) {
+			if (str.charAt(10) != ' ' || str.charAt(13) != ':') {
+				return null;
+			}
+			hour = parseDigits(str, 11, 13);
+			minute = parseDigits(str, 14, 16);
+			if (length == 19) {
+				if (str.charAt(16) != ':') {
+					return null;
+				}
+				second = parseDigits(str, 17, 19);
+			}
+		}
+		if (year < MIN_FAST_YEAR || month < 1 || month > 12 || day < 1 || hour < 0 || hour > 23 ||
+			minute < 0 || minute > 59 || second < 0 || second > 59) {
+			return null;
+		}
+		if (day > 28 && day > lengthOfMonth(year, month)) {
+			return null;
+		}
+		return toDate(LocalDateTime.of(year, month, day, hour, minute, second));
+	}
+
+	/**
+	 * 使用缓存的严格解析器解析指定格式的字符串
+	 * <p>使用系统默认时区；字符串必须被完整匹配，缺失的日期字段按1970-01-01 00:00:00补齐。</p>
+	 *
+	 * @param str     日期字符串
+	 * @param pattern 格式字符串，语法参考{@link java.text.SimpleDateFormat}
+	 * @return 解析成功的Date对象，格式不支持快速解析、字符串不匹配或字段值不合法时返回null
+	 * @since 2.2.0
+	 */
+	public static Date parse(final String str, final String pattern) {
+		if (StringUtils.isEmpty(str) || StringUtils.isBlank(pattern)) {
+			return null;
+		}
+		Optional<Format> parser = PARSER_CACHE.get(pattern);
+		if (Objects.isNull(parser)) {
+			parser = putIfAbsent(PARSER_CACHE, pattern, Optional.ofNullable(createParser(pattern)));
+		}
+		if (parser.isEmpty()) {
+			return null;
+		}
+		ParsePosition position = new ParsePosition(0);
+		Object result = parser.get().parseObject(str, position);
+		if (!(result instanceof LocalDateTime dateTime) || position.getIndex() != str.length() ||
+			dateTime.getYear() < MIN_FAST_YEAR) {
+			return null;
+		}
+		return toDate(dateTime);
+	}
+
+	/**
+	 * 清空格式化器与解析器缓存
+	 *
+	 * @since 2.2.0
+	 */
+	public static void clearCache() {
+		FORMATTER_CACHE.clear();
+		PARSER_CACHE.clear();
+	}
+
+	/**
+	 * 创建与{@link java.text.SimpleDateFormat}语义一致的严格解析器
+	 *
+	 * @param pattern 格式字符串
+	 * @return 解析器，格式中包含语义不一致的字母时返回null
+	 * @since 2.2.0
+	 */
+	private static Format createParser(final String pattern) {
+		if (!isFastParseSupported(pattern)) {
+			return null;
+		}
+		try {
+			return new DateTimeFormatterBuilder()
+				.appendPattern(pattern)
+				.parseDefaulting(ChronoField.ERA, 1)
+				.parseDefaulting(ChronoField.YEAR_OF_ERA, 1970)
+				.parseDefaulting(ChronoField.MONTH_OF_YEAR, 1)
+				.parseDefaulting(ChronoField.DAY_OF_MONTH, 1)
+				.parseDefaulting(ChronoField.HOUR_OF_DAY, 0)
+				.parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
+				.parseDefaulting(ChronoField.SECOND_OF_MINUTE, 0)
+				.parseDefaulting(ChronoField.NANO_OF_SECOND, 0)
+				.toFormatter()
+				.withResolverStyle(ResolverStyle.STRICT)
+				.toFormat(LocalDateTime::from);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * 判断格式中的字母是否都与{@link java.text.SimpleDateFormat}语义一致
+	 *
+	 * @param pattern 格式字符串
+	 * @return 支持快速解析时返回true
+	 * @since 2.2.0
+	 */
+	private static boolean isFastParseSupported(final String pattern) {
+		boolean quoted = false;
+		int i = 0;
+		while (i < pattern.length()) {
+			char ch = pattern.charAt(i);
+			if (ch == '\'') {
+				quoted = !quoted;
+				i++;
+				continue;
+			}
+			if (quoted) {
+				i++;
+				continue;
+			}
+			if (ch == '[' || ch == ']' || ch == '{' || ch == '}' || ch == '#') {
+				return false;
+			}
+			int count = 1;
+			while (i + count < pattern.length() && pattern.charAt(i + count) == ch) {
+				count++;
+			}
+			if ((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z')) {
+				boolean supported = switch (ch) {
+					case 'y' -> count == 4;
+					case 'M', 'd', 'H', 'm', 's' -> count <= 2;
+					case 'S' -> count == 3;
+					default -> false;
+				};
+				if (!supported) {
+					return false;
+				}
+			}
+			i += count;
+		}
+		return !quoted;
+	}
+
+	private static int parseDigits(final String str, final int beginIndex, final int endIndex) {
+		int value = 0;
+		for (int i = beginIndex; i < endIndex; i++) {
+			int digit = str.charAt(i) - '0';
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+
+	private static int lengthOfMonth(final int year, final int month) {
+		return switch (month) {
+			case 2 -> Year.isLeap(year) ? 29 : 28;
+			case 4, 6, 9, 11 -> 30;
+			default -> 31;
+		};
+	}
+
+	private static Date toDate(final LocalDateTime dateTime) {
+		return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+	}
+
+	private static <V> V putIfAbsent(final Map<String, V> cache, final String key, final V value) {
+		if (cache.size() >= CACHE_SIZE) {
+			Iterator<String> iterator = cache.keySet().iterator();
+			if (iterator.hasNext()) {
+				iterator.next();
+				iterator.remove();
+			}
+		}
+		V previous = cache.putIfAbsent(key, value);
+		return Objects.nonNull(previous) ? previous : value;
+	}
+}
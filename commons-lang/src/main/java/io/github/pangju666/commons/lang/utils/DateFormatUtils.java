@@ -16,7 +16,11 @@
 
 package io.github.pangju666.commons.lang.utils;
 
+import io.github.pangju666.commons.lang.concurrent.TimeSource;
 import io.github.pangju666.commons.lang.pool.Constants;
+import io.github.pangju666.commons.lang.time.CachedDateTimeFormatter;
+import io.github.pangju666.commons.lang.time.DateTimeFormatterRegistry;
+import org.apache.commons.lang3.Validate;
 
 import java.util.Date;
 import java.util.Objects;
@@ -29,17 +33,47 @@ import java.util.Objects;
  * @since 1.0.0
  */
 public class DateFormatUtils extends org.apache.commons.lang3.time.DateFormatUtils {
+	/**
+	 * 按秒缓存的{@link Constants#DATETIME_FORMAT}格式化器，用于格式化当前时间
+	 *
+	 * @since 2.2.0
+	 */
+	protected static final CachedDateTimeFormatter NOW_DATETIME_FORMATTER =
+		new CachedDateTimeFormatter(DateTimeFormatterRegistry.DATETIME_FORMATTER);
+	/**
+	 * 按秒缓存的{@link Constants#DATE_FORMAT}格式化器，用于格式化当前日期
+	 *
+	 * @since 2.2.0
+	 */
+	protected static final CachedDateTimeFormatter NOW_DATE_FORMATTER =
+		new CachedDateTimeFormatter(DateTimeFormatterRegistry.DATE_FORMATTER);
+
 	protected DateFormatUtils() {
 	}
 
 	/**
 	 * 使用{@link Constants#DATETIME_FORMAT}格式化当前日期时间
+	 * <p>同一秒内重复调用直接返回缓存的格式化结果</p>
 	 *
 	 * @return 格式化后的日期时间
 	 * @since 1.0.0
 	 */
 	public static String formatDatetime() {
-		return format(new Date(), Constants.DATETIME_FORMAT);
+		return NOW_DATETIME_FORMATTER.format(System.currentTimeMillis());
+	}
+
+	/**
+	 * 使用{@link Constants#DATETIME_FORMAT}格式化时间源的当前时间
+	 * <p>同一秒内重复调用直接返回缓存的格式化结果</p>
+	 *
+	 * @param timeSource 时间源，例如{@link io.github.pangju666.commons.lang.concurrent.SystemClock#getDefault()}
+	 * @return 格式化后的日期时间
+	 * @throws NullPointerException 当timeSource为null时抛出
+	 * @since 2.2.0
+	 */
+	public static String formatDatetime(final TimeSource timeSource) {
+		Validate.notNull(timeSource, "timeSource 不可为null");
+		return NOW_DATETIME_FORMATTER.format(timeSource.currentTimeMillis());
 	}
 
 	/**
@@ -72,12 +106,13 @@ public class DateFormatUtils extends org.apache.commons.lang3.time.DateFormatUti
 
 	/**
 	 * 使用{@link Constants#DATE_FORMAT}格式化当前日期
+	 * <p>同一秒内重复调用直接返回缓存的格式化结果</p>
 	 *
 	 * @return 格式化后的日期
 	 * @since 1.0.0
 	 */
 	public static String formatDate() {
-		return formatDate(new Date());
+		return NOW_DATE_FORMATTER.format(System.currentTimeMillis());
 	}
 
 	/**
@@ -16,9 +16,12 @@
 
 package io.github.pangju666.commons.lang.utils;
 
+import io.github.pangju666.commons.lang.concurrent.TimeSource;
 import io.github.pangju666.commons.lang.pool.Constants;
+import io.github.pangju666.commons.lang.time.DateTimeFormatterRegistry;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
 
 import java.text.ParseException;
 import java.time.Duration;
@@ -53,6 +56,10 @@ public class DateUtils extends org.apache.commons.lang3.time.DateUtils {
 
 	/**
 	 * 将字符串解析为Date对象，使用预设格式{@link Constants#DATE_FORMAT}、{@link Constants#DATETIME_FORMAT}, "yyyy-MM-dd HH:mm"
+	 * <p>
+	 * 优先通过{@link DateTimeFormatterRegistry#parseDefault(String)}按字符串长度和分隔符位置直接定位格式并解析，
+	 * 无法快速解析时（如"2024-1-5"这类非定长输入）再回退到逐个格式宽松解析。
+	 * </p>
 	 *
 	 * @param str         要解析的日期字符串
 	 * @param defaultDate 默认返回值（当解析失败或空输入时使用）
@@ -64,6 +71,10 @@ public class DateUtils extends org.apache.commons.lang3.time.DateUtils {
 			if (StringUtils.isBlank(str)) {
 				return defaultDate;
 			}
+			Date date = DateTimeFormatterRegistry.parseDefault(str);
+			if (Objects.nonNull(date)) {
+				return date;
+			}
 			return parseDate(str, Constants.DATE_FORMAT, Constants.DATETIME_FORMAT, "yyyy-MM-dd HH:mm");
 		} catch (ParseException e) {
 			return defaultDate;
@@ -72,6 +83,10 @@ public class DateUtils extends org.apache.commons.lang3.time.DateUtils {
 
 	/**
 	 * 将字符串解析为Date对象，使用自定义格式
+	 * <p>
+	 * 按顺序尝试每个格式：先使用{@link DateTimeFormatterRegistry#parse(String, String)}中缓存的严格解析器，
+	 * 失败时再使用该格式宽松解析，成功即返回。因此排在前面的格式（即使只能宽松解析）总是优先于后面的格式。
+	 * </p>
 	 *
 	 * @param str           要解析的日期字符串
 	 * @param defaultDate   默认返回值（当解析失败或空输入时使用）
@@ -84,7 +99,21 @@ public class DateUtils extends org.apache.commons.lang3.time.DateUtils {
 			if (StringUtils.isBlank(str)) {
 				return defaultDate;
 			}
-			return parseDate(str, parsePatterns);
+			if (Objects.isNull(parsePatterns)) {
+				return parseDate(str, parsePatterns);
+			}
+			for (String parsePattern : parsePatterns) {
+				Date date = DateTimeFormatterRegistry.parse(str, parsePattern);
+				if (Objects.nonNull(date)) {
+					return date;
+				}
+				try {
+					return parseDate(str, parsePattern);
+				} catch (ParseException ignored) {
+					// 当前格式宽松解析也失败，继续尝试下一个格式
+				}
+			}
+			return defaultDate;
 		} catch (ParseException e) {
 			return defaultDate;
 		}
@@ -100,6 +129,19 @@ public class DateUtils extends org.apache.commons.lang3.time.DateUtils {
 		return new Date();
 	}
 
+	/**
+	 * 使用指定时间源获取当前时间的Date对象
+	 *
+	 * @param timeSource 时间源，例如{@link io.github.pangju666.commons.lang.concurrent.SystemClock#getDefault()}
+	 * @return 时间源当前时间的Date实例
+	 * @throws NullPointerException 当timeSource为null时抛出
+	 * @since 2.2.0
+	 */
+	public static Date nowDate(final TimeSource timeSource) {
+		Validate.notNull(timeSource, "timeSource 不可为null");
+		return new Date(timeSource.currentTimeMillis());
+	}
+
 	/**
 	 * 将时间戳转换为Date对象
 	 *
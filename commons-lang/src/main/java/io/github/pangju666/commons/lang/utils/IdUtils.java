@@ -17,6 +17,7 @@
 package io.github.pangju666.commons.lang.utils;
 
 import io.github.pangju666.commons.lang.id.NanoId;
+import io.github.pangju666.commons.lang.id.NanoIdGenerator;
 import org.bson.types.ObjectId;
 
 import java.util.UUID;
@@ -94,12 +95,24 @@ public class IdUtils {
 
 	/**
 	 * 生成默认长度NanoId
+	 * <p>使用{@link NanoIdGenerator#getDefault()}生成，每个线程使用独立的随机数生成器和熵缓冲区</p>
 	 *
 	 * @return 21字符的URL安全随机字符串
 	 * @since 1.0.0
 	 */
 	public static String nanoId() {
-		return NanoId.randomNanoId();
+		return NanoIdGenerator.getDefault().generate();
+	}
+
+	/**
+	 * 批量生成默认长度NanoId
+	 *
+	 * @param count 生成数量
+	 * @return 21字符的URL安全随机字符串数组
+	 * @since 2.2.0
+	 */
+	public static String[] nanoIds(final int count) {
+		return NanoIdGenerator.getDefault().generate(count);
 	}
 
 	/**
@@ -18,20 +18,33 @@ package io.github.pangju666.commons.lang.utils;
 
 import com.google.gson.*;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import io.github.pangju666.commons.lang.gson.type.BigDecimalTypeAdapter;
 import io.github.pangju666.commons.lang.gson.type.BigIntegerTypeAdapter;
 import io.github.pangju666.commons.lang.gson.type.DateTypeAdapter;
 import io.github.pangju666.commons.lang.gson.type.InstantTypeAdapter;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
 
+import java.io.*;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * JSON处理工具类
  * <p>基于Gson实现，提供JSON字符串、JSON对象与Java对象间的双向转换能力</p>
+ * <p>
+ * 对于超大JSON数组，可以使用{@code readArray}、{@code streamArray}和{@code writeArray}系列方法基于{@link JsonReader}/{@link JsonWriter}
+ * 逐个元素读写，内存占用只与单个元素大小相关，而不会同时持有整个文档的{@link JsonElement}树和对象列表。
+ * </p>
  *
  * @author pangju666
  * @see com.google.gson.Gson
@@ -516,4 +529,233 @@ public class JsonUtils {
 		JsonElement jsonElement = gson.toJsonTree(collection, typeToken.getType());
 		return jsonElement.getAsJsonArray();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 流式读取JSON数组，逐个元素反序列化后交给消费者处理（使用默认GSON）
+	 * <p>读取完成后不会关闭reader</p>
+	 *
+	 * @param reader   JSON数组输入
+	 * @param _class   元素类类型
+	 * @param consumer 元素消费者
+	 * @param <T>      元素类型
+	 * @return 读取的元素数量（输入为JSON null时返回0）
+	 * @throws IOException 读取失败或JSON格式错误时抛出
+	 * @since 2.2.0
+	 */
+	public static <T> long readArray(final Reader reader, final Class<T> _class, final Consumer<? super T> consumer) throws IOException {
+		return readArray(reader, DEFAULT_GSON, TypeToken.get(_class), consumer);
+	}
+
+	/**
+	 * 流式读取JSON数组，逐个元素反序列化后交给消费者处理（使用默认GSON，UTF-8编码）
+	 * <p>读取完成后不会关闭inputStream</p>
+	 *
+	 * @param inputStream JSON数组输入流
+	 * @param _class      元素类类型
+	 * @param consumer    元素消费者
+	 * @param <T>         元素类型
+	 * @return 读取的元素数量（输入为JSON null时返回0）
+	 * @throws IOException 读取失败或JSON格式错误时抛出
+	 * @since 2.2.0
+	 */
+	public static <T> long readArray(final InputStream inputStream, final Class<T> _class,
+	                                 final Consumer<? super T> consumer) throws IOException {
+		Validate.notNull(inputStream, "inputStream 不可为null");
+		return readArray(new InputStreamReader(inputStream, StandardCharsets.UTF_8), DEFAULT_GSON,
+			TypeToken.get(_class), consumer);
+	}
+
+	/**
+	 * 流式读取JSON数组，逐个元素反序列化后交给消费者处理（自定义GSON）
+	 * <p>读取完成后不会关闭reader</p>
+	 *
+	 * @param reader    JSON数组输入
+	 * @param gson      自定义Gson实例
+	 * @param typeToken 元素类型标记
+	 * @param consumer  元素消费者
+	 * @param <T>       元素类型
+	 * @return 读取的元素数量（输入为JSON null时返回0）
+	 * @throws IOException 读取失败或JSON格式错误时抛出
+	 * @since 2.2.0
+	 */
+	public static <T> long readArray(final Reader reader, final Gson gson, final TypeToken<T> typeToken,
+	                                 final Consumer<? super T> consumer) throws IOException {
+		Validate.notNull(reader, "reader 不可为null");
+		Validate.notNull(gson, "gson 不可为null");
+		Validate.notNull(typeToken, "typeToken 不可为null");
+		Validate.notNull(consumer, "consumer 不可为null");
+
+		TypeAdapter<T> adapter = gson.getAdapter(typeToken);
+		JsonReader jsonReader = gson.newJsonReader(reader);
+		if (jsonReader.peek() == JsonToken.NULL) {
+			jsonReader.nextNull();
+			return 0;
+		}
+		long count = 0;
+		jsonReader.beginArray();
+		while (jsonReader.hasNext()) {
+			consumer.accept(adapter.read(jsonReader));
+			++count;
+		}
+		jsonReader.endArray();
+		return count;
+	}
+
+	/**
+	 * 将JSON数组包装为惰性读取的流（使用默认GSON）
+	 * <p>元素在流被消费时才逐个反序列化，关闭流时会关闭reader</p>
+	 *
+	 * @param reader JSON数组输入
+	 * @param _class 元素类类型
+	 * @param <T>    元素类型
+	 * @return 元素流，读取失败时流操作抛出{@link UncheckedIOException}
+	 * @since 2.2.0
+	 */
+	public static <T> Stream<T> streamArray(final Reader reader, final Class<T> _class) {
+		return streamArray(reader, DEFAULT_GSON, TypeToken.get(_class));
+	}
+
+	/**
+	 * 将JSON数组包装为惰性读取的流（自定义GSON）
+	 * <p>元素在流被消费时才逐个反序列化，关闭流时会关闭reader</p>
+	 *
+	 * @param reader    JSON数组输入
+	 * @param gson      自定义Gson实例
+	 * @param typeToken 元素类型标记
+	 * @param <T>       元素类型
+	 * @return 元素流，读取失败时流操作抛出{@link UncheckedIOException}
+	 * @since 2.2.0
+	 */
+	public static <T> Stream<T> streamArray(final Reader reader, final Gson gson, final TypeToken<T> typeToken) {
+		Validate.notNull(reader, "reader 不可为null");
+		Validate.notNull(gson, "gson 不可为null");
+		Validate.notNull(typeToken, "typeToken 不可为null");
+
+		TypeAdapter<T> adapter = gson.getAdapter(typeToken);
+		JsonReader jsonReader = gson.newJsonReader(reader);
+		Iterator<T> iterator = new Iterator<>() {
+			private boolean started = false;
+			private boolean finished = false;
+
+			@Override
+			public boolean hasNext() {
+				if (finished) {
+					return false;
+				}
+				try {
+					if (!started) {
+						started = true;
+						if (jsonReader.peek() == JsonToken.NULL) {
+							jsonReader.nextNull();
+							finished = true;
+							return false;
+						}
+						jsonReader.beginArray();
+					}
+					if (jsonReader.hasNext()) {
+						return true;
+					}
+					jsonReader.endArray();
+					finished = true;
+					return false;
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				try {
+					return adapter.read(jsonReader);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+		};
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+			.onClose(() -> {
+				try {
+					jsonReader.close();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+	}
+
+	/**
+	 * 将迭代器中的元素逐个序列化为JSON数组写入输出（使用默认GSON）
+	 * <p>写入完成后会刷新但不会关闭writer</p>
+	 *
+	 * @param iterator 元素迭代器（为null时写入空数组）
+	 * @param writer   输出
+	 * @param <T>      元素类型
+	 * @return 写入的元素数量
+	 * @throws IOException 写入失败时抛出
+	 * @since 2.2.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> long writeArray(final Iterator<? extends T> iterator, final Writer writer) throws IOException {
+		return writeArray(iterator, DEFAULT_GSON, (TypeToken<T>) TypeToken.get(Object.class), writer);
+	}
+
+	/**
+	 * 将迭代器中的元素逐个序列化为JSON数组写入输出流（使用默认GSON，UTF-8编码）
+	 * <p>写入完成后会刷新但不会关闭outputStream</p>
+	 *
+	 * @param iterator     元素迭代器（为null时写入空数组）
+	 * @param outputStream 输出流
+	 * @param <T>          元素类型
+	 * @return 写入的元素数量
+	 * @throws IOException 写入失败时抛出
+	 * @since 2.2.0
+	 */
+	public static <T> long writeArray(final Iterator<? extends T> iterator, final OutputStream outputStream) throws IOException {
+		Validate.notNull(outputStream, "outputStream 不可为null");
+		Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+		return writeArray(iterator, writer);
+	}
+
+	/**
+	 * 将迭代器中的元素逐个序列化为JSON数组写入输出（自定义GSON）
+	 * <p>
+	 * 元素类型标记为{@code Object}时按每个元素的运行时类型序列化；写入完成后会刷新但不会关闭writer
+	 * </p>
+	 *
+	 * @param iterator  元素迭代器（为null时写入空数组）
+	 * @param gson      自定义Gson实例
+	 * @param typeToken 元素类型标记
+	 * @param writer    输出
+	 * @param <T>       元素类型
+	 * @return 写入的元素数量
+	 * @throws IOException 写入失败时抛出
+	 * @since 2.2.0
+	 */
+	public static <T> long writeArray(final Iterator<? extends T> iterator, final Gson gson,
+	                                  final TypeToken<T> typeToken, final Writer writer) throws IOException {
+		Validate.notNull(gson, "gson 不可为null");
+		Validate.notNull(typeToken, "typeToken 不可为null");
+		Validate.notNull(writer, "writer 不可为null");
+
+		TypeAdapter<T> adapter = gson.getAdapter(typeToken);
+		JsonWriter jsonWriter = gson.newJsonWriter(writer);
+		long count = 0;
+		jsonWriter.beginArray();
+		if (Objects.nonNull(iterator)) {
+			while (iterator.hasNext()) {
+				T element = iterator.next();
+				if (Objects.isNull(element)) {
+					jsonWriter.nullValue();
+				} else {
+					adapter.write(jsonWriter, element);
+				}
+				++count;
+			}
+		}
+		jsonWriter.endArray();
+		jsonWriter.flush();
+		return count;
+	}
+}
@@ -20,23 +20,41 @@ import io.github.pangju666.commons.lang.enums.RegExFlag;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * 正则表达式工具类，继承并扩展了{@link org.apache.commons.lang3.RegExUtils}的功能
  * <p>提供正则表达式编译、匹配检测、模式查找等增强功能</p>
+ * <p>
+ * 通过正则表达式字符串编译的{@link Pattern}会缓存在全局共享的有界并发缓存中（按正则表达式和标志位区分，
+ * 最多{@value #CACHE_SIZE}条），重复调用不会重新编译。{@link Pattern}是不可变且线程安全的，可以放心共享。
+ * </p>
  *
  * @author pangju666
+ * @see io.github.pangju666.commons.lang.regex.MultiPattern
  * @see org.apache.commons.lang3.RegExUtils
  * @see io.github.pangju666.commons.lang.pool.RegExPool
  * @see java.util.regex.Pattern
  * @since 1.0.0
  */
 public class RegExUtils extends org.apache.commons.lang3.RegExUtils {
+	/**
+	 * 编译后的正则表达式缓存最大条目数
+	 *
+	 * @since 2.2.0
+	 */
+	public static final int CACHE_SIZE = 1024;
+
+	/**
+	 * 编译后的正则表达式缓存
+	 *
+	 * @since 2.2.0
+	 */
+	private static final Map<PatternKey, Pattern> PATTERN_CACHE = new ConcurrentHashMap<>();
+
 	protected RegExUtils() {
 	}
 
@@ -69,7 +87,31 @@ public class RegExUtils extends org.apache.commons.lang3.RegExUtils {
 	 */
 	public static Pattern compile(final Pattern pattern, final int flags) {
 		Validate.notNull(pattern, "pattern 不可为null");
-		return Pattern.compile(pattern.pattern(), flags);
+		return getPattern(pattern.pattern(), flags);
+	}
+
+	/**
+	 * 编译正则表达式（无标志位，优先从缓存中获取）
+	 *
+	 * @param regex 正则表达式字符串
+	 * @return 编译后的Pattern对象
+	 * @since 2.2.0
+	 */
+	public static Pattern compile(final String regex) {
+		return compile(regex, 0);
+	}
+
+	/**
+	 * 带标志位编译正则表达式（优先从缓存中获取）
+	 *
+	 * @param regex 正则表达式字符串
+	 * @param flags 正则表达式标志位组合值
+	 * @return 编译后的Pattern对象
+	 * @since 2.2.0
+	 */
+	public static Pattern compile(final String regex, final int flags) {
+		Validate.notBlank(regex, "regex 不可为空");
+		return getPattern(regex, flags);
 	}
 
 	/**
@@ -97,7 +139,7 @@ public class RegExUtils extends org.apache.commons.lang3.RegExUtils {
 	 */
 	public static Pattern compile(final String regex, final int flags, final boolean matchStart, final boolean matchEnd) {
 		Validate.notBlank(regex, "regex 不可为空");
-		return Pattern.compile((matchStart && !regex.startsWith("^") ? "^" : "") + regex +
+		return getPattern((matchStart && !regex.startsWith("^") ? "^" : "") + regex +
 			(matchEnd && !regex.endsWith("$") ? "$" : ""), flags);
 	}
 
@@ -114,7 +156,7 @@ public class RegExUtils extends org.apache.commons.lang3.RegExUtils {
 		if (StringUtils.isBlank(str)) {
 			return false;
 		}
-		return Pattern.compile(regex).matcher(str).matches();
+		return getPattern(regex, 0).matcher(str).matches();
 	}
 
 	/**
@@ -143,7 +185,7 @@ public class RegExUtils extends org.apache.commons.lang3.RegExUtils {
 	 */
 	public static List<String> find(final String regex, final CharSequence str) {
 		Validate.notBlank(regex, "regex 不可为空");
-		return find(Pattern.compile(regex), str);
+		return find(getPattern(regex, 0), str);
 	}
 
 	/**
@@ -166,4 +208,43 @@ public class RegExUtils extends org.apache.commons.lang3.RegExUtils {
 		}
 		return result;
 	}
+
+	/**
+	 * 清空编译后的正则表达式缓存
+	 *
+	 * @since 2.2.0
+	 */
+	public static void clearCache() {
+		PATTERN_CACHE.clear();
+	}
+
+	/**
+	 * 从缓存中获取编译后的正则表达式，不存在时编译并放入缓存
+	 * <p>缓存达到上限时会随机淘汰一条已有缓存，保证读取无锁</p>
+	 *
+	 * @param regex 正则表达式字符串
+	 * @param flags 正则表达式标志位组合值
+	 * @return 编译后的Pattern对象
+	 * @since 2.2.0
+	 */
+	protected static Pattern getPattern(final String regex, final int flags) {
+		PatternKey key = new PatternKey(regex, flags);
+		Pattern pattern = PATTERN_CACHE.get(key);
+		if (Objects.nonNull(pattern)) {
+			return pattern;
+		}
+		pattern = Pattern.compile(regex, flags);
+		if (PATTERN_CACHE.size() >= CACHE_SIZE) {
+			Iterator<PatternKey> iterator = PATTERN_CACHE.keySet().iterator();
+			if (iterator.hasNext()) {
+				iterator.next();
+				iterator.remove();
+			}
+		}
+		Pattern previous = PATTERN_CACHE.putIfAbsent(key, pattern);
+		return Objects.nonNull(previous) ? previous : pattern;
+	}
+
+	private record PatternKey(String regex, int flags) {
+	}
 }
@@ -16,9 +16,13 @@
 
 package io.github.pangju666.commons.lang.utils;
 
+import io.github.pangju666.commons.lang.serializer.JdkObjectSerializer;
+import io.github.pangju666.commons.lang.serializer.ObjectSerializer;
+import io.github.pangju666.commons.lang.serializer.ReflectionObjectSerializer;
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.Validate;
 
-import java.io.*;
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
@@ -32,12 +36,18 @@ import java.util.Objects;
  * 以了解详细信息。
  *
  * <p>
+ * 默认使用{@link JdkObjectSerializer}，也可以通过带{@link ObjectSerializer}参数的方法指定其他实现，
+ * 例如使用{@link ReflectionObjectSerializer#INSTANCE}以字段复制的方式进行更快的深度克隆。
+ * </p>
+ *
+ * <p>
  * 代码来源于：org.springframework.util.SerializationUtils
  * </p>
  *
  * @author Dave Syer
  * @author Loïc Ledoyen
  * @author Sam Brannen
+ * @see ObjectSerializer
  * @since 1.0.0
  */
 public class SerializationUtils {
@@ -52,17 +62,53 @@ public class SerializationUtils {
 	 * @since 1.0.0
 	 */
 	public static byte[] serialize(final Object object) {
+		return serialize(object, JdkObjectSerializer.INSTANCE);
+	}
+
+	/**
+	 * 使用指定序列化器将给定对象序列化为字节数组。
+	 *
+	 * @param object     要序列化的对象
+	 * @param serializer 序列化器
+	 * @return 序列化后的字节数组，对象为null时返回空数组
+	 * @since 2.2.0
+	 */
+	public static byte[] serialize(final Object object, final ObjectSerializer serializer) {
+		Validate.notNull(serializer, "serializer 不可为null");
 		if (Objects.isNull(object)) {
 			return ArrayUtils.EMPTY_BYTE_ARRAY;
 		}
-		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(1024);
-		try (ObjectOutputStream oos = new ObjectOutputStream(byteArrayOutputStream)) {
-			oos.writeObject(object);
-			oos.flush();
-		} catch (IOException ex) {
-			throw new IllegalArgumentException("序列化对象失败，类型: " + object.getClass(), ex);
+		return serializer.serialize(object);
+	}
+
+	/**
+	 * 将字节数组反序列化为对象。
+	 *
+	 * @param bytes 序列化后的字节数组
+	 * @param <T>   对象类型
+	 * @return 反序列化后的对象，字节数组为空时返回null
+	 * @since 2.2.0
+	 */
+	public static <T> T deserialize(final byte[] bytes) {
+		return deserialize(bytes, JdkObjectSerializer.INSTANCE);
+	}
+
+	/**
+	 * 使用指定序列化器将字节数组反序列化为对象。
+	 *
+	 * @param bytes      序列化后的字节数组
+	 * @param serializer 序列化器
+	 * @param <T>        对象类型
+	 * @return 反序列化后的对象，字节数组为空时返回null
+	 * @since 2.2.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T deserialize(final byte[] bytes, final ObjectSerializer serializer) {
+		Validate.notNull(serializer, "serializer 不可为null");
+		if (ArrayUtils.isEmpty(bytes)) {
+			return null;
 		}
-		return byteArrayOutputStream.toByteArray();
+		return (T) serializer.deserialize(bytes);
 	}
 
 	/**
@@ -73,18 +119,24 @@ public class SerializationUtils {
 	 * @return 给定对象的克隆（深度复制）
 	 * @since 1.0.0
 	 */
-	@SuppressWarnings("unchecked")
 	public static <T extends Serializable> T clone(final T object) {
-		byte[] bytes = SerializationUtils.serialize(object);
-		if (Objects.isNull(bytes)) {
+		return clone(object, JdkObjectSerializer.INSTANCE);
+	}
+
+	/**
+	 * 使用指定序列化器克隆给定对象。
+	 *
+	 * @param object     克隆对象
+	 * @param serializer 序列化器
+	 * @param <T>        要克隆对象的类型
+	 * @return 给定对象的克隆（深度复制），对象为null时返回null
+	 * @since 2.2.0
+	 */
+	public static <T extends Serializable> T clone(final T object, final ObjectSerializer serializer) {
+		Validate.notNull(serializer, "serializer 不可为null");
+		if (Objects.isNull(object)) {
 			return null;
 		}
-		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
-			return (T) ois.readObject();
-		} catch (IOException ex) {
-			throw new IllegalArgumentException("反序列化对象失败", ex);
-		} catch (ClassNotFoundException ex) {
-			throw new IllegalStateException("无法反序列化的对象类型", ex);
-		}
+		return serializer.clone(object);
 	}
 }
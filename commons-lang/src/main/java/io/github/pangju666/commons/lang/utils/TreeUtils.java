@@ -18,22 +18,30 @@ package io.github.pangju666.commons.lang.utils;
 
 import io.github.pangju666.commons.lang.model.TreeNode;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
  * 树形结构构建工具类，提供将扁平数据转换为树形结构的能力
  * <p>支持单根/多根树构建，适用于菜单、目录等树形数据结构处理</p>
+ * <p>
+ * 构建过程先按父节点键一次性建立索引，再使用显式栈进行深度优先遍历，
+ * 整体时间复杂度为O(n)，且不会因树的深度过大导致栈溢出。
+ * </p>
  *
  * @author pangju666
  * @see TreeNode
  * @since 1.0.0
  */
 public class TreeUtils {
+	/**
+	 * 并行索引时null父节点键的占位对象（{@link Collectors#groupingBy}不支持null键）
+	 *
+	 * @since 2.2.0
+	 */
+	private static final Object NULL_KEY = new Object();
+
 	protected TreeUtils() {
 	}
 
@@ -44,10 +52,11 @@ public class TreeUtils {
 	 * @param <K>        节点键类型
 	 * @param <T>        树节点类型
 	 * @return 树形结构节点列表
+	 * @throws IllegalStateException 当节点之间存在循环引用时抛出
 	 * @since 1.0.0
 	 */
 	public static <K, T extends TreeNode<K, T>> List<T> toTree(final Collection<T> collection) {
-		return toTree(collection, null, null);
+		return toTree(collection, null, null, false);
 	}
 
 	/**
@@ -58,17 +67,11 @@ public class TreeUtils {
 	 * @param <K>         节点键类型
 	 * @param <T>         树节点类型
 	 * @return 树形结构节点列表
+	 * @throws IllegalStateException 当节点之间存在循环引用时抛出
 	 * @since 1.0.0
 	 */
 	public static <K, T extends TreeNode<K, T>> List<T> toTree(final Collection<T> collection, final K rootNodeKey) {
-		if (Objects.isNull(collection) || collection.isEmpty()) {
-			return Collections.emptyList();
-		}
-		List<T> treeNodes = collection.stream()
-			.filter(node -> Objects.equals(node.getParentNodeKey(), rootNodeKey))
-			.collect(Collectors.toList());
-		setChildNodes(collection, treeNodes, null);
-		return treeNodes;
+		return toTree(collection, rootNodeKey, null, false);
 	}
 
 	/**
@@ -79,10 +82,11 @@ public class TreeUtils {
 	 * @param <K>         节点键类型
 	 * @param <T>         树节点类型
 	 * @return 树形结构节点列表
+	 * @throws IllegalStateException 当节点之间存在循环引用时抛出
 	 * @since 1.0.0
 	 */
 	public static <K, T extends TreeNode<K, T>> List<T> toTree(final Collection<T> collection, final Consumer<T> convertFunc) {
-		return toTree(collection, null, convertFunc);
+		return toTree(collection, null, convertFunc, false);
 	}
 
 	/**
@@ -94,45 +98,205 @@ public class TreeUtils {
 	 * @param <K>         节点键类型
 	 * @param <T>         树节点类型
 	 * @return 树形结构节点列表
+	 * @throws IllegalStateException 当节点之间存在循环引用时抛出
 	 * @since 1.0.0
 	 */
 	public static <K, T extends TreeNode<K, T>> List<T> toTree(final Collection<T> collection,
 	                                                           final K rootNodeKey,
 	                                                           final Consumer<T> convertFunc) {
+		return toTree(collection, rootNodeKey, convertFunc, false);
+	}
+
+	/**
+	 * 构建树形结构（支持节点转换处理和并行构建）
+	 * <p>
+	 * 并行模式下会并行建立父节点索引，并以根节点为单位并行构建各子树，适用于节点数量非常大（十万级以上）的场景。
+	 * 子节点顺序与串行模式一致，均保持原集合中的遍历顺序。
+	 * </p>
+	 *
+	 * @param collection  扁平节点集合
+	 * @param rootNodeKey 根节点标识键值
+	 * @param convertFunc 节点转换函数，并行模式下可能被多个线程同时调用，需保证线程安全
+	 * @param parallel    是否并行构建
+	 * @param <K>         节点键类型
+	 * @param <T>         树节点类型
+	 * @return 树形结构节点列表
+	 * @throws IllegalStateException 当节点之间存在循环引用时抛出
+	 * @since 2.2.0
+	 */
+	public static <K, T extends TreeNode<K, T>> List<T> toTree(final Collection<T> collection,
+	                                                           final K rootNodeKey,
+	                                                           final Consumer<T> convertFunc,
+	                                                           final boolean parallel) {
 		if (Objects.isNull(collection) || collection.isEmpty()) {
 			return Collections.emptyList();
 		}
-		List<T> treeNodes = collection.stream()
-			.filter(node -> Objects.equals(node.getParentNodeKey(), rootNodeKey))
-			.collect(Collectors.toList());
-		setChildNodes(collection, treeNodes, convertFunc);
+		Map<Object, List<T>> index = parallel ? parallelIndexByParentKey(collection) : indexByParentKey(collection);
+		List<T> treeNodes = index.get(wrapKey(rootNodeKey));
+		if (Objects.isNull(treeNodes)) {
+			return new ArrayList<>(0);
+		}
+		if (parallel) {
+			treeNodes.parallelStream().forEach(node -> buildSubTree(index, node, convertFunc));
+		} else {
+			treeNodes.forEach(node -> buildSubTree(index, node, convertFunc));
+		}
 		return treeNodes;
 	}
 
 	/**
-	 * 递归设置子节点关系
+	 * 获取无法从根节点到达的孤儿节点
+	 * <p>
+	 * 孤儿节点包括父节点不存在的节点，以及处于循环引用中的节点，这些节点在构建树形结构时会被忽略。
+	 * </p>
+	 *
+	 * @param collection  扁平节点集合
+	 * @param rootNodeKey 根节点标识键值
+	 * @param <K>         节点键类型
+	 * @param <T>         树节点类型
+	 * @return 孤儿节点列表，保持原集合中的遍历顺序
+	 * @since 2.2.0
+	 */
+	public static <K, T extends TreeNode<K, T>> List<T> getOrphanNodes(final Collection<T> collection, final K rootNodeKey) {
+		if (Objects.isNull(collection) || collection.isEmpty()) {
+			return Collections.emptyList();
+		}
+		Map<Object, List<T>> index = indexByParentKey(collection);
+		List<T> rootNodes = index.get(wrapKey(rootNodeKey));
+		if (Objects.isNull(rootNodes)) {
+			return new ArrayList<>(collection);
+		}
+
+		Set<T> reachableNodes = Collections.newSetFromMap(new IdentityHashMap<>(collection.size()));
+		Set<Object> visitedKeys = new HashSet<>();
+		Deque<T> stack = new ArrayDeque<>(rootNodes);
+		while (!stack.isEmpty()) {
+			T node = stack.pop();
+			reachableNodes.add(node);
+			// 同一个键只展开一次，避免循环引用导致死循环
+			if (visitedKeys.add(wrapKey(node.getNodeKey()))) {
+				List<T> childNodes = index.get(wrapKey(node.getNodeKey()));
+				if (Objects.nonNull(childNodes)) {
+					childNodes.forEach(stack::push);
+				}
+			}
+		}
+		return collection.stream()
+			.filter(node -> !reachableNodes.contains(node))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 设置子节点关系
 	 *
 	 * @param collection  原始节点集合
 	 * @param parentNodes 当前层父节点集合
 	 * @param convertFunc 节点转换处理函数
 	 * @param <K>         节点键类型
 	 * @param <T>         树节点类型
+	 * @throws IllegalStateException 当节点之间存在循环引用时抛出
 	 * @since 1.0.0
 	 */
 	protected static <K, T extends TreeNode<K, T>> void setChildNodes(final Collection<T> collection,
 	                                                                  final Collection<T> parentNodes,
 	                                                                  final Consumer<T> convertFunc) {
 		if (Objects.nonNull(parentNodes) && !parentNodes.isEmpty()) {
-			parentNodes.forEach(parentNode -> {
-				List<T> childNodes = collection.stream()
-					.filter(node -> Objects.equals(node.getParentNodeKey(), parentNode.getNodeKey()))
-					.collect(Collectors.toList());
-				parentNode.setChildNodes(childNodes);
-				if (Objects.nonNull(convertFunc)) {
-					convertFunc.accept(parentNode);
+			Map<Object, List<T>> index = indexByParentKey(collection);
+			parentNodes.forEach(parentNode -> buildSubTree(index, parentNode, convertFunc));
+		}
+	}
+
+	/**
+	 * 按父节点键建立索引，单次遍历完成
+	 *
+	 * @param collection 原始节点集合
+	 * @param <K>        节点键类型
+	 * @param <T>        树节点类型
+	 * @return 父节点键到子节点列表的映射
+	 * @since 2.2.0
+	 */
+	protected static <K, T extends TreeNode<K, T>> Map<Object, List<T>> indexByParentKey(final Collection<T> collection) {
+		Map<Object, List<T>> index = new HashMap<>();
+		for (T node : collection) {
+			index.computeIfAbsent(wrapKey(node.getParentNodeKey()), key -> new ArrayList<>()).add(node);
+		}
+		return index;
+	}
+
+	/**
+	 * 并行按父节点键建立索引，子节点列表保持原集合中的遍历顺序
+	 *
+	 * @param collection 原始节点集合
+	 * @param <K>        节点键类型
+	 * @param <T>        树节点类型
+	 * @return 父节点键到子节点列表的映射
+	 * @since 2.2.0
+	 */
+	protected static <K, T extends TreeNode<K, T>> Map<Object, List<T>> parallelIndexByParentKey(final Collection<T> collection) {
+		return collection.parallelStream()
+			.collect(Collectors.groupingBy(node -> wrapKey(node.getParentNodeKey()),
+				Collectors.toCollection(ArrayList::new)));
+	}
+
+	/**
+	 * 使用显式栈以深度优先（先序）的顺序构建子树
+	 * <p>
+	 * 节点处理顺序与递归实现一致：先设置子节点，再调用转换函数，然后依次处理各子节点。
+	 * </p>
+	 *
+	 * @param index       父节点键到子节点列表的映射
+	 * @param rootNode    子树根节点
+	 * @param convertFunc 节点转换处理函数
+	 * @param <K>         节点键类型
+	 * @param <T>         树节点类型
+	 * @throws IllegalStateException 当节点之间存在循环引用时抛出
+	 * @since 2.2.0
+	 */
+	protected static <K, T extends TreeNode<K, T>> void buildSubTree(final Map<Object, List<T>> index,
+	                                                                 final T rootNode,
+	                                                                 final Consumer<T> convertFunc) {
+		// 当前路径上的节点键，用于检测循环引用
+		Set<Object> pathKeys = new HashSet<>();
+		Deque<Object> pathKeyStack = new ArrayDeque<>();
+		Deque<Iterator<T>> iteratorStack = new ArrayDeque<>();
+
+		Iterator<T> childIterator = visitNode(index, rootNode, convertFunc);
+		pathKeys.add(wrapKey(rootNode.getNodeKey()));
+		pathKeyStack.push(wrapKey(rootNode.getNodeKey()));
+		iteratorStack.push(childIterator);
+
+		while (!iteratorStack.isEmpty()) {
+			Iterator<T> iterator = iteratorStack.peek();
+			if (iterator.hasNext()) {
+				T childNode = iterator.next();
+				Object childKey = wrapKey(childNode.getNodeKey());
+				if (!pathKeys.add(childKey)) {
+					throw new IllegalStateException("树节点存在循环引用，节点键：" + childNode.getNodeKey());
 				}
-				setChildNodes(collection, childNodes, convertFunc);
-			});
+				pathKeyStack.push(childKey);
+				iteratorStack.push(visitNode(index, childNode, convertFunc));
+			} else {
+				iteratorStack.pop();
+				pathKeys.remove(pathKeyStack.pop());
+			}
 		}
 	}
+
+	private static <K, T extends TreeNode<K, T>> Iterator<T> visitNode(final Map<Object, List<T>> index,
+	                                                                   final T node,
+	                                                                   final Consumer<T> convertFunc) {
+		List<T> childNodes = index.get(wrapKey(node.getNodeKey()));
+		if (Objects.isNull(childNodes)) {
+			childNodes = new ArrayList<>(0);
+		}
+		node.setChildNodes(childNodes);
+		if (Objects.nonNull(convertFunc)) {
+			convertFunc.accept(node);
+		}
+		return childNodes.iterator();
+	}
+
+	private static Object wrapKey(final Object key) {
+		return Objects.isNull(key) ? NULL_KEY : key;
+	}
 }
@@ -0,0 +1,95 @@
+package io.github.pangju666.commons.lang.benchmark;
+
+import io.github.pangju666.commons.lang.serializer.JdkObjectSerializer;
+import io.github.pangju666.commons.lang.serializer.ReflectionObjectSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JdkObjectSerializer}与{@link ReflectionObjectSerializer}深度克隆性能对比
+ * <p>对象图包含嵌套对象、数组、日期、常用集合以及共享引用，{@code size}为订单明细数量。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectSerializerBenchmark {
+	@Param({"1", "16", "256"})
+	private int size;
+
+	private Order order;
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+			.include(ObjectSerializerBenchmark.class.getSimpleName())
+			.build())
+			.run();
+	}
+
+	@Setup
+	public void setup() {
+		Customer customer = new Customer();
+		customer.name = "customer";
+		customer.birthday = LocalDate.of(2000, 1, 1);
+		customer.tags = new HashSet<>(List.of("a", "b", "c"));
+
+		order = new Order();
+		order.id = 1L;
+		order.customer = customer;
+		order.createTime = new Date();
+		order.items = new ArrayList<>(size);
+		order.attributes = new HashMap<>();
+		for (int i = 0; i < size; i++) {
+			Item item = new Item();
+			item.sku = "sku-" + i;
+			item.quantity = i;
+			item.price = i * 1.5;
+			item.codes = new int[]{i, i + 1, i + 2};
+			// 共享引用
+			item.customer = customer;
+			order.items.add(item);
+			order.attributes.put("key-" + i, new ArrayList<>(List.of("value-" + i)));
+		}
+	}
+
+	@Benchmark
+	public Object jdkClone() {
+		return JdkObjectSerializer.INSTANCE.clone(order);
+	}
+
+	@Benchmark
+	public Object reflectionClone() {
+		return ReflectionObjectSerializer.INSTANCE.clone(order);
+	}
+
+	public static class Order implements Serializable {
+		private long id;
+		private Customer customer;
+		private Date createTime;
+		private List<Item> items;
+		private Map<String, List<String>> attributes;
+	}
+
+	public static class Customer implements Serializable {
+		private String name;
+		private LocalDate birthday;
+		private Set<String> tags;
+	}
+
+	public static class Item implements Serializable {
+		private String sku;
+		private int quantity;
+		private double price;
+		private int[] codes;
+		private Customer customer;
+	}
+}
@@ -142,4 +142,76 @@ class PinyinComparatorSpec extends Specification {
 		then: "数组仍为空"
 		emptyArray.length == 0
 	}
+
+	def "测试 order(List) 方法 - 超过并行阈值时与比较器排序结果一致"() {
+		given:
+		def words = ["李四", "张三", "王五", "西安", "先", "abc", null, "", " ", "天气如何"]
+		def random = new Random(1)
+		def list = (1..PinyinComparator.PARALLEL_THRESHOLD + 100).collect { words[random.nextInt(words.size())] }
+		def expected = new ArrayList<>(list)
+		expected.sort(new PinyinComparator())
+
+		when:
+		PinyinComparator.order(list)
+
+		then:
+		list == expected
+	}
+
+	def "测试 order(String[]) 方法 - 超过并行阈值时按分隔符与比较器排序结果一致"() {
+		given:
+		def words = ["长安", "重庆", "西安", "先", "xian", "行人", "银行", "abc", null, ""]
+		def random = new Random(2)
+		String[] array = (1..PinyinComparator.PARALLEL_THRESHOLD * 2).collect { words[random.nextInt(words.size())] }
+		def expected = array.toList()
+		expected.sort(new PinyinComparator("-"))
+
+		when:
+		PinyinComparator.order(array, "-")
+
+		then:
+		array.toList() == expected
+	}
+
+	def "测试 getSortKey 方法与清空缓存"() {
+		given:
+		def comparator = new PinyinComparator("-")
+
+		expect:
+		comparator.getSortKey(null) == null
+		comparator.getSortKey(" ") == " "
+		comparator.getSortKey("abc") == "abc"
+		comparator.getSortKey("西安") == "xi-an"
+
+		when:
+		PinyinComparator.clearCache()
+
+		then:
+		comparator.getSortKey("西安") == "xi-an"
+	}
+
+	def "测试 order 与 compare 共享有界拼音缓存"() {
+		given:
+		PinyinComparator.clearCache()
+		String[] array = ["西安", "北京", "西安"]
+
+		when:
+		PinyinComparator.order(array, "-")
+
+		then:
+		array.toList() == ["北京", "西安", "西安"]
+		PinyinComparator.PINYIN_CACHE.size() == 2
+
+		when:
+		(0..<PinyinComparator.CACHE_SIZE + 100).each {
+			new PinyinComparator("-").getSortKey("西安" + it)
+		}
+
+		then:
+		PinyinComparator.PINYIN_CACHE.size() <= PinyinComparator.CACHE_SIZE
+		new PinyinComparator("-").getSortKey("西安") == "xi-an"
+
+		cleanup:
+		PinyinComparator.clearCache()
+	}
 }
@@ -77,4 +77,112 @@ class SystemClockSpec extends Specification {
 		long current = System.currentTimeMillis()
 		times.every { Math.abs(it - current) < 1000 }
 	}
+
+	def "测试 create() 创建具名时钟"() {
+		when: "创建具名时钟"
+		def clock = SystemClock.create("test-clock", 5, 0, monotonic)
+
+		then: "属性与创建参数一致"
+		clock.getName() == "test-clock"
+		clock.getPeriod() == 5
+		clock.isMonotonic() == monotonic
+		clock.isTicking()
+
+		and: "时间接近系统时间"
+		Math.abs(clock.currentTimeMillis() - System.currentTimeMillis()) <= 50
+
+		cleanup:
+		clock.close()
+
+		where:
+		monotonic << [false, true]
+	}
+
+	def "测试 create() 参数校验"() {
+		when: "使用非法参数创建时钟"
+		SystemClock.create(name, period, 0, false)
+
+		then: "抛出对应异常"
+		thrown(exception)
+
+		where:
+		name    | period || exception
+		null    | 1      || NullPointerException
+		""      | 1      || IllegalArgumentException
+		"clock" | 0      || IllegalArgumentException
+		"clock" | -1     || IllegalArgumentException
+	}
+
+	def "测试单调模式下时间不回退"() {
+		given: "单调模式时钟"
+		def clock = SystemClock.create("monotonic-clock", 1, 0, true)
+
+		when: "连续读取时间"
+		def times = (0..<1000).collect { clock.currentTimeMillis() }
+
+		then: "时间单调不减"
+		(1..<times.size()).every { times[it] >= times[it - 1] }
+
+		cleanup:
+		clock.close()
+	}
+
+	def "测试空闲超时后停止刷新并在读取时恢复"() {
+		given: "空闲超时为 20ms 的时钟"
+		def clock = SystemClock.create("idle-clock", 1, 20, false)
+
+		when: "长时间不读取"
+		Thread.sleep(200)
+
+		then: "时钟停止刷新"
+		!clock.isTicking()
+
+		when: "再次读取时间"
+		long time = clock.currentTimeMillis()
+
+		then: "立即校准并恢复刷新"
+		clock.isTicking()
+		Math.abs(time - System.currentTimeMillis()) <= 50
+
+		cleanup:
+		clock.close()
+	}
+
+	def "测试 close() 停止后台刷新线程"() {
+		given: "具名时钟"
+		def clock = SystemClock.create("closeable-clock", 1, 0, false)
+
+		when: "关闭时钟"
+		clock.close()
+		Thread.sleep(50)
+
+		then: "后台刷新线程已退出"
+		clock.isClosed()
+		!clock.isTicking()
+		Thread.getAllStackTraces().keySet().every { it.name != "closeable-clock" }
+
+		and: "关闭后仍返回当前时间"
+		Math.abs(clock.currentTimeMillis() - System.currentTimeMillis()) <= 50
+		!clock.isTicking()
+
+		when: "重复关闭"
+		clock.close()
+
+		then:
+		noExceptionThrown()
+	}
+
+	def "测试默认实例调用 close() 没有效果"() {
+		when:
+		SystemClock.getDefault().close()
+
+		then:
+		!SystemClock.getDefault().isClosed()
+		Math.abs(SystemClock.now() - System.currentTimeMillis()) <= 50
+	}
+
+	def "测试 TimeSource.system() 返回系统时间"() {
+		expect:
+		Math.abs(TimeSource.system().currentTimeMillis() - System.currentTimeMillis()) <= 50
+	}
 }
@@ -0,0 +1,141 @@
+package io.github.pangju666.commons.lang.id
+
+import spock.lang.Specification
+import spock.lang.Title
+import spock.lang.Unroll
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+
+@Title("NanoIdGenerator 单元测试")
+class NanoIdGeneratorSpec extends Specification {
+
+	def "测试默认生成器"() {
+		when:
+		String id = NanoIdGenerator.getDefault().generate()
+
+		then:
+		NanoIdGenerator.getDefault().is(NanoIdGenerator.getDefault())
+		NanoIdGenerator.getDefault().getSize() == NanoId.DEFAULT_SIZE
+		id ==~ /[A-Za-z0-9_-]{21}/
+	}
+
+	@Unroll
+	def "测试自定义字符表与长度: alphabet=#alphabet, size=#size"() {
+		given:
+		def generator = new NanoIdGenerator(alphabet.toCharArray(), size)
+
+		when:
+		String id = generator.generate()
+
+		then:
+		id.length() == size
+		id.every { alphabet.contains(it) }
+
+		where:
+		alphabet                           | size
+		"a"                                | 5
+		"abc"                              | 10
+		"0123456789"                       | 32
+		"0123456789abcdefghijklmnopqrstuv" | 64
+	}
+
+	def "测试相同随机源时与 NanoId 生成结果一致"() {
+		given: "缓冲区大小等于步长，使每次生成都重新填充缓冲区"
+		def alphabet = NanoId.DEFAULT_ALPHABET
+		int size = NanoId.DEFAULT_SIZE
+		def generator = new NanoIdGenerator(alphabet, size, { new Random(42) }, 1)
+
+		expect:
+		generator.generate() == NanoId.randomNanoId(new Random(42), alphabet, size)
+	}
+
+	def "测试缓冲区较小时跨多次填充生成"() {
+		given:
+		def generator = new NanoIdGenerator("abc".toCharArray(), 100, { new Random(7) }, 1)
+
+		when:
+		def ids = (0..<10).collect { generator.generate() }
+
+		then:
+		ids.every { it.length() == 100 && it ==~ /[abc]+/ }
+		ids.toSet().size() == 10
+	}
+
+	@Unroll
+	def "测试批量生成: count=#count"() {
+		when:
+		String[] ids = NanoIdGenerator.getDefault().generate(count)
+
+		then:
+		ids.length == count
+		ids.every { it ==~ /[A-Za-z0-9_-]{21}/ }
+		ids.toList().toSet().size() == count
+
+		where:
+		count << [0, 1, 1000]
+	}
+
+	def "测试多线程生成的唯一性"() {
+		given:
+		def generator = new NanoIdGenerator()
+		int threadCount = 8
+		int perThread = 5000
+		def ids = ConcurrentHashMap.newKeySet()
+		def service = Executors.newFixedThreadPool(threadCount)
+		def latch = new CountDownLatch(threadCount)
+
+		when:
+		threadCount.times {
+			service.submit {
+				try {
+					perThread.times { ids.add(generator.generate()) }
+				} finally {
+					latch.countDown()
+				}
+			}
+		}
+		latch.await()
+		service.shutdown()
+
+		then:
+		ids.size() == threadCount * perThread
+	}
+
+	def "测试参数校验"() {
+		when:
+		new NanoIdGenerator(alphabet, size, randomSupplier, bufferSize)
+
+		then:
+		thrown(exception)
+
+		where:
+		alphabet             | size | randomSupplier        | bufferSize || exception
+		null                 | 21   | { new Random() }      | 64         || NullPointerException
+		"abc".toCharArray()  | 21   | null                  | 64         || NullPointerException
+		new char[0]          | 21   | { new Random() }      | 64         || IllegalArgumentException
+		new char[256]        | 21   | { new Random() }      | 64         || IllegalArgumentException
+		"abc".toCharArray()  | 0    | { new Random() }      | 64         || IllegalArgumentException
+		"abc".toCharArray()  | 21   | { new Random() }      | 0          || IllegalArgumentException
+	}
+
+	def "测试批量生成数量为负数"() {
+		when:
+		NanoIdGenerator.getDefault().generate(-1)
+
+		then:
+		thrown(IllegalArgumentException)
+	}
+
+	def "测试随机数生成器工厂返回null"() {
+		given:
+		def generator = new NanoIdGenerator("abc".toCharArray(), 10, { null }, 64)
+
+		when:
+		generator.generate()
+
+		then:
+		thrown(NullPointerException)
+	}
+}
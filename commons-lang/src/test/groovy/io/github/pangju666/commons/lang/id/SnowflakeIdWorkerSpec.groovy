@@ -16,12 +16,15 @@
 
 package io.github.pangju666.commons.lang.id
 
+import io.github.pangju666.commons.lang.concurrent.TimeSource
+import io.github.pangju666.commons.lang.enums.ClockBackwardsStrategy
 import spock.lang.Specification
 import spock.lang.Title
 import spock.lang.Unroll
 
 import java.util.concurrent.CountDownLatch
 import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicLong
 
 @Title("SnowflakeIdWorker 单元测试")
 class SnowflakeIdWorkerSpec extends Specification {
@@ -134,4 +137,158 @@ class SnowflakeIdWorkerSpec extends Specification {
 		workerId2 == 2
 		id1 != id2
 	}
+
+	def "测试 nextIds 与 fill 批量生成递增且唯一的 ID"() {
+		given:
+		def worker = new SnowflakeIdWorker(1, 1)
+
+		when:
+		long[] ids = worker.nextIds(10000)
+		long[] filled = new long[100]
+		worker.fill(filled)
+
+		then:
+		ids.length == 10000
+		(1..<ids.length).every { ids[it] > ids[it - 1] }
+		filled[0] > ids[ids.length - 1]
+		(ids.toList() + filled.toList()).toSet().size() == 10100
+		worker.nextIds(0).length == 0
+
+		when:
+		worker.nextIds(-1)
+
+		then:
+		thrown(IllegalArgumentException)
+	}
+
+	def "测试 BORROW 策略序列号用尽时借用下一毫秒"() {
+		given:
+		def time = new AtomicLong(1000L)
+		def worker = SnowflakeIdWorker.builder()
+			.epoch(0L)
+			.workerIdBits(0)
+			.datacenterIdBits(0)
+			.sequenceBits(2)
+			.timeSource({ time.get() } as TimeSource)
+			.clockBackwardsStrategy(ClockBackwardsStrategy.BORROW)
+			.build()
+
+		when:
+		long[] ids = worker.nextIds(10)
+
+		then:
+		(1..<ids.length).every { ids[it] > ids[it - 1] }
+		ids[0] >> 2 == 1000L
+		ids[9] >> 2 == 1002L
+	}
+
+	def "测试 BORROW 策略大批量借用未来时间不视为时钟回拨"() {
+		given:
+		def time = new AtomicLong(1000L)
+		def worker = SnowflakeIdWorker.builder()
+			.epoch(0L)
+			.timeSource({ time.get() } as TimeSource)
+			.clockBackwardsStrategy(ClockBackwardsStrategy.BORROW)
+			.maxBackwardsMillis(5L)
+			.build()
+
+		when: "同一毫秒内生成超过 6 × 4096 个 ID，借用的时间远超最大容忍回拨时长"
+		long[] ids = worker.nextIds(10 * 4096 + 1)
+		long next = worker.nextId()
+
+		then:
+		(1..<ids.length).every { ids[it] > ids[it - 1] }
+		ids[0] >> 22 == 1000L
+		ids[ids.length - 1] >> 22 == 1010L
+		next > ids[ids.length - 1]
+
+		when: "时钟前进但仍落后于借用的时间"
+		time.set(1003L)
+		long afterTick = worker.nextId()
+
+		then:
+		afterTick > next
+
+		when: "相对已读取到的最大时钟值回拨超过容忍时长"
+		time.set(997L)
+		worker.nextId()
+
+		then:
+		thrown(IllegalStateException)
+	}
+
+	def "测试 BORROW 策略容忍范围内的时钟回拨"() {
+		given:
+		def time = new AtomicLong(1000L)
+		def worker = SnowflakeIdWorker.builder()
+			.epoch(0L)
+			.timeSource({ time.get() } as TimeSource)
+			.clockBackwardsStrategy(ClockBackwardsStrategy.BORROW)
+			.maxBackwardsMillis(5L)
+			.build()
+		long first = worker.nextId()
+
+		when:
+		time.set(998L)
+		long second = worker.nextId()
+
+		then:
+		second > first
+		second >> 22 == 1000L
+
+		when:
+		time.set(900L)
+		worker.nextId()
+
+		then:
+		thrown(IllegalStateException)
+	}
+
+	def "测试 FAIL 策略检测到时钟回拨时抛出异常"() {
+		given:
+		def time = new AtomicLong(1000L)
+		def worker = SnowflakeIdWorker.builder()
+			.epoch(0L)
+			.timeSource({ time.get() } as TimeSource)
+			.clockBackwardsStrategy(ClockBackwardsStrategy.FAIL)
+			.build()
+		worker.nextId()
+
+		when:
+		time.set(999L)
+		worker.nextId()
+
+		then:
+		thrown(IllegalStateException)
+	}
+
+	def "测试自定义位布局"() {
+		given:
+		def worker = SnowflakeIdWorker.builder()
+			.workerId(3L)
+			.datacenterId(1L)
+			.workerIdBits(3)
+			.datacenterIdBits(2)
+			.sequenceBits(4)
+			.build()
+
+		when:
+		long id = worker.nextId()
+
+		then:
+		((id >> 4) & 0x7) == 3L
+		((id >> 7) & 0x3) == 1L
+
+		when:
+		SnowflakeIdWorker.builder().workerIdBits(3).workerId(8L).build()
+
+		then:
+		thrown(IllegalArgumentException)
+
+		when:
+		SnowflakeIdWorker.builder().sequenceBits(0).build()
+
+		then:
+		thrown(IllegalArgumentException)
+	}
 }
@@ -96,10 +96,13 @@ class RandomArraySpec extends Specification {
 		result.toSet().size() == length
 
 		where:
-		start | end | length
-		0     | 10  | 5
-		0     | 5   | 5
-		10    | 20  | 8
+		start                 | end               | length
+		0                     | 10                | 5
+		0                     | 5                 | 5
+		10                    | 20                | 8
+		0                     | 1_000_000         | 1000
+		Integer.MAX_VALUE - 5 | Integer.MAX_VALUE | 5
+		1 << 30               | Integer.MAX_VALUE | 1000
 	}
 
 	def "测试全范围唯一整数数组生成 (randomUniqueIntArray)"() {
@@ -157,9 +160,12 @@ class RandomArraySpec extends Specification {
 		result.toSet().size() == length
 
 		where:
-		start | end | length
-		0L    | 10L | 5
-		0L    | 5L  | 5
+		start                 | end            | length
+		0L                    | 10L            | 5
+		0L                    | 5L             | 5
+		0L                    | 1_000_000L     | 1000
+		Long.MAX_VALUE - 5    | Long.MAX_VALUE | 5
+		1L << 62              | Long.MAX_VALUE | 1000
 	}
 
 	def "测试全范围唯一长整数数组生成 (randomUniqueLongArray)"() {
@@ -174,6 +180,44 @@ class RandomArraySpec extends Specification {
 		result.toSet().size() == 10
 	}
 
+	def "测试范围与长度相同时生成全排列 (randomUniqueIntArray/randomUniqueLongArray)"() {
+		given:
+		def randomArray = RandomArray.insecure()
+
+		when:
+		def ints = randomArray.randomUniqueIntArray(100, 1100, 1000)
+		def longs = randomArray.randomUniqueLongArray(100L, 1100L, 1000)
+
+		then: "包含范围内的全部值"
+		(ints as List).sort() == (100..<1100).toList()
+		(longs as List).sort() == (100L..<1100L).toList()
+
+		and: "结果为随机顺序"
+		(ints as List) != (100..<1100).toList()
+		(longs as List) != (100L..<1100L).toList()
+	}
+
+	def "测试大数组并行生成唯一值 (randomUniqueIntArray/randomUniqueLongArray)"() {
+		given:
+		def randomArray = RandomArray.insecure()
+		int length = RandomArray.PARALLEL_THRESHOLD
+
+		when: "稀疏范围"
+		def ints = randomArray.randomUniqueIntArray(length)
+
+		then:
+		ints.length == length
+		isUnique(ints.collect { it as long } as long[])
+
+		when: "候选值重复较多的范围"
+		def longs = randomArray.randomUniqueLongArray(0L, 3L * length, length)
+
+		then:
+		longs.length == length
+		longs.every { it >= 0L && it < 3L * length }
+		isUnique(longs)
+	}
+
 	@Unroll
 	def "测试浮点数数组生成 (randomFloatArray) - 范围: #start-#end, 长度: #length"() {
 		given:
@@ -307,4 +351,38 @@ class RandomArraySpec extends Specification {
 		then:
 		thrown(IllegalArgumentException)
 	}
+
+	@Unroll
+	def "测试长整数哈希集合容量计算 - 元素上限: #expectedSize"() {
+		expect:
+		RandomArray.LongHashSet.capacityFor(expectedSize) == capacity
+
+		where:
+		expectedSize      | capacity
+		0                 | 4
+		3                 | 8
+		1000              | 2048
+		(1 << 29)         | (1 << 30)
+		(1 << 29) + 1     | (1 << 30)
+		(1 << 30) - 1     | (1 << 30)
+	}
+
+	def "测试长整数哈希集合容量计算 - 元素上限过大"() {
+		when:
+		RandomArray.LongHashSet.capacityFor(1 << 30)
+
+		then:
+		thrown(IllegalArgumentException)
+	}
+
+	private static boolean isUnique(long[] values) {
+		long[] sorted = values.clone()
+		Arrays.sort(sorted)
+		for (int i = 1; i < sorted.length; i++) {
+			if (sorted[i] == sorted[i - 1]) {
+				return false
+			}
+		}
+		return true
+	}
 }
@@ -84,9 +84,24 @@ class RandomListSpec extends Specification {
 		result.every { it >= start && it < end }
 
 		where:
-		start | end | length
-		1     | 100 | 10
-		0     | 50  | 5
+		start | end       | length
+		1     | 100       | 10
+		0     | 50        | 5
+		0     | 5         | 5
+		0     | 1_000_000 | 1000
+	}
+
+	def "测试范围与长度相同时生成全排列 (randomUniqueIntegerList/randomUniqueLongList)"() {
+		given:
+		def randomList = RandomList.insecure()
+
+		when:
+		def integers = randomList.randomUniqueIntegerList(0, 500, 500)
+		def longs = randomList.randomUniqueLongList(0L, 500L, 500)
+
+		then:
+		integers.toSorted() == (0..<500).toList()
+		longs.toSorted() == (0L..<500L).toList()
 	}
 
 	def "测试全范围唯一整数列表 (randomUniqueIntegerList)"() {
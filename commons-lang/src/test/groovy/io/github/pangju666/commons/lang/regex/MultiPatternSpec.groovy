@@ -0,0 +1,132 @@
+package io.github.pangju666.commons.lang.regex
+
+import io.github.pangju666.commons.lang.pool.RegExPool
+import spock.lang.Specification
+import spock.lang.Title
+import spock.lang.Unroll
+
+import java.util.regex.Pattern
+
+@Title("MultiPattern 单元测试")
+class MultiPatternSpec extends Specification {
+
+	@Unroll
+	def "测试匹配任意模式 - 字符串: #input 预期: #expected"() {
+		given:
+		def pattern = MultiPattern.compile(RegExPool.EMAIL, RegExPool.MOBILE_PHONE_STRONG, RegExPool.IPV4)
+
+		expect:
+		pattern.matchesAny(input) == expected
+
+		where:
+		input           | expected
+		"foo@bar.com"   | true
+		"13800138000"   | true
+		"192.168.1.1"   | true
+		"hello"         | false
+		"13800138000a"  | false
+		""              | false
+		"   "           | false
+		null            | false
+	}
+
+	@Unroll
+	def "测试匹配模式下标 - 字符串: #input 预期下标: #expected"() {
+		given:
+		def pattern = MultiPattern.compile(RegExPool.EMAIL, RegExPool.MOBILE_PHONE_STRONG, RegExPool.IPV4)
+
+		expect:
+		pattern.indexOf(input) == expected
+
+		where:
+		input         | expected
+		"foo@bar.com" | 0
+		"13800138000" | 1
+		"192.168.1.1" | 2
+		"hello"       | -1
+		null          | -1
+	}
+
+	def "测试包含分组的正则表达式下标计算"() {
+		given: "前面的正则表达式包含自身分组"
+		def pattern = MultiPattern.compile("(a)(b)c", "(x(y))z", "\\d+")
+
+		expect:
+		pattern.indexOf("abc") == 0
+		pattern.indexOf("xyz") == 1
+		pattern.indexOf("123") == 2
+		pattern.firstMatch("xyz") == "(x(y))z"
+		pattern.firstMatch("none") == null
+	}
+
+	def "测试多个模式同时匹配时返回靠前的模式"() {
+		given:
+		def pattern = MultiPattern.compile("\\d+", "[0-9a-f]+", "[a-z]+")
+
+		expect:
+		pattern.indexOf("123") == 0
+		pattern.indexOf("abc") == 1
+		pattern.indexOf("xyz") == 2
+		pattern.matchAll("123") == bitSet(0, 1)
+		pattern.matchAll("abc") == bitSet(1, 2)
+		pattern.matchAll("xyz") == bitSet(2)
+		pattern.matchAll("!!!").isEmpty()
+		pattern.matchAll(null).isEmpty()
+	}
+
+	def "测试整串匹配"() {
+		given:
+		def pattern = MultiPattern.compile("\\d+")
+
+		expect:
+		!pattern.matchesAny("abc123")
+		pattern.indexOf("123abc") == -1
+	}
+
+	def "测试标志位对所有正则表达式生效"() {
+		given:
+		def pattern = MultiPattern.compile(["abc", "xyz"], Pattern.CASE_INSENSITIVE)
+
+		expect:
+		pattern.indexOf("ABC") == 0
+		pattern.indexOf("XyZ") == 1
+		!MultiPattern.compile("abc", "xyz").matchesAny("ABC")
+	}
+
+	def "测试获取正则表达式列表与合并后的模式"() {
+		given:
+		def pattern = MultiPattern.compile("a+", "b+")
+
+		expect:
+		pattern.getRegexes() == ["a+", "b+"]
+		pattern.getPattern().pattern() == "(a+)|(b+)"
+
+		when:
+		pattern.getRegexes().add("c+")
+
+		then:
+		thrown(UnsupportedOperationException)
+	}
+
+	def "测试参数校验"() {
+		when:
+		MultiPattern.compile(regexes as String[])
+
+		then:
+		thrown(exception)
+
+		where:
+		regexes      || exception
+		null         || NullPointerException
+		[]           || IllegalArgumentException
+		["a", ""]    || IllegalArgumentException
+		["a", "  "]  || IllegalArgumentException
+		["a", null]  || NullPointerException
+	}
+
+	private static BitSet bitSet(int... indexes) {
+		def bitSet = new BitSet()
+		indexes.each { bitSet.set(it) }
+		return bitSet
+	}
+}
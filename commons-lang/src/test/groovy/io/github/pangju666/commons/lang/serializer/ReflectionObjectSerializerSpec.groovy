@@ -0,0 +1,218 @@
+package io.github.pangju666.commons.lang.serializer
+
+import spock.lang.Specification
+import spock.lang.Title
+
+import java.time.LocalDate
+import java.util.concurrent.ConcurrentHashMap
+
+@Title("ReflectionObjectSerializer 单元测试")
+class ReflectionObjectSerializerSpec extends Specification {
+	def serializer = ReflectionObjectSerializer.INSTANCE
+
+	static class Base {
+		String origin
+
+		Base() {
+			origin = "constructor"
+		}
+	}
+
+	static class Child extends Base implements Serializable {
+		String name
+		transient String cache = "initial"
+		int[] numbers
+		Date createTime
+		LocalDate birthday
+	}
+
+	static class Node implements Serializable {
+		String name
+		Node next
+		List<Node> children = []
+	}
+
+	static class Singleton implements Serializable {
+		static final Singleton INSTANCE = new Singleton()
+
+		private Object readResolve() {
+			return INSTANCE
+		}
+	}
+
+	static class Holder implements Serializable {
+		Object value
+	}
+
+	static class NoDefaultConstructor implements Serializable {
+		final String name
+		final List<String> tags
+
+		NoDefaultConstructor(String name, List<String> tags) {
+			this.name = name
+			this.tags = tags
+		}
+	}
+
+	def "测试字段深度复制"() {
+		given:
+		def child = new Child(name: "name", numbers: [1, 2, 3] as int[], createTime: new Date(1000L),
+			birthday: LocalDate.of(2000, 1, 1))
+
+		when:
+		Child copy = serializer.clone(child)
+		copy.numbers[0] = 100
+		copy.createTime.time = 2000L
+
+		then: "可变对象被复制"
+		!copy.is(child)
+		child.numbers == [1, 2, 3] as int[]
+		child.createTime.time == 1000L
+
+		and: "不可变对象直接复用"
+		copy.name.is(child.name)
+		copy.birthday.is(child.birthday)
+	}
+
+	def "测试transient字段与不可序列化父类构造器"() {
+		given:
+		def child = new Child(name: "name")
+		child.cache = "changed"
+		child.origin = "changed"
+
+		when:
+		Child copy = serializer.clone(child)
+
+		then: "transient字段保持默认值"
+		copy.cache == null
+
+		and: "第一个不可序列化父类的无参构造器被调用"
+		copy.origin == "constructor"
+	}
+
+	def "测试与JDK序列化克隆结果一致"() {
+		given:
+		def child = new Child(name: "name", numbers: [1] as int[])
+		child.cache = "changed"
+		child.origin = "changed"
+
+		when:
+		Child reflectionCopy = serializer.clone(child)
+		Child jdkCopy = JdkObjectSerializer.INSTANCE.clone(child)
+
+		then:
+		reflectionCopy.name == jdkCopy.name
+		reflectionCopy.cache == jdkCopy.cache
+		reflectionCopy.origin == jdkCopy.origin
+		reflectionCopy.numbers == jdkCopy.numbers
+	}
+
+	def "测试保留共享引用与循环引用"() {
+		given:
+		def shared = new Node(name: "shared")
+		def root = new Node(name: "root", next: shared)
+		root.children << shared << root
+		shared.next = root
+
+		when:
+		Node copy = serializer.clone(root)
+
+		then:
+		!copy.is(root)
+		copy.next.is(copy.children[0])
+		copy.children[1].is(copy)
+		copy.next.next.is(copy)
+		copy.next.name == "shared"
+	}
+
+	def "测试常用集合深度复制"() {
+		given:
+		def comparator = Comparator.reverseOrder()
+		def treeMap = new TreeMap<String, List<Integer>>(comparator)
+		treeMap.a = [1]
+		treeMap.b = [2]
+		def source = new Holder(value: [
+			new ArrayList<>([new Holder(value: 1)]),
+			new LinkedList<>([1, 2]),
+			new ArrayDeque<>([3]),
+			new HashSet<>(["x"]),
+			new LinkedHashSet<>(["y", "z"]),
+			new TreeSet<>(["b", "a"]),
+			new HashMap<>([k: [1]]),
+			new ConcurrentHashMap<>([c: 1]),
+			treeMap
+		])
+
+		when:
+		Holder copy = serializer.clone(source)
+		List<Object> values = copy.value as List<Object>
+		List<Object> originals = source.value as List<Object>
+
+		then: "集合类型与内容一致，但不是同一实例"
+		values.size() == originals.size()
+		(0..<values.size()).every { i ->
+			values[i].getClass() == originals[i].getClass() && !values[i].is(originals[i])
+		}
+		values[0][0].value == 1
+		!values[0][0].is(originals[0][0])
+		values[4] as List == ["y", "z"]
+		values[6].k == [1]
+		!values[6].k.is(originals[6].k)
+
+		and: "排序集合保留比较器"
+		(values[8] as TreeMap).keySet() as List == ["b", "a"]
+		(values[8] as TreeMap).comparator() == comparator
+	}
+
+	def "测试自定义序列化方法时退回JDK序列化"() {
+		given:
+		def holder = new Holder(value: Singleton.INSTANCE)
+
+		when:
+		Holder copy = serializer.clone(holder)
+
+		then: "readResolve 被调用"
+		!copy.is(holder)
+		copy.value.is(Singleton.INSTANCE)
+	}
+
+	def "测试没有无参构造器时退回JDK序列化"() {
+		given:
+		def source = new NoDefaultConstructor("name", ["a", "b"])
+		def holder = new Holder(value: [source, source])
+
+		when:
+		Holder copy = serializer.clone(holder)
+		List<NoDefaultConstructor> values = copy.value as List<NoDefaultConstructor>
+
+		then: "对象被完整复制"
+		!values[0].is(source)
+		values[0].name == "name"
+		values[0].tags == ["a", "b"]
+		!values[0].tags.is(source.tags)
+
+		and: "同一对象只复制一次"
+		values[1].is(values[0])
+	}
+
+	def "测试不可序列化对象"() {
+		when:
+		serializer.clone(new Holder(value: new Object()))
+
+		then:
+		thrown(IllegalArgumentException)
+	}
+
+	def "测试序列化与反序列化与JDK序列化器兼容"() {
+		given:
+		def node = new Node(name: "node")
+
+		when:
+		byte[] bytes = serializer.serialize(node)
+		Node result = JdkObjectSerializer.INSTANCE.deserialize(bytes) as Node
+
+		then:
+		bytes == JdkObjectSerializer.INSTANCE.serialize(node)
+		result.name == "node"
+	}
+}
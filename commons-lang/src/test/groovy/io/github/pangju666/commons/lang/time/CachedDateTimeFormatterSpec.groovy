@@ -0,0 +1,82 @@
+package io.github.pangju666.commons.lang.time
+
+import spock.lang.Specification
+import spock.lang.Title
+
+import java.time.Instant
+import java.time.ZoneId
+import java.time.format.DateTimeFormatter
+
+@Title("CachedDateTimeFormatter 单元测试")
+class CachedDateTimeFormatterSpec extends Specification {
+
+	def "测试格式化结果与DateTimeFormatter一致"() {
+		given:
+		def formatter = new CachedDateTimeFormatter("yyyy-MM-dd HH:mm:ss")
+		def expected = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
+
+		expect:
+		[0L, 999L, 1000L, -1L, 1735560000000L, System.currentTimeMillis()].every { millis ->
+			formatter.format(millis) == expected.format(Instant.ofEpochSecond(Math.floorDiv(millis, 1000L))
+				.atZone(ZoneId.systemDefault()))
+		}
+	}
+
+	def "测试同一秒内复用格式化结果"() {
+		given:
+		def formatter = new CachedDateTimeFormatter(DateTimeFormatterRegistry.DATETIME_FORMATTER)
+
+		when:
+		def first = formatter.format(1735560000000L)
+		def sameSecond = formatter.format(1735560000999L)
+		def nextSecond = formatter.format(1735560001000L)
+
+		then:
+		sameSecond.is(first)
+		nextSecond != first
+	}
+
+	def "测试系统默认时区变化在下一秒生效"() {
+		given:
+		def defaultTimeZone = TimeZone.getDefault()
+		TimeZone.setDefault(TimeZone.getTimeZone("UTC"))
+		def formatter = new CachedDateTimeFormatter("yyyy-MM-dd HH:mm:ss")
+
+		when:
+		def first = formatter.format(0L)
+		TimeZone.setDefault(TimeZone.getTimeZone("Asia/Shanghai"))
+		def sameSecond = formatter.format(999L)
+		def nextSecond = formatter.format(1000L)
+
+		then:
+		first == "1970-01-01 00:00:00"
+		sameSecond.is(first)
+		nextSecond == "1970-01-01 08:00:01"
+
+		cleanup:
+		TimeZone.setDefault(defaultTimeZone)
+	}
+
+	def "测试负数时间戳按秒向下取整"() {
+		given:
+		def formatter = new CachedDateTimeFormatter("yyyy-MM-dd HH:mm:ss")
+
+		expect:
+		formatter.format(-1L) == formatter.format(-1000L)
+		formatter.format(-1L) != formatter.format(0L)
+	}
+
+	def "测试参数校验"() {
+		when:
+		new CachedDateTimeFormatter((DateTimeFormatter) null)
+
+		then:
+		thrown(NullPointerException)
+
+		when:
+		new CachedDateTimeFormatter("")
+
+		then:
+		thrown(IllegalArgumentException)
+	}
+}
@@ -0,0 +1,136 @@
+package io.github.pangju666.commons.lang.time
+
+import io.github.pangju666.commons.lang.pool.Constants
+import org.apache.commons.lang3.time.DateUtils as ApacheDateUtils
+import spock.lang.Specification
+import spock.lang.Title
+import spock.lang.Unroll
+
+import java.time.LocalDateTime
+
+@Title("DateTimeFormatterRegistry 单元测试")
+class DateTimeFormatterRegistrySpec extends Specification {
+
+	def "测试获取缓存的格式化器"() {
+		when:
+		def formatter = DateTimeFormatterRegistry.getFormatter("yyyy/MM/dd HH:mm")
+
+		then: "相同格式返回同一实例"
+		formatter.is(DateTimeFormatterRegistry.getFormatter("yyyy/MM/dd HH:mm"))
+		formatter.format(LocalDateTime.of(2024, 1, 2, 3, 4)) == "2024/01/02 03:04"
+
+		when: "清空缓存"
+		DateTimeFormatterRegistry.clearCache()
+
+		then: "重新创建格式化器"
+		!formatter.is(DateTimeFormatterRegistry.getFormatter("yyyy/MM/dd HH:mm"))
+	}
+
+	def "测试获取格式化器参数校验"() {
+		when:
+		DateTimeFormatterRegistry.getFormatter(pattern)
+
+		then:
+		thrown(exception)
+
+		where:
+		pattern || exception
+		null    || NullPointerException
+		""      || IllegalArgumentException
+		"  "    || IllegalArgumentException
+		"yyyy{" || IllegalArgumentException
+	}
+
+	def "测试预置格式化器"() {
+		given:
+		def dateTime = LocalDateTime.of(2024, 2, 29, 13, 14, 15)
+
+		expect:
+		DateTimeFormatterRegistry.DATE_FORMATTER.format(dateTime) == "2024-02-29"
+		DateTimeFormatterRegistry.DATETIME_FORMATTER.format(dateTime) == "2024-02-29 13:14:15"
+		DateTimeFormatterRegistry.TIME_FORMATTER.format(dateTime) == "13:14:15"
+	}
+
+	@Unroll
+	def "测试parseDefault 快速解析 - 输入: #input"() {
+		when:
+		def date = DateTimeFormatterRegistry.parseDefault(input)
+
+		then: "与宽松解析结果一致"
+		date == ApacheDateUtils.parseDate(input, pattern)
+
+		where:
+		input                 | pattern
+		"2024-02-29"          | Constants.DATE_FORMAT
+		"1600-01-01"          | Constants.DATE_FORMAT
+		"2023-12-31 23:59"    | "yyyy-MM-dd HH:mm"
+		"2023-12-31 23:59:59" | Constants.DATETIME_FORMAT
+		"2024-06-01 00:00:00" | Constants.DATETIME_FORMAT
+	}
+
+	@Unroll
+	def "测试parseDefault 不处理的输入 - 输入: #input"() {
+		expect:
+		DateTimeFormatterRegistry.parseDefault(input) == null
+
+		where:
+		input << [
+			null,
+			"",
+			"2024-1-5",
+			"2023-02-29",
+			"2024-04-31",
+			"2024-13-01",
+			"2024-00-10",
+			"1599-12-31",
+			"2024/01/01",
+			"2024-01-01T10:00",
+			"2024-01-01 24:00",
+			"2024-01-01 10:60:00",
+			"2024-01-01 10:00:60",
+			"2024-01-01 10-00-00",
+			"abcd-ef-gh",
+			"2024-01-01 10:00:0a"
+		]
+	}
+
+	@Unroll
+	def "测试parse 严格解析 - 输入: #input 格式: #pattern"() {
+		when:
+		def date = DateTimeFormatterRegistry.parse(input, pattern)
+
+		then: "与宽松解析结果一致"
+		date == ApacheDateUtils.parseDate(input, pattern)
+
+		where:
+		input                     | pattern
+		"2023/12/31"              | "yyyy/MM/dd"
+		"31-12-2023"              | "dd-MM-yyyy"
+		"20231231235959"          | "yyyyMMddHHmmss"
+		"2023-12-31T23:59:59.123" | "yyyy-MM-dd'T'HH:mm:ss.SSS"
+		"2023年1月5日"             | "yyyy年M月d日"
+		"23:59"                   | "HH:mm"
+	}
+
+	@Unroll
+	def "测试parse 无法快速解析时返回null - 输入: #input 格式: #pattern"() {
+		expect:
+		DateTimeFormatterRegistry.parse(input, pattern) == null
+
+		where:
+		input                 | pattern
+		null                  | "yyyy-MM-dd"
+		""                    | "yyyy-MM-dd"
+		"2023-12-31"          | null
+		"2023-12-31"          | " "
+		"23-12-31"            | "yy-MM-dd"
+		"Sun 2023-12-31"      | "EEE yyyy-MM-dd"
+		"2023-12-31 PM"       | "yyyy-MM-dd a"
+		"2023-12-31"          | "yyyy-MM-dd'"
+		"2023-12-31"          | "[yyyy-MM-dd]"
+		"2023-02-29"          | "yyyy-MM-dd"
+		"2023-12-31 10:00"    | "yyyy-MM-dd"
+		"2023-12-31"          | "yyyy-MM-dd HH:mm"
+		"1599-12-31"          | "yyyy-MM-dd"
+	}
+}
@@ -1,5 +1,6 @@
 package io.github.pangju666.commons.lang.utils
 
+import io.github.pangju666.commons.lang.concurrent.TimeSource
 import io.github.pangju666.commons.lang.pool.Constants
 import org.apache.commons.lang3.time.DateFormatUtils as ApacheDateFormatUtils
 import spock.lang.Specification
@@ -27,6 +28,22 @@ class DateFormatUtilsSpec extends Specification {
 		result ==~ /\d{4}-\d{2}-\d{2} \d{2}:\d{2}:\d{2}/
 	}
 
+	def "测试formatDatetime(TimeSource) 使用时间源的时间"() {
+		given:
+		def timeSource = { 1735560000000L } as TimeSource
+
+		expect:
+		DateFormatUtils.formatDatetime(timeSource) == ApacheDateFormatUtils.format(1735560000000L, Constants.DATETIME_FORMAT)
+	}
+
+	def "测试formatDatetime(TimeSource) 时间源为null"() {
+		when:
+		DateFormatUtils.formatDatetime((TimeSource) null)
+
+		then:
+		thrown(NullPointerException)
+	}
+
 	@Unroll
 	def "测试formatDate(Date) 与 formatDate(Long) - 时间戳: #timestamp"() {
 		given:
@@ -1,5 +1,6 @@
 package io.github.pangju666.commons.lang.utils
 
+import io.github.pangju666.commons.lang.concurrent.TimeSource
 import io.github.pangju666.commons.lang.pool.Constants
 import org.apache.commons.lang3.time.DateFormatUtils as ApacheDateFormatUtils
 import spock.lang.Specification
@@ -54,11 +55,58 @@ class DateUtilsSpec extends Specification {
 		"2023/12/31" | "yyyy/MM/dd" || "2023/12/31"
 	}
 
+	@Unroll
+	def "测试parseDate 快速解析失败时回退宽松解析 - 输入: #input"() {
+		expect:
+		DateUtils.parseDate(input) == expected
+
+		where:
+		input                 | expected
+		"2024-1-5"            | new GregorianCalendar(2024, Calendar.JANUARY, 5).time
+		"2023-02-29"          | new GregorianCalendar(2023, Calendar.MARCH, 1).time
+		"2024-01-01 10:00:00" | new GregorianCalendar(2024, Calendar.JANUARY, 1, 10, 0, 0).time
+		"not a date"          | null
+	}
+
+	@Unroll
+	def "测试parseDateOrDefault(自定义模式) 按顺序尝试格式 - 输入: #input"() {
+		given:
+		def defaultDate = new Date(0)
+
+		expect:
+		DateUtils.parseDateOrDefault(input, defaultDate, "yyyy/MM/dd", "dd.MM.yyyy") == expected
+
+		where:
+		input        | expected
+		"2023/12/31" | new GregorianCalendar(2023, Calendar.DECEMBER, 31).time
+		"31.12.2023" | new GregorianCalendar(2023, Calendar.DECEMBER, 31).time
+		"2023-12-31" | new Date(0)
+	}
+
+	def "测试parseDateOrDefault(自定义模式) 前面的格式宽松解析优先于后面的格式严格解析"() {
+		expect: "yyyy-MM-dd 宽松解析时13月进位到下一年，不会改用 yyyy-dd-MM 严格解析"
+		DateUtils.parseDateOrDefault("2024-13-01", null, "yyyy-MM-dd", "yyyy-dd-MM") ==
+			new GregorianCalendar(2025, Calendar.JANUARY, 1).time
+	}
+
 	def "测试nowDate 返回当前时间"() {
 		expect:
 		Math.abs(System.currentTimeMillis() - DateUtils.nowDate().time) < 2000
 	}
 
+	def "测试nowDate 使用指定时间源"() {
+		expect:
+		DateUtils.nowDate({ 1700000000000L } as TimeSource).time == 1700000000000L
+	}
+
+	def "测试nowDate 时间源为null"() {
+		when:
+		DateUtils.nowDate((TimeSource) null)
+
+		then:
+		thrown(NullPointerException)
+	}
+
 	@Unroll
 	def "测试toDate(Long) 与默认值 - 时间戳: #timestamp"() {
 		given:
@@ -73,4 +73,26 @@ class IdUtilsSpec extends Specification {
 		then:
 		thrown(IllegalArgumentException)
 	}
+
+	@Unroll
+	def "NanoId 批量生成: count=#count"() {
+		when:
+		def ids = IdUtils.nanoIds(count)
+
+		then:
+		ids.length == count
+		ids.every { it ==~ /[A-Za-z0-9_-]{21}/ }
+		ids.toList().toSet().size() == count
+
+		where:
+		count << [0, 1, 100]
+	}
+
+	def "NanoId 批量生成数量为负数"() {
+		when:
+		IdUtils.nanoIds(-1)
+
+		then:
+		thrown(IllegalArgumentException)
+	}
 }
@@ -8,7 +8,9 @@ import com.google.gson.reflect.TypeToken
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.nio.charset.StandardCharsets
 import java.time.Instant
+import java.util.stream.Collectors
 
 class JsonUtilsSpec extends Specification {
 	@Unroll
@@ -119,4 +121,174 @@ class JsonUtilsSpec extends Specification {
 		JsonUtils.fromString("\"0.0001\"", gson, BigDecimal.class) == new BigDecimal("0.0001")
 		JsonUtils.fromString("1.5", gson, BigDecimal.class) == BigDecimal.valueOf(1.5d)
 	}
+
+	@Unroll
+	def "测试readArray 逐个读取元素 - 输入: #input"() {
+		given:
+		def elements = []
+
+		when:
+		long count = JsonUtils.readArray(new StringReader(input), Integer.class, { elements << it })
+
+		then:
+		count == expected.size()
+		elements == expected
+
+		where:
+		input           | expected
+		"[1, 2, 3]"     | [1, 2, 3]
+		"[]"            | []
+		"null"          | []
+		"[1, null, 3]"  | [1, null, 3]
+	}
+
+	def "测试readArray 从输入流读取并保留输入流"() {
+		given:
+		def inputStream = new ByteArrayInputStream('["中文", "b"]'.getBytes(StandardCharsets.UTF_8))
+		def elements = []
+
+		when:
+		long count = JsonUtils.readArray(inputStream, String.class, { elements << it })
+
+		then:
+		count == 2
+		elements == ["中文", "b"]
+	}
+
+	def "测试readArray 使用自定义GSON与类型标记"() {
+		given:
+		def gson = JsonUtils.createGsonBuilder().create()
+		def elements = []
+
+		when:
+		JsonUtils.readArray(new StringReader('[{"a": [1, 2]}, {"b": []}]'), gson,
+			new TypeToken<Map<String, List<Integer>>>() {}, { elements << it })
+
+		then:
+		elements == [[a: [1, 2]], [b: []]]
+		elements[0].a[0] instanceof Integer
+	}
+
+	def "测试readArray 非数组输入"() {
+		when:
+		JsonUtils.readArray(new StringReader('{"a": 1}'), Integer.class, {})
+
+		then:
+		thrown(IllegalStateException)
+	}
+
+	def "测试readArray 参数校验"() {
+		when:
+		JsonUtils.readArray((Reader) null, Integer.class, {})
+
+		then:
+		thrown(NullPointerException)
+
+		when:
+		JsonUtils.readArray(new StringReader("[]"), Integer.class, null)
+
+		then:
+		thrown(NullPointerException)
+	}
+
+	def "测试streamArray 惰性读取元素"() {
+		given:
+		def stream = JsonUtils.streamArray(new StringReader('["a", "b", "c"]'), String.class)
+
+		expect:
+		stream.map { it.toUpperCase() }.collect(Collectors.toList()) == ["A", "B", "C"]
+	}
+
+	def "测试streamArray 只读取需要的元素"() {
+		given: "数组末尾格式错误"
+		def stream = JsonUtils.streamArray(new StringReader('[1, 2, oops'), Integer.class)
+
+		expect: "只消费前两个元素时不会读取到错误位置"
+		stream.limit(2).collect(Collectors.toList()) == [1, 2]
+	}
+
+	def "测试streamArray 空数组与JSON null"() {
+		expect:
+		JsonUtils.streamArray(new StringReader(input), Integer.class).count() == 0
+
+		where:
+		input << ["[]", "null"]
+	}
+
+	def "测试streamArray 关闭流时关闭reader"() {
+		given:
+		boolean closed = false
+		def reader = new StringReader("[1]") {
+			@Override
+			void close() {
+				closed = true
+				super.close()
+			}
+		}
+
+		when:
+		JsonUtils.streamArray(reader, Integer.class).withCloseable { it.count() }
+
+		then:
+		closed
+	}
+
+	def "测试streamArray 读取失败时抛出UncheckedIOException"() {
+		when: "数组未结束"
+		JsonUtils.streamArray(new StringReader('[1, 2'), Integer.class).collect(Collectors.toList())
+
+		then:
+		def e = thrown(UncheckedIOException)
+		e.cause instanceof EOFException
+	}
+
+	def "测试writeArray 按运行时类型写入元素"() {
+		given:
+		def writer = new StringWriter()
+
+		when:
+		long count = JsonUtils.writeArray([1, "a", null, [x: 1]].iterator(), writer)
+
+		then:
+		count == 4
+		writer.toString() == '[1,"a",null,{"x":1}]'
+	}
+
+	def "测试writeArray 迭代器为null时写入空数组"() {
+		given:
+		def writer = new StringWriter()
+
+		when:
+		long count = JsonUtils.writeArray(null, writer)
+
+		then:
+		count == 0
+		writer.toString() == "[]"
+	}
+
+	def "测试writeArray 写入输出流后可以重新读取"() {
+		given:
+		def outputStream = new ByteArrayOutputStream()
+		def source = (0..<1000).collect { "元素" + it }
+		def elements = []
+
+		when:
+		JsonUtils.writeArray(source.iterator(), outputStream)
+		JsonUtils.readArray(new ByteArrayInputStream(outputStream.toByteArray()), String.class, { elements << it })
+
+		then:
+		elements == source
+	}
+
+	def "测试writeArray 使用自定义GSON与类型标记"() {
+		given:
+		def gson = JsonUtils.createGsonBuilder().create()
+		def writer = new StringWriter()
+
+		when:
+		JsonUtils.writeArray([new BigDecimal("1E-10")].iterator(), gson, TypeToken.get(BigDecimal.class), writer)
+
+		then:
+		writer.toString() == '["0.0000000001"]'
+	}
 }
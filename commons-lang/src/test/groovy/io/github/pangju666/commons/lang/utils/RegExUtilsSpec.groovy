@@ -139,6 +139,36 @@ class RegExUtilsSpec extends Specification {
 		RegExUtils.find(Pattern.compile("\\d+"), null) == []
 	}
 
+	def "测试编译结果缓存"() {
+		expect: "相同正则表达式与标志位返回同一实例"
+		RegExUtils.compile("cache\\d+").is(RegExUtils.compile("cache\\d+"))
+		RegExUtils.compile("cache\\d+", Pattern.CASE_INSENSITIVE).is(RegExUtils.compile("cache\\d+", Pattern.CASE_INSENSITIVE))
+
+		and: "标志位不同时分别缓存"
+		!RegExUtils.compile("cache\\d+").is(RegExUtils.compile("cache\\d+", Pattern.CASE_INSENSITIVE))
+		RegExUtils.compile("cache\\d+", Pattern.CASE_INSENSITIVE).flags() == Pattern.CASE_INSENSITIVE
+	}
+
+	def "测试清空缓存"() {
+		given:
+		def pattern = RegExUtils.compile("clear\\d+")
+
+		when:
+		RegExUtils.clearCache()
+
+		then:
+		!pattern.is(RegExUtils.compile("clear\\d+"))
+		RegExUtils.compile("clear\\d+").pattern() == pattern.pattern()
+	}
+
+	def "测试缓存达到上限后仍可正常编译"() {
+		when:
+		def patterns = (0..<RegExUtils.CACHE_SIZE + 100).collect { RegExUtils.compile("bound" + it) }
+
+		then:
+		patterns.withIndex().every { pattern, i -> pattern.matcher("bound" + i).matches() }
+	}
+
 	int computeFlag(int ... flags) {
 		int result = flags[0]
 		for (i in 1..<flags.length) {
@@ -0,0 +1,168 @@
+package io.github.pangju666.commons.lang.utils
+
+import io.github.pangju666.commons.lang.serializer.JdkObjectSerializer
+import io.github.pangju666.commons.lang.serializer.ReflectionObjectSerializer
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class SerializationUtilsSpec extends Specification {
+
+	static class Person implements Serializable {
+		String name
+		int age
+		List<String> tags = []
+		Map<String, Object> attributes = [:]
+	}
+
+	static class Outer implements Serializable {
+		String value
+
+		private void writeObject(ObjectOutputStream out) throws IOException {
+			// 在序列化过程中再次调用序列化
+			out.writeObject(SerializationUtils.serialize(value))
+		}
+
+		private void readObject(ObjectInputStream input) throws IOException, ClassNotFoundException {
+			value = SerializationUtils.deserialize((byte[]) input.readObject())
+		}
+	}
+
+	static class FailingReplace implements Serializable {
+		private Object writeReplace() {
+			throw new IllegalStateException("writeReplace failed")
+		}
+	}
+
+	@Unroll
+	def "测试序列化与反序列化往返 - 序列化器: #serializer.class.simpleName"() {
+		given:
+		def person = new Person(name: "张三", age: 18, tags: ["a", "b"], attributes: [key: 1L])
+
+		when:
+		byte[] bytes = SerializationUtils.serialize(person, serializer)
+		Person result = SerializationUtils.deserialize(bytes, serializer)
+
+		then:
+		bytes.length > 0
+		!result.is(person)
+		result.name == "张三"
+		result.age == 18
+		result.tags == ["a", "b"]
+		result.attributes == [key: 1L]
+
+		where:
+		serializer << [JdkObjectSerializer.INSTANCE, ReflectionObjectSerializer.INSTANCE]
+	}
+
+	def "测试默认序列化器与JDK序列化器结果一致"() {
+		given:
+		def list = new ArrayList<>([1, 2, 3])
+
+		expect:
+		SerializationUtils.serialize(list) == SerializationUtils.serialize(list, JdkObjectSerializer.INSTANCE)
+		SerializationUtils.deserialize(SerializationUtils.serialize(list)) == list
+	}
+
+	@Unroll
+	def "测试深度克隆 - 序列化器: #serializer.class.simpleName"() {
+		given:
+		def person = new Person(name: "李四", age: 20, tags: ["x"], attributes: [nested: ["y"]])
+
+		when:
+		Person copy = SerializationUtils.clone(person, serializer)
+		copy.tags << "z"
+		copy.attributes.nested << "w"
+
+		then:
+		!copy.is(person)
+		copy.name == "李四"
+		person.tags == ["x"]
+		person.attributes.nested == ["y"]
+
+		where:
+		serializer << [JdkObjectSerializer.INSTANCE, ReflectionObjectSerializer.INSTANCE]
+	}
+
+	def "测试空值处理"() {
+		expect:
+		SerializationUtils.serialize(null).length == 0
+		SerializationUtils.deserialize(null) == null
+		SerializationUtils.deserialize(new byte[0]) == null
+		SerializationUtils.clone(null) == null
+		SerializationUtils.clone(null, ReflectionObjectSerializer.INSTANCE) == null
+	}
+
+	def "测试序列化器为null"() {
+		when:
+		SerializationUtils.serialize("a", null)
+
+		then:
+		thrown(NullPointerException)
+
+		when:
+		SerializationUtils.deserialize(new byte[1], null)
+
+		then:
+		thrown(NullPointerException)
+
+		when:
+		SerializationUtils.clone("a", null)
+
+		then:
+		thrown(NullPointerException)
+	}
+
+	def "测试序列化不可序列化对象"() {
+		when:
+		SerializationUtils.serialize(new Object())
+
+		then:
+		thrown(IllegalArgumentException)
+	}
+
+	def "测试反序列化非法字节数组"() {
+		when:
+		SerializationUtils.deserialize([1, 2, 3] as byte[])
+
+		then:
+		thrown(IllegalArgumentException)
+	}
+
+	def "测试序列化过程中嵌套调用序列化"() {
+		given:
+		def outer = new Outer(value: "nested")
+
+		when:
+		Outer copy = SerializationUtils.clone(outer)
+
+		then:
+		copy.value == "nested"
+	}
+
+	def "测试超过保留大小的缓冲区后继续序列化"() {
+		given:
+		byte[] large = new byte[2 * 1024 * 1024]
+		large[large.length - 1] = 1
+
+		when:
+		byte[] copy = SerializationUtils.clone(large)
+		String small = SerializationUtils.clone("small")
+
+		then:
+		copy == large
+		small == "small"
+	}
+
+	def "测试序列化抛出运行时异常后仍复用线程缓冲区"() {
+		when:
+		SerializationUtils.serialize(new FailingReplace(), JdkObjectSerializer.INSTANCE)
+
+		then:
+		thrown(IllegalStateException)
+		!JdkObjectSerializer.BUFFER.get().inUse
+
+		and:
+		SerializationUtils.deserialize(SerializationUtils.serialize("reuse", JdkObjectSerializer.INSTANCE)) == "reuse"
+		!JdkObjectSerializer.BUFFER.get().inUse
+	}
+}
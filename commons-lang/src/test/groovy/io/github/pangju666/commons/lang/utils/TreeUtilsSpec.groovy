@@ -175,4 +175,52 @@ class TreeUtilsSpec extends Specification {
 		TreeUtils.toTree([], { it }) == []
 		TreeUtils.toTree([], null as Long, { it }) == []
 	}
+
+	def "测试并行构建与串行构建结果一致"() {
+		given:
+		def nodes = [new TestNode(0L, null, "根")]
+		(1L..2000L).each { nodes << new TestNode(it, (it - 1L).intdiv(10), "节点" + it) }
+
+		when:
+		def serial = TreeUtils.toTree(nodes, null, { }, false)
+		def serialChildKeys = serial[0].childNodes*.nodeKey
+		def serialGrandChildKeys = serial[0].childNodes[0].childNodes*.nodeKey
+		def parallel = TreeUtils.toTree(nodes, null, { }, true)
+
+		then:
+		parallel*.nodeKey == [0L]
+		parallel[0].childNodes*.nodeKey == serialChildKeys
+		parallel[0].childNodes[0].childNodes*.nodeKey == serialGrandChildKeys
+	}
+
+	def "测试获取孤儿节点"() {
+		given:
+		def nodes = [
+			new TestNode(1L, null, "根"),
+			new TestNode(2L, 1L, "子"),
+			new TestNode(3L, 99L, "父节点不存在"),
+			new TestNode(4L, 5L, "循环A"),
+			new TestNode(5L, 4L, "循环B")
+		]
+
+		expect:
+		TreeUtils.getOrphanNodes(nodes, null)*.nodeKey == [3L, 4L, 5L]
+		TreeUtils.getOrphanNodes(nodes, 100L)*.nodeKey == [1L, 2L, 3L, 4L, 5L]
+		TreeUtils.getOrphanNodes([], null) == []
+	}
+
+	def "测试循环引用抛出异常"() {
+		given:
+		def nodes = [
+			new TestNode(1L, null, "根"),
+			new TestNode(2L, 1L, "子"),
+			new TestNode(2L, 2L, "自引用")
+		]
+
+		when:
+		TreeUtils.toTree(nodes, null)
+
+		then:
+		thrown(IllegalStateException)
+	}
 }
@@ -24,6 +24,7 @@ import com.drew.metadata.bmp.BmpHeaderDirectory;
 import com.drew.metadata.eps.EpsDirectory;
 import com.drew.metadata.exif.ExifDirectoryBase;
 import com.drew.metadata.exif.ExifIFD0Directory;
+import com.drew.metadata.file.FileSystemMetadataReader;
 import com.drew.metadata.gif.GifImageDirectory;
 import com.drew.metadata.heif.HeifDirectory;
 import com.drew.metadata.ico.IcoDirectory;
@@ -179,7 +180,7 @@ public class OpenCvResource extends IOResource {
 					throw new UnsupportedResourceException("不支持读取该图像", file, format, mimeType);
 				}
 			} else {
-				try (InputStream byteArrayInputStream = IOUtils.toUnsynchronizedByteArrayInputStream(getBytes())) {
+				try (InputStream byteArrayInputStream = openInputStream()) {
 					imageMat = OpenCvUtils.read(byteArrayInputStream, this.flags);
 
 					if (OpenCvUtils.isEmpty(imageMat)) {
@@ -197,7 +198,7 @@ public class OpenCvResource extends IOResource {
 
 			if (Objects.nonNull(this.file)) {
 				try {
-					this.metadata = ImageMetadataReader.readMetadata(this.file);
+					this.metadata = readFileMetadata();
 					this.exifOrientation = getExifOrientation(this.metadata);
 				} catch (ImageProcessingException ignored) {
 					this.metadata = new Metadata();
@@ -211,7 +212,7 @@ public class OpenCvResource extends IOResource {
 					}
 				}
 			} else {
-				try (InputStream byteArrayInputStream = IOUtils.toUnsynchronizedByteArrayInputStream(getBytes())) {
+				try (InputStream byteArrayInputStream = openInputStream()) {
 					this.metadata = ImageMetadataReader.readMetadata(byteArrayInputStream);
 					this.exifOrientation = getExifOrientation(this.metadata);
 				} catch (ImageProcessingException ignored) {
@@ -221,7 +222,7 @@ public class OpenCvResource extends IOResource {
 				if ((flags == opencv_imgcodecs.IMREAD_UNCHANGED || flags == opencv_imgcodecs.IMREAD_IGNORE_ORIENTATION) &&
 					exifOrientation != OpenCvConstants.NORMAL_EXIF_ORIENTATION) {
 					if (Objects.isNull(imageMat)) {
-						try (InputStream byteArrayInputStream = IOUtils.toUnsynchronizedByteArrayInputStream(getBytes())) {
+						try (InputStream byteArrayInputStream = openInputStream()) {
 							imageMat = OpenCvUtils.read(byteArrayInputStream, this.flags);
 
 							if (OpenCvUtils.isEmpty(imageMat)) {
@@ -285,7 +286,7 @@ public class OpenCvResource extends IOResource {
 					throw new UnsupportedResourceException("不支持读取该图像", file, format, mimeType);
 				}
 			} else {
-				try (InputStream byteArrayInputStream = IOUtils.toUnsynchronizedByteArrayInputStream(getBytes())) {
+				try (InputStream byteArrayInputStream = openInputStream()) {
 					imageMat = OpenCvUtils.read(byteArrayInputStream, this.flags);
 
 					if (OpenCvUtils.isEmpty(imageMat)) {
@@ -300,7 +301,7 @@ public class OpenCvResource extends IOResource {
 
 			if (Objects.nonNull(this.file)) {
 				try {
-					this.metadata = ImageMetadataReader.readMetadata(this.file);
+					this.metadata = readFileMetadata();
 					this.exifOrientation = getExifOrientation(this.metadata);
 				} catch (ImageProcessingException ignored) {
 					this.metadata = new Metadata();
@@ -314,7 +315,7 @@ public class OpenCvResource extends IOResource {
 					}
 				}
 			} else {
-				try (InputStream byteArrayInputStream = IOUtils.toUnsynchronizedByteArrayInputStream(getBytes())) {
+				try (InputStream byteArrayInputStream = openInputStream()) {
 					this.metadata = ImageMetadataReader.readMetadata(byteArrayInputStream);
 					this.exifOrientation = getExifOrientation(this.metadata);
 				} catch (ImageProcessingException ignored) {
@@ -324,7 +325,7 @@ public class OpenCvResource extends IOResource {
 				if ((flags == opencv_imgcodecs.IMREAD_UNCHANGED || flags == opencv_imgcodecs.IMREAD_IGNORE_ORIENTATION) &&
 					exifOrientation != OpenCvConstants.NORMAL_EXIF_ORIENTATION) {
 					if (Objects.isNull(imageMat)) {
-						try (InputStream byteArrayInputStream = IOUtils.toUnsynchronizedByteArrayInputStream(getBytes())) {
+						try (InputStream byteArrayInputStream = openInputStream()) {
 							imageMat = OpenCvUtils.read(byteArrayInputStream, this.flags);
 
 							if (OpenCvUtils.isEmpty(imageMat)) {
@@ -370,7 +371,7 @@ public class OpenCvResource extends IOResource {
 					throw new UnsupportedResourceException("不支持读取该图像", file, format, mimeType);
 				}
 			} else {
-				try (InputStream byteArrayInputStream = IOUtils.toUnsynchronizedByteArrayInputStream(getBytes())) {
+				try (InputStream byteArrayInputStream = openInputStream()) {
 					imageMat = OpenCvUtils.read(byteArrayInputStream, this.flags);
 
 					if (OpenCvUtils.isEmpty(imageMat)) {
@@ -389,7 +390,7 @@ public class OpenCvResource extends IOResource {
 				}
 			} else {
 				if (Objects.isNull(imageMat)) {
-					try (InputStream byteArrayInputStream = IOUtils.toUnsynchronizedByteArrayInputStream(getBytes())) {
+					try (InputStream byteArrayInputStream = openInputStream()) {
 						imageMat = OpenCvUtils.read(byteArrayInputStream, this.flags);
 
 						if (OpenCvUtils.isEmpty(imageMat)) {
@@ -478,7 +479,7 @@ public class OpenCvResource extends IOResource {
 		if (correctOrientation) {
 			this.exifOrientation = OpenCvConstants.NORMAL_EXIF_ORIENTATION;
 			try {
-				this.metadata = ImageMetadataReader.readMetadata(this.file);
+				this.metadata = readFileMetadata();
 				this.exifOrientation = getExifOrientation(this.metadata);
 			} catch (ImageProcessingException ignored) {
 				this.metadata = new Metadata();
@@ -604,7 +605,7 @@ public class OpenCvResource extends IOResource {
 		if (correctOrientation) {
 			this.exifOrientation = OpenCvConstants.NORMAL_EXIF_ORIENTATION;
 			try {
-				this.metadata = ImageMetadataReader.readMetadata(file);
+				this.metadata = readFileMetadata();
 				this.exifOrientation = getExifOrientation(this.metadata);
 			} catch (ImageProcessingException ignored) {
 				this.metadata = new Metadata();
@@ -849,7 +850,7 @@ public class OpenCvResource extends IOResource {
 
 		validateImageType("inputStream 不是图像数据输入流");
 
-		try (InputStream byteArrayInputStream = IOUtils.toUnsynchronizedByteArrayInputStream(getBytes())) {
+		try (InputStream byteArrayInputStream = openInputStream()) {
 			this.flags = flags;
 			this.orientationCorrected = correctOrientation || (flags != opencv_imgcodecs.IMREAD_UNCHANGED &&
 				flags != opencv_imgcodecs.IMREAD_IGNORE_ORIENTATION);
@@ -861,7 +862,7 @@ public class OpenCvResource extends IOResource {
 
 			if (correctOrientation) {
 				this.exifOrientation = OpenCvConstants.NORMAL_EXIF_ORIENTATION;
-				try (InputStream tmpInputStream = IOUtils.toUnsynchronizedByteArrayInputStream(getBytes())) {
+				try (InputStream tmpInputStream = openInputStream()) {
 					this.metadata = ImageMetadataReader.readMetadata(tmpInputStream);
 					this.exifOrientation = getExifOrientation(this.metadata);
 				} catch (ImageProcessingException ignored) {
@@ -898,7 +899,7 @@ public class OpenCvResource extends IOResource {
 		Validate.inclusiveBetween(1, 8, exifOrientation, "exifOrientation 必须介于1-8之间");
 		validateImageType("inputStream 不是图像数据输入流");
 
-		try (InputStream byteArrayInputStream = IOUtils.toUnsynchronizedByteArrayInputStream(getBytes())) {
+		try (InputStream byteArrayInputStream = openInputStream()) {
 			this.flags = flags;
 			this.orientationCorrected = true;
 			this.exifOrientation = exifOrientation;
@@ -1139,12 +1140,12 @@ public class OpenCvResource extends IOResource {
 
 			if (Objects.nonNull(file)) {
 				try {
-					metadata = ImageMetadataReader.readMetadata(file);
+					metadata = readFileMetadata();
 				} catch (ImageProcessingException ignored) {
 					metadata = new Metadata();
 				}
 			} else {
-				try (InputStream inputStream = IOUtils.toUnsynchronizedByteArrayInputStream(getBytes())) {
+				try (InputStream inputStream = openInputStream()) {
 					metadata = ImageMetadataReader.readMetadata(inputStream);
 				} catch (ImageProcessingException ignored) {
 					metadata = new Metadata();
@@ -1248,10 +1249,41 @@ public class OpenCvResource extends IOResource {
 		if (Objects.nonNull(file)) {
 			return new BytePointer(FileUtils.readFileToByteArray(file));
 		} else {
-			return new BytePointer(byteArrayOutputStream.toByteArray());
+			return new BytePointer(getBytes());
 		}
 	}
 
+	/**
+	 * 读取文件模式的图像元数据
+	 * <p>优先从头部缓冲区解析，避免再次读取文件：</p>
+	 * <ul>
+	 *   <li>头部缓冲区包含全部内容时，直接从头部缓冲区解析</li>
+	 *   <li>JPEG 的元数据段位于图像数据之前，元数据段全部位于头部缓冲区内时直接从头部缓冲区解析</li>
+	 *   <li>其他情况读取文件解析</li>
+	 * </ul>
+	 *
+	 * @return 图像元数据对象
+	 * @throws IOException              当文件读取失败时抛出
+	 * @throws ImageProcessingException 当元数据解析失败时抛出
+	 * @since 2.2.0
+	 */
+	protected Metadata readFileMetadata() throws IOException, ImageProcessingException {
+		boolean headComplete = isHeadComplete();
+		if (headComplete || OpenCvConstants.JPEG_MIME_TYPE.equals(mimeType)) {
+			try (InputStream inputStream = openHeadInputStream()) {
+				Metadata metadata = ImageMetadataReader.readMetadata(inputStream, size.toBytes());
+				new FileSystemMetadataReader().read(file, metadata);
+				return metadata;
+			} catch (IOException | ImageProcessingException e) {
+				// JPEG 元数据段超出头部缓冲区，回退到读取文件
+				if (headComplete) {
+					throw e;
+				}
+			}
+		}
+		return ImageMetadataReader.readMetadata(file);
+	}
+
 	/**
 	 * 校验当前资源是否为图像资源
 	 *
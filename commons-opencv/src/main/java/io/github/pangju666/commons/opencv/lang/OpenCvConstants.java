@@ -37,6 +37,13 @@ public class OpenCvConstants {
 	 */
 	public static final int NORMAL_EXIF_ORIENTATION = 1;
 
+	/**
+	 * JPEG 图像 MIME 类型
+	 *
+	 * @since 2.2.0
+	 */
+	public static final String JPEG_MIME_TYPE = "image/jpeg";
+
 	/**
 	 * 完全透明颜色常量
 	 *
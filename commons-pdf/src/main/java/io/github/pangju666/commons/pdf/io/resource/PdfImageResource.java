@@ -137,7 +137,7 @@ public class PdfImageResource extends IOResource {
 		if (Objects.nonNull(file)) {
 			return PDImageXObject.createFromFileByContent(file, document);
 		} else {
-			byte[] bytes = byteArrayOutputStream.toByteArray();
+			byte[] bytes = getBytes();
 			return PDImageXObject.createFromByteArray(document, bytes, format);
 		}
 	}
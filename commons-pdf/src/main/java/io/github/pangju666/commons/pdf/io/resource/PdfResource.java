@@ -23,6 +23,7 @@ import io.github.pangju666.commons.pdf.utils.PDDocumentUtils;
 import org.apache.commons.lang3.Validate;
 import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
 import org.apache.pdfbox.pdmodel.PDDocument;
 
 import java.io.File;
@@ -127,7 +128,7 @@ public class PdfResource extends IOResource {
 	 * <p>
 	 * 该方法采用懒加载模式，首次调用时创建文档对象，后续调用返回缓存的实例。
 	 * 根据文件大小自动计算内存使用设置。
-	 * 如果资源来源于文件，则从文件系统加载；否则从字节数组加载。
+	 * 如果资源来源于文件，则从文件系统加载；否则直接读取资源内容存储，不复制数据。
 	 * </p>
 	 *
 	 * @return PDDocument 文档对象
@@ -145,9 +146,8 @@ public class PdfResource extends IOResource {
 			if (Objects.nonNull(file)) {
 				document = Loader.loadPDF(file, PDDocumentUtils.computeMemoryUsageSetting(file.length()).streamCache);
 			} else {
-				byte[] bytes = byteArrayOutputStream.toByteArray();
-				document = Loader.loadPDF(bytes, "", null, null,
-					PDDocumentUtils.computeMemoryUsageSetting(bytes.length).streamCache);
+				document = Loader.loadPDF(new RandomAccessReadBuffer(asByteBuffer()), "", null, null,
+					PDDocumentUtils.computeMemoryUsageSetting(size.toBytes()).streamCache);
 			}
 			return document;
 		}
@@ -180,9 +180,8 @@ public class PdfResource extends IOResource {
 			if (Objects.nonNull(file)) {
 				document = Loader.loadPDF(file, password, PDDocumentUtils.computeMemoryUsageSetting(file.length()).streamCache);
 			} else {
-				byte[] bytes = byteArrayOutputStream.toByteArray();
-				document = Loader.loadPDF(bytes, password, null, null,
-					PDDocumentUtils.computeMemoryUsageSetting(bytes.length).streamCache);
+				document = Loader.loadPDF(new RandomAccessReadBuffer(asByteBuffer()), password, null, null,
+					PDDocumentUtils.computeMemoryUsageSetting(size.toBytes()).streamCache);
 			}
 			return document;
 		}
@@ -214,8 +213,8 @@ public class PdfResource extends IOResource {
 			if (Objects.nonNull(file)) {
 				document = Loader.loadPDF(file, memoryUsageSetting.streamCache);
 			} else {
-				byte[] bytes = byteArrayOutputStream.toByteArray();
-				document = Loader.loadPDF(bytes, "", null, null, memoryUsageSetting.streamCache);
+				document = Loader.loadPDF(new RandomAccessReadBuffer(asByteBuffer()), "", null, null,
+					memoryUsageSetting.streamCache);
 			}
 			return document;
 		}
@@ -250,8 +249,8 @@ public class PdfResource extends IOResource {
 			if (Objects.nonNull(file)) {
 				document = Loader.loadPDF(file, password, memoryUsageSetting.streamCache);
 			} else {
-				byte[] bytes = byteArrayOutputStream.toByteArray();
-				document = Loader.loadPDF(bytes, password, null, null, memoryUsageSetting.streamCache);
+				document = Loader.loadPDF(new RandomAccessReadBuffer(asByteBuffer()), password, null, null,
+					memoryUsageSetting.streamCache);
 			}
 			return document;
 		}
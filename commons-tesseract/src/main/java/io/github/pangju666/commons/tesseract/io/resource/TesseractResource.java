@@ -26,6 +26,7 @@ import org.bytedeco.leptonica.global.leptonica;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Objects;
 
 /**
@@ -121,10 +122,12 @@ public class TesseractResource extends IOResource {
 	 * <p>根据资源类型选择合适的读取方式：</p>
 	 * <ul>
 	 *     <li>文件资源：使用 pixRead 从文件路径读取</li>
+	 *     <li>内存映射文件存储：使用 pixRead 从映射的文件读取</li>
 	 *     <li>内存资源：使用 pixReadMem 从字节数组读取</li>
 	 * </ul>
 	 *
 	 * @return Leptonica PIX 格式图像对象
+	 * @throws UncheckedIOException 当读取存储内容失败时抛出
 	 * @since 2.1.0
 	 */
 	public PIX getPix() {
@@ -132,9 +135,17 @@ public class TesseractResource extends IOResource {
 
 		if (Objects.nonNull(file)) {
 			return leptonica.pixRead(file.getAbsolutePath());
+		} else if (Objects.nonNull(storage.getFile())) {
+			return leptonica.pixRead(storage.getFile().getAbsolutePath());
 		} else {
-			try (BytePointer bytePointer = new BytePointer(byteArrayOutputStream.toByteArray())) {
-				return leptonica.pixReadMem(bytePointer, byteArrayOutputStream.size());
+			byte[] bytes;
+			try {
+				bytes = storage.toByteArray();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			try (BytePointer bytePointer = new BytePointer(bytes)) {
+				return leptonica.pixReadMem(bytePointer, bytes.length);
 			}
 		}
 	}